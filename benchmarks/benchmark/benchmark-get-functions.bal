@@ -1,6 +1,10 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkscheduler;
+import benchmarkworkers;
+import benchmarkquery;
+import benchmarkrecords;
 import ballerina/io;
 
 map<function()> functions;
@@ -13,10 +17,17 @@ function addFunctions() {
     addJSONFunctions();
     addIntFunctions();
     addFloatFunctions();
+    addDecimalFunctions();
+    addTypeTestFunctions();
+    addRecursionFunctions();
     addTimeFunctions();
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addSchedulerFunctions();
+    addWorkerFunctions();
+    addQueryFunctions();
+    addRecordFunctions();
 }
 
 function addJSONFunctions() {
@@ -48,6 +59,10 @@ function addJSONFunctions() {
     functions["benchmarkConstrainedJsonWithFunctions"] = benchmarktypes:benchmarkConstrainedJsonWithFunctions;
     functions["benchmarkConstrainedJsonWithFunctionGetKeys"] = benchmarktypes:
     benchmarkConstrainedJsonWithFunctionGetKeys;
+    functions["benchmarkRecordArrayToJsonString"] = benchmarktypes:benchmarkRecordArrayToJsonString;
+    functions["benchmarkRecordArrayToJsonThenString"] = benchmarktypes:benchmarkRecordArrayToJsonThenString;
+    functions["benchmarkIntArrayToJsonString"] = benchmarktypes:benchmarkIntArrayToJsonString;
+    functions["benchmarkFloatArrayToJsonString"] = benchmarktypes:benchmarkFloatArrayToJsonString;
 }
 
 function addIntFunctions() {
@@ -77,6 +92,25 @@ function addFloatFunctions() {
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
 }
 
+function addDecimalFunctions() {
+    functions["benchmarkDecimalSumInLoop"] = benchmarktypes:benchmarkDecimalSumInLoop;
+    functions["benchmarkDecimalMultiplicationInLoop"] = benchmarktypes:benchmarkDecimalMultiplicationInLoop;
+    functions["benchmarkDecimalDivisionInLoop"] = benchmarktypes:benchmarkDecimalDivisionInLoop;
+    functions["benchmarkDecimalSumFunction"] = benchmarktypes:benchmarkDecimalSumFunction;
+}
+
+function addTypeTestFunctions() {
+    functions["benchmarkUnionTypeTest"] = benchmarktypes:benchmarkUnionTypeTest;
+    functions["benchmarkRecordArrayTypeTest"] = benchmarktypes:benchmarkRecordArrayTypeTest;
+    functions["benchmarkRecordValueTypeTest"] = benchmarktypes:benchmarkRecordValueTypeTest;
+}
+
+function addRecursionFunctions() {
+    functions["benchmarkFibonacci"] = benchmarktypes:benchmarkFibonacci;
+    functions["benchmarkRecursivePower"] = benchmarktypes:benchmarkRecursivePower;
+    functions["benchmarkFibonacciThroughFunctionPointer"] = benchmarktypes:benchmarkFibonacciThroughFunctionPointer;
+}
+
 function addTimeFunctions() {
     functions["benchmarkCurrentTimeFunction"] = benchmarktypes:benchmarkCurrentTimeFunction;
     functions["benchmarkCreateTimeWithZoneIDFunction"] = benchmarktypes:benchmarkCreateTimeWithZoneIDFunction;
@@ -139,4 +173,41 @@ function addStringFunctions() {
     functions["benchmarkStringLength"] = benchmarktypes:benchmarkStringLength;
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
+    functions["benchmarkStringAppendInLoop"] = benchmarktypes:benchmarkStringAppendInLoop;
+    functions["benchmarkStringConcatInLoop"] = benchmarktypes:benchmarkStringConcatInLoop;
+    functions["benchmarkStringAppendWithAccessInLoop"] = benchmarktypes:benchmarkStringAppendWithAccessInLoop;
+}
+
+function addSchedulerFunctions() {
+    functions["benchmarkStrandSpawnAndComplete"] = benchmarkscheduler:benchmarkStrandSpawnAndComplete;
+    functions["benchmarkNestedStrandSpawn"] = benchmarkscheduler:benchmarkNestedStrandSpawn;
+    functions["benchmarkStrandWaitChain"] = benchmarkscheduler:benchmarkStrandWaitChain;
+    functions["benchmarkDeepYield"] = benchmarkscheduler:benchmarkDeepYield;
+    functions["benchmarkShallowYield"] = benchmarkscheduler:benchmarkShallowYield;
+}
+
+function addWorkerFunctions() {
+    functions["benchmarkWorkerPingPong"] = benchmarkworkers:benchmarkWorkerPingPong;
+    functions["benchmarkWorkerSyncPingPong"] = benchmarkworkers:benchmarkWorkerSyncPingPong;
+    functions["benchmarkWorkerStreamAndFlush"] = benchmarkworkers:benchmarkWorkerStreamAndFlush;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkOrderByLimitTopK"] = benchmarkquery:benchmarkOrderByLimitTopK;
+    functions["benchmarkOrderByLimitTopKMultipleKeys"] = benchmarkquery:benchmarkOrderByLimitTopKMultipleKeys;
+    functions["benchmarkOrderByFullSort"] = benchmarkquery:benchmarkOrderByFullSort;
+    functions["benchmarkParallelQueryWhereSelect"] = benchmarkquery:benchmarkParallelQueryWhereSelect;
+    functions["benchmarkParallelQueryLetWhereSelect"] = benchmarkquery:benchmarkParallelQueryLetWhereSelect;
+    functions["benchmarkGroupByAggregates"] = benchmarkquery:benchmarkGroupByAggregates;
+    functions["benchmarkGroupByRetainedSequence"] = benchmarkquery:benchmarkGroupByRetainedSequence;
+    functions["benchmarkCollectAggregates"] = benchmarkquery:benchmarkCollectAggregates;
+}
+
+function addRecordFunctions() {
+    functions["benchmarkClosedRecordArrayFootprint"] = benchmarkrecords:benchmarkClosedRecordArrayFootprint;
+    functions["benchmarkClosedRecordArrayWithKeysFootprint"] = benchmarkrecords:
+    benchmarkClosedRecordArrayWithKeysFootprint;
+    functions["benchmarkOpenRecordArrayFootprint"] = benchmarkrecords:benchmarkOpenRecordArrayFootprint;
+    functions["benchmarkOpenRecordArrayWithRestFieldFootprint"] = benchmarkrecords:
+    benchmarkOpenRecordArrayWithRestFieldFootprint;
 }
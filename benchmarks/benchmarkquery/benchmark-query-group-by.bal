@@ -0,0 +1,25 @@
+// Query group by benchmarks over the `queryRowCount` rows of the order by benchmarks. `benchmarkGroupByAggregates`
+// only uses the non-grouping variables as the argument of aggregate functions, so only a running accumulator is kept
+// per group. `benchmarkGroupByRetainedSequence` also uses the sequence itself, which retains every value of the
+// group, giving the baseline for the aggregation path.
+
+const int GROUP_COUNT = 1000;
+
+public function benchmarkGroupByAggregates() {
+    record {|int bucket; int total; int highest;|}[] groups = from var {id, score} in getRows()
+        let int bucket = id % GROUP_COUNT
+        group by bucket
+        select {bucket, total: sum(score), highest: max(score)};
+}
+
+public function benchmarkGroupByRetainedSequence() {
+    record {|int bucket; int total; int count;|}[] groups = from var {id, score} in getRows()
+        let int bucket = id % GROUP_COUNT
+        group by bucket
+        select {bucket, total: sum(score), count: [score].length()};
+}
+
+public function benchmarkCollectAggregates() {
+    int total = from var {score} in getRows()
+        collect sum(score);
+}
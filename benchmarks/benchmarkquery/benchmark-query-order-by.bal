@@ -0,0 +1,53 @@
+// Query order by benchmarks. The input table is created once with `queryRowCount` rows (10M by default) and reused
+// across iterations. `benchmarkOrderByFullSort` binds the limit through a let clause, so it is not fused with the
+// order by clause and orders every frame before the limit is applied, giving the baseline for the top-K path.
+
+configurable int queryRowCount = 10000000;
+
+const int TOP_K = 10;
+
+type Row record {|
+    readonly int id;
+    string name;
+    int score;
+|};
+
+table<Row> key(id)? rows = ();
+
+public function benchmarkOrderByLimitTopK() {
+    Row[] top = from var r in getRows()
+        order by r.score descending
+        limit TOP_K
+        select r;
+}
+
+public function benchmarkOrderByLimitTopKMultipleKeys() {
+    Row[] top = from var r in getRows()
+        order by r.score descending, r.name ascending
+        limit TOP_K
+        select r;
+}
+
+public function benchmarkOrderByFullSort() {
+    Row[] top = from var r in getRows()
+        let int k = TOP_K
+        order by r.score descending
+        limit k
+        select r;
+}
+
+function getRows() returns table<Row> key(id) {
+    table<Row> key(id)? existingRows = rows;
+    if existingRows is table<Row> key(id) {
+        return existingRows;
+    }
+    table<Row> key(id) newRows = table [];
+    int seed = 17;
+    foreach int i in 0 ..< queryRowCount {
+        // Linear congruential generator, so that the scores are spread without depending on lang.random.
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        newRows.add({id: i, name: "row-" + (seed % 1000).toString(), score: seed % 1000000});
+    }
+    rows = newRows;
+    return newRows;
+}
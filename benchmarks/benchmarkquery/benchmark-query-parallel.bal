@@ -0,0 +1,41 @@
+// Query scalability benchmarks. The input list is created once with `queryRowCount` members and reused across
+// iterations. The query clauses only call isolated functions, so the queries are split across strands when the
+// benchmarks are built with the `parallelQuery` build option; otherwise they run on a single strand.
+
+const int SCORE_ROUNDS = 32;
+
+int[]? parallelQueryInput = ();
+
+public function benchmarkParallelQueryWhereSelect() {
+    int[] selected = from int n in getParallelQueryInput()
+        where n % 3 != 0
+        select score(n);
+}
+
+public function benchmarkParallelQueryLetWhereSelect() {
+    string[] selected = from int n in getParallelQueryInput()
+        let int s = score(n)
+        where s % 2 == 0
+        select s.toHexString();
+}
+
+isolated function score(int n) returns int {
+    int s = n;
+    foreach int i in 0 ..< SCORE_ROUNDS {
+        s = (s * 31 + i) % 1000003;
+    }
+    return s;
+}
+
+function getParallelQueryInput() returns int[] {
+    int[]? existingInput = parallelQueryInput;
+    if existingInput is int[] {
+        return existingInput;
+    }
+    int[] newInput = [];
+    foreach int i in 0 ..< queryRowCount {
+        newInput.push(i);
+    }
+    parallelQueryInput = newInput;
+    return newInput;
+}
@@ -0,0 +1,57 @@
+// Heap footprint benchmarks for arrays of `recordCount` records (1M by default). Each function creates an array and
+// keeps it reachable until the next iteration, so that the memory freed by full GCs (see the GC columns of the
+// results) is dominated by the records. Writing a rest field to an open record allocates the hash table of the
+// record. `benchmarkClosedRecordArrayWithKeysFootprint` also iterates the keys of every record, which should not
+// retain the key set views of the records.
+
+configurable int recordCount = 1000000;
+
+type ClosedPoint record {|
+    int x;
+    int y;
+    string label;
+|};
+
+type OpenPoint record {
+    int x;
+    int y;
+    string label;
+};
+
+any[] retainedRecords = [];
+
+public function benchmarkClosedRecordArrayFootprint() {
+    ClosedPoint[] points = [];
+    foreach int i in 0 ..< recordCount {
+        points.push({x: i, y: -i, label: "point"});
+    }
+    retainedRecords = points;
+}
+
+public function benchmarkClosedRecordArrayWithKeysFootprint() {
+    ClosedPoint[] points = [];
+    foreach int i in 0 ..< recordCount {
+        ClosedPoint point = {x: i, y: -i, label: "point"};
+        _ = point.keys();
+        points.push(point);
+    }
+    retainedRecords = points;
+}
+
+public function benchmarkOpenRecordArrayFootprint() {
+    OpenPoint[] points = [];
+    foreach int i in 0 ..< recordCount {
+        points.push({x: i, y: -i, label: "point"});
+    }
+    retainedRecords = points;
+}
+
+public function benchmarkOpenRecordArrayWithRestFieldFootprint() {
+    OpenPoint[] points = [];
+    foreach int i in 0 ..< recordCount {
+        OpenPoint point = {x: i, y: -i, label: "point"};
+        point["z"] = i;
+        points.push(point);
+    }
+    retainedRecords = points;
+}
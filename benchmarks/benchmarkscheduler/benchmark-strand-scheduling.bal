@@ -0,0 +1,60 @@
+// Strand scheduling benchmarks. Run them with BALLERINA_MAX_POOL_SIZE set to 1, 2, 4, ... 64 and with
+// BALLERINA_SCHEDULER_MODE set to `shared` (default) or `work-stealing` to compare the two run queues.
+
+const int STRAND_COUNT = 1000;
+
+public function benchmarkStrandSpawnAndComplete() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start compute(i));
+    }
+    foreach future<int> f in futures {
+        int|error result = wait f;
+    }
+}
+
+public function benchmarkNestedStrandSpawn() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT / 10 {
+        futures.push(start spawnChildren(10));
+    }
+    foreach future<int> f in futures {
+        int|error result = wait f;
+    }
+}
+
+public function benchmarkStrandWaitChain() {
+    future<int> f = start compute(0);
+    foreach int i in 1 ..< STRAND_COUNT {
+        f = start waitAndCompute(f, i);
+    }
+    int|error result = wait f;
+}
+
+function spawnChildren(int count) returns int {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< count {
+        futures.push(start compute(i));
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        int|error result = wait f;
+        if result is int {
+            sum += result;
+        }
+    }
+    return sum;
+}
+
+function waitAndCompute(future<int> previous, int n) returns int {
+    int|error result = wait previous;
+    return result is int ? result + compute(n) : compute(n);
+}
+
+function compute(int n) returns int {
+    int sum = 0;
+    foreach int i in 0 ..< 100 {
+        sum += i * n;
+    }
+    return sum;
+}
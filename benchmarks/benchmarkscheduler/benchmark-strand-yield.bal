@@ -0,0 +1,38 @@
+// Strand yield benchmarks for the allocation rate of yielding functions. A wait on a strand which is not done yet
+// yields, which saves the state of every function on the call stack in a frame. The strand reuses the frames released
+// when it resumes, so compare the GC columns of the results with a build which allocates new frames on every yield.
+// `benchmarkShallowYield` yields with a single function on the call stack and is the baseline for them.
+
+const int YIELD_COUNT = 100;
+const int CALL_DEPTH = 8;
+
+public function benchmarkDeepYield() {
+    int sum = 0;
+    int i = 0;
+    while i < YIELD_COUNT {
+        sum += yieldAtDepth(CALL_DEPTH, i);
+        i += 1;
+    }
+}
+
+public function benchmarkShallowYield() {
+    int sum = 0;
+    int i = 0;
+    while i < YIELD_COUNT {
+        sum += yieldAtDepth(0, i);
+        i += 1;
+    }
+}
+
+function yieldAtDepth(int depth, int n) returns int {
+    if depth == 0 {
+        future<int> f = start square(n);
+        int|error result = wait f;
+        return result is int ? result : 0;
+    }
+    return yieldAtDepth(depth - 1, n) + 1;
+}
+
+function square(int n) returns int {
+    return n * n;
+}
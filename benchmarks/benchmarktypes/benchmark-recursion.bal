@@ -0,0 +1,49 @@
+// Recursion benchmarks. `benchmarkFibonacci` and `benchmarkRecursivePower` call recursive numeric functions which can
+// never yield, and are generated without frames and yield checks, while `benchmarkFibonacciThroughFunctionPointer`
+// calls itself through a function pointer, which may yield, and is the baseline for them.
+
+const int FIBONACCI_INDEX = 20;
+const int POWER_COUNT = 1000;
+
+function fibonacci(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
+
+function fibonacciThroughFunctionPointer(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    function (int) returns int fibonacciFunction = fibonacciThroughFunctionPointer;
+    return fibonacciFunction(n - 1) + fibonacciFunction(n - 2);
+}
+
+function power(float base, int exponent) returns float {
+    if exponent == 0 {
+        return 1.0;
+    }
+    float half = power(base, exponent / 2);
+    if exponent % 2 == 0 {
+        return half * half;
+    }
+    return half * half * base;
+}
+
+public function benchmarkFibonacci() {
+    int result = fibonacci(FIBONACCI_INDEX);
+}
+
+public function benchmarkRecursivePower() {
+    float sum = 0.0;
+    int i = 0;
+    while i < POWER_COUNT {
+        sum += power(1.0001, i);
+        i += 1;
+    }
+}
+
+public function benchmarkFibonacciThroughFunctionPointer() {
+    int result = fibonacciThroughFunctionPointer(FIBONACCI_INDEX);
+}
@@ -0,0 +1,34 @@
+// Decimal arithmetic benchmarks. Amounts with a few decimal places are added and multiplied on longs, while
+// `benchmarkDecimalDivisionInLoop` always uses `BigDecimal` and is the baseline for them.
+
+const int DECIMAL_AMOUNT_COUNT = 1000;
+
+public function benchmarkDecimalSumInLoop() {
+    decimal total = 0;
+    foreach int i in 0 ..< DECIMAL_AMOUNT_COUNT {
+        total += 12.34d + <decimal>i;
+    }
+}
+
+public function benchmarkDecimalMultiplicationInLoop() {
+    decimal total = 0;
+    decimal rate = 1.0825d;
+    foreach int i in 0 ..< DECIMAL_AMOUNT_COUNT {
+        total += 19.99d * rate;
+    }
+}
+
+public function benchmarkDecimalDivisionInLoop() {
+    decimal total = 0;
+    foreach int i in 0 ..< DECIMAL_AMOUNT_COUNT {
+        total += 19.99d / 3d;
+    }
+}
+
+public function benchmarkDecimalSumFunction() {
+    decimal[] amounts = [];
+    foreach int i in 0 ..< DECIMAL_AMOUNT_COUNT {
+        amounts.push(0.01d * <decimal>i);
+    }
+    decimal total = decimal:sum(...amounts);
+}
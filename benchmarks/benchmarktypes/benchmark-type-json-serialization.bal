@@ -0,0 +1,61 @@
+// JSON serialization benchmarks. `toJsonString` on records and lists writes the UTF-8 bytes directly from the values,
+// while `benchmarkRecordArrayToJsonThenString` converts the records to `json` first and is the baseline for
+// `benchmarkRecordArrayToJsonString`. The int and float lists are written from their primitive backing arrays.
+
+const int SERIALIZED_MEMBER_COUNT = 100;
+
+type Order record {|
+    int id;
+    string customer;
+    float amount;
+    boolean paid;
+    string note?;
+|};
+
+final Order[] & readonly orders = createOrders();
+final int[] & readonly orderIds = createOrderIds();
+final float[] & readonly orderAmounts = createOrderAmounts();
+
+public function benchmarkRecordArrayToJsonString() {
+    string s = orders.toJsonString();
+}
+
+public function benchmarkRecordArrayToJsonThenString() {
+    string s = orders.toJson().toJsonString();
+}
+
+public function benchmarkIntArrayToJsonString() {
+    string s = orderIds.toJsonString();
+}
+
+public function benchmarkFloatArrayToJsonString() {
+    string s = orderAmounts.toJsonString();
+}
+
+function createOrders() returns Order[] & readonly {
+    Order[] result = [];
+    foreach int i in 0 ..< SERIALIZED_MEMBER_COUNT {
+        Order entry = {id: i, customer: "customer \"" + i.toString() + "\"", amount: <float>i * 1.5, paid: i % 2 == 0};
+        if i % 10 == 0 {
+            entry.note = "deliver to the back door";
+        }
+        result.push(entry);
+    }
+    return result.cloneReadOnly();
+}
+
+function createOrderIds() returns int[] & readonly {
+    int[] result = [];
+    foreach int i in 0 ..< SERIALIZED_MEMBER_COUNT {
+        result.push(i * 1000003);
+    }
+    return result.cloneReadOnly();
+}
+
+function createOrderAmounts() returns float[] & readonly {
+    float[] result = [];
+    foreach int i in 0 ..< SERIALIZED_MEMBER_COUNT {
+        result.push(<float>i / 7.0);
+    }
+    return result.cloneReadOnly();
+}
@@ -122,3 +122,33 @@ public function benchmarkStringSplit() {
     string split = "test";
     string[] splittedString = str.split(split);
 }
+
+const int APPEND_COUNT = 1000;
+
+public function benchmarkStringAppendInLoop() {
+    string s = "";
+    foreach int i in 0 ..< APPEND_COUNT {
+        s += "item-";
+        s += i.toString();
+    }
+    int length = s.length();
+}
+
+// Baseline for `benchmarkStringAppendInLoop`, where each concatenation copies the string.
+public function benchmarkStringConcatInLoop() {
+    string s = "";
+    foreach int i in 0 ..< APPEND_COUNT {
+        string next = s + "item-" + i.toString();
+        s = next;
+    }
+    int length = s.length();
+}
+
+// Reads the string after each append, which requires the appended string value.
+public function benchmarkStringAppendWithAccessInLoop() {
+    string s = "";
+    foreach int i in 0 ..< APPEND_COUNT {
+        s += "item-";
+        string:Char c = s[s.length() - 1];
+    }
+}
@@ -0,0 +1,56 @@
+// Type test benchmarks. Type tests on lists, maps and simple values only depend on the type of the value, and their
+// results are cached by the runtime, while `benchmarkRecordValueTypeTest` tests record values, which are checked
+// field by field each time and is the baseline for them.
+
+const int TYPE_TEST_COUNT = 1000;
+
+type Address record {|
+    string city;
+    string country;
+|};
+
+type Person record {|
+    string name;
+    int age;
+    Address address;
+|};
+
+type Employee record {|
+    string name;
+    int age;
+    Address address;
+    decimal salary?;
+|};
+
+type Identifier int|string|decimal;
+
+public function benchmarkUnionTypeTest() {
+    any[] values = [1, "a", 2.5d, true, 3.0];
+    int count = 0;
+    foreach int i in 0 ..< TYPE_TEST_COUNT {
+        if values[i % values.length()] is Identifier {
+            count += 1;
+        }
+    }
+}
+
+public function benchmarkRecordArrayTypeTest() {
+    Person[] people = [{name: "Anne", age: 30, address: {city: "Colombo", country: "Sri Lanka"}}];
+    any value = people;
+    int count = 0;
+    foreach int i in 0 ..< TYPE_TEST_COUNT {
+        if value is Employee[]|map<Employee> {
+            count += 1;
+        }
+    }
+}
+
+public function benchmarkRecordValueTypeTest() {
+    any value = <Person>{name: "Anne", age: 30, address: {city: "Colombo", country: "Sri Lanka"}};
+    int count = 0;
+    foreach int i in 0 ..< TYPE_TEST_COUNT {
+        if value is Employee {
+            count += 1;
+        }
+    }
+}
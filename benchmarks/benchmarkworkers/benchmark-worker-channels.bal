@@ -0,0 +1,92 @@
+// Worker message passing benchmarks. Worker sends are not allowed within loops, hence the exchanges are unrolled.
+
+public function benchmarkWorkerPingPong() {
+    worker ping {
+        int n = 0;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+        n -> pong;
+        n = <- pong;
+    }
+    worker pong {
+        int n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+        n = <- ping;
+        (n + 1) -> ping;
+    }
+    _ = wait {ping, pong};
+}
+
+public function benchmarkWorkerSyncPingPong() {
+    worker ping returns error? {
+        int n = 0;
+        check n ->> pong;
+        n = <- pong;
+        check n ->> pong;
+        n = <- pong;
+        check n ->> pong;
+        n = <- pong;
+        check n ->> pong;
+        n = <- pong;
+    }
+    worker pong returns error? {
+        int n = <- ping;
+        check (n + 1) ->> ping;
+        n = <- ping;
+        check (n + 1) ->> ping;
+        n = <- ping;
+        check (n + 1) ->> ping;
+        n = <- ping;
+        check (n + 1) ->> ping;
+    }
+    _ = wait {ping, pong};
+}
+
+public function benchmarkWorkerStreamAndFlush() {
+    worker producer returns error? {
+        1 -> consumer;
+        2 -> consumer;
+        3 -> consumer;
+        4 -> consumer;
+        5 -> consumer;
+        6 -> consumer;
+        7 -> consumer;
+        8 -> consumer;
+        check flush consumer;
+    }
+    worker consumer {
+        int sum = <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+        sum += <- producer;
+    }
+    _ = wait {producer, consumer};
+}
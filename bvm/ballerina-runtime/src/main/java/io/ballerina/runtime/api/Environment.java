@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.types.Parameter;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * When this class is used as the first argument of an interop method, Ballerina will inject an instance of
@@ -54,6 +55,17 @@ public abstract class Environment {
      */
     public abstract Future markAsync();
 
+    /**
+     * Run the given blocking task, such as a JDBC call or a file I/O operation, and resume the current strand with
+     * the value returned by the task. Execution of Ballerina code after the current interop will stop until the task
+     * completes, and a panic is raised if the task throws. Depending on the {@code BALLERINA_BLOCKING_EXTERN_MODE}
+     * environment variable the task runs on the current java thread (default), or on a platform or virtual thread
+     * that does not hold up Ballerina code execution. Callee of this method must return as soon as it returns.
+     *
+     * @param task blocking task whose result is the return value of the current interop
+     */
+    public abstract void runBlocking(Supplier<Object> task);
+
     /**
      * Gets an instance of Ballerina runtime.
      *
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+
+import java.io.Closeable;
+
+/**
+ * A pull based reader of JSON content, which reads the content incrementally instead of parsing the whole document
+ * into memory. A reader is created using {@link io.ballerina.runtime.api.utils.JsonUtils#createStreamReader}.
+ * <p>
+ * The content can be read as a sequence of {@link Event}s using {@link #nextEvent()}, and the next complete value can
+ * be read as a value of a given type using {@link #readValue(Type)}. The elements of a JSON array document can be
+ * iterated using {@link #hasNext()} and {@link #next()}, holding only the element being read in memory. Content is
+ * read from the underlying reader only when the consumer asks for the next event or element.
+ * <p>
+ * A handle of a reader can be given to the {@code toJsonStream} function of the {@code ballerina/jballerina.java}
+ * module, to consume the elements of a JSON array document as a Ballerina {@code stream}.
+ *
+ * @since 2201.9.0
+ */
+public interface JsonStreamReader extends Closeable {
+
+    /**
+     * Represents the events produced while reading JSON content.
+     */
+    enum Event {
+        START_OBJECT,
+        END_OBJECT,
+        START_ARRAY,
+        END_ARRAY,
+        FIELD_NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    /**
+     * Reads the next event of the content.
+     *
+     * @return the next event
+     * @throws BError for any parsing error
+     */
+    Event nextEvent() throws BError;
+
+    /**
+     * Returns the text of the last {@link Event#FIELD_NAME}, {@link Event#STRING}, {@link Event#NUMBER},
+     * {@link Event#BOOLEAN} or {@link Event#NULL} event.
+     *
+     * @return text of the last event
+     */
+    String getText();
+
+    /**
+     * Returns whether the array which is being read has a next element, i.e. whether {@link #readValue(Type)} would
+     * read an element of it.
+     *
+     * @return {@code true} if the array has a next element
+     * @throws BError for any parsing error, or if the current value being read is not an array
+     */
+    boolean hasNextElement() throws BError;
+
+    /**
+     * Reads the next complete value of the content as a value of the given type. Only the characters of the value are
+     * given to the parser, so the memory used is bounded by the size of the value.
+     *
+     * @param targetType type of the value
+     * @return value of the given type
+     * @throws BError for any parsing error
+     */
+    Object readValue(Type targetType) throws BError;
+
+    /**
+     * Returns whether the JSON array document has a next element.
+     *
+     * @return {@code true} if the document has a next element
+     * @throws BError for any parsing error, or if the document is not an array
+     */
+    boolean hasNext() throws BError;
+
+    /**
+     * Reads the next element of the JSON array document as a value of the element type of the reader.
+     *
+     * @return the next element
+     * @throws BError for any parsing error, or if the document is not an array
+     * @throws java.util.NoSuchElementException if the array has no more elements
+     */
+    Object next() throws BError;
+}
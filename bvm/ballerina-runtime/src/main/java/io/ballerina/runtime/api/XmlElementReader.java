@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Closeable;
+
+/**
+ * A pull based reader of the XML elements at a given depth of an XML document, which reads the document
+ * incrementally instead of building the whole tree in memory. A reader is created using
+ * {@link io.ballerina.runtime.api.utils.XmlUtils#createElementReader}.
+ * <p>
+ * Elements at a depth of 1 are the root elements of the document, elements at a depth of 2 are the children of the
+ * root elements, and so on. Each element is returned as an independent XML value along with its content, and content
+ * outside of these elements is skipped.
+ * <p>
+ * A handle of a reader can be given to the {@code toXmlStream} function of the {@code ballerina/jballerina.java}
+ * module, to consume the elements as a Ballerina {@code stream}.
+ *
+ * @since 2201.9.0
+ */
+public interface XmlElementReader extends Closeable {
+
+    /**
+     * Checks whether there is another element at the element depth, reading the content up to the start of it.
+     *
+     * @return true if there is another element
+     * @throws BError if the document is not well-formed
+     */
+    boolean hasNext() throws BError;
+
+    /**
+     * Reads the next element at the element depth.
+     *
+     * @return the element
+     * @throws BError if the document is not well-formed
+     * @throws java.util.NoSuchElementException if there are no more elements
+     */
+    BXml next() throws BError;
+}
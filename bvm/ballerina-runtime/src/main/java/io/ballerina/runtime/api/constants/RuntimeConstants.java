@@ -59,6 +59,12 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String SCHEDULER_MODE_SHARED = "shared";
+    public static final String SCHEDULER_MODE_WORK_STEALING = "work-stealing";
+    public static final String BALLERINA_BLOCKING_EXTERN_MODE_ENV_VAR = "BALLERINA_BLOCKING_EXTERN_MODE";
+    public static final String BALLERINA_TABLE_STORAGE_ENV_VAR = "BALLERINA_TABLE_STORAGE";
+    public static final String TABLE_STORAGE_COLUMNAR = "columnar";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.api.utils;
 
+import io.ballerina.runtime.api.JsonStreamReader;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.TypeCreator;
@@ -37,6 +38,7 @@ import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonInternalUtils;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.JsonStreamReaderImpl;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.commons.TypeValuePair;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
@@ -147,6 +149,29 @@ public class JsonUtils {
         return JsonParser.parse(reader, mode);
     }
 
+    /**
+     * Creates a reader which reads the JSON content of the given {@link Reader} incrementally. The elements of a JSON
+     * array document are read as JSON values.
+     *
+     * @param reader reader which contains the JSON content
+     * @return a stream reader of the content
+     */
+    public static JsonStreamReader createStreamReader(Reader reader) {
+        return new JsonStreamReaderImpl(reader);
+    }
+
+    /**
+     * Creates a reader which reads the JSON content of the given {@link Reader} incrementally. The elements of a JSON
+     * array document are read as values of the given type.
+     *
+     * @param reader      reader which contains the JSON content
+     * @param elementType type of the elements of the JSON array document
+     * @return a stream reader of the content
+     */
+    public static JsonStreamReader createStreamReader(Reader reader, Type elementType) {
+        return new JsonStreamReaderImpl(reader, elementType);
+    }
+
     /**
      * Parses {@link BTable} to JSON.
      *
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.JsonGenerator;
+import io.ballerina.runtime.internal.JsonSerializer;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
@@ -40,8 +41,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.STRING_LANG_LIB;
@@ -108,25 +107,24 @@ public class StringUtils {
         if (s == null) {
             return null;
         }
-        List<Integer> highSurrogates = null;
+        int highSurrogateCount = 0;
         for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogateCount++;
             }
         }
-        if (highSurrogates == null) {
+        if (highSurrogateCount == 0) {
             return new BmpStringValue(s);
         }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+        // Code point indexes of the surrogate pairs, used by the string value to index code points.
+        int[] highSurrogatesArr = new int[highSurrogateCount];
+        int surrogateIndex = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogatesArr[surrogateIndex] = i - surrogateIndex;
+                surrogateIndex++;
+            }
         }
         return new NonBmpStringValue(s, highSurrogatesArr);
     }
@@ -234,6 +232,16 @@ public class StringUtils {
      * @return Json String value of the value
      */
     public static String getJsonString(Object value) {
+        switch (TypeUtils.getImpliedType(TypeChecker.getType(value)).getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                // Structured values are serialized directly, without converting them to JSON first
+                return JsonSerializer.toJsonString(value);
+            default:
+                break;
+        }
         Object jsonValue = JsonUtils.convertToJson(value);
 
         Type type = TypeUtils.getImpliedType(TypeChecker.getType(jsonValue));
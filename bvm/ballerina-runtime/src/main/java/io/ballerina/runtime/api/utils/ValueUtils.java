@@ -22,9 +22,11 @@ import io.ballerina.runtime.api.types.AnydataType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.Utf8JsonParser;
 import io.ballerina.runtime.internal.ValueConverter;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * This class provides APIs needed for the type conversion in Ballerina.
@@ -62,4 +64,31 @@ public class ValueUtils {
     public static Object parse(InputStream in, Type targetType) throws BError {
         return JsonParser.parse(in, targetType);
     }
+
+    /**
+     * Parses the given UTF-8 encoded bytes and creates a value using a subtype of {@link AnydataType}
+     * given by the target type. The bytes should only contain a sequence of characters that can be parsed as
+     * {@link io.ballerina.runtime.api.types.JsonType}, otherwise a {@link BError} is thrown.
+     *
+     * @param   bytes       UTF-8 encoded value content
+     * @param   targetType  target type
+     * @return              created value
+     * @throws              BError if the conversion fails.
+     */
+    public static Object parse(byte[] bytes, Type targetType) throws BError {
+        return Utf8JsonParser.parse(bytes, targetType);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer and creates a value using a subtype of
+     * {@link AnydataType} given by the target type. The position of the buffer is not changed.
+     *
+     * @param   buffer      buffer which contains the UTF-8 encoded value content
+     * @param   targetType  target type
+     * @return              created value
+     * @throws              BError if the conversion fails.
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BError {
+        return Utf8JsonParser.parse(buffer, targetType);
+    }
 }
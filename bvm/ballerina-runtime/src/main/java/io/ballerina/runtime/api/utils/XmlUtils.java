@@ -17,11 +17,13 @@
  */
 package io.ballerina.runtime.api.utils;
 
+import io.ballerina.runtime.api.XmlElementReader;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.api.values.BXmlQName;
+import io.ballerina.runtime.internal.XmlElementReaderImpl;
 import io.ballerina.runtime.internal.XmlFactory;
 import io.ballerina.runtime.internal.XmlValidator;
 import io.ballerina.runtime.internal.values.TableValueImpl;
@@ -89,6 +91,41 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Creates a reader which reads the elements at the given depth of an XML document incrementally. The encoding of
+     * the document is detected from its byte order mark or XML declaration, defaulting to UTF-8.
+     *
+     * @param xmlStream    XML input stream
+     * @param elementDepth depth of the elements to be read, where the root elements are at a depth of 1
+     * @return a reader of the elements
+     */
+    public static XmlElementReader createElementReader(InputStream xmlStream, int elementDepth) {
+        return new XmlElementReaderImpl(xmlStream, elementDepth);
+    }
+
+    /**
+     * Creates a reader which reads the elements at the given depth of an XML document incrementally.
+     *
+     * @param xmlStream    XML input stream
+     * @param charset      Charset to be used for parsing
+     * @param elementDepth depth of the elements to be read, where the root elements are at a depth of 1
+     * @return a reader of the elements
+     */
+    public static XmlElementReader createElementReader(InputStream xmlStream, String charset, int elementDepth) {
+        return new XmlElementReaderImpl(xmlStream, charset, elementDepth);
+    }
+
+    /**
+     * Creates a reader which reads the elements at the given depth of an XML document incrementally.
+     *
+     * @param reader       XML reader
+     * @param elementDepth depth of the elements to be read, where the root elements are at a depth of 1
+     * @return a reader of the elements
+     */
+    public static XmlElementReader createElementReader(Reader reader, int elementDepth) {
+        return new XmlElementReaderImpl(reader, elementDepth);
+    }
+
     /**
      * Converts a {@link BTable} to {@link BXml}.
      *
@@ -23,10 +23,12 @@ import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.Repository;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.internal.scheduling.BlockingTaskExecutor;
 import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * When {@link Environment} is used as the first argument of an interop method, Ballerina will inject an instance
@@ -93,6 +95,19 @@ public class BalEnvironment extends Environment {
         return future;
     }
 
+    /**
+     * Run the given blocking task and resume the current strand with the value returned by the task. The task runs
+     * on the java thread selected by the {@code BALLERINA_BLOCKING_EXTERN_MODE} environment variable.
+     *
+     * @param task blocking task whose result is the return value of the current interop
+     */
+    @Override
+    public void runBlocking(Supplier<Object> task) {
+        strand.blockedOnExtern = true;
+        strand.setState(State.BLOCK_AND_YIELD);
+        BlockingTaskExecutor.getInstance().execute(strand, task);
+    }
+
     /**
      * Gets an instance of Ballerina runtime.
      *
@@ -190,6 +190,14 @@ public class JsonParser {
         return parse(reader, targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
     }
 
+    static Object convertNonStringValue(Type targetType, String inputValue) throws ParserException {
+        return JsonStateMachine.convertValues(targetType, inputValue);
+    }
+
+    static Object convertJsonValue(Object value, Type targetType) {
+        return JsonStateMachine.convert(value, targetType);
+    }
+
     private static Type getTargetType(JsonUtils.NonStringValueProcessingMode mode) {
         Type targetType;
         if (mode == FROM_JSON_DECIMAL_STRING) {
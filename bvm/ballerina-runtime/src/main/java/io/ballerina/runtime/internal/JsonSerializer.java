@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.errors.ErrorCodes;
+import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.FieldNameIndex;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.runtime.internal.errors.ErrorReasons.VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR;
+
+/**
+ * This class represents a serializer which writes the JSON representation of a value as UTF-8 bytes.
+ * <p>
+ * The output is the same as serializing the result of {@link JsonUtils#convertToJson(Object)} with
+ * {@link JsonGenerator}, but the value is written directly into a byte buffer without creating the intermediate JSON
+ * value or going through a {@link java.io.Writer}. Lists of ints and floats are written from their primitive backing
+ * arrays, and the encoded names of record fields are taken from the {@link FieldNameIndex} of the record type. The
+ * buffer is reused by subsequent serializations on the same thread.
+ *
+ * @since 2201.9.0
+ */
+public final class JsonSerializer {
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    // Buffers which grew beyond this size are not kept for reuse
+    private static final int MAX_CACHED_BUFFER_SIZE = 1 << 20;
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final ThreadLocal<JsonSerializer> CACHED_SERIALIZER = ThreadLocal.withInitial(JsonSerializer::new);
+
+    private static final boolean[] ESC_CHARS = new boolean[93];
+
+    static {
+        ESC_CHARS['"'] = true;
+        ESC_CHARS['\\'] = true;
+        ESC_CHARS['\b'] = true;
+        ESC_CHARS['\n'] = true;
+        ESC_CHARS['\r'] = true;
+        ESC_CHARS['\t'] = true;
+    }
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int position;
+    private boolean inUse;
+    private final List<Object> path = new ArrayList<>();
+
+    private JsonSerializer() {
+    }
+
+    /**
+     * Returns the JSON string representation of the given value.
+     *
+     * @param value value to be serialized
+     * @return JSON string
+     */
+    public static String toJsonString(Object value) {
+        JsonSerializer serializer = acquire();
+        try {
+            serializer.writeValue(value);
+            return new String(serializer.buffer, 0, serializer.position, StandardCharsets.UTF_8);
+        } finally {
+            serializer.release();
+        }
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON representation of the given value.
+     *
+     * @param value value to be serialized
+     * @return JSON content
+     */
+    public static byte[] toJsonBytes(Object value) {
+        JsonSerializer serializer = acquire();
+        try {
+            serializer.writeValue(value);
+            return Arrays.copyOf(serializer.buffer, serializer.position);
+        } finally {
+            serializer.release();
+        }
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON representation of the given value to the output stream.
+     *
+     * @param value        value to be serialized
+     * @param outputStream output stream to write to
+     * @throws IOException if writing to the output stream fails
+     */
+    public static void serialize(Object value, OutputStream outputStream) throws IOException {
+        JsonSerializer serializer = acquire();
+        try {
+            serializer.writeValue(value);
+            outputStream.write(serializer.buffer, 0, serializer.position);
+        } finally {
+            serializer.release();
+        }
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON representation of the given field name, followed by the name separator.
+     *
+     * @param name field name
+     * @return JSON field name
+     */
+    public static byte[] encodeFieldName(String name) {
+        JsonSerializer serializer = new JsonSerializer();
+        serializer.writeString(name);
+        serializer.writeByte(':');
+        return Arrays.copyOf(serializer.buffer, serializer.position);
+    }
+
+    private static JsonSerializer acquire() {
+        JsonSerializer serializer = CACHED_SERIALIZER.get();
+        if (serializer.inUse) {
+            // A value is already being serialized by this thread, e.g. from within the string value of an XML value
+            serializer = new JsonSerializer();
+        }
+        serializer.inUse = true;
+        serializer.position = 0;
+        return serializer;
+    }
+
+    private void release() {
+        this.inUse = false;
+        this.path.clear();
+        if (this.buffer.length > MAX_CACHED_BUFFER_SIZE) {
+            this.buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            writeBytes(NULL);
+        } else if (value instanceof BString) {
+            writeString(((BString) value).getValue());
+        } else if (value instanceof Long) {
+            writeLong((Long) value);
+        } else if (value instanceof Double) {
+            writeAscii(Double.toString((Double) value));
+        } else if (value instanceof Boolean) {
+            writeBytes((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof DecimalValue) {
+            writeAscii(((DecimalValue) value).value().toString());
+        } else if (value instanceof Integer) {
+            writeLong((Integer) value);
+        } else {
+            writeStructuredValue(value);
+        }
+    }
+
+    private void writeStructuredValue(Object value) {
+        Type type = TypeUtils.getImpliedType(TypeChecker.getType(value));
+        switch (type.getTag()) {
+            case TypeTags.XML_TAG:
+            case TypeTags.XML_ELEMENT_TAG:
+            case TypeTags.XML_COMMENT_TAG:
+            case TypeTags.XML_PI_TAG:
+            case TypeTags.XML_TEXT_TAG:
+            case TypeTags.REG_EXP_TYPE_TAG:
+                writeString(StringUtils.getStringValue(value));
+                break;
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.ARRAY_TAG:
+                enter(value);
+                writeList((ArrayValue) value);
+                exit();
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+                enter(value);
+                if (value.getClass() == MapValueImpl.class) {
+                    writeMap((BMap<?, ?>) value);
+                } else {
+                    writeRecord((BMap<BString, ?>) value, (BRecordType) type);
+                }
+                exit();
+                break;
+            case TypeTags.MAP_TAG:
+                enter(value);
+                writeMap((BMap<?, ?>) value);
+                exit();
+                break;
+            default:
+                // Tables are converted to JSON first, and values of other types cannot be converted at all
+                writeValue(JsonUtils.convertToJson(value));
+                break;
+        }
+    }
+
+    private void writeList(ArrayValue list) {
+        writeByte('[');
+        if (list.getClass() == ArrayValueImpl.class) {
+            ArrayValueImpl array = (ArrayValueImpl) list;
+            int size = array.size();
+            long[] intValues = array.getIntValues();
+            if (intValues != null) {
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        writeSeparator();
+                    }
+                    writeLong(intValues[i]);
+                }
+                writeByte(']');
+                return;
+            }
+            double[] floatValues = array.getFloatValues();
+            if (floatValues != null) {
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        writeSeparator();
+                    }
+                    writeAscii(Double.toString(floatValues[i]));
+                }
+                writeByte(']');
+                return;
+            }
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) {
+                writeSeparator();
+            }
+            writeValue(list.get(i));
+        }
+        writeByte(']');
+    }
+
+    private void writeMap(BMap<?, ?> map) {
+        writeByte('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writeSeparator();
+            }
+            first = false;
+            writeString(entry.getKey().toString());
+            writeByte(':');
+            writeValue(entry.getValue());
+        }
+        writeByte('}');
+    }
+
+    private void writeRecord(BMap<BString, ?> record, BRecordType recordType) {
+        // Fields of the record type come first, in the order in which they are declared, followed by the rest fields
+        FieldNameIndex fieldNameIndex = recordType.getFieldNameIndex();
+        writeByte('{');
+        int present = 0;
+        for (int i = 0; i < fieldNameIndex.size(); i++) {
+            BString name = fieldNameIndex.getName(i);
+            if (SymbolFlags.isFlagOn(fieldNameIndex.getField(i).getFlags(), SymbolFlags.OPTIONAL) &&
+                    !record.containsKey(name)) {
+                continue;
+            }
+            if (present > 0) {
+                writeSeparator();
+            }
+            present++;
+            writeBytes(fieldNameIndex.getJsonName(i));
+            writeValue(record.get(name));
+        }
+        if (record.size() > present) {
+            for (Map.Entry<BString, ?> entry : record.entrySet()) {
+                String name = entry.getKey().getValue();
+                if (fieldNameIndex.getIndex(name) != -1) {
+                    continue;
+                }
+                if (present > 0) {
+                    writeSeparator();
+                }
+                present++;
+                writeString(name);
+                writeByte(':');
+                writeValue(entry.getValue());
+            }
+        }
+        writeByte('}');
+    }
+
+    private void enter(Object value) {
+        for (Object parent : path) {
+            if (parent == value) {
+                throw ErrorCreator.createError(VALUE_LANG_LIB_CYCLIC_VALUE_REFERENCE_ERROR, ErrorHelper.getErrorDetails(
+                        ErrorCodes.CYCLIC_VALUE_REFERENCE, ((BRefValue) value).getType()));
+            }
+        }
+        path.add(value);
+    }
+
+    private void exit() {
+        path.remove(path.size() - 1);
+    }
+
+    private void writeSeparator() {
+        ensureCapacity(2);
+        buffer[position++] = ',';
+        buffer[position++] = ' ';
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        int index = position + digits;
+        position = index;
+        do {
+            buffer[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeString(String value) {
+        // Same as JsonGenerator, the string is escaped only if it contains one of the characters in ESC_CHARS
+        int length = value.length();
+        boolean escaped = false;
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < ESC_CHARS.length && ESC_CHARS[ch]) {
+                escaped = true;
+                break;
+            }
+        }
+        // Each character takes at most three bytes in UTF-8, or two when escaped
+        ensureCapacity(length * 3 + 2);
+        buffer[position++] = '"';
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (escaped) {
+                    writeEscapedAscii(ch);
+                } else {
+                    buffer[position++] = (byte) ch;
+                }
+            } else if (ch < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (ch >> 6));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                buffer[position++] = (byte) (0xE0 | (ch >> 12));
+                buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // Unpaired surrogates are replaced in the same way as by the UTF-8 encoder
+                buffer[position++] = '?';
+            }
+        }
+        buffer[position++] = '"';
+    }
+
+    private void writeEscapedAscii(char ch) {
+        char escape;
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                escape = ch;
+                break;
+            case '\b':
+                escape = 'b';
+                break;
+            case '\n':
+                escape = 'n';
+                break;
+            case '\r':
+                escape = 'r';
+                break;
+            case '\f':
+                escape = 'f';
+                break;
+            case '\t':
+                escape = 't';
+                break;
+            default:
+                buffer[position++] = (byte) ch;
+                return;
+        }
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) escape;
+    }
+
+    private void writeByte(char ch) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) ch;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+}
@@ -0,0 +1,532 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.JsonStreamReader;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements {@link JsonStreamReader}, reading JSON content from a {@link Reader}.
+ * <p>
+ * A value read by {@link #readValue(Type)} is parsed through {@link JsonParser}, which is given only the characters
+ * of that value. As a {@link JsonDataSource}, the reader iterates over the elements of a JSON array document.
+ *
+ * @since 2201.9.0
+ */
+public class JsonStreamReaderImpl implements JsonStreamReader, JsonDataSource {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int EOF = -1;
+    private static final String UNEXPECTED_END_OF_THE_INPUT_STREAM = "unexpected end of the input stream";
+
+    // states of an object or array which is being read
+    private static final byte FIRST_MEMBER = 0;
+    private static final byte FIELD_VALUE = 1;
+    private static final byte AFTER_MEMBER = 2;
+    private static final byte NEXT_MEMBER = 3;
+
+    private final Reader reader;
+    private final Type elementType;
+    private final char[] buff = new char[BUFFER_SIZE];
+    private int index;
+    private int count;
+    private int line = 1;
+    private int column = 0;
+
+    private char[] containers = new char[16];
+    private byte[] states = new byte[16];
+    private int depth;
+    private boolean documentStarted;
+    private boolean documentEnded;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Creates a reader of JSON content, of which array elements are read as values of the JSON type.
+     *
+     * @param reader reader which contains the content
+     */
+    public JsonStreamReaderImpl(Reader reader) {
+        this(reader, PredefinedTypes.TYPE_JSON);
+    }
+
+    /**
+     * Creates a reader of JSON content, of which array elements are read as values of the given type.
+     *
+     * @param reader      reader which contains the content
+     * @param elementType type of the elements of the JSON array document
+     */
+    public JsonStreamReaderImpl(Reader reader, Type elementType) {
+        this.reader = reader;
+        this.elementType = elementType;
+    }
+
+    @Override
+    public Event nextEvent() throws BError {
+        try {
+            if (documentEnded) {
+                return Event.END_DOCUMENT;
+            }
+            if (documentStarted && depth == 0) {
+                endDocument();
+                return Event.END_DOCUMENT;
+            }
+            if (depth > 0) {
+                char container = containers[depth - 1];
+                if (prepareMember()) {
+                    depth--;
+                    endValue();
+                    return container == '{' ? Event.END_OBJECT : Event.END_ARRAY;
+                }
+                if (container == '{' && states[depth - 1] != FIELD_VALUE) {
+                    readFieldName();
+                    states[depth - 1] = FIELD_VALUE;
+                    return Event.FIELD_NAME;
+                }
+            }
+            return readValueEvent();
+        } catch (ParserException e) {
+            throw createError(e.getMessage());
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public String getText() {
+        return text.toString();
+    }
+
+    @Override
+    public boolean hasNextElement() throws BError {
+        try {
+            if (depth == 0 || containers[depth - 1] != '[') {
+                throw new ParserException("not reading a JSON array");
+            }
+            if (prepareMember()) {
+                depth--;
+                endValue();
+                return false;
+            }
+            return true;
+        } catch (ParserException e) {
+            throw createError(e.getMessage());
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public Object readValue(Type targetType) throws BError {
+        try {
+            if (depth > 0) {
+                char container = containers[depth - 1];
+                if (container == '{' && states[depth - 1] != FIELD_VALUE) {
+                    throw new ParserException("expected a field value");
+                }
+                if (container == '[' && prepareMember()) {
+                    throw new ParserException("expected an array element");
+                }
+            } else if (documentStarted) {
+                throw new ParserException("input stream has already ended");
+            }
+            documentStarted = true;
+            skipWhitespace();
+            if (peek() == EOF) {
+                throw new ParserException(depth == 0 ? "empty JSON document" : UNEXPECTED_END_OF_THE_INPUT_STREAM);
+            }
+            Object value = JsonParser.parse(new ValueReader(), targetType);
+            endValue();
+            return value;
+        } catch (ParserException e) {
+            throw createError(e.getMessage());
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!documentStarted) {
+            if (nextEvent() != Event.START_ARRAY) {
+                throw createError("expected '['");
+            }
+        } else if (depth == 0) {
+            return false;
+        }
+        if (hasNextElement()) {
+            return true;
+        }
+        if (depth == 0) {
+            // validates that the content ends with the array
+            nextEvent();
+        }
+        return false;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return readValue(elementType);
+    }
+
+    @Override
+    public Object build() {
+        ArrayValueImpl values = new ArrayValueImpl(new BArrayType(elementType));
+        while (hasNext()) {
+            values.append(readValue(elementType));
+        }
+        return values;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen) throws IOException {
+        gen.writeStartArray();
+        while (hasNext()) {
+            gen.serialize(readValue(elementType));
+        }
+        gen.writeEndArray();
+        gen.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Moves to the next member of the object or array which is being read.
+     *
+     * @return {@code true} if the object or array has ended, in which case its closing character is read
+     */
+    private boolean prepareMember() throws IOException, ParserException {
+        skipWhitespace();
+        byte state = states[depth - 1];
+        if (state == FIELD_VALUE) {
+            return false;
+        }
+        char close = containers[depth - 1] == '{' ? '}' : ']';
+        int ch = peek();
+        if (ch == EOF) {
+            throw new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+        }
+        if (ch == close && state != NEXT_MEMBER) {
+            read();
+            return true;
+        }
+        if (state == AFTER_MEMBER) {
+            if (ch != ',') {
+                read();
+                StateMachine.throwExpected(",", String.valueOf(close));
+            }
+            read();
+            skipWhitespace();
+            states[depth - 1] = NEXT_MEMBER;
+        }
+        return false;
+    }
+
+    private void readFieldName() throws IOException, ParserException {
+        if (read() != '"') {
+            StateMachine.throwExpected("\"");
+        }
+        readString();
+        skipWhitespace();
+        if (read() != ':') {
+            StateMachine.throwExpected(":");
+        }
+    }
+
+    private Event readValueEvent() throws IOException, ParserException {
+        skipWhitespace();
+        int ch = read();
+        if (!documentStarted) {
+            documentStarted = true;
+        }
+        switch (ch) {
+            case '{':
+                startContainer('{');
+                return Event.START_OBJECT;
+            case '[':
+                startContainer('[');
+                return Event.START_ARRAY;
+            case '"':
+                readString();
+                endValue();
+                return Event.STRING;
+            case EOF:
+                throw new ParserException(depth == 0 ? "empty JSON document" : UNEXPECTED_END_OF_THE_INPUT_STREAM);
+            default:
+                text.setLength(0);
+                text.append((char) ch);
+                for (ch = peek(); ch != EOF && ch != ',' && ch != '}' && ch != ']' &&
+                        !StateMachine.isWhitespace((char) ch); ch = peek()) {
+                    text.append((char) read());
+                }
+                endValue();
+                return getNonStringEvent();
+        }
+    }
+
+    private Event getNonStringEvent() throws ParserException {
+        String token = text.toString();
+        switch (token) {
+            case StateMachine.TRUE:
+            case StateMachine.FALSE:
+                return Event.BOOLEAN;
+            case StateMachine.NULL:
+                return Event.NULL;
+            default:
+                if (!isNumber(token)) {
+                    throw new ParserException("unrecognized token '" + token + "'");
+                }
+                return Event.NUMBER;
+        }
+    }
+
+    /**
+     * Checks whether the token is a number of the JSON grammar:
+     * {@code -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)?}.
+     *
+     * @param token token to be checked
+     * @return {@code true} if the token is a JSON number
+     */
+    private static boolean isNumber(String token) {
+        int length = token.length();
+        int i = 0;
+        if (i < length && token.charAt(i) == '-') {
+            i++;
+        }
+        if (i < length && token.charAt(i) == '0') {
+            i++;
+        } else {
+            int start = i;
+            i = skipDigits(token, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && token.charAt(i) == '.') {
+            int start = ++i;
+            i = skipDigits(token, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < length && (token.charAt(i) == 'e' || token.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (token.charAt(i) == '+' || token.charAt(i) == '-')) {
+                i++;
+            }
+            int start = i;
+            i = skipDigits(token, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static int skipDigits(String token, int index) {
+        while (index < token.length() && token.charAt(index) >= '0' && token.charAt(index) <= '9') {
+            index++;
+        }
+        return index;
+    }
+
+    private void readString() throws IOException, ParserException {
+        text.setLength(0);
+        for (int ch = read(); ch != '"'; ch = read()) {
+            if (ch == EOF) {
+                throw new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+            }
+            if (ch != '\\') {
+                text.append((char) ch);
+                continue;
+            }
+            ch = read();
+            switch (ch) {
+                case '"', '\\', '/' -> text.append((char) ch);
+                case 'b' -> text.append('\b');
+                case 'f' -> text.append('\f');
+                case 'n' -> text.append('\n');
+                case 'r' -> text.append('\r');
+                case 't' -> text.append('\t');
+                case 'u' -> text.append(readUnicodeChar());
+                default -> throw new ParserException("expected escaped characters");
+            }
+        }
+    }
+
+    private char readUnicodeChar() throws IOException, ParserException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(read(), 16);
+            if (digit == -1) {
+                throw new ParserException("expected the hexadecimal value of a unicode character");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private void startContainer(char container) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth << 1);
+            states = Arrays.copyOf(states, depth << 1);
+        }
+        containers[depth] = container;
+        states[depth] = FIRST_MEMBER;
+        depth++;
+    }
+
+    private void endValue() {
+        if (depth > 0) {
+            states[depth - 1] = AFTER_MEMBER;
+        }
+    }
+
+    private void endDocument() throws IOException, ParserException {
+        skipWhitespace();
+        if (peek() != EOF) {
+            read();
+            throw new ParserException("input stream has already ended");
+        }
+        documentEnded = true;
+    }
+
+    private void skipWhitespace() throws IOException {
+        for (int ch = peek(); ch != EOF && StateMachine.isWhitespace((char) ch); ch = peek()) {
+            read();
+        }
+    }
+
+    /**
+     * Returns the next character of the content without reading it.
+     *
+     * @return the next character, or {@link #EOF} at the end of the content
+     */
+    private int peek() throws IOException {
+        if (index == count && !fill()) {
+            return EOF;
+        }
+        return buff[index];
+    }
+
+    /**
+     * Reads the next character of the content.
+     *
+     * @return the next character, or {@link #EOF} at the end of the content
+     */
+    private int read() throws IOException {
+        if (index == count && !fill()) {
+            return EOF;
+        }
+        char ch = buff[index++];
+        if (ch == '\n') {
+            line++;
+            column = 0;
+        } else {
+            column++;
+        }
+        return ch;
+    }
+
+    private boolean fill() throws IOException {
+        int read = reader.read(buff, 0, buff.length);
+        if (read <= 0) {
+            return false;
+        }
+        index = 0;
+        count = read;
+        return true;
+    }
+
+    private BError createError(String message) {
+        return ErrorCreator.createError(StringUtils.fromString(message + " at line: " + line + " column: "
+                                                              + column));
+    }
+
+    /**
+     * Represents a {@link Reader} of the characters of the next value of the content, which ends at the end of the
+     * value.
+     */
+    private class ValueReader extends Reader {
+
+        private int nesting;
+        private boolean inString;
+        private boolean escaped;
+        private boolean ended;
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            int n = 0;
+            while (n < len && !ended) {
+                int ch = peek();
+                if (ch == EOF) {
+                    break;
+                }
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (ch == '\\') {
+                        escaped = true;
+                    } else if (ch == '"') {
+                        inString = false;
+                        ended = nesting == 0;
+                    }
+                } else if (ch == '"') {
+                    inString = true;
+                } else if (ch == '{' || ch == '[') {
+                    nesting++;
+                } else if (ch == '}' || ch == ']') {
+                    if (nesting == 0) {
+                        // the end of a non-string value, which is not part of the value
+                        ended = true;
+                        break;
+                    }
+                    nesting--;
+                    ended = nesting == 0;
+                } else if (nesting == 0 && (ch == ',' || StateMachine.isWhitespace((char) ch))) {
+                    ended = true;
+                    break;
+                }
+                cbuf[off + n++] = (char) JsonStreamReaderImpl.this.read();
+            }
+            return n == 0 && (ended || peek() == EOF) ? -1 : n;
+        }
+
+        @Override
+        public void close() {
+            // the underlying reader is closed with the stream reader
+        }
+    }
+}
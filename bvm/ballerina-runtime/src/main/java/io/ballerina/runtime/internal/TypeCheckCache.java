@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.util.BoundedLruCache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the results of the subtype checks done by {@link TypeChecker} between two types.
+ * <p>
+ * Only the checks that depend on the types alone are cached. Checks that look at the value, such as the ones for
+ * records and objects with {@code readonly} or {@code final} fields, and the checks done while resolving a recursive
+ * type, which assume that the pairs being resolved match, are not cached. Types are compared by identity, so that a
+ * lookup does not need to compare the structure of the types.
+ * <p>
+ * Since types are compared by identity, a cached result holds only as long as the types do not change. Types are
+ * completed after they are created, such as when the members of a recursive union type or the fields of a record type
+ * are set, and error types take the detail type of the error values created with them. Each of these changes calls
+ * {@link #invalidate()}, so that the cache holds only the results computed for the types as they are now. A result is
+ * computed against the generation of the cache read before the check started, and is dropped if the cache was
+ * invalidated while the check was being done, since the check may have seen the types before the change.
+ * <p>
+ * Error types also take the type ids of the error values created with them, which would invalidate the cache every
+ * time error values of different distinct types share an error type. Instead, the results of the checks which compare
+ * the type ids of error types are not cached at all, using {@link #dropPendingResults()}. The results are kept in a
+ * bounded LRU cache, so that the types created for a single value do not evict the results which are used repeatedly.
+ *
+ * @since 2201.9.0
+ */
+public class TypeCheckCache {
+
+    private static final int MAX_CACHE_SIZE = 4096;
+    private static final BoundedLruCache<TypePairKey, Boolean> results =
+            new BoundedLruCache<>("type_check_cache", MAX_CACHE_SIZE);
+    private static final AtomicLong generation = new AtomicLong();
+    private static volatile boolean populated;
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return the result, or null if it is not in the cache
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        return results.get(new TypePairKey(sourceType, targetType));
+    }
+
+    /**
+     * Returns the current generation of the cache, which must be read before a result to be cached is computed.
+     *
+     * @return the generation
+     */
+    static long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the result of checking whether the source type is a subtype of the target type, unless the cache was
+     * invalidated after the check started.
+     *
+     * @param sourceType         source type
+     * @param targetType         target type
+     * @param result             the result of the check
+     * @param expectedGeneration the generation of the cache read before the check started
+     * @return the result
+     */
+    static boolean put(Type sourceType, Type targetType, boolean result, long expectedGeneration) {
+        if (generation.get() != expectedGeneration) {
+            return result;
+        }
+        if (!populated) {
+            populated = true;
+        }
+        TypePairKey key = new TypePairKey(sourceType, targetType);
+        results.put(key, result);
+        // The cache may have been cleared between the generation check and adding the result
+        if (generation.get() != expectedGeneration) {
+            results.remove(key);
+        }
+        return result;
+    }
+
+    /**
+     * Prevents the results of the checks which are being done from being cached. Called when a check depends on
+     * state which is changed without invalidating the cache, such as the type ids of an error type.
+     */
+    static void dropPendingResults() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Drops all the cached results. Called when a type which may have been checked already is changed.
+     */
+    public static void invalidate() {
+        generation.incrementAndGet();
+        if (populated) {
+            populated = false;
+            results.clear();
+        }
+    }
+
+    public static long getHitCount() {
+        return results.getHitCount();
+    }
+
+    public static long getMissCount() {
+        return results.getMissCount();
+    }
+
+    private record TypePairKey(Type sourceType, Type targetType) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TypePairKey other && sourceType == other.sourceType &&
+                    targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+}
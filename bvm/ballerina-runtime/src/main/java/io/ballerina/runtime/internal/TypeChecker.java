@@ -368,6 +368,16 @@ public class TypeChecker {
         return ((BValue) value).getType();
     }
 
+    /**
+     * Returns the tag of the type of a given value, which is used to switch on the basic type of a value.
+     *
+     * @param value value to get the type tag of
+     * @return type tag of the value
+     */
+    public static int getTypeTag(Object value) {
+        return getType(value).getTag();
+    }
+
     /**
      * Deep value equality check for anydata.
      *
@@ -388,7 +398,7 @@ public class TypeChecker {
      */
     public static boolean checkDecimalEqual(DecimalValue lhsValue, DecimalValue rhsValue) {
         return isDecimalRealNumber(lhsValue) && isDecimalRealNumber(rhsValue) &&
-               lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) == 0;
+               lhsValue.compareTo(rhsValue) == 0;
     }
 
     /**
@@ -596,6 +606,15 @@ public class TypeChecker {
                 return checkIsType(PredefinedTypes.ANY_AND_READONLY_OR_ERROR_TYPE,
                         targetType, unresolvedTypes);
             case TypeTags.UNION_TAG:
+                if (unresolvedTypes == null) {
+                    Boolean result = TypeCheckCache.get(sourceType, targetType);
+                    if (result != null) {
+                        return result;
+                    }
+                    long generation = TypeCheckCache.getGeneration();
+                    return TypeCheckCache.put(sourceType, targetType,
+                            isUnionTypeMatch((BUnionType) sourceType, targetType, null), generation);
+                }
                 return isUnionTypeMatch((BUnionType) sourceType, targetType, unresolvedTypes);
             case TypeTags.FINITE_TYPE_TAG:
                 if ((targetTypeTag == TypeTags.FINITE_TYPE_TAG || targetTypeTag <= TypeTags.NULL_TAG ||
@@ -660,8 +679,17 @@ public class TypeChecker {
             case TypeTags.TYPE_REFERENCED_TYPE_TAG:
                 return checkIsType(sourceType, ((BTypeReferenceType) targetType).getReferredType(), unresolvedTypes);
             default:
-                return checkIsRecursiveType(sourceType, targetType,
-                        unresolvedTypes == null ? new ArrayList<>() : unresolvedTypes);
+                if (unresolvedTypes == null) {
+                    // Results of a check without any pairs being resolved do not depend on any assumptions
+                    Boolean result = TypeCheckCache.get(sourceType, targetType);
+                    if (result != null) {
+                        return result;
+                    }
+                    long generation = TypeCheckCache.getGeneration();
+                    return TypeCheckCache.put(sourceType, targetType,
+                            checkIsRecursiveType(sourceType, targetType, new ArrayList<>()), generation);
+                }
+                return checkIsRecursiveType(sourceType, targetType, unresolvedTypes);
         }
     }
 
@@ -2892,6 +2920,8 @@ public class TypeChecker {
             return true;
         }
 
+        // The type ids of an error type are changed without invalidating the cache
+        TypeCheckCache.dropPendingResults();
         BTypeIdSet sourceTypeIdSet = bErrorType.typeIdSet;
         if (sourceTypeIdSet == null) {
             return false;
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BRefValue;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+
+import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
+
+/**
+ * This class represents the call site of a type test or a type cast in the generated code, which caches the results
+ * of the checks done at the call site for the types of the values seen at it.
+ * <p>
+ * A call site sees values of a few types in most cases, so the results of up to {@code MAX_CACHED_TYPES} source
+ * types are kept in the call site and are looked up by identity, which avoids the subtype check for each value. Once
+ * more types than that are seen, the call site is switched to call the generic check in {@link TypeChecker}.
+ * <p>
+ * The result of a check only depends on the types, if the value is not a record or an object, which may have
+ * {@code readonly} or {@code final} fields. Even if the type of a value is not a subtype of the target type, an
+ * immutable value can still belong to the target type based on its shape, so a negative result is only used for
+ * mutable values.
+ *
+ * @since 2201.9.0
+ */
+public class TypeTestCallSite extends MutableCallSite {
+
+    private static final int MAX_CACHED_TYPES = 4;
+    private static final MethodType TYPE_TEST_TYPE = MethodType.methodType(boolean.class, Object.class, Type.class);
+    private static final MethodType CAST_TYPE = MethodType.methodType(Object.class, Object.class, Type.class);
+    private static final MethodHandle TYPE_TEST;
+    private static final MethodHandle CAST;
+    private static final MethodHandle GENERIC_TYPE_TEST;
+    private static final MethodHandle GENERIC_CAST;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            TYPE_TEST = lookup.findVirtual(TypeTestCallSite.class, "checkIsType", TYPE_TEST_TYPE);
+            CAST = lookup.findVirtual(TypeTestCallSite.class, "checkCast", CAST_TYPE);
+            GENERIC_TYPE_TEST = lookup.findStatic(TypeChecker.class, "checkIsType", TYPE_TEST_TYPE);
+            GENERIC_CAST = lookup.findStatic(TypeChecker.class, "checkCast", CAST_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle genericTarget;
+    private volatile CheckResult[] results = new CheckResult[0];
+
+    private TypeTestCallSite(MethodType type, MethodHandle target, MethodHandle genericTarget) {
+        super(type);
+        this.genericTarget = genericTarget.asType(type);
+        setTarget(target.bindTo(this).asType(type));
+    }
+
+    /**
+     * Bootstraps the call site of a type test, which is invoked with the value and the target type.
+     *
+     * @param lookup lookup of the caller
+     * @param name   name of the call site
+     * @param type   type of the call site
+     * @return the call site
+     */
+    public static CallSite bootstrapTypeTest(MethodHandles.Lookup lookup, String name, MethodType type) {
+        return new TypeTestCallSite(type, TYPE_TEST, GENERIC_TYPE_TEST);
+    }
+
+    /**
+     * Bootstraps the call site of a type cast, which is invoked with the value and the target type.
+     *
+     * @param lookup lookup of the caller
+     * @param name   name of the call site
+     * @param type   type of the call site
+     * @return the call site
+     */
+    public static CallSite bootstrapCast(MethodHandles.Lookup lookup, String name, MethodType type) {
+        return new TypeTestCallSite(type, CAST, GENERIC_CAST);
+    }
+
+    private boolean checkIsType(Object value, Type targetType) {
+        CheckResult result = getResult(TypeChecker.getType(value), targetType);
+        if (result != null) {
+            if (result.isSubType) {
+                return true;
+            }
+            if (result.isNotSubTypeIfMutable && value instanceof BRefValue refValue && !refValue.isFrozen()) {
+                return false;
+            }
+        }
+        return TypeChecker.checkIsType(value, targetType);
+    }
+
+    private Object checkCast(Object value, Type targetType) {
+        CheckResult result = getResult(TypeChecker.getType(value), targetType);
+        if (result != null && result.isSubType) {
+            return value;
+        }
+        return TypeChecker.checkCast(value, targetType);
+    }
+
+    private CheckResult getResult(Type sourceType, Type targetType) {
+        CheckResult[] results = this.results;
+        for (CheckResult result : results) {
+            if (result.sourceType == sourceType && result.targetType == targetType) {
+                return result;
+            }
+        }
+        if (results.length == MAX_CACHED_TYPES) {
+            setTarget(genericTarget);
+            return null;
+        }
+        CheckResult result = createResult(sourceType, targetType);
+        CheckResult[] newResults = new CheckResult[results.length + 1];
+        System.arraycopy(results, 0, newResults, 0, results.length);
+        newResults[results.length] = result;
+        // A result added concurrently by another thread may be lost, which only causes it to be computed again
+        this.results = newResults;
+        return result;
+    }
+
+    private static CheckResult createResult(Type sourceType, Type targetType) {
+        Type impliedType = getImpliedType(sourceType);
+        int tag = impliedType.getTag();
+        if (tag == TypeTags.RECORD_TYPE_TAG || tag == TypeTags.OBJECT_TYPE_TAG) {
+            return new CheckResult(sourceType, targetType, false, false);
+        }
+        boolean isSubType = TypeChecker.checkIsType(impliedType, getImpliedType(targetType));
+        return new CheckResult(sourceType, targetType, isSubType,
+                !isSubType && !TypeTags.isXMLTypeTag(tag) && tag >= TypeTags.NULL_TAG);
+    }
+
+    private record CheckResult(Type sourceType, Type targetType, boolean isSubType, boolean isNotSubTypeIfMutable) {
+    }
+}
@@ -0,0 +1,798 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.FieldNameIndex;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.ballerina.runtime.internal.StateMachine.isExponential;
+import static io.ballerina.runtime.internal.StateMachine.isNegativeZero;
+import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithDefaultValues;
+
+/**
+ * This class represents a parser which creates a value of the given target type from UTF-8 encoded JSON content.
+ * <p>
+ * Unlike {@link JsonParser}, the content is parsed directly from the bytes without decoding it into characters first,
+ * and the target type drives the parsing. Fields of records are collected by their index in the record type and
+ * populated in the record value, and lists of ints and floats are collected into primitive arrays, without an
+ * intermediate JSON value. Field names are looked up through the {@link FieldNameIndex} of the record type without
+ * creating a string for them. Values of union, finite and table types are parsed as JSON and converted to the target
+ * type, as done by {@link JsonParser}.
+ *
+ * @since 2201.9.0
+ */
+public final class Utf8JsonParser {
+
+    private static final String UNSUPPORTED_TYPE = "unsupported type: ";
+    private static final String ARRAY_SIZE_MISMATCH = "array size is not enough for the provided values";
+    private static final String TUPLE_SIZE_MISMATCH = "tuple size is not enough for the provided values";
+    private static final String UNEXPECTED_END_OF_THE_INPUT_STREAM = "unexpected end of the input stream";
+    private static final String UNRECOGNIZED_TOKEN = "unrecognized token '";
+    private static final int INITIAL_LIST_SIZE = 16;
+    // Any number with at most this many digits fits in a long, and in a double without losing precision
+    private static final int MAX_FAST_PATH_DIGITS = 15;
+
+    private final byte[] bytes;
+    private final int start;
+    private final int end;
+    private int pos;
+    private int tokenStart;
+    private int tokenEnd;
+    private final StringBuilder stringBuilder = new StringBuilder();
+
+    private Utf8JsonParser(byte[] bytes, int from, int to) {
+        this.bytes = bytes;
+        this.start = from;
+        this.end = to;
+        this.pos = from;
+    }
+
+    /**
+     * Parses the given UTF-8 encoded content and returns a value of the given target type.
+     *
+     * @param bytes      UTF-8 encoded JSON content
+     * @param targetType target type
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, Type targetType) throws BError {
+        return parse(bytes, 0, bytes.length, targetType);
+    }
+
+    /**
+     * Parses the given range of UTF-8 encoded content and returns a value of the given target type.
+     *
+     * @param bytes      UTF-8 encoded JSON content
+     * @param from       start of the content, inclusive
+     * @param to         end of the content, exclusive
+     * @param targetType target type
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, int from, int to, Type targetType) throws BError {
+        Utf8JsonParser parser = new Utf8JsonParser(bytes, from, to);
+        try {
+            return parser.parseDocument(TypeUtils.getImpliedType(targetType));
+        } catch (ParserException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + parser.getLocation()));
+        }
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded content of the given buffer and returns a value of the given target type.
+     * The position of the buffer is not changed.
+     *
+     * @param buffer     buffer which contains the UTF-8 encoded JSON content
+     * @param targetType target type
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BError {
+        if (buffer.hasArray()) {
+            int from = buffer.arrayOffset() + buffer.position();
+            return parse(buffer.array(), from, from + buffer.remaining(), targetType);
+        }
+        byte[] content = new byte[buffer.remaining()];
+        buffer.duplicate().get(content);
+        return parse(content, targetType);
+    }
+
+    private Object parseDocument(Type targetType) throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw new ParserException("empty JSON document");
+        }
+        Object value = parseValue(targetType);
+        skipWhitespace();
+        if (pos != end) {
+            pos++;
+            throw new ParserException("input stream has already ended");
+        }
+        return value;
+    }
+
+    private Object parseValue(Type targetType) throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw endOfInput();
+        }
+        switch (bytes[pos]) {
+            case '{':
+                pos++;
+                return parseObject(targetType);
+            case '[':
+                pos++;
+                return parseList(targetType);
+            case '"':
+                pos++;
+                return convertString(parseString(), targetType);
+            default:
+                readToken();
+                return convertToken(targetType);
+        }
+    }
+
+    private Object parseObject(Type targetType) throws ParserException {
+        return switch (targetType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG -> parseRecord((BRecordType) targetType);
+            case TypeTags.MAP_TAG -> parseMap((MapType) targetType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> parseJsonObject(targetType.isReadOnly());
+            case TypeTags.UNION_TAG, TypeTags.TABLE_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.convertJsonValue(parseJsonObject(false), targetType);
+            default -> throw new ParserException(UNSUPPORTED_TYPE + targetType + "'");
+        };
+    }
+
+    private Object parseList(Type targetType) throws ParserException {
+        return switch (targetType.getTag()) {
+            case TypeTags.ARRAY_TAG -> parseArray((ArrayType) targetType);
+            case TypeTags.TUPLE_TAG -> parseTuple((TupleType) targetType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> parseJsonArray(targetType.isReadOnly());
+            case TypeTags.UNION_TAG, TypeTags.TABLE_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.convertJsonValue(parseJsonArray(false), targetType);
+            default -> throw new ParserException("target type is not array type");
+        };
+    }
+
+    private BMap<BString, Object> parseRecord(BRecordType recordType) throws ParserException {
+        FieldNameIndex fieldNameIndex = recordType.getFieldNameIndex();
+        int fieldCount = fieldNameIndex.size();
+        Object[] values = new Object[fieldCount];
+        boolean[] provided = new boolean[fieldCount];
+        List<BString> restFieldNames = null;
+        List<Object> restFieldValues = null;
+        if (hasFirstMember('}')) {
+            do {
+                expectFieldName();
+                int nameStart = pos;
+                int nameEnd = skipUnescapedString();
+                int index;
+                String fieldName = null;
+                if (nameEnd == -1) {
+                    fieldName = parseString().getValue();
+                    index = fieldNameIndex.getIndex(fieldName);
+                } else {
+                    index = fieldNameIndex.getIndex(bytes, nameStart, nameEnd);
+                }
+                if (index != -1) {
+                    expectNameSeparator();
+                    values[index] = parseValue(TypeUtils.getImpliedType(fieldNameIndex.getField(index).getFieldType()));
+                    provided[index] = true;
+                    continue;
+                }
+                if (fieldName == null) {
+                    fieldName = new String(bytes, nameStart, nameEnd - nameStart, StandardCharsets.UTF_8);
+                }
+                if (recordType.sealed) {
+                    throw new ParserException("field '" + fieldName + "' cannot be added to the closed record '"
+                                              + recordType + "'");
+                }
+                if (restFieldNames == null) {
+                    restFieldNames = new ArrayList<>();
+                    restFieldValues = new ArrayList<>();
+                }
+                expectNameSeparator();
+                restFieldNames.add(StringUtils.fromString(fieldName));
+                restFieldValues.add(parseValue(TypeUtils.getImpliedType(recordType.restFieldType)));
+            } while (hasNextMember('}'));
+        }
+
+        List<String> notProvidedFields = new ArrayList<>();
+        for (int i = 0; i < fieldCount; i++) {
+            if (provided[i]) {
+                continue;
+            }
+            Field field = fieldNameIndex.getField(i);
+            long fieldFlags = field.getFlags();
+            if (SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.REQUIRED)) {
+                throw new ParserException("missing required field '" + field.getFieldName() + "' of type '"
+                                          + field.getFieldType().toString() + "' in record '" + recordType + "'");
+            } else if (!SymbolFlags.isFlagOn(fieldFlags, SymbolFlags.OPTIONAL)) {
+                notProvidedFields.add(field.getFieldName());
+            }
+        }
+        BMap<BString, Object> recordValue = createRecordValueWithDefaultValues(recordType.getPackage(),
+                recordType.getName(), notProvidedFields);
+        for (int i = 0; i < fieldCount; i++) {
+            if (provided[i]) {
+                recordValue.populateInitialValue(fieldNameIndex.getName(i), values[i]);
+            }
+        }
+        if (restFieldNames != null) {
+            for (int i = 0; i < restFieldNames.size(); i++) {
+                recordValue.populateInitialValue(restFieldNames.get(i), restFieldValues.get(i));
+            }
+        }
+        if (recordType.isReadOnly()) {
+            recordValue.freezeDirect();
+        }
+        return recordValue;
+    }
+
+    private MapValueImpl<BString, Object> parseMap(MapType mapType) throws ParserException {
+        MapValueImpl<BString, Object> mapValue = new MapValueImpl<>(mapType);
+        Type constrainedType = TypeUtils.getImpliedType(mapType.getConstrainedType());
+        if (hasFirstMember('}')) {
+            do {
+                expectFieldName();
+                BString fieldName = parseString();
+                expectNameSeparator();
+                mapValue.putForcefully(fieldName, parseValue(constrainedType));
+            } while (hasNextMember('}'));
+        }
+        return mapValue;
+    }
+
+    private Object parseArray(ArrayType arrayType) throws ParserException {
+        Type elementType = TypeUtils.getImpliedType(arrayType.getElementType());
+        boolean closed = arrayType.getState() == ArrayType.ArrayState.CLOSED;
+        if (!closed) {
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                        TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                        TypeTags.UNSIGNED8_INT_TAG -> {
+                    return parseIntArray(arrayType, elementType);
+                }
+                case TypeTags.FLOAT_TAG -> {
+                    return parseFloatArray(arrayType, elementType);
+                }
+                default -> {
+                }
+            }
+        }
+
+        ArrayValueImpl arrayValue = new ArrayValueImpl(arrayType);
+        int targetSize = arrayType.getSize();
+        int listIndex = 0;
+        if (hasFirstMember(']')) {
+            do {
+                if (closed && targetSize <= listIndex) {
+                    throw new ParserException("'" + arrayType + "' " + ARRAY_SIZE_MISMATCH);
+                }
+                skipWhitespace();
+                if (pos < end && bytes[pos] == '"') {
+                    pos++;
+                    BString bString = parseString();
+                    try {
+                        arrayValue.convertStringAndAddRefValue(listIndex, bString);
+                    } catch (BError e) {
+                        throw new ParserException(e.getMessage());
+                    }
+                } else {
+                    arrayValue.addRefValue(listIndex, parseValue(elementType));
+                }
+                listIndex++;
+            } while (hasNextMember(']'));
+        }
+        if (closed && targetSize > listIndex && !arrayType.hasFillerValue()) {
+            throw new ParserException("missing required number of values for the '" + arrayType +
+                                      "' array which does not have a filler value");
+        }
+        return arrayValue;
+    }
+
+    private ArrayValueImpl parseIntArray(ArrayType arrayType, Type elementType) throws ParserException {
+        long[] values = new long[INITIAL_LIST_SIZE];
+        int size = 0;
+        if (hasFirstMember(']')) {
+            do {
+                readNumberToken(elementType);
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size << 1);
+                }
+                values[size++] = convertTokenToInt(elementType);
+            } while (hasNextMember(']'));
+        }
+        return new ArrayValueImpl(arrayType, values, size);
+    }
+
+    private ArrayValueImpl parseFloatArray(ArrayType arrayType, Type elementType) throws ParserException {
+        double[] values = new double[INITIAL_LIST_SIZE];
+        int size = 0;
+        if (hasFirstMember(']')) {
+            do {
+                readNumberToken(elementType);
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size << 1);
+                }
+                values[size++] = convertTokenToFloat(elementType);
+            } while (hasNextMember(']'));
+        }
+        return new ArrayValueImpl(arrayType, values, size);
+    }
+
+    private TupleValueImpl parseTuple(TupleType tupleType) throws ParserException {
+        TupleValueImpl tupleValue = new TupleValueImpl(tupleType);
+        List<Type> tupleTypes = tupleType.getTupleTypes();
+        Type tupleRestType = tupleType.getRestType();
+        int listIndex = 0;
+        if (hasFirstMember(']')) {
+            do {
+                Type elementType;
+                if (listIndex < tupleTypes.size()) {
+                    elementType = tupleTypes.get(listIndex);
+                } else if (tupleRestType != null) {
+                    elementType = tupleRestType;
+                } else {
+                    throw new ParserException("'" + tupleType + "' " + TUPLE_SIZE_MISMATCH);
+                }
+                skipWhitespace();
+                if (pos < end && bytes[pos] == '"') {
+                    pos++;
+                    BString bString = parseString();
+                    try {
+                        tupleValue.convertStringAndAddRefValue(listIndex, bString);
+                    } catch (BError e) {
+                        throw new ParserException(e.getMessage());
+                    }
+                } else {
+                    tupleValue.addRefValue(listIndex, parseValue(TypeUtils.getImpliedType(elementType)));
+                }
+                listIndex++;
+            } while (hasNextMember(']'));
+        }
+        if (tupleTypes.size() > listIndex) {
+            throw new ParserException("missing required number of values for the '" + tupleType + "' tuple");
+        }
+        return tupleValue;
+    }
+
+    private Object parseJsonValue(boolean readonly) throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw endOfInput();
+        }
+        switch (bytes[pos]) {
+            case '{':
+                pos++;
+                return parseJsonObject(readonly);
+            case '[':
+                pos++;
+                return parseJsonArray(readonly);
+            case '"':
+                pos++;
+                return parseString();
+            default:
+                readToken();
+                return convertTokenToJson();
+        }
+    }
+
+    private MapValueImpl<BString, Object> parseJsonObject(boolean readonly) throws ParserException {
+        MapValueImpl<BString, Object> mapValue = readonly ?
+                new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_READONLY_JSON, true)) :
+                new MapValueImpl<>(new BMapType(PredefinedTypes.TYPE_JSON));
+        if (hasFirstMember('}')) {
+            do {
+                expectFieldName();
+                BString fieldName = parseString();
+                expectNameSeparator();
+                mapValue.putForcefully(fieldName, parseJsonValue(readonly));
+            } while (hasNextMember('}'));
+        }
+        return mapValue;
+    }
+
+    private ArrayValueImpl parseJsonArray(boolean readonly) throws ParserException {
+        ArrayValueImpl arrayValue = readonly ?
+                new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_READONLY_JSON, true)) :
+                new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        if (hasFirstMember(']')) {
+            do {
+                arrayValue.addRefValueForcefully(arrayValue.size(), parseJsonValue(readonly));
+            } while (hasNextMember(']'));
+        }
+        return arrayValue;
+    }
+
+    private boolean hasFirstMember(char close) {
+        skipWhitespace();
+        if (pos < end && bytes[pos] == close) {
+            pos++;
+            return false;
+        }
+        return true;
+    }
+
+    private boolean hasNextMember(char close) throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw endOfInput();
+        }
+        byte b = bytes[pos++];
+        if (b == ',') {
+            return true;
+        } else if (b == close) {
+            return false;
+        }
+        throw new ParserException("expected ',' or '" + close + "'");
+    }
+
+    private void expectFieldName() throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw endOfInput();
+        }
+        if (bytes[pos++] != '"') {
+            throw new ParserException("expected '\"'");
+        }
+    }
+
+    private void expectNameSeparator() throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw endOfInput();
+        }
+        if (bytes[pos++] != ':') {
+            throw new ParserException("expected ':'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < end) {
+            byte b = bytes[pos];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    /**
+     * Skips a string which does not contain escaped characters, starting after the opening quote.
+     *
+     * @return the position of the closing quote, or -1 without moving if the string has an escaped character
+     */
+    private int skipUnescapedString() throws ParserException {
+        for (int i = pos; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                pos = i + 1;
+                return i;
+            } else if (b == '\\') {
+                return -1;
+            }
+        }
+        pos = end;
+        throw endOfInput();
+    }
+
+    private BString parseString() throws ParserException {
+        int stringStart = pos;
+        boolean ascii = true;
+        for (; pos < end; pos++) {
+            byte b = bytes[pos];
+            if (b == '"') {
+                String str = new String(bytes, stringStart, pos - stringStart,
+                        ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+                pos++;
+                return StringUtils.fromString(str);
+            } else if (b == '\\') {
+                return StringUtils.fromString(parseEscapedString(stringStart));
+            } else if (b < 0) {
+                ascii = false;
+            }
+        }
+        throw endOfInput();
+    }
+
+    private String parseEscapedString(int stringStart) throws ParserException {
+        StringBuilder builder = this.stringBuilder;
+        builder.setLength(0);
+        int segmentStart = stringStart;
+        while (pos < end) {
+            byte b = bytes[pos];
+            if (b == '"') {
+                builder.append(new String(bytes, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+                pos++;
+                return builder.toString();
+            } else if (b == '\\') {
+                builder.append(new String(bytes, segmentStart, pos - segmentStart, StandardCharsets.UTF_8));
+                pos++;
+                builder.append(parseEscapedChar());
+                segmentStart = pos;
+            } else {
+                pos++;
+            }
+        }
+        throw endOfInput();
+    }
+
+    private char parseEscapedChar() throws ParserException {
+        if (pos == end) {
+            throw endOfInput();
+        }
+        return switch (bytes[pos++]) {
+            case '"' -> '"';
+            case '\\' -> '\\';
+            case '/' -> '/';
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> parseUnicodeChar();
+            default -> throw new ParserException("expected escaped characters");
+        };
+    }
+
+    private char parseUnicodeChar() throws ParserException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = pos < end ? Character.digit(bytes[pos], 16) : -1;
+            if (digit == -1) {
+                throw new ParserException("expected the hexadecimal value of a unicode character");
+            }
+            value = (value << 4) | digit;
+            pos++;
+        }
+        return (char) value;
+    }
+
+    private void readToken() throws ParserException {
+        tokenStart = pos;
+        while (pos < end) {
+            byte b = bytes[pos];
+            if (b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+                break;
+            }
+            pos++;
+        }
+        tokenEnd = pos;
+        if (tokenStart == tokenEnd) {
+            if (pos == end) {
+                throw endOfInput();
+            }
+            pos++;
+            throw new ParserException(UNRECOGNIZED_TOKEN + (char) bytes[tokenStart] + "'");
+        }
+    }
+
+    private void readNumberToken(Type targetType) throws ParserException {
+        skipWhitespace();
+        if (pos == end) {
+            throw endOfInput();
+        }
+        switch (bytes[pos]) {
+            case '"' -> {
+                pos++;
+                throw getConversionError(targetType, parseString().getValue());
+            }
+            case '{', '[' -> {
+                pos++;
+                throw new ParserException(UNSUPPORTED_TYPE + targetType + "'");
+            }
+            default -> readToken();
+        }
+    }
+
+    private String getToken() {
+        return new String(bytes, tokenStart, tokenEnd - tokenStart, StandardCharsets.UTF_8);
+    }
+
+    private boolean isToken(String literal) {
+        int length = tokenEnd - tokenStart;
+        if (length != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[tokenStart + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of digits of the current token, if it is an integer which can be converted without creating
+     * a string for it.
+     *
+     * @return the number of digits, or -1 if the token has to be converted from its string value
+     */
+    private int getFastPathDigitCount() {
+        int digitsStart = bytes[tokenStart] == '-' ? tokenStart + 1 : tokenStart;
+        int digitCount = tokenEnd - digitsStart;
+        if (digitCount == 0 || digitCount > MAX_FAST_PATH_DIGITS) {
+            return -1;
+        }
+        for (int i = digitsStart; i < tokenEnd; i++) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return -1;
+            }
+        }
+        return digitCount;
+    }
+
+    private long getFastPathValue(int digitCount) {
+        long value = 0;
+        for (int i = tokenEnd - digitCount; i < tokenEnd; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return value;
+    }
+
+    private long convertTokenToInt(Type targetType) throws ParserException {
+        long value;
+        int digitCount = getFastPathDigitCount();
+        if (digitCount != -1) {
+            value = getFastPathValue(digitCount);
+            if (bytes[tokenStart] == '-') {
+                value = -value;
+            }
+        } else {
+            try {
+                value = Long.parseLong(getToken());
+            } catch (NumberFormatException e) {
+                throw getConversionError(targetType, getToken());
+            }
+        }
+        if (!TypeConverter.isConvertibleToIntRange(targetType, value)) {
+            throw getConversionError(targetType, getToken());
+        }
+        return value;
+    }
+
+    private double convertTokenToFloat(Type targetType) throws ParserException {
+        int digitCount = getFastPathDigitCount();
+        if (digitCount != -1) {
+            double value = getFastPathValue(digitCount);
+            return bytes[tokenStart] == '-' ? -value : value;
+        }
+        try {
+            return Double.parseDouble(getToken());
+        } catch (NumberFormatException e) {
+            throw getConversionError(targetType, getToken());
+        }
+    }
+
+    private Object convertToken(Type targetType) throws ParserException {
+        return switch (targetType.getTag()) {
+            case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                    TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                    TypeTags.UNSIGNED8_INT_TAG -> convertTokenToInt(targetType);
+            case TypeTags.FLOAT_TAG -> convertTokenToFloat(targetType);
+            case TypeTags.DECIMAL_TAG, TypeTags.BOOLEAN_TAG, TypeTags.NULL_TAG, TypeTags.BYTE_TAG ->
+                    JsonParser.convertNonStringValue(targetType, getToken());
+            case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG ->
+                    JsonParser.convertJsonValue(convertTokenToJson(), targetType);
+            case TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG -> convertTokenToJson();
+            default -> throw getConversionError(targetType, getToken());
+        };
+    }
+
+    private Object convertTokenToJson() throws ParserException {
+        int digitCount = getFastPathDigitCount();
+        if (digitCount != -1) {
+            long value = getFastPathValue(digitCount);
+            if (bytes[tokenStart] != '-') {
+                return value;
+            }
+            // -0 is a float value in JSON
+            return value == 0 ? -0.0 : -value;
+        }
+        if (isToken(StateMachine.TRUE)) {
+            return Boolean.TRUE;
+        } else if (isToken(StateMachine.FALSE)) {
+            return Boolean.FALSE;
+        } else if (isToken(StateMachine.NULL)) {
+            return null;
+        }
+
+        String str = getToken();
+        try {
+            if (isNegativeZero(str)) {
+                return Double.parseDouble(str);
+            } else if (str.indexOf('.') >= 0 || isExponential(str)) {
+                return new DecimalValue(str);
+            } else {
+                return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+        }
+    }
+
+    private static Object convertString(BString bString, Type targetType) throws ParserException {
+        return switch (targetType.getTag()) {
+            case TypeTags.STRING_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG -> bString;
+            default -> {
+                try {
+                    yield ValueConverter.getConvertedStringValue(bString, targetType);
+                } catch (BError e) {
+                    throw new ParserException(e.getMessage());
+                }
+            }
+        };
+    }
+
+    private ParserException endOfInput() {
+        // The error is reported at the position right after the last character
+        pos = end + 1;
+        return new ParserException(UNEXPECTED_END_OF_THE_INPUT_STREAM);
+    }
+
+    private static ParserException getConversionError(Type targetType, String inputValue) {
+        return new ParserException("value '" + inputValue + "' cannot be converted to '" + targetType + "'");
+    }
+
+    private String getLocation() {
+        int line = 1;
+        int column = 0;
+        int location = Math.min(pos, end);
+        for (int i = start; i < location; i++) {
+            if (bytes[i] == '\n') {
+                line++;
+                column = 0;
+            } else if ((bytes[i] & 0xC0) != 0x80) {
+                // continuation bytes of a UTF-8 sequence are not counted as separate characters
+                column++;
+            }
+        }
+        if (pos > end) {
+            column++;
+        }
+        return " at line: " + line + " column: " + column;
+    }
+}
@@ -309,7 +309,7 @@ public class ValueComparisonUtils {
             case ZERO:
             case OTHER:
                 return (isDecimalRealNumber(rhsValue) &&
-                        lhsValue.decimalValue().compareTo(rhsValue.decimalValue()) > 0);
+                        lhsValue.compareTo(rhsValue) > 0);
             default:
                 return false;
         }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.XmlElementReader;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.XmlItem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * This class implements {@link XmlElementReader}, reading the document through an {@link XMLStreamReader}.
+ * <p>
+ * Each element at the given depth is built by {@link XmlTreeBuilder} as an independent XML value, along with its
+ * content, when the consumer asks for it. Content outside of these elements is only checked for well-formedness.
+ * Since the reader does not refer to the elements it has returned, each element can be garbage collected once the
+ * consumer is done with it.
+ *
+ * @since 2201.9.0
+ */
+public class XmlElementReaderImpl implements XmlElementReader, IteratorValue {
+
+    private final Closeable source;
+    private final XMLStreamReader xmlStreamReader;
+    private final int elementDepth;
+    private int depth;
+    private boolean atElement;
+    private boolean ended;
+
+    /**
+     * Creates a reader of the given byte stream, of which the encoding is detected from the byte order mark or the
+     * XML declaration of the document, defaulting to UTF-8.
+     *
+     * @param inputStream  input stream which contains the document
+     * @param elementDepth depth of the elements to be read
+     */
+    public XmlElementReaderImpl(InputStream inputStream, int elementDepth) {
+        this(inputStream, XmlTreeBuilder.createXmlStreamReader(inputStream), elementDepth);
+    }
+
+    /**
+     * Creates a reader of the given byte stream, which is decoded using the given charset.
+     *
+     * @param inputStream  input stream which contains the document
+     * @param charset      name of the charset of the document
+     * @param elementDepth depth of the elements to be read
+     */
+    public XmlElementReaderImpl(InputStream inputStream, String charset, int elementDepth) {
+        this(inputStream, XmlTreeBuilder.createXmlStreamReader(inputStream, charset), elementDepth);
+    }
+
+    public XmlElementReaderImpl(Reader reader, int elementDepth) {
+        this(reader, XmlTreeBuilder.createXmlStreamReader(reader), elementDepth);
+    }
+
+    private XmlElementReaderImpl(Closeable source, XMLStreamReader xmlStreamReader, int elementDepth) {
+        if (elementDepth < 1) {
+            throw ErrorCreator.createError(StringUtils.fromString("invalid element depth: " + elementDepth));
+        }
+        this.source = source;
+        this.xmlStreamReader = xmlStreamReader;
+        this.elementDepth = elementDepth;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (atElement) {
+            return true;
+        }
+        if (ended) {
+            return false;
+        }
+        try {
+            while (xmlStreamReader.hasNext()) {
+                int event = xmlStreamReader.next();
+                if (event == START_ELEMENT) {
+                    if (++depth == elementDepth) {
+                        atElement = true;
+                        return true;
+                    }
+                } else if (event == END_ELEMENT) {
+                    depth--;
+                }
+            }
+        } catch (XMLStreamException e) {
+            XmlTreeBuilder.handleXMLStreamException(e);
+        }
+        ended = true;
+        return false;
+    }
+
+    @Override
+    public BXml next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = new XmlTreeBuilder(xmlStreamReader).parseElement();
+        addInheritedDefaultNamespace(element);
+        atElement = false;
+        depth--;
+        return element;
+    }
+
+    private void addInheritedDefaultNamespace(BXml element) {
+        // A default namespace declared by an ancestor would be lost once the element is separated from the document
+        XmlItem item = (XmlItem) element;
+        String namespaceUri = item.getQName().getNamespaceURI();
+        MapValue<BString, BString> attributesMap = item.getAttributesMap();
+        if (!namespaceUri.isEmpty() && item.getQName().getPrefix().isEmpty() &&
+                !attributesMap.containsKey(XmlItem.XMLNS_PREFIX)) {
+            attributesMap.put(XmlItem.XMLNS_PREFIX, StringUtils.fromString(namespaceUri));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            source.close();
+        }
+    }
+}
@@ -30,6 +30,7 @@ import io.ballerina.runtime.internal.values.XmlQName;
 import io.ballerina.runtime.internal.values.XmlSequence;
 import io.ballerina.runtime.internal.values.XmlText;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayDeque;
@@ -80,6 +81,16 @@ public class XmlTreeBuilder {
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        this(createXmlStreamReader(stringReader));
+    }
+
+    /**
+     * Creates a tree builder which reads from the given {@code XMLStreamReader}, which may already be positioned
+     * within a document.
+     *
+     * @param xmlStreamReader XML stream reader
+     */
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader) {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -88,14 +99,37 @@ public class XmlTreeBuilder {
         siblingDeque.push(siblings);
         seqDeque.push(new XmlSequence(siblings));
 
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    static XMLStreamReader createXmlStreamReader(Reader reader) {
+        try {
+            return xmlInputFactory.createXMLStreamReader(reader);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+            return null;
+        }
+    }
+
+    static XMLStreamReader createXmlStreamReader(InputStream inputStream) {
+        try {
+            return xmlInputFactory.createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            handleXMLStreamException(e);
+            return null;
+        }
+    }
+
+    static XMLStreamReader createXmlStreamReader(InputStream inputStream, String charset) {
         try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+            return xmlInputFactory.createXMLStreamReader(inputStream, charset);
         } catch (XMLStreamException e) {
             handleXMLStreamException(e);
+            return null;
         }
     }
 
-    private void handleXMLStreamException(Exception e) {
+    static void handleXMLStreamException(Exception e) {
         String reason = e.getCause() == null ? e.getMessage() : e.getCause().getMessage();
         if (reason == null) {
             throw ErrorCreator.createError(StringUtils.fromString(XmlFactory.PARSE_ERROR));
@@ -150,6 +184,56 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at the current {@code START_ELEMENT} event of the reader, including its content. The reader
+     * is left at the {@code END_ELEMENT} event of the element.
+     *
+     * @return the element
+     */
+    BXml parseElement() {
+        int depth = 0;
+        boolean readNext = true;
+        int next;
+        try {
+            do {
+                if (readNext) {
+                    readNext = false;
+                    next = xmlStreamReader.getEventType();
+                } else {
+                    next = xmlStreamReader.next();
+                }
+                switch (next) {
+                    case START_ELEMENT:
+                        readElement(xmlStreamReader);
+                        depth++;
+                        break;
+                    case END_ELEMENT:
+                        endElement();
+                        depth--;
+                        break;
+                    case PROCESSING_INSTRUCTION:
+                        readPI(xmlStreamReader);
+                        break;
+                    case COMMENT:
+                        readComment(xmlStreamReader);
+                        break;
+                    case CDATA:
+                        readCData(xmlStreamReader);
+                        break;
+                    case CHARACTERS:
+                        readText(xmlStreamReader);
+                        readNext = true;
+                        break;
+                    default:
+                        break;
+                }
+            } while (depth > 0);
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+        return this.siblingDeque.peek().get(0);
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.regexp;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.util.BoundedLruCache;
+import io.ballerina.runtime.internal.values.RegExpValue;
+
+import java.util.regex.Pattern;
+
+/**
+ * Caches the java patterns compiled for Ballerina regular expressions.
+ * <p>
+ * A compiled pattern is first kept in the {@link RegExpValue} itself, so that reusing the same value does not need a
+ * lookup. Since a regular expression literal creates a new value each time it is evaluated, patterns are also kept
+ * in a bounded LRU cache keyed by the string value of the regular expression.
+ *
+ * @since 2201.9.0
+ */
+public class RegExpPatternCache {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final BoundedLruCache<String, Pattern> patterns =
+            new BoundedLruCache<>("regexp_pattern_cache", MAX_CACHE_SIZE);
+
+    private RegExpPatternCache() {
+    }
+
+    /**
+     * Returns the java pattern for the given regular expression, compiling it if it is not in the cache.
+     *
+     * @param regExpValue regular expression
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated regular expression is not a valid pattern
+     */
+    public static Pattern getPattern(RegExpValue regExpValue) {
+        Pattern pattern = regExpValue.getCompiledPattern();
+        if (pattern != null) {
+            return pattern;
+        }
+        String key = StringUtils.getStringValue(regExpValue);
+        pattern = patterns.get(key);
+        if (pattern != null) {
+            regExpValue.setCompiledPattern(pattern);
+            return pattern;
+        }
+        // Map the required ballerina regexp constructs to java.
+        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs(regExpValue);
+        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
+        pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+        patterns.put(key, pattern);
+        regExpValue.setCompiledPattern(pattern);
+        return pattern;
+    }
+
+    public static long getHitCount() {
+        return patterns.getHitCount();
+    }
+
+    public static long getMissCount() {
+        return patterns.getMissCount();
+    }
+}
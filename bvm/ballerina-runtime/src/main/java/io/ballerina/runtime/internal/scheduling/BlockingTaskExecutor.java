@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executes blocking work of external functions on behalf of strands.
+ * <p>
+ * By default the work runs on the strand executor thread that calls the external function, which keeps that carrier
+ * thread pinned until the work completes. When {@code BALLERINA_BLOCKING_EXTERN_MODE} is set to {@code platform} or
+ * {@code virtual}, the work is handed over to a platform thread or a JDK virtual thread respectively, while the
+ * strand is parked as {@link Strand#blockedOnExtern} and the carrier is released for other strands.
+ * <p>
+ * When metrics are enabled, the number of pinned carriers, i.e. strand executor threads which are blocked, waiting
+ * or running a blocking task while running a strand, is reported along with the number of offloaded tasks and the
+ * time taken to resume a strand after its offloaded task completed.
+ *
+ * @since 2201.9.0
+ */
+public class BlockingTaskExecutor {
+
+    private static final PrintStream err = System.err;
+    private static final String MODE_CARRIER = "carrier";
+    private static final String MODE_PLATFORM = "platform";
+    private static final String MODE_VIRTUAL = "virtual";
+    private static final String METRIC_PINNED_CARRIERS = "scheduler_pinned_carriers";
+    private static final String METRIC_OFFLOADED_TASKS = "scheduler_offloaded_extern_tasks";
+    private static final String METRIC_RESUME_LATENCY = "scheduler_extern_resume_latency_seconds";
+
+    private static final BlockingTaskExecutor INSTANCE =
+            new BlockingTaskExecutor(System.getenv(RuntimeConstants.BALLERINA_BLOCKING_EXTERN_MODE_ENV_VAR));
+
+    private final ExecutorService executor;
+    private final AtomicInteger offloadedTasks = new AtomicInteger();
+    private volatile boolean metricsRegistered;
+    private volatile Gauge resumeLatency;
+
+    private BlockingTaskExecutor(String modeConf) {
+        this.executor = createExecutor(modeConf);
+    }
+
+    public static BlockingTaskExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Runs the given blocking task and resumes the strand with its result. The strand must be marked as async
+     * before calling this method.
+     *
+     * @param strand strand that is blocked on the task
+     * @param task   blocking task to be executed
+     */
+    public void execute(Strand strand, Supplier<Object> task) {
+        if (executor == null) {
+            StrandHolder holder = Scheduler.getStrandHolder();
+            holder.runningBlockingTask = true;
+            try {
+                complete(strand, task);
+            } finally {
+                holder.runningBlockingTask = false;
+            }
+            return;
+        }
+        offloadedTasks.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                complete(strand, task);
+            } finally {
+                offloadedTasks.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Reports the time taken by a strand to get back on a carrier thread after its offloaded task completed.
+     *
+     * @param strand strand that is resumed
+     */
+    void recordResume(Strand strand) {
+        long completedTime = strand.blockingTaskCompletedTime;
+        strand.blockingTaskCompletedTime = 0;
+        Gauge gauge = resumeLatency;
+        if (gauge != null) {
+            gauge.setValue((System.nanoTime() - completedTime) / 1E9);
+        }
+    }
+
+    public int getPinnedCarrierCount() {
+        return Scheduler.getPinnedCarrierCount();
+    }
+
+    public int getOffloadedTaskCount() {
+        return offloadedTasks.get();
+    }
+
+    private void complete(Strand strand, Supplier<Object> task) {
+        try {
+            strand.returnValue = task.get();
+        } catch (BError error) {
+            strand.panic = error;
+        } catch (Throwable t) {
+            strand.panic = ErrorCreator.createError(t);
+        }
+        if (executor != null) {
+            strand.blockingTaskCompletedTime = System.nanoTime();
+        }
+        strand.scheduler.unblockStrand(strand);
+    }
+
+    /**
+     * Registers the metrics of the scheduler if metrics are enabled and the metric provider is initialized. This is
+     * called when a scheduler starts and when the default metric registry is set, and does nothing after the metrics
+     * are registered.
+     */
+    public void registerMetrics() {
+        if (metricsRegistered || !ObserveUtils.isMetricsEnabled()) {
+            return;
+        }
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (registry.getMetricProvider() instanceof NoOpMetricProvider) {
+            return;
+        }
+        synchronized (this) {
+            if (metricsRegistered) {
+                return;
+            }
+            metricsRegistered = true;
+            try {
+                PolledGauge.builder(METRIC_PINNED_CARRIERS, this, BlockingTaskExecutor::getPinnedCarrierCount)
+                        .description("Number of strand executor threads held up by the strands they run")
+                        .register(registry);
+                PolledGauge.builder(METRIC_OFFLOADED_TASKS, offloadedTasks, AtomicInteger::get)
+                        .description("Number of blocking external function tasks running off the carriers")
+                        .register(registry);
+                resumeLatency = registry.gauge(new MetricId(METRIC_RESUME_LATENCY,
+                        "Time taken to resume a strand after its blocking external function task completed",
+                        Collections.emptySet()), StatisticConfig.builder()
+                        .expiry(Duration.ofMinutes(1))
+                        .percentiles(StatisticConfig.DEFAULT.getPercentiles())
+                        .build());
+            } catch (RuntimeException e) {
+                err.println("error: error registering scheduler metrics: " + e.getMessage());
+            }
+        }
+    }
+
+    private static ExecutorService createExecutor(String modeConf) {
+        if (modeConf == null) {
+            return null;
+        }
+        switch (modeConf.trim()) {
+            case MODE_CARRIER:
+                return null;
+            case MODE_PLATFORM:
+                return createPlatformThreadExecutor();
+            case MODE_VIRTUAL:
+                try {
+                    // Virtual threads are only available from JDK 21, hence looked up reflectively.
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                            .invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    err.println("ballerina: virtual threads are not supported by the current JVM, using platform " +
+                            "threads to run blocking external functions");
+                    return createPlatformThreadExecutor();
+                }
+            default:
+                // Log and continue with default
+                err.println("ballerina: unsupported blocking extern mode '" + modeConf + "' in system variable:" +
+                        RuntimeConstants.BALLERINA_BLOCKING_EXTERN_MODE_ENV_VAR + ", using the default mode");
+                return null;
+        }
+    }
+
+    private static ExecutorService createPlatformThreadExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        return Executors.newCachedThreadPool(runnable -> {
+            // Daemon threads, so that idle threads of the pool do not keep the program alive.
+            Thread thread = new Thread(runnable, "jbal-blocking-extern-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -30,4 +30,15 @@ public abstract class FunctionFrame {
 
     public String yieldStatus;
 
+    // Next frame of the free-list of frames of the same class held on the strand
+    FunctionFrame nextFreeFrame;
+
+    /**
+     * Clears the references held by the frame when it is kept by the strand to be reused, so that the frame does not
+     * keep the values of the resumed function alive. Generated frame classes clear their reference fields as well.
+     */
+    protected void clearReferences() {
+        yieldLocation = null;
+        yieldStatus = null;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Holds the {@link ItemGroup}s that are ready to be picked up by the strand executor threads of a
+ * {@link Scheduler}.
+ *
+ * @since 2201.9.0
+ */
+public interface RunQueue {
+
+    /**
+     * Adds a group that became runnable.
+     *
+     * @param group group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Adds a group that was made runnable by the strand currently running on the calling thread. Implementations
+     * may run such a group next on the same thread to benefit from cache locality.
+     *
+     * @param group group to be executed
+     */
+    void addNext(ItemGroup group);
+
+    /**
+     * Adds the termination marker, which makes exactly one executor thread return from {@link #take()}.
+     */
+    void addPoisonPill();
+
+    /**
+     * Retrieves the next runnable group, waiting if necessary until one becomes available.
+     *
+     * @return next runnable group, or {@link ItemGroup#POISON_PILL} if the calling thread should stop
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    boolean isEmpty();
+}
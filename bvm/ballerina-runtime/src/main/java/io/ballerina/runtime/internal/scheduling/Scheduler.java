@@ -36,9 +36,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -64,16 +62,22 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> currentStrands = new ConcurrentHashMap<>();
+    /**
+     * Strand executor threads of all the schedulers, along with the holders of the strands they run.
+     */
+    private static final Map<Thread, StrandHolder> carriers = new ConcurrentHashMap<>();
     private final Strand previousStrand;
 
     private final AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -102,6 +106,7 @@ public class Scheduler {
     public Scheduler(int numThreads, boolean immortal) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(numThreads);
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -267,6 +272,9 @@ public class Scheduler {
     }
 
     public void start() {
+        // In case the metric provider was initialized before this scheduler started, otherwise they are registered
+        // when the provider is set.
+        BlockingTaskExecutor.getInstance().registerMetrics();
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
             new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
@@ -283,13 +291,52 @@ public class Scheduler {
      * Defensive programming to prevent unforeseen errors.
      */
     private void runSafely() {
+        Thread carrier = Thread.currentThread();
+        carriers.put(carrier, strandHolder.get());
         try {
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            carriers.remove(carrier);
         }
     }
 
+    /**
+     * Counts the strand executor threads which are held up by the strand they run: threads which are blocked or
+     * waiting, or which run a blocking task of an external function. Since the threads are not stopped while they are
+     * counted, the count is approximate.
+     *
+     * @return number of pinned strand executor threads
+     */
+    static int getPinnedCarrierCount() {
+        int count = 0;
+        for (Map.Entry<Thread, StrandHolder> carrier : carriers.entrySet()) {
+            StrandHolder holder = carrier.getValue();
+            if (holder.strand == null) {
+                continue;
+            }
+            if (holder.runningBlockingTask) {
+                count++;
+                continue;
+            }
+            switch (carrier.getKey().getState()) {
+                case BLOCKED:
+                case WAITING:
+                case TIMED_WAITING:
+                    count++;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return count;
+    }
+
+    static StrandHolder getStrandHolder() {
+        return strandHolder.get();
+    }
+
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
@@ -307,7 +354,6 @@ public class Scheduler {
                 this.mainBlockSem.release();
                 break;
             }
-
             boolean isItemsEmpty = group.items.isEmpty();
             while (!isItemsEmpty) {
                 Object result = null;
@@ -317,6 +363,9 @@ public class Scheduler {
 
                 try {
                     strandHolder.get().strand = item.future.strand;
+                    if (item.future.strand.blockingTaskCompletedTime != 0) {
+                        BlockingTaskExecutor.getInstance().recordResume(item.future.strand);
+                    }
                     result = item.execute();
                 } catch (Throwable e) {
                     panic = createError(e);
@@ -401,7 +450,7 @@ public class Scheduler {
                                 ctx.runnable = true;
                             } else {
                                 ctx.completed = true;
-                                reschedule(ctx.schedulerItem);
+                                reschedule(ctx.schedulerItem, true);
                             }
                         }
                     }
@@ -445,7 +494,7 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
-            reschedule(strand.schedulerItem);
+            reschedule(strand.schedulerItem, true);
         } else {
             // item not returned to scheduler, yet.
             // scheduler will simply reschedule since this is already unlocked.
@@ -483,14 +532,28 @@ public class Scheduler {
     }
 
     private void reschedule(SchedulerItem item) {
+        reschedule(item, false);
+    }
+
+    /**
+     * Makes a blocked or yielded item runnable again.
+     *
+     * @param item      item to be rescheduled
+     * @param unblocked whether the item was unblocked by the strand running on the current thread
+     */
+    private void reschedule(SchedulerItem item, boolean unblocked) {
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
-            addToRunnableList(item, group);
+            addToRunnableList(item, group, unblocked);
         }
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
+        addToRunnableList(item, group, false);
+    }
+
+    private void addToRunnableList(SchedulerItem item, ItemGroup group, boolean runNext) {
         group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
@@ -498,7 +561,11 @@ public class Scheduler {
         //  2) All others have finished
         // In this case we need to put it back in the runnable list.
         if (group.scheduled.compareAndSet(false, true)) {
-            runnableList.add(group);
+            if (runNext) {
+                runnableList.addNext(group);
+            } else {
+                runnableList.add(group);
+            }
         }
         group.unlock();
     }
@@ -519,7 +586,7 @@ public class Scheduler {
 
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+            runnableList.addPoisonPill();
         }
     }
 
@@ -551,6 +618,24 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static RunQueue createRunQueue(int numThreads) {
+        if (schedulerModeConf == null || numThreads == 1) {
+            return new SharedRunQueue();
+        }
+        switch (schedulerModeConf.trim()) {
+            case RuntimeConstants.SCHEDULER_MODE_WORK_STEALING:
+                return new WorkStealingRunQueue(numThreads);
+            case RuntimeConstants.SCHEDULER_MODE_SHARED:
+                return new SharedRunQueue();
+            default:
+                // Log and continue with default
+                err.println("ballerina: unsupported scheduler mode '" + schedulerModeConf + "' in system variable:" +
+                        RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default mode");
+                schedulerModeConf = null;
+                return new SharedRunQueue();
+        }
+    }
+
     public void gracefulExit() {
         if (!this.immortal) {
             this.poison();
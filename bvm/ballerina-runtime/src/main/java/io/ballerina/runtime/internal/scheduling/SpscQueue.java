@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unbounded, lock-free queue for a single producer thread and a single consumer thread at a time.
+ * <p>
+ * Elements are stored in linked fixed size chunks. The producer publishes an element by advancing the volatile
+ * producer index after writing it, and the consumer releases a slot by advancing the volatile consumer index, hence
+ * {@link #isEmpty()} can be called from either side. Null elements are not allowed.
+ * <p>
+ * A chunk which the consumer has drained is handed back to the producer, which reuses it instead of allocating a new
+ * one, so that a channel which is kept short does not allocate a new chunk as its indexes move along.
+ *
+ * @param <E> type of the elements
+ * @since 2201.9.0
+ */
+public class SpscQueue<E> {
+
+    private static final int CHUNK_SIZE = 64;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private Chunk producerChunk;
+    private volatile long producerIndex;
+
+    private Chunk consumerChunk;
+    private volatile long consumerIndex;
+
+    private final AtomicReference<Chunk> spareChunk = new AtomicReference<>();
+
+    public SpscQueue() {
+        this.producerChunk = new Chunk();
+        this.consumerChunk = this.producerChunk;
+    }
+
+    /**
+     * Adds an element to the tail of the queue. Must only be called by the producer.
+     *
+     * @param element element to be added
+     */
+    public void offer(E element) {
+        long index = this.producerIndex;
+        int offset = (int) (index & CHUNK_MASK);
+        Chunk chunk = this.producerChunk;
+        chunk.slots[offset] = element;
+        if (offset == CHUNK_MASK) {
+            // Link the next chunk before publishing the last slot, so that the consumer can move on right away.
+            chunk.next = newChunk();
+            this.producerChunk = chunk.next;
+        }
+        this.producerIndex = index + 1;
+    }
+
+    /**
+     * Retrieves the head of the queue without removing it. Must only be called by the consumer.
+     *
+     * @return head of the queue or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long index = this.consumerIndex;
+        if (index == this.producerIndex) {
+            return null;
+        }
+        return (E) this.consumerChunk.slots[(int) (index & CHUNK_MASK)];
+    }
+
+    /**
+     * Retrieves and removes the head of the queue. Must only be called by the consumer.
+     *
+     * @return head of the queue or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long index = this.consumerIndex;
+        if (index == this.producerIndex) {
+            return null;
+        }
+        int offset = (int) (index & CHUNK_MASK);
+        Chunk chunk = this.consumerChunk;
+        E element = (E) chunk.slots[offset];
+        chunk.slots[offset] = null;
+        if (offset == CHUNK_MASK) {
+            // The producer has already moved on to the next chunk, so the drained one can be handed back to it.
+            this.consumerChunk = chunk.next;
+            chunk.next = null;
+            this.spareChunk.lazySet(chunk);
+        }
+        this.consumerIndex = index + 1;
+        return element;
+    }
+
+    public boolean isEmpty() {
+        return this.consumerIndex == this.producerIndex;
+    }
+
+    private Chunk newChunk() {
+        Chunk chunk = this.spareChunk.getAndSet(null);
+        return chunk != null ? chunk : new Chunk();
+    }
+
+    private static class Chunk {
+
+        private final Object[] slots = new Object[CHUNK_SIZE];
+        private Chunk next;
+    }
+}
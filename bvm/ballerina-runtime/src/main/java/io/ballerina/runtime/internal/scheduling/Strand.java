@@ -61,12 +61,15 @@ import static io.ballerina.runtime.internal.scheduling.State.YIELD;
 public class Strand {
 
     private static final AtomicInteger nextStrandId = new AtomicInteger(0);
+    // Frames of a class kept for reuse, enough for a function which yields with a caller of the same frame class
+    private static final int MAX_FREE_FRAMES = 2;
 
     private final int id;
     private final String name;
     private final StrandMetadata metadata;
 
     public Stack<FunctionFrame> frames;
+    private Map<Class<?>, FunctionFrame> freeFrames;
     public int resumeIndex;
     public int functionInvocation;
     public Object returnValue;
@@ -76,6 +79,7 @@ public class Strand {
     public WDChannels wdChannels;
     public FlushDetail flushDetail;
     public boolean blockedOnExtern;
+    long blockingTaskCompletedTime;
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
@@ -383,6 +387,52 @@ public class Strand {
         this.lock();
         this.state = state;
         this.unlock();
+        if (state == DONE) {
+            this.freeFrames = null;
+        }
+    }
+
+    /**
+     * Gets a frame of the given frame class released by this strand to be reused, instead of creating a new frame
+     * each time a function yields. All the fields of the frame are set again by the function before it is used.
+     *
+     * @param frameClass frame class of the function
+     * @return a released frame of the given class, or null if there is none
+     */
+    public FunctionFrame getFreeFrame(Class<?> frameClass) {
+        if (freeFrames == null) {
+            return null;
+        }
+        FunctionFrame frame = freeFrames.get(frameClass);
+        if (frame != null) {
+            freeFrames.put(frameClass, frame.nextFreeFrame);
+            frame.nextFreeFrame = null;
+        }
+        return frame;
+    }
+
+    /**
+     * Releases a frame, which is no longer used once the function has restored its state from it when resuming, so
+     * that it can be reused when a function of the same frame class yields again in this strand. Only a few frames of
+     * each class are kept, and their references are cleared.
+     *
+     * @param frame frame of the resumed function
+     */
+    public void releaseFrame(FunctionFrame frame) {
+        if (freeFrames == null) {
+            freeFrames = new HashMap<>();
+        }
+        Class<?> frameClass = frame.getClass();
+        FunctionFrame freeFrame = freeFrames.get(frameClass);
+        int count = 0;
+        for (FunctionFrame next = freeFrame; next != null; next = next.nextFreeFrame) {
+            if (++count >= MAX_FREE_FRAMES) {
+                return;
+            }
+        }
+        frame.clearReferences();
+        frame.nextFreeFrame = freeFrame;
+        freeFrames.put(frameClass, frame);
     }
 
     public State getState() {
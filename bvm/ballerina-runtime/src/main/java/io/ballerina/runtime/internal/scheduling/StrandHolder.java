@@ -23,4 +23,8 @@ package io.ballerina.runtime.internal.scheduling;
  */
 class StrandHolder {
     Strand strand;
+    /**
+     * Whether the thread is running a blocking task of an external function on behalf of the strand.
+     */
+    volatile boolean runningBlockingTask;
 }
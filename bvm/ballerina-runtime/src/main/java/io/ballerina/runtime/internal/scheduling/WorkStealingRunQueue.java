@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} that gives each executor thread its own deque and lets idle threads steal work from the others.
+ * <p>
+ * Groups scheduled from an executor thread go to that thread's deque, while groups scheduled from any other thread
+ * go to a shared injection queue. A group unblocked by the strand running on an executor thread is put in that
+ * thread's "next" slot so that it runs right after the current group, while the data it needs is still hot.
+ *
+ * @since 2201.9.0
+ */
+public class WorkStealingRunQueue implements RunQueue {
+
+    /**
+     * Interval (in number of polls) at which a worker checks the injection queue before its own deque, so that
+     * groups submitted from outside cannot be starved by a worker that keeps producing local work.
+     */
+    private static final int GLOBAL_QUEUE_CHECK_INTERVAL = 61;
+
+    /**
+     * Maximum number of groups a worker runs back to back from its "next" slot before looking at its deque, so that
+     * two strands that keep unblocking each other cannot starve the rest.
+     */
+    private static final int MAX_NEXT_SLOT_STREAK = 32;
+
+    /**
+     * Registered workers, which are the steal targets. The array is replaced with a larger copy when more threads than
+     * expected take groups, and a slot is always published before {@link #workerCount} is advanced.
+     */
+    private volatile Worker[] workers;
+    private volatile int workerCount;
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+    private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of groups (including poison pills) that are queued but not yet taken by any worker. It is incremented
+     * before a group is published, so that it never falls behind the groups that can be polled.
+     */
+    private final AtomicInteger queuedGroups = new AtomicInteger();
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final ReentrantLock idleLock = new ReentrantLock();
+    private final Condition workAvailable = idleLock.newCondition();
+
+    public WorkStealingRunQueue(int numThreads) {
+        this.workers = new Worker[Math.max(1, numThreads)];
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        queuedGroups.incrementAndGet();
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            injectionQueue.add(group);
+        } else {
+            worker.deque.addLast(group);
+        }
+        signalWork();
+    }
+
+    @Override
+    public void addNext(ItemGroup group) {
+        queuedGroups.incrementAndGet();
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            injectionQueue.add(group);
+        } else {
+            ItemGroup displaced = worker.next.getAndSet(group);
+            if (displaced != null) {
+                worker.deque.addLast(displaced);
+            }
+        }
+        signalWork();
+    }
+
+    @Override
+    public void addPoisonPill() {
+        queuedGroups.incrementAndGet();
+        injectionQueue.add(POISON_PILL);
+        signalWork();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker worker = getOrRegisterWorker();
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                queuedGroups.decrementAndGet();
+                return group;
+            }
+            awaitWork();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queuedGroups.get() == 0;
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group;
+        if (++worker.ticks % GLOBAL_QUEUE_CHECK_INTERVAL == 0 && (group = injectionQueue.poll()) != null) {
+            return group;
+        }
+        if (worker.nextStreak < MAX_NEXT_SLOT_STREAK && (group = worker.next.getAndSet(null)) != null) {
+            worker.nextStreak++;
+            return group;
+        }
+        worker.nextStreak = 0;
+        if ((group = worker.deque.pollFirst()) != null || (group = worker.next.getAndSet(null)) != null) {
+            return group;
+        }
+        if ((group = injectionQueue.poll()) != null) {
+            return group;
+        }
+        return steal(worker);
+    }
+
+    private ItemGroup steal(Worker thief) {
+        // Read the count first, the array it refers to or a larger copy of it is published before it is advanced
+        int count = workerCount;
+        Worker[] registered = workers;
+        if (count <= 1) {
+            return null;
+        }
+        int start = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            Worker victim = registered[(start + i) % count];
+            if (victim == null || victim == thief) {
+                continue;
+            }
+            ItemGroup group = victim.deque.pollLast();
+            if (group == null) {
+                group = victim.next.getAndSet(null);
+            }
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void awaitWork() throws InterruptedException {
+        if (queuedGroups.get() > 0) {
+            // A group is being handed over between two queues, it will be visible shortly.
+            Thread.onSpinWait();
+            return;
+        }
+        idleLock.lock();
+        try {
+            idleWorkers.incrementAndGet();
+            try {
+                while (queuedGroups.get() == 0) {
+                    workAvailable.await();
+                }
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void signalWork() {
+        if (idleWorkers.get() > 0) {
+            idleLock.lock();
+            try {
+                workAvailable.signal();
+            } finally {
+                idleLock.unlock();
+            }
+        }
+    }
+
+    private Worker getOrRegisterWorker() {
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            return worker;
+        }
+        worker = new Worker();
+        registerWorker(worker);
+        currentWorker.set(worker);
+        return worker;
+    }
+
+    private synchronized void registerWorker(Worker worker) {
+        int index = workerCount;
+        Worker[] registered = workers;
+        if (index == registered.length) {
+            registered = Arrays.copyOf(registered, registered.length * 2);
+        }
+        registered[index] = worker;
+        workers = registered;
+        workerCount = index + 1;
+    }
+
+    /**
+     * Run queue state owned by a single executor thread.
+     */
+    private static class Worker {
+
+        private final ConcurrentLinkedDeque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+        private final AtomicReference<ItemGroup> next = new AtomicReference<>();
+        private int ticks;
+        private int nextStreak;
+    }
+}
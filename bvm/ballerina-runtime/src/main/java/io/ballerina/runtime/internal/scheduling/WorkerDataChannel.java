@@ -20,8 +20,7 @@ package io.ballerina.runtime.internal.scheduling;
 import io.ballerina.runtime.internal.ErrorUtils;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -30,28 +29,50 @@ import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending and a single receiving worker. Async messages are passed through a lock-free
+ * {@link SpscQueue}, and the channel lock is only taken when a strand has to be parked or resumed, or for sync
+ * sends, flushes, errors and panics.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private static final AtomicIntegerFieldUpdater<WorkerDataChannel> CALL_COUNT_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WorkerDataChannel.class, "callCount");
+
+    /**
+     * Placeholder for the nil value in the message queue, which does not allow nulls.
+     */
+    private static final Object NIL_MESSAGE = new Object();
+
+    private volatile Strand receiver;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    private volatile WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
 
     private final Lock channelLock;
 
     protected String chnlName;
-    protected int callCount = 0;
+    protected volatile int callCount = 0;
 
-    @SuppressWarnings("rawtypes")
-    private final Queue<WorkerResult> channel = new LinkedList<>();
-    private State state;
+    /**
+     * Async messages are queued as is, while a sync message is queued wrapped in {@link #syncMessage}. Since a sync
+     * sender is paused until its message is received, there is at most one sync message in the queue.
+     */
+    private final SpscQueue<Object> channel = new SpscQueue<>();
+    private final WorkerResult syncMessage = new WorkerResult(null, true);
+    private final WaitingSender syncSender = new WaitingSender(null, -1);
+
+    /**
+     * Reused to return the received message to multiple and alternate receives.
+     */
+    private final WorkerResult receivedMessage = new WorkerResult(null);
+    private volatile State state;
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -98,21 +119,29 @@ public class WorkerDataChannel {
         OPEN, AUTO_CLOSED, CLOSED
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
         if (isClosed()) {
-            callCount++;
+            CALL_COUNT_UPDATER.incrementAndGet(this);
             return;
         }
+        this.channel.offer(data == null ? NIL_MESSAGE : data);
+        this.senderCounter++;
+        CALL_COUNT_UPDATER.incrementAndGet(this);
+        // The receiver registers itself before checking the queue again, hence either it sees the message or we
+        // see the receiver.
+        if (this.receiver != null) {
+            unblockReceiver();
+        }
+    }
+
+    private void unblockReceiver() {
         try {
             acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null && receiver.scheduler != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
+            Strand waitingReceiver = this.receiver;
+            if (waitingReceiver != null && waitingReceiver.scheduler != null) {
                 this.receiver = null;
+                waitingReceiver.scheduler.unblockStrand(waitingReceiver);
             }
-            callCount++;
         } finally {
             releaseChannelLock();
         }
@@ -139,9 +168,11 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
+                this.syncMessage.value = data;
+                this.channel.offer(this.syncMessage);
                 this.senderCounter++;
-                this.waitingSender = new WaitingSender(strand, -1);
+                this.syncSender.waitingStrand = strand;
+                this.waitingSender = this.syncSender;
 
                 if (this.receiver != null) {
                     // multiple checks are added to make sure this is
@@ -163,73 +194,86 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.channel.isEmpty()) {
                 Throwable e = this.panic;
-                callCount++;
+                CALL_COUNT_UPDATER.incrementAndGet(this);
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.channel.isEmpty()) {
                 ErrorValue ret = this.error;
                 this.waitingSender = null;
-                callCount++;
+                CALL_COUNT_UPDATER.incrementAndGet(this);
                 return ret;
             }
 
             // sync send done
-            callCount++;
+            CALL_COUNT_UPDATER.incrementAndGet(this);
             return null;
         } finally {
             releaseChannelLock();
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
         return tryTakeData(strand, false);
     }
 
     public Object tryTakeData(Strand strand, boolean isMultiple) throws Throwable {
+        if (!isClosed()) {
+            Object message = this.channel.peek();
+            if (message != null && message != this.syncMessage) {
+                // fast path for async messages, which does not need the channel lock
+                this.channel.poll();
+                this.receiverCounter++;
+                // The flush sender checks the receiver counter again after registering itself, hence either it sees
+                // the new count or we see the flush sender.
+                if (this.flushSender != null) {
+                    notifyFlushSender();
+                }
+                CALL_COUNT_UPDATER.incrementAndGet(this);
+                return getReceivedValue(message, isMultiple);
+            }
+        }
         try {
             acquireChannelLock();
             if (isClosed()) {
                 return ErrorUtils.createNoMessageError(chnlName);
             }
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
+            Object message = this.channel.poll();
+            if (message != null) {
                 this.receiverCounter++;
-                this.channel.remove();
 
-                if (result.isSync) {
+                Object result;
+                if (message == this.syncMessage) {
+                    result = getReceivedValue(this.syncMessage.value, isMultiple);
+                    this.syncMessage.value = null;
                     // sync sender will pick the this.error as result, which is null
                     if (this.waitingSender != null) {
                         Strand waiting = this.waitingSender.waitingStrand;
-                        waiting.scheduler.unblockStrand(waiting);
+                        this.waitingSender.waitingStrand = null;
                         this.waitingSender = null;
+                        waiting.scheduler.unblockStrand(waiting);
                     }
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount ==
-                            this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                        //will continue if this is a sync wait, will try to flush again if blocked on flush
-                        this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
+                } else {
+                    result = getReceivedValue(message, isMultiple);
+                    notifyFlushSender();
                 }
-                callCount++;
-                return isMultiple ? result : result.value;
+                CALL_COUNT_UPDATER.incrementAndGet(this);
+                return result;
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
-                callCount++;
+                CALL_COUNT_UPDATER.incrementAndGet(this);
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
-                callCount++;
+                CALL_COUNT_UPDATER.incrementAndGet(this);
                 return error;
             } else {
                 this.receiver = strand;
+                if (!this.channel.isEmpty()) {
+                    // an async message was sent before the sender could see this receiver
+                    this.receiver = null;
+                    return tryTakeData(strand, isMultiple);
+                }
                 if (!isMultiple) {
                     strand.setState(BLOCK_AND_YIELD);
                 }
@@ -240,6 +284,37 @@ public class WorkerDataChannel {
         }
     }
 
+    private Object getReceivedValue(Object message, boolean isMultiple) {
+        Object value = message == NIL_MESSAGE ? null : message;
+        if (!isMultiple) {
+            return value;
+        }
+        this.receivedMessage.value = value;
+        return this.receivedMessage;
+    }
+
+    private void notifyFlushSender() {
+        try {
+            acquireChannelLock();
+            WaitingSender sender = this.flushSender;
+            if (sender == null || sender.flushCount > this.receiverCounter) {
+                return;
+            }
+            Strand flushStrand = sender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.flushedCount++;
+            if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                    flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
+            flushStrand.flushDetail.flushLock.unlock();
+            this.flushSender = null;
+        } finally {
+            releaseChannelLock();
+        }
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      *
@@ -297,18 +372,27 @@ public class WorkerDataChannel {
             } else if (this.error != null) {
                 return this.error;
             } else if (this.receiverCounter == this.senderCounter) {
-                strand.flushDetail.flushLock.lock();
-                strand.flushDetail.flushedCount++;
-                strand.flushDetail.flushLock.unlock();
+                countFlushed(strand);
                 return null;
             }
             this.flushSender = new WaitingSender(strand, this.senderCounter);
+            if (this.receiverCounter >= this.flushSender.flushCount) {
+                // the receiver took the last message before it could see this flush sender
+                this.flushSender = null;
+                countFlushed(strand);
+            }
             return null;
         } finally {
             releaseChannelLock();
         }
     }
 
+    private static void countFlushed(Strand strand) {
+        strand.flushDetail.flushLock.lock();
+        strand.flushDetail.flushedCount++;
+        strand.flushDetail.flushLock.unlock();
+    }
+
     public void removeFlushWait() {
         acquireChannelLock();
         this.flushSender = null;
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.Optional;
@@ -49,6 +50,11 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
+        // Checks which compare the type ids of error types are not cached. Only the checks against this type as a
+        // target type without type ids, which matches errors with any type ids, have to be dropped.
+        if (this.typeIdSet == null && typeIdSet != null) {
+            TypeCheckCache.invalidate();
+        }
         this.typeIdSet = typeIdSet;
     }
 
@@ -68,6 +74,9 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
+        if (this.detailType != detailType) {
+            TypeCheckCache.invalidate();
+        }
         this.detailType = detailType;
     }
 
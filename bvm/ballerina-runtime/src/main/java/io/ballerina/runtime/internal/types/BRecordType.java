@@ -59,6 +59,7 @@ public class BRecordType extends BStructureType implements RecordType {
     private IntersectionType intersectionType = null;
 
     private final Map<String, BFunctionPointer<Object, ?>> defaultValues = new LinkedHashMap<>();
+    private volatile FieldNameIndex fieldNameIndex;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -218,4 +219,20 @@ public class BRecordType extends BStructureType implements RecordType {
         return defaultValues;
     }
 
+    /**
+     * Returns the index of the fields of this record type by name. The index is created on first use and is
+     * recreated if the fields of the type are changed.
+     *
+     * @return the field name index
+     */
+    public FieldNameIndex getFieldNameIndex() {
+        FieldNameIndex index = fieldNameIndex;
+        Map<String, Field> currentFields = getFields();
+        if (index == null || index.fields != currentFields) {
+            index = new FieldNameIndex(currentFields);
+            fieldNameIndex = index;
+        }
+        return index;
+    }
+
 }
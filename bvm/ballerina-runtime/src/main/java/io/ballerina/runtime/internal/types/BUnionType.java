@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.types.SelectivelyImmutableReferenceType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.UnionType;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
@@ -167,6 +168,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        TypeCheckCache.invalidate();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
@@ -239,6 +241,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         this.memberTypes.addAll(Arrays.asList(types));
         setFlagsBasedOnMembers();
         this.originalMemberTypes.addAll(Arrays.asList(types));
+        TypeCheckCache.invalidate();
     }
 
     private void setFlagsBasedOnMembers() {
@@ -433,6 +436,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
     }
 
     public void mergeUnionType(BUnionType unionType) {
+        TypeCheckCache.invalidate();
         if (!unionType.isCyclic) {
             this.addMembers(unionType.getMemberTypes().toArray(new Type[0]));
             return;
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the fields of a record type by name, which looks up a field name given as UTF-8 bytes without decoding it.
+ * <p>
+ * Field names are hashed with a seeded hash function, where the seed and the table size are chosen so that every
+ * field name has its own slot in the table, i.e. the hash function is perfect for the field names. A lookup therefore
+ * hashes the name and compares it with the single field name in its slot.
+ *
+ * @since 2201.9.0
+ */
+public final class FieldNameIndex {
+
+    private static final int MAX_SEEDS_PER_TABLE_SIZE = 64;
+
+    final Map<String, Field> fields;
+    private final Field[] fieldsByIndex;
+    private final BString[] names;
+    private final byte[][] utf8Names;
+    private final Map<String, Integer> indexesByName;
+    private final int[] slots;
+    private final int seed;
+    private volatile byte[][] jsonNames;
+
+    FieldNameIndex(Map<String, Field> fields) {
+        this.fields = fields;
+        int fieldCount = fields.size();
+        this.fieldsByIndex = new Field[fieldCount];
+        this.names = new BString[fieldCount];
+        this.utf8Names = new byte[fieldCount][];
+        this.indexesByName = new HashMap<>(fieldCount * 2);
+        int index = 0;
+        for (Map.Entry<String, Field> entry : fields.entrySet()) {
+            fieldsByIndex[index] = entry.getValue();
+            names[index] = StringUtils.fromString(entry.getKey());
+            utf8Names[index] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            indexesByName.put(entry.getKey(), index);
+            index++;
+        }
+
+        int tableSize = Integer.highestOneBit(Math.max(fieldCount, 1)) << 2;
+        int[] table = new int[tableSize];
+        int tableSeed = 0;
+        while (!fillSlots(table, ++tableSeed)) {
+            if (tableSeed % MAX_SEEDS_PER_TABLE_SIZE == 0) {
+                table = new int[table.length << 1];
+            }
+        }
+        this.slots = table;
+        this.seed = tableSeed;
+    }
+
+    private boolean fillSlots(int[] table, int tableSeed) {
+        Arrays.fill(table, -1);
+        int mask = table.length - 1;
+        for (int i = 0; i < utf8Names.length; i++) {
+            int slot = hash(tableSeed, utf8Names[i], 0, utf8Names[i].length) & mask;
+            if (table[slot] != -1) {
+                return false;
+            }
+            table[slot] = i;
+        }
+        return true;
+    }
+
+    private static int hash(int seed, byte[] bytes, int from, int to) {
+        int hash = seed * 0x9E3779B9;
+        for (int i = from; i < to; i++) {
+            hash = (hash ^ bytes[i]) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns the index of the field with the given name.
+     *
+     * @param bytes UTF-8 bytes which contain the field name
+     * @param from  start of the field name, inclusive
+     * @param to    end of the field name, exclusive
+     * @return the index of the field, or -1 if there is no such field
+     */
+    public int getIndex(byte[] bytes, int from, int to) {
+        int index = slots[hash(seed, bytes, from, to) & (slots.length - 1)];
+        if (index == -1 || !Arrays.equals(utf8Names[index], 0, utf8Names[index].length, bytes, from, to)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the field with the given name.
+     *
+     * @param name field name
+     * @return the index of the field, or -1 if there is no such field
+     */
+    public int getIndex(String name) {
+        Integer index = indexesByName.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public int size() {
+        return fieldsByIndex.length;
+    }
+
+    public Field getField(int index) {
+        return fieldsByIndex[index];
+    }
+
+    public BString getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the UTF-8 encoded JSON representation of the name of the field, including the name separator.
+     *
+     * @param index index of the field
+     * @return the JSON field name
+     */
+    public byte[] getJsonName(int index) {
+        byte[][] encodedNames = jsonNames;
+        if (encodedNames == null) {
+            encodedNames = new byte[names.length][];
+            for (int i = 0; i < names.length; i++) {
+                encodedNames[i] = JsonSerializer.encodeFieldName(names[i].getValue());
+            }
+            jsonNames = encodedNames;
+        }
+        return encodedNames[index];
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.util;
+
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe cache which holds a bounded number of entries, evicting the least recently used ones.
+ * <p>
+ * The entries are spread over a fixed number of segments by the hash code of the key, each guarded by its own lock.
+ * Each segment is a segmented LRU: a new entry goes to a probationary part, and is promoted to a protected part only
+ * when it is looked up again. Entries are evicted from the probationary part, so that a burst of keys which are used
+ * only once, such as the types created for a single value, does not evict the entries which are used repeatedly.
+ * <p>
+ * The hit, miss and size counts of the cache are published as metrics named {@code <name>_hits},
+ * {@code <name>_misses} and {@code <name>_size}, once a metric provider is registered.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ * @since 2201.9.0
+ */
+public class BoundedLruCache<K, V> {
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final PrintStream err = System.err;
+
+    private final String name;
+    private final List<Segment<K, V>> segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private volatile boolean metricsRegistered;
+
+    /**
+     * Creates a cache.
+     *
+     * @param name     name of the cache, used as the prefix of its metrics
+     * @param capacity maximum number of entries in the cache
+     */
+    public BoundedLruCache(String name, int capacity) {
+        this.name = name;
+        int segmentCapacity = Math.max(2, (capacity + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        this.segments = new ArrayList<>(SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments.add(new Segment<>(segmentCapacity));
+        }
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     *
+     * @param key key
+     * @return the value, or null if it is not in the cache
+     */
+    public V get(K key) {
+        V value = segmentFor(key).get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+        missCount.increment();
+        if (!metricsRegistered) {
+            registerMetrics();
+        }
+        return null;
+    }
+
+    /**
+     * Caches a value for the given key, evicting the least recently used entry if the cache is full.
+     *
+     * @param key   key
+     * @param value value, which must not be null
+     */
+    public void put(K key, V value) {
+        segmentFor(key).put(key, value);
+    }
+
+    /**
+     * Removes the entry for the given key, if there is one.
+     *
+     * @param key key
+     */
+    public void remove(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * Removes all the entries of the cache.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments.get((hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1));
+    }
+
+    private synchronized void registerMetrics() {
+        MetricRegistry registry = DefaultMetricRegistry.getInstance();
+        if (metricsRegistered || registry.getMetricProvider() instanceof NoOpMetricProvider) {
+            return;
+        }
+        metricsRegistered = true;
+        try {
+            PolledGauge.builder(name + "_hits", hitCount, LongAdder::sum)
+                    .description("Number of lookups which found an entry in the cache")
+                    .register(registry);
+            PolledGauge.builder(name + "_misses", missCount, LongAdder::sum)
+                    .description("Number of lookups which did not find an entry in the cache")
+                    .register(registry);
+            PolledGauge.builder(name + "_size", this, BoundedLruCache::size)
+                    .description("Number of entries in the cache")
+                    .register(registry);
+        } catch (RuntimeException e) {
+            err.println("error: error registering cache metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A segment of the cache, split into a probationary and a protected part.
+     *
+     * @param <K> type of the keys
+     * @param <V> type of the values
+     */
+    private static class Segment<K, V> {
+
+        private final int probationCapacity;
+        private final int protectedCapacity;
+        private final LinkedHashMap<K, V> probation = new LinkedHashMap<>();
+        private final LinkedHashMap<K, V> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+        Segment(int capacity) {
+            this.probationCapacity = Math.max(1, capacity / 5);
+            this.protectedCapacity = capacity - probationCapacity;
+        }
+
+        synchronized V get(K key) {
+            V value = protectedEntries.get(key);
+            if (value != null) {
+                return value;
+            }
+            value = probation.remove(key);
+            if (value != null) {
+                protectedEntries.put(key, value);
+                if (protectedEntries.size() > protectedCapacity) {
+                    // Demote the least recently used protected entry, giving it another chance before eviction
+                    Map.Entry<K, V> eldest = removeEldest(protectedEntries);
+                    addToProbation(eldest.getKey(), eldest.getValue());
+                }
+            }
+            return value;
+        }
+
+        synchronized void put(K key, V value) {
+            if (protectedEntries.containsKey(key)) {
+                protectedEntries.put(key, value);
+                return;
+            }
+            probation.remove(key);
+            addToProbation(key, value);
+        }
+
+        synchronized void remove(K key) {
+            if (protectedEntries.remove(key) == null) {
+                probation.remove(key);
+            }
+        }
+
+        synchronized void clear() {
+            probation.clear();
+            protectedEntries.clear();
+        }
+
+        synchronized int size() {
+            return probation.size() + protectedEntries.size();
+        }
+
+        private void addToProbation(K key, V value) {
+            probation.put(key, value);
+            if (probation.size() > probationCapacity) {
+                removeEldest(probation);
+            }
+        }
+
+        private static <K, V> Map.Entry<K, V> removeEldest(LinkedHashMap<K, V> entries) {
+            Iterator<Map.Entry<K, V>> iterator = entries.entrySet().iterator();
+            Map.Entry<K, V> eldest = iterator.next();
+            iterator.remove();
+            return eldest;
+        }
+    }
+}
@@ -253,6 +253,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
         this.type = type;
     }
 
+    // Used when the values of an int list are populated before the array value is created
+    public ArrayValueImpl(ArrayType type, long[] values, int size) {
+        this.type = this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
+        this.intValues = values;
+        this.size = size;
+    }
+
+    // Used when the values of a float list are populated before the array value is created
+    public ArrayValueImpl(ArrayType type, double[] values, int size) {
+        this.type = this.arrayType = type;
+        this.elementType = type.getElementType();
+        this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
+        this.floatValues = values;
+        this.size = size;
+    }
+
     // Used when the array value is created from a type reference type
     public ArrayValueImpl(Type type, long size, BListInitialValueEntry[] initialValues) {
         this(type, size, initialValues, null);
@@ -1030,6 +1048,24 @@ public class ArrayValueImpl extends AbstractArrayValue {
         return Arrays.copyOf(floatValues, size);
     }
 
+    /**
+     * Get int values array, without copying. Only the first {@link #size()} elements are valid.
+     *
+     * @return int value array, or null if the element type is not an int type
+     */
+    public long[] getIntValues() {
+        return intValues;
+    }
+
+    /**
+     * Get float values array, without copying. Only the first {@link #size()} elements are valid.
+     *
+     * @return float value array, or null if the element type is not float
+     */
+    public double[] getFloatValues() {
+        return floatValues;
+    }
+
     @Override
     public void serialize(OutputStream outputStream) {
         if (this.elementReferredType.getTag() == TypeTags.BYTE_TAG) {
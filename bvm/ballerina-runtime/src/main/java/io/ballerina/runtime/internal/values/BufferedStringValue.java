@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BLink;
+
+/**
+ * Represent ballerina strings built by repeatedly appending to a string, containing only unicode basic multilingual
+ * plane characters.
+ * <p>
+ * The characters are kept in a buffer which is shared by the strings appended to one another. A string is a prefix of
+ * the buffer, which is never modified once written, so appending to the last string of a buffer only appends to the
+ * buffer. The string value is created on the first access to it, for example to get its value, its hash code or a
+ * character at an index.
+ *
+ * @since 2201.9.0
+ */
+public final class BufferedStringValue extends StringValue {
+
+    // Shorter strings are concatenated directly, since creating the buffer costs more than copying them.
+    private static final int MIN_BUFFERED_LENGTH = 64;
+
+    private final StringBuilder buffer;
+    private final int length;
+    private String flattenedValue;
+
+    private BufferedStringValue(StringBuilder buffer, int length) {
+        super(null, false);
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    /**
+     * Returns the concatenation of two strings, where the result is expected to be appended to again, as in the case
+     * of `s += x`.
+     *
+     * @param str   string to append to
+     * @param other string to append
+     * @return the concatenated string
+     */
+    public static BString append(BString str, BString other) {
+        if (str instanceof BufferedStringValue bufferedValue) {
+            return bufferedValue.concat(other);
+        }
+        int newLength = str.length() + other.length();
+        if (newLength < MIN_BUFFERED_LENGTH || ((StringValue) str).isNonBmp || ((StringValue) other).isNonBmp) {
+            return str.concat(other);
+        }
+        StringBuilder buffer = new StringBuilder(newLength * 2);
+        buffer.append(str.getValue()).append(other.getValue());
+        return new BufferedStringValue(buffer, newLength);
+    }
+
+    @Override
+    public String getValue() {
+        String value = flattenedValue;
+        if (value == null) {
+            synchronized (buffer) {
+                value = buffer.substring(0, length);
+            }
+            flattenedValue = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return getValue().charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        if (((StringValue) str).isNonBmp) {
+            return new BmpStringValue(getValue()).concat(str);
+        }
+        String other = str.getValue();
+        synchronized (buffer) {
+            if (buffer.length() == length) {
+                buffer.append(other);
+                return new BufferedStringValue(buffer, length + other.length());
+            }
+            // Another string has already been appended to this one, hence start a new buffer.
+            StringBuilder newBuffer = new StringBuilder((length + other.length()) * 2);
+            newBuffer.append(buffer, 0, length).append(other);
+            return new BufferedStringValue(newBuffer, newBuffer.length());
+        }
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        long index = getValue().indexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        long index = getValue().lastIndexOf(str.getValue(), fromIndex);
+        return index >= 0 ? index : null;
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return new BmpStringValue(getValue().substring(beginIndex, endIndex));
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+}
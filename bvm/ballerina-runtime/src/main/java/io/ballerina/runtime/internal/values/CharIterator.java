@@ -46,15 +46,9 @@ public class CharIterator implements IteratorValue {
     }
 
     private String getNonBmpCharWithSurrogates(long currentIndex) {
-        int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
-            if (surrogate < currentIndex) {
-                offset++;
-            } else if (surrogate > currentIndex) {
-                break;
-            } else {
-                return new String(new char[]{stringValue.charAt(offset), stringValue.charAt(offset + 1)});
-            }
+        int offset = ((NonBmpStringValue) value).getCharOffset((int) currentIndex);
+        if (Character.isHighSurrogate(stringValue.charAt(offset))) {
+            return new String(new char[]{stringValue.charAt(offset), stringValue.charAt(offset + 1)});
         }
         return String.valueOf(stringValue.charAt(offset));
     }
@@ -0,0 +1,618 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BTupleType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
+
+/**
+ * Columnar storage for the rows of a keyed table.
+ * <p>
+ * The store is used for tables whose rows are immutable values of a closed record type with only `int`, `float`,
+ * `boolean` and `string` fields. Instead of retaining the row values, the fields are stored in primitive-specialised
+ * column arrays and the rows are materialised on access, as values of the class of the first row. Since the rows are
+ * immutable, a materialised row is equal to the row that was added. A row is weakly referenced once it is added or
+ * materialised, so that the same value is returned while it is in use. The rows are kept in insertion order and are
+ * looked up by key using a single open-addressing index.
+ * <p>
+ * Removing a row does not move the other rows. When the space of the removed rows is reused, or the store is cleared,
+ * the rows are moved and the positions held by the iterators are translated through a {@link Cursor}.
+ * <p>
+ * Rows which do not have the layout of the first row are not accepted by the store, in which case the table falls back
+ * to retaining the row values.
+ *
+ * @since 2201.9.0
+ */
+final class ColumnarTableStore {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+    private static final int NAN_HASH = 0x7ff80000;
+
+    private static final byte INT_COLUMN = 0;
+    private static final byte FLOAT_COLUMN = 1;
+    private static final byte BOOLEAN_COLUMN = 2;
+    private static final byte STRING_COLUMN = 3;
+
+    private final String[] keyFieldNames;
+
+    private Type rowType;
+    private MethodHandle rowConstructor;
+    private BString[] fieldNames;
+    private byte[] columnKinds;
+    private int[] keyColumns;
+    private Object[] columns;
+
+    private int[] rowHashes;
+    private RowReference[] rowReferences;
+    private final BitSet removedRows = new BitSet();
+    private int rowCount = 0;
+    private int liveRowCount = 0;
+
+    // Slot of each row plus one, EMPTY or DELETED.
+    private int[] index;
+    private int usedIndexSlots = 0;
+
+    // Positions of the rows since the last time the rows were moved.
+    private Generation generation = new Generation();
+
+    ColumnarTableStore(String[] keyFieldNames) {
+        this.keyFieldNames = keyFieldNames;
+    }
+
+    /**
+     * Checks whether the given row can be stored in this store. The layout of the store is derived from the first
+     * accepted row.
+     *
+     * @param row row to be added
+     * @return true if the row has the layout of the store
+     */
+    boolean accepts(MapValue<?, ?> row) {
+        if (rowType == null) {
+            return initialize(row);
+        }
+        return row.getType() == rowType && hasLayout(row);
+    }
+
+    /**
+     * Returns the row with the given key, or -1 if there is no such row. For a multiple-field key, the key is a list
+     * of the key field values.
+     */
+    int find(Object key) {
+        if (index == null) {
+            return -1;
+        }
+        int hash = hashKey(key);
+        int mask = index.length - 1;
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            int entry = index[i];
+            if (entry == EMPTY) {
+                return -1;
+            }
+            if (entry != DELETED && rowHashes[entry - 1] == hash && hasKey(entry - 1, key)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Appends the given row, which must not have the key of an existing row.
+     */
+    void add(MapValue<?, ?> row) {
+        if (rowCount == rowHashes.length) {
+            // Reuse the space of removed rows before growing.
+            if (liveRowCount < rowCount >>> 1) {
+                compact();
+            } else {
+                grow();
+            }
+        }
+        int rowIndex = rowCount++;
+        setRow(rowIndex, row);
+        rowReferences[rowIndex] = new RowReference(row);
+        rowHashes[rowIndex] = hashRow(rowIndex);
+        liveRowCount++;
+        addToIndex(rowIndex);
+    }
+
+    /**
+     * Replaces the given row with a row with the same key, retaining the position of the row.
+     */
+    void replace(int rowIndex, MapValue<?, ?> row) {
+        setRow(rowIndex, row);
+        rowReferences[rowIndex] = new RowReference(row);
+    }
+
+    void remove(int rowIndex) {
+        int mask = index.length - 1;
+        for (int i = rowHashes[rowIndex] & mask; ; i = (i + 1) & mask) {
+            if (index[i] == rowIndex + 1) {
+                index[i] = DELETED;
+                break;
+            }
+        }
+        removedRows.set(rowIndex);
+        rowReferences[rowIndex] = null;
+        liveRowCount--;
+        for (int c = 0; c < columns.length; c++) {
+            if (columnKinds[c] == STRING_COLUMN) {
+                ((BString[]) columns[c])[rowIndex] = null;
+            }
+        }
+    }
+
+    void clear() {
+        BitSet allRows = new BitSet();
+        allRows.set(0, rowCount);
+        endGeneration(allRows);
+        rowType = null;
+        rowConstructor = null;
+        columns = null;
+        rowHashes = null;
+        rowReferences = null;
+        index = null;
+        removedRows.clear();
+        rowCount = 0;
+        liveRowCount = 0;
+        usedIndexSlots = 0;
+    }
+
+    int size() {
+        return liveRowCount;
+    }
+
+    /**
+     * Returns a cursor at the first position of the store, which follows the rows when they are moved.
+     */
+    Cursor createCursor() {
+        return new Cursor(generation);
+    }
+
+    /**
+     * Ends the positions of the rows when the remaining rows are moved to the row storage of the table, where they
+     * take consecutive positions from zero in the same order.
+     */
+    void detach() {
+        endGeneration((BitSet) removedRows.clone());
+    }
+
+    /**
+     * Returns the first row at or after the given position, or -1 if there is none.
+     */
+    int nextRow(int rowIndex) {
+        if (rowIndex >= rowCount) {
+            return -1;
+        }
+        int next = removedRows.nextClearBit(rowIndex);
+        return next < rowCount ? next : -1;
+    }
+
+    /**
+     * Returns the given row, materialising it as an immutable record value if it is no longer referenced.
+     */
+    MapValue<?, ?> getRow(int rowIndex) {
+        RowReference reference = rowReferences[rowIndex];
+        MapValue<?, ?> row = reference == null ? null : reference.get();
+        if (row == null) {
+            row = createRow(rowIndex);
+            rowReferences[rowIndex] = new RowReference(row);
+        }
+        return row;
+    }
+
+    /**
+     * Returns the key of the given row, which is created in the same way as the key of a retained row.
+     */
+    Object getKey(int rowIndex, Type keyType) {
+        if (keyColumns.length == 1) {
+            return getValue(keyColumns[0], rowIndex);
+        }
+        TupleValueImpl key = new TupleValueImpl((BTupleType) keyType);
+        for (int i = 0; i < keyColumns.length; i++) {
+            key.add(i, getValue(keyColumns[i], rowIndex));
+        }
+        return key;
+    }
+
+    private boolean initialize(MapValue<?, ?> row) {
+        Type type = getImpliedType(row.getType());
+        if (!row.isFrozen() || type.getTag() != TypeTags.RECORD_TYPE_TAG || !((BRecordType) type).sealed) {
+            return false;
+        }
+        Map<String, Field> fields = ((BRecordType) type).getFields();
+        int fieldCount = fields.size();
+        if (row.size() != fieldCount) {
+            return false;
+        }
+
+        // Columns follow the field order of the first row, which is the order in which rows are materialised.
+        BString[] names = new BString[fieldCount];
+        byte[] kinds = new byte[fieldCount];
+        int c = 0;
+        for (Map.Entry<?, ?> entry : row.entrySet()) {
+            Field field = fields.get(entry.getKey().toString());
+            if (field == null || SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL)) {
+                return false;
+            }
+            int kind = getColumnKind(getImpliedType(field.getFieldType()).getTag());
+            if (kind < 0) {
+                return false;
+            }
+            names[c] = (BString) entry.getKey();
+            kinds[c] = (byte) kind;
+            c++;
+        }
+
+        int[] keys = new int[keyFieldNames.length];
+        for (int k = 0; k < keyFieldNames.length; k++) {
+            keys[k] = -1;
+            for (int i = 0; i < fieldCount; i++) {
+                if (names[i].getValue().equals(keyFieldNames[k])) {
+                    keys[k] = i;
+                    break;
+                }
+            }
+            if (keys[k] < 0) {
+                return false;
+            }
+        }
+
+        this.fieldNames = names;
+        this.columnKinds = kinds;
+        this.keyColumns = keys;
+        if (!hasLayout(row)) {
+            return false;
+        }
+        MethodHandle constructor = getRowConstructor(row);
+        if (constructor == null) {
+            return false;
+        }
+        this.rowType = row.getType();
+        this.rowConstructor = constructor;
+        this.columns = new Object[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            columns[i] = createColumn(kinds[i], INITIAL_CAPACITY);
+        }
+        this.rowHashes = new int[INITIAL_CAPACITY];
+        this.rowReferences = new RowReference[INITIAL_CAPACITY];
+        this.index = new int[INITIAL_CAPACITY << 1];
+        return true;
+    }
+
+    private boolean hasLayout(MapValue<?, ?> row) {
+        if (row.size() != fieldNames.length) {
+            return false;
+        }
+        Iterator<? extends Map.Entry<?, ?>> entries = row.entrySet().iterator();
+        for (int c = 0; c < fieldNames.length; c++) {
+            Map.Entry<?, ?> entry = entries.next();
+            if (!fieldNames[c].equals(entry.getKey()) || !isColumnValue(columnKinds[c], entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Rows are materialised using the constructor of the class of the first row, which is the class generated for the
+    // record type.
+    private static MethodHandle getRowConstructor(MapValue<?, ?> row) {
+        if (!(row instanceof MapValueImpl)) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(row.getClass(), MethodType.methodType(void.class, Type.class))
+                    .asType(MethodType.methodType(MapValueImpl.class, Type.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapValue<?, ?> createRow(int rowIndex) {
+        MapValueImpl<BString, Object> row;
+        try {
+            row = (MapValueImpl<BString, Object>) rowConstructor.invokeExact(rowType);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        for (int c = 0; c < columns.length; c++) {
+            row.putValue(fieldNames[c], getValue(c, rowIndex));
+        }
+        return row;
+    }
+
+    private static int getColumnKind(int typeTag) {
+        switch (typeTag) {
+            case TypeTags.INT_TAG:
+                return INT_COLUMN;
+            case TypeTags.FLOAT_TAG:
+                return FLOAT_COLUMN;
+            case TypeTags.BOOLEAN_TAG:
+                return BOOLEAN_COLUMN;
+            case TypeTags.STRING_TAG:
+                return STRING_COLUMN;
+            default:
+                return -1;
+        }
+    }
+
+    private static boolean isColumnValue(byte kind, Object value) {
+        switch (kind) {
+            case INT_COLUMN:
+                return value instanceof Long;
+            case FLOAT_COLUMN:
+                return value instanceof Double;
+            case BOOLEAN_COLUMN:
+                return value instanceof Boolean;
+            default:
+                return value instanceof BString;
+        }
+    }
+
+    private static Object createColumn(byte kind, int capacity) {
+        switch (kind) {
+            case INT_COLUMN:
+                return new long[capacity];
+            case FLOAT_COLUMN:
+                return new double[capacity];
+            case BOOLEAN_COLUMN:
+                return new boolean[capacity];
+            default:
+                return new BString[capacity];
+        }
+    }
+
+    private static Object copyColumn(byte kind, Object column, int capacity) {
+        switch (kind) {
+            case INT_COLUMN:
+                return Arrays.copyOf((long[]) column, capacity);
+            case FLOAT_COLUMN:
+                return Arrays.copyOf((double[]) column, capacity);
+            case BOOLEAN_COLUMN:
+                return Arrays.copyOf((boolean[]) column, capacity);
+            default:
+                return Arrays.copyOf((BString[]) column, capacity);
+        }
+    }
+
+    private void setRow(int rowIndex, MapValue<?, ?> row) {
+        Iterator<? extends Map.Entry<?, ?>> entries = row.entrySet().iterator();
+        for (int c = 0; c < columns.length; c++) {
+            Object value = entries.next().getValue();
+            switch (columnKinds[c]) {
+                case INT_COLUMN:
+                    ((long[]) columns[c])[rowIndex] = (Long) value;
+                    break;
+                case FLOAT_COLUMN:
+                    ((double[]) columns[c])[rowIndex] = (Double) value;
+                    break;
+                case BOOLEAN_COLUMN:
+                    ((boolean[]) columns[c])[rowIndex] = (Boolean) value;
+                    break;
+                default:
+                    ((BString[]) columns[c])[rowIndex] = (BString) value;
+                    break;
+            }
+        }
+    }
+
+    private Object getValue(int column, int rowIndex) {
+        switch (columnKinds[column]) {
+            case INT_COLUMN:
+                return ((long[]) columns[column])[rowIndex];
+            case FLOAT_COLUMN:
+                return ((double[]) columns[column])[rowIndex];
+            case BOOLEAN_COLUMN:
+                return ((boolean[]) columns[column])[rowIndex];
+            default:
+                return ((BString[]) columns[column])[rowIndex];
+        }
+    }
+
+    private boolean hasKey(int rowIndex, Object key) {
+        if (keyColumns.length == 1) {
+            return TypeChecker.isEqual(getValue(keyColumns[0], rowIndex), key);
+        }
+        if (!(key instanceof BArray keyValues) || keyValues.size() != keyColumns.length) {
+            return false;
+        }
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (!TypeChecker.isEqual(getValue(keyColumns[i], rowIndex), keyValues.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hashKey(Object key) {
+        if (keyColumns.length == 1) {
+            return spread(hashValue(key));
+        }
+        if (!(key instanceof BArray keyValues)) {
+            return spread(hashValue(key));
+        }
+        int hash = 1;
+        for (int i = 0; i < keyValues.size(); i++) {
+            hash = 31 * hash + hashValue(keyValues.get(i));
+        }
+        return spread(hash);
+    }
+
+    private int hashRow(int rowIndex) {
+        if (keyColumns.length == 1) {
+            return spread(hashValue(getValue(keyColumns[0], rowIndex)));
+        }
+        int hash = 1;
+        for (int keyColumn : keyColumns) {
+            hash = 31 * hash + hashValue(getValue(keyColumn, rowIndex));
+        }
+        return spread(hash);
+    }
+
+    // Values which are equal as per `==` have the same hash.
+    private static int hashValue(Object value) {
+        if (value instanceof Long || value instanceof Integer) {
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double doubleValue) {
+            if (doubleValue.isNaN()) {
+                return NAN_HASH;
+            }
+            return doubleValue == 0 ? 0 : doubleValue.hashCode();
+        }
+        if (value instanceof BString bString) {
+            return bString.getValue().hashCode();
+        }
+        return value == null ? 0 : value.hashCode();
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void addToIndex(int rowIndex) {
+        if ((usedIndexSlots + 1) << 1 > index.length) {
+            rebuildIndex(Math.max(index.length, Integer.highestOneBit(liveRowCount) << 2));
+        }
+        int mask = index.length - 1;
+        int i = rowHashes[rowIndex] & mask;
+        while (index[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        index[i] = rowIndex + 1;
+        usedIndexSlots++;
+    }
+
+    private void rebuildIndex(int capacity) {
+        index = new int[capacity];
+        usedIndexSlots = 0;
+        int mask = capacity - 1;
+        for (int row = nextRow(0); row >= 0; row = nextRow(row + 1)) {
+            int i = rowHashes[row] & mask;
+            while (index[i] != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            index[i] = row + 1;
+            usedIndexSlots++;
+        }
+    }
+
+    private void grow() {
+        int capacity = rowHashes.length << 1;
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = copyColumn(columnKinds[c], columns[c], capacity);
+        }
+        rowHashes = Arrays.copyOf(rowHashes, capacity);
+        rowReferences = Arrays.copyOf(rowReferences, capacity);
+    }
+
+    // Moves the remaining rows to the front of the columns, retaining their order.
+    private void compact() {
+        endGeneration((BitSet) removedRows.clone());
+        int target = 0;
+        for (int row = nextRow(0); row >= 0; row = nextRow(row + 1)) {
+            if (row != target) {
+                for (Object column : columns) {
+                    System.arraycopy(column, row, column, target, 1);
+                }
+                rowHashes[target] = rowHashes[row];
+                rowReferences[target] = rowReferences[row];
+            }
+            target++;
+        }
+        Arrays.fill(rowReferences, target, rowCount, null);
+        for (int c = 0; c < columns.length; c++) {
+            if (columnKinds[c] == STRING_COLUMN) {
+                Arrays.fill((BString[]) columns[c], target, rowCount, null);
+            }
+        }
+        rowCount = target;
+        removedRows.clear();
+        rebuildIndex(index.length);
+    }
+
+    private void endGeneration(BitSet removed) {
+        generation.removedRows = removed;
+        generation.next = new Generation();
+        generation = generation.next;
+    }
+
+    /**
+     * A position in the store, which is translated to the new position of the row when the rows are moved.
+     */
+    static final class Cursor {
+
+        private Generation generation;
+        private int position;
+
+        private Cursor(Generation generation) {
+            this.generation = generation;
+        }
+
+        int get() {
+            while (generation.next != null) {
+                // Each row before the position moves back by the number of removed rows before it.
+                position -= generation.removedRows.get(0, position).cardinality();
+                generation = generation.next;
+            }
+            return position;
+        }
+
+        void set(int position) {
+            get();
+            this.position = position;
+        }
+    }
+
+    // The rows removed when a generation ends. Older generations are reachable only from the cursors that use them.
+    private static final class Generation {
+
+        private BitSet removedRows;
+        private Generation next;
+    }
+
+    private static final class RowReference extends WeakReference<MapValue<?, ?>> {
+
+        RowReference(MapValue<?, ?> row) {
+            super(row);
+        }
+    }
+}
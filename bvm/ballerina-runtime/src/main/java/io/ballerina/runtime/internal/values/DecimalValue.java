@@ -55,25 +55,69 @@ public class DecimalValue implements SimpleValue, BDecimal {
             new BigDecimal("-9.999999999999999999999999999999999e6144", MathContext.DECIMAL128);
     private static final BigDecimal MIN_DECIMAL_MAGNITUDE =
             new BigDecimal("1.000000000000000000000000000000000e-6143", MathContext.DECIMAL128);
+    // Values with at most this many digits and a scale within the compact scale range are also kept as a long
+    private static final int MAX_COMPACT_PRECISION = 18;
+    private static final int MAX_COMPACT_SCALE = 32;
+    // Marks a compact result which does not fit in a long. Compact values are never Long.MIN_VALUE.
+    private static final long INFLATED = Long.MIN_VALUE;
+    private static final long[] LONG_TEN_POWERS = new long[MAX_COMPACT_PRECISION + 1];
+    private static final long[] MAX_SCALE_UP_VALUES = new long[MAX_COMPACT_PRECISION + 1];
+
+    static {
+        long power = 1;
+        for (int i = 0; i < LONG_TEN_POWERS.length; i++) {
+            LONG_TEN_POWERS[i] = power;
+            MAX_SCALE_UP_VALUES[i] = Long.MAX_VALUE / power;
+            power *= 10;
+        }
+    }
 
     // Variable used to track the kind of a decimal value.
     @Deprecated
     public DecimalValueKind valueKind = DecimalValueKind.OTHER;
 
-    private final BigDecimal value;
+    // Created on demand for values created from a compact result
+    private BigDecimal value;
+    // The value is unscaledValue * 10^-scale if compact is true, which is the case for values with a small
+    // precision and scale. Arithmetic on two such values is done on longs as long as the exact result fits in a long.
+    // The exact result is what BigDecimal gives with MathContext.DECIMAL128 when it has less than 34 digits.
+    private final boolean compact;
+    private final long unscaledValue;
+    private final int scale;
 
     public DecimalValue(BigDecimal value) {
         this.value = getValidDecimalValue(value);
+        this.scale = this.value.scale();
+        this.compact = this.scale >= 0 && this.scale <= MAX_COMPACT_SCALE &&
+                this.value.precision() <= MAX_COMPACT_PRECISION;
+        this.unscaledValue = this.compact ? this.value.unscaledValue().longValue() : 0;
         if (!this.booleanValue()) {
             this.valueKind = DecimalValueKind.ZERO;
         }
     }
 
     public DecimalValue(String value) {
+        this(parseDecimal(value));
+    }
+
+    private DecimalValue(long unscaledValue, int scale) {
+        this.compact = true;
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        if (unscaledValue == 0) {
+            this.valueKind = DecimalValueKind.ZERO;
+        }
+    }
+
+    public DecimalValue(String value, DecimalValueKind valueKind) {
+        this(value);
+        this.valueKind = valueKind;
+    }
+
+    private static BigDecimal parseDecimal(String value) {
         // Check whether the number provided is a hexadecimal value.
-        BigDecimal bd;
         try {
-            bd = new BigDecimal(value, MathContext.DECIMAL128);
+            return new BigDecimal(value, MathContext.DECIMAL128);
         } catch (NumberFormatException exception) {
             String message = exception.getMessage();
             if ((message != null) && (message.equals("Too many nonzero exponent digits.") ||
@@ -83,16 +127,6 @@ public class DecimalValue implements SimpleValue, BDecimal {
             }
             throw exception;
         }
-        this.value = getValidDecimalValue(bd);
-
-        if (!this.booleanValue()) {
-            this.valueKind = DecimalValueKind.ZERO;
-        }
-    }
-
-    public DecimalValue(String value, DecimalValueKind valueKind) {
-        this(value);
-        this.valueKind = valueKind;
     }
 
     private static BigDecimal getValidDecimalValue(BigDecimal bd) {
@@ -111,7 +145,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the value
      */
     public BigDecimal decimalValue() {
-        return this.value;
+        return value();
     }
 
     /**
@@ -125,7 +159,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
             throw ErrorUtils.createNumericConversionError(this.stringValue(null), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_INT);
         }
-        return value.setScale(0, RoundingMode.HALF_EVEN).longValue();
+        return value().setScale(0, RoundingMode.HALF_EVEN).longValue();
     }
 
     /**
@@ -134,7 +168,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is in int range
      */
     public static boolean isDecimalWithinIntRange(DecimalValue decimalValue) {
-        BigDecimal value = decimalValue.value;
+        BigDecimal value = decimalValue.value();
         return value.compareTo(RuntimeConstants.BINT_MAX_VALUE_BIG_DECIMAL_RANGE_MAX) < 0 &&
                value.compareTo(RuntimeConstants.BINT_MIN_VALUE_BIG_DECIMAL_RANGE_MIN) > 0;
     }
@@ -146,9 +180,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     public int byteValue() {
 
-        int intVal = (int) Math.rint(this.value.doubleValue());
+        int intVal = (int) Math.rint(value().doubleValue());
         if (!isByteLiteral(intVal)) {
-            throw ErrorUtils.createNumericConversionError(value, PredefinedTypes.TYPE_DECIMAL,
+            throw ErrorUtils.createNumericConversionError(value(), PredefinedTypes.TYPE_DECIMAL,
                                                           PredefinedTypes.TYPE_BYTE);
         }
         return intVal;
@@ -163,7 +197,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the double value
      */
     public double floatValue() {
-        return value.doubleValue();
+        return value().doubleValue();
     }
 
     /**
@@ -171,6 +205,9 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return true if the value is non zero
      */
     public boolean booleanValue() {
+        if (compact) {
+            return unscaledValue != 0;
+        }
         return value.compareTo(BigDecimal.ZERO) != 0;
     }
 
@@ -193,7 +230,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue();
         }
-        return value.toString();
+        return value().toString();
     }
 
     /**
@@ -205,7 +242,7 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (this.valueKind != DecimalValueKind.OTHER) {
             return this.valueKind.getValue() + "d";
         }
-        return value.toString() + "d";
+        return value().toString() + "d";
     }
 
     /**
@@ -213,7 +250,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return the decimal value
      */
     public BigDecimal value() {
-        return this.value;
+        BigDecimal bigDecimalValue = this.value;
+        if (bigDecimalValue == null) {
+            bigDecimalValue = BigDecimal.valueOf(unscaledValue, scale);
+            this.value = bigDecimalValue;
+        }
+        return bigDecimalValue;
     }
 
     /**
@@ -238,6 +280,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (augend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.compact && augend.compact) {
+            DecimalValue sum = addCompact(this.unscaledValue, this.scale, augend.unscaledValue, augend.scale);
+            if (sum != null) {
+                return sum;
+            }
+        }
         return new DecimalValue(this.decimalValue().add(augend.decimalValue(), MathContext.DECIMAL128));
     }
 
@@ -257,6 +305,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
         if (subtrahend.valueKind == DecimalValueKind.ZERO) {
             return this;
         }
+        if (this.compact && subtrahend.compact) {
+            DecimalValue difference = addCompact(this.unscaledValue, this.scale, -subtrahend.unscaledValue,
+                    subtrahend.scale);
+            if (difference != null) {
+                return difference;
+            }
+        }
         return new DecimalValue(this.decimalValue().subtract(subtrahend.decimalValue(),
                 MathContext.DECIMAL128));
     }
@@ -273,6 +328,13 @@ public class DecimalValue implements SimpleValue, BDecimal {
             return this;
         }
         if (multiplicand.valueKind == DecimalValueKind.OTHER) {
+            if (this.compact && multiplicand.compact) {
+                DecimalValue product = multiplyCompact(this.unscaledValue, this.scale, multiplicand.unscaledValue,
+                        multiplicand.scale);
+                if (product != null) {
+                    return product;
+                }
+            }
             return new DecimalValue(this.decimalValue().multiply(multiplicand.decimalValue(),
                     MathContext.DECIMAL128));
         }
@@ -323,11 +385,69 @@ public class DecimalValue implements SimpleValue, BDecimal {
      */
     public DecimalValue negate() {
         if (this.valueKind == DecimalValueKind.OTHER) {
+            if (this.compact) {
+                return new DecimalValue(-this.unscaledValue, this.scale);
+            }
             return new DecimalValue(this.decimalValue().negate());
         }
         return this;
     }
 
+    /**
+     * Compares this decimal with the given decimal numerically, regardless of their precision.
+     * @param other value to be compared with
+     * @return -1, 0 or 1 as this decimal is less than, equal to or greater than the given decimal
+     */
+    public int compareTo(DecimalValue other) {
+        if (this.compact && other.compact) {
+            if (this.scale == other.scale) {
+                return Long.compare(this.unscaledValue, other.unscaledValue);
+            }
+            long lhs = scaleUp(this.unscaledValue, Math.max(other.scale - this.scale, 0));
+            long rhs = scaleUp(other.unscaledValue, Math.max(this.scale - other.scale, 0));
+            if (lhs != INFLATED && rhs != INFLATED) {
+                return Long.compare(lhs, rhs);
+            }
+        }
+        return this.value().compareTo(other.value());
+    }
+
+    private static DecimalValue addCompact(long lhs, int lhsScale, long rhs, int rhsScale) {
+        // The exact sum is taken at the larger scale, same as BigDecimal
+        int scale = Math.max(lhsScale, rhsScale);
+        long alignedLhs = scaleUp(lhs, scale - lhsScale);
+        long alignedRhs = scaleUp(rhs, scale - rhsScale);
+        if (alignedLhs == INFLATED || alignedRhs == INFLATED) {
+            return null;
+        }
+        long sum = alignedLhs + alignedRhs;
+        if (((alignedLhs ^ sum) & (alignedRhs ^ sum)) < 0 || sum == INFLATED) {
+            return null;
+        }
+        return new DecimalValue(sum, scale);
+    }
+
+    private static DecimalValue multiplyCompact(long lhs, int lhsScale, long rhs, int rhsScale) {
+        int scale = lhsScale + rhsScale;
+        long high = Math.multiplyHigh(lhs, rhs);
+        long product = lhs * rhs;
+        if (scale > MAX_COMPACT_SCALE || high != (product >> 63) || product == INFLATED) {
+            return null;
+        }
+        return new DecimalValue(product, scale);
+    }
+
+    private static long scaleUp(long unscaledValue, int digits) {
+        if (digits == 0) {
+            return unscaledValue;
+        }
+        if (digits >= LONG_TEN_POWERS.length || unscaledValue > MAX_SCALE_UP_VALUES[digits] ||
+                unscaledValue < -MAX_SCALE_UP_VALUES[digits]) {
+            return INFLATED;
+        }
+        return unscaledValue * LONG_TEN_POWERS[digits];
+    }
+
     @Override
     public BDecimal add(BDecimal augend) {
         return add((DecimalValue) augend);
@@ -374,12 +494,12 @@ public class DecimalValue implements SimpleValue, BDecimal {
         }
 
         DecimalValue bDecimal = (DecimalValue) obj;
-        return ((value.compareTo(bDecimal.value) == 0) && (this.valueKind == bDecimal.valueKind));
+        return ((this.compareTo(bDecimal) == 0) && (this.valueKind == bDecimal.valueKind));
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return value().hashCode();
     }
 
     /**
@@ -406,6 +526,10 @@ public class DecimalValue implements SimpleValue, BDecimal {
      * @return decimal value
      */
     public static DecimalValue valueOf(long value) {
+        long unscaledValue = scaleUp(value, 1);
+        if (unscaledValue != INFLATED) {
+            return new DecimalValue(unscaledValue, 1);
+        }
         return new DecimalValue(new BigDecimal(value, MathContext.DECIMAL128).setScale(1, RoundingMode.HALF_EVEN));
     }
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Maps the names of the fields declared in a record type to the offsets of those fields in the generated record
+ * class.
+ * <p>
+ * A generated record class keeps its declared fields as JVM fields and holds one table per type. Map-style access to
+ * a declared field looks up the offset of the key once and then switches on the offset. Keys which are not declared
+ * fields get the offset {@code -1} and are served from the rest fields of the value.
+ *
+ * @since 2201.9.0
+ */
+public final class FieldOffsetTable {
+
+    private static final int EMPTY_SLOT = 0;
+
+    private final String[] names;
+    private final BString[] keys;
+    // Open addressed slots holding the offset of a field plus one, so that zero marks an empty slot
+    private final int[] slots;
+    private final int mask;
+
+    public FieldOffsetTable(String[] names) {
+        this.names = names;
+        this.keys = new BString[names.length];
+        this.slots = new int[getCapacity(names.length)];
+        this.mask = slots.length - 1;
+        for (int offset = 0; offset < names.length; offset++) {
+            keys[offset] = StringUtils.fromString(names[offset]);
+            int slot = spread(names[offset].hashCode()) & mask;
+            while (slots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = offset + 1;
+        }
+    }
+
+    /**
+     * Returns the offset of the declared field with the given name.
+     *
+     * @param key field name
+     * @return the offset of the field, or {@code -1} if the record type does not declare a field with the given name
+     */
+    public int getOffset(Object key) {
+        if (!(key instanceof BString bString)) {
+            return -1;
+        }
+        String name = bString.getValue();
+        int slot = spread(name.hashCode()) & mask;
+        int entry;
+        while ((entry = slots[slot]) != EMPTY_SLOT) {
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the name of the field at the given offset, as a map key.
+     *
+     * @param offset offset of the field
+     * @return field name
+     */
+    public BString getKey(int offset) {
+        return keys[offset];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    private static int getCapacity(int fieldCount) {
+        // Keep the load factor at or below a half, so that probe sequences stay short
+        int capacity = 2;
+        while (capacity < fieldCount * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -53,6 +53,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -92,15 +93,17 @@ import static io.ballerina.runtime.internal.values.ReadOnlyUtils.handleInvalidUp
  *
  * @since 0.995.0
  */
-public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
-        BMap<K, V> {
+public class MapValueImpl<K, V> implements Map<K, V>, RefValue, CollectionValue, MapValue<K, V>, BMap<K, V> {
 
-    private static final long serialVersionUID = 1L;
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Allocated on the first use, since most values never have native data.
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
+    // Entries of a map and rest fields of a record. Allocated on the first put, so that records which only have
+    // values for their declared fields never allocate a hash table.
+    private LinkedHashMap<K, V> entries;
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -110,24 +113,26 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public MapValueImpl(Type type) {
-        super();
         this.type = type;
         this.referredType = getImpliedType(type);
     }
 
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
-        super();
         this.type = type;
         this.referredType = getImpliedType(type);
         populateInitialValues(initialValues);
     }
 
     public MapValueImpl() {
-        super();
         type = PredefinedTypes.TYPE_MAP;
         this.referredType = this.type;
     }
 
+    @Override
+    public V get(Object key) {
+        return entries == null ? null : entries.get(key);
+    }
+
     public Long getIntValue(BString key) {
         Object value = get(key);
         if (value instanceof Integer) { // field is an int subtype
@@ -358,7 +363,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     public void clear() {
         validateFreezeStatus();
-        super.clear();
+        if (entries != null) {
+            entries.clear();
+        }
     }
 
     protected void validateFreezeStatus() {
@@ -376,7 +383,19 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public boolean containsKey(Object key) {
-        return super.containsKey(key);
+        return entries != null && entries.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return values().contains(value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
@@ -411,6 +430,30 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return true;
     }
 
+    /**
+     * Compares the entries of this map with the entries of the given map.
+     *
+     * @param o map to compare with
+     * @return true if both maps have the same keys, mapped to equal values
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof Map<?, ?> map) || map.size() != size()) {
+            return false;
+        }
+        for (Map.Entry<K, V> entry : entrySet()) {
+            K key = entry.getKey();
+            V value = entry.getValue();
+            if (value == null ? map.get(key) != null || !map.containsKey(key) : !value.equals(map.get(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the hash code value.
      *
@@ -430,7 +473,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     @Override
     public V remove(Object key) {
         validateFreezeStatus();
-        return super.remove(key);
+        return entries == null ? null : entries.remove(key);
     }
 
     /**
@@ -440,7 +483,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @SuppressWarnings("unchecked")
     public K[] getKeys() {
-        Set<K> keys = super.keySet();
+        Set<K> keys = keySet();
         BString[] keyArr = new BString[keys.size()];
         int i = 0;
         for (K key : keys) {
@@ -455,8 +498,19 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      *
      * @return values as an array
      */
+    @Override
     public Collection<V> values() {
-        return super.values();
+        return entries == null ? Collections.emptyList() : entries.values();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return entries == null ? Collections.emptySet() : entries.keySet();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return entries == null ? Collections.emptySet() : entries.entrySet();
     }
 
     /**
@@ -466,7 +520,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public int size() {
-        return super.size();
+        return entries == null ? 0 : entries.size();
     }
 
     /**
@@ -645,7 +699,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -654,7 +708,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -671,6 +725,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -708,6 +765,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * common behaviors such as error handling.
      */
     protected V putValue(K key, V value) {
-        return super.put(key, value);
+        if (entries == null) {
+            entries = new LinkedHashMap<>();
+        }
+        return entries.put(key, value);
     }
 }
@@ -24,6 +24,10 @@ import java.util.Arrays;
 
  /**
   * Represent ballerina strings containing at least one non basic multilingual plane unicode character.
+  * <p>
+  * The sorted code point indexes of the non basic multilingual plane characters, each of which is a surrogate pair in
+  * the Java string, are used as a sparse index to translate between code point indexes and char offsets using a
+  * binary search.
   *
   * @since 1.0.5
   */
@@ -42,15 +46,10 @@ import java.util.Arrays;
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        int surrogatesBefore = countSurrogatesBefore(surrogates, index);
+        int offset = index + surrogatesBefore;
+        if (surrogatesBefore < surrogates.length && surrogates[surrogatesBefore] == index) {
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
         return value.charAt(offset);
     }
@@ -79,36 +78,76 @@ import java.util.Arrays;
          return surrogates.clone();
      }
 
+    /**
+     * Returns the char offset in the Java string of the code point at the given index.
+     *
+     * @param surrogates sorted code point indexes of the non basic multilingual plane characters
+     * @param index      code point index
+     * @return the char offset
+     */
+    public static int getCharOffset(int[] surrogates, int index) {
+        return index + countSurrogatesBefore(surrogates, index);
+    }
+
+    /**
+     * Returns the index of the code point at the given char offset in the Java string.
+     *
+     * @param surrogates sorted code point indexes of the non basic multilingual plane characters
+     * @param offset     char offset
+     * @return the code point index
+     */
+    public static int getCodePointIndex(int[] surrogates, int offset) {
+        // The char offset of the i-th surrogate pair is surrogates[i] + i, which is strictly increasing.
+        int low = 0;
+        int high = surrogates.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (surrogates[mid] + mid < offset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return offset - low;
+    }
+
+    int getCharOffset(int index) {
+        return getCharOffset(surrogates, index);
+    }
+
+    // Returns the number of non basic multilingual plane characters before the given code point index.
+    private static int countSurrogatesBefore(int[] surrogates, int index) {
+        int low = 0;
+        int high = surrogates.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (surrogates[mid] < index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
      @Override
      public Long indexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.indexOf(str.getValue(), offset);
+         int index = value.indexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getCodePointIndex(surrogates, index);
      }
 
      @Override
      public Long lastIndexOf(BString str, int fromIndex) {
          int offset = getOffset(fromIndex);
-         long index = value.lastIndexOf(str.getValue(), offset);
+         int index = value.lastIndexOf(str.getValue(), offset);
          if (index < 0) {
              return null;
          }
-         for (int i = 0; i < index; i++) {
-             char c = value.charAt(i);
-             if (Character.isHighSurrogate(c)) {
-                 index--;
-             }
-         }
-         return index;
+         return (long) getCodePointIndex(surrogates, index);
      }
      @Override
      public BString substring(int beginIndex, int endIndex) {
@@ -118,14 +157,6 @@ import java.util.Arrays;
      }
 
      private int getOffset(int fromIndex) {
-         int offset = fromIndex;
-         for (int surrogate : surrogates) {
-             if (surrogate < fromIndex) {
-                 offset++;
-             } else {
-                 break;
-             }
-         }
-         return offset;
+         return getCharOffset(surrogates, fromIndex);
      }
  }
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.values.BTypedesc;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 
@@ -40,6 +41,7 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    private volatile Pattern compiledPattern;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -50,6 +52,19 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the java pattern compiled for this regular expression, if it has been compiled already.
+     *
+     * @return compiled pattern or null
+     */
+    public Pattern getCompiledPattern() {
+        return this.compiledPattern;
+    }
+
+    public void setCompiledPattern(Pattern compiledPattern) {
+        this.compiledPattern = compiledPattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index on a field of the rows of a table.
+ * <p>
+ * Rows are identified by their position in the insertion order of the table, so that the rows found using the index
+ * can be returned in the iteration order of the table. A hash index finds the rows which have a field value equal to
+ * a given value as per `==`. A sorted index finds the candidate rows for a range of field values, i.e. the rows which
+ * may have a field value in the range. The candidates include the rows with field values that are not ordered with
+ * respect to the other values, such as `()` and `NaN`.
+ *
+ * @param <V> the type of the rows
+ * @since 2201.9.0
+ */
+abstract class TableIndex<V> {
+
+    private static final Object NIL = new Object();
+
+    final BString fieldName;
+    private final Map<Long, Object> indexedValues;
+
+    TableIndex(BString fieldName) {
+        this.fieldName = fieldName;
+        this.indexedValues = new HashMap<>();
+    }
+
+    TableIndex(TableIndex<V> index) {
+        this.fieldName = index.fieldName;
+        this.indexedValues = new HashMap<>(index.indexedValues);
+    }
+
+    static <V> TableIndex<V> createIndex(BString fieldName, boolean sorted) {
+        return sorted ? new SortedIndex<>(fieldName) : new HashIndex<>(fieldName);
+    }
+
+    abstract boolean isSorted();
+
+    /**
+     * Adds the row at the given position, replacing the row which was previously at the position.
+     */
+    void put(long position, V row) {
+        remove(position);
+        Object value = toIndexedValue(((MapValue<?, ?>) row).get(fieldName));
+        indexedValues.put(position, value);
+        getRows(value, true).put(position, row);
+    }
+
+    void remove(long position) {
+        if (!indexedValues.containsKey(position)) {
+            return;
+        }
+        Object value = indexedValues.remove(position);
+        NavigableMap<Long, V> rows = getRows(value, false);
+        rows.remove(position);
+        if (rows.isEmpty()) {
+            removeRows(value);
+        }
+    }
+
+    void clear() {
+        indexedValues.clear();
+        clearRows();
+    }
+
+    abstract Object toIndexedValue(Object fieldValue);
+
+    abstract NavigableMap<Long, V> getRows(Object indexedValue, boolean create);
+
+    abstract void removeRows(Object indexedValue);
+
+    abstract void clearRows();
+
+    // Merges row maps, which are ordered by position, into a single list ordered by position.
+    static <V> List<V> merge(List<NavigableMap<Long, V>> rowMaps) {
+        if (rowMaps.size() == 1) {
+            return new ArrayList<>(rowMaps.get(0).values());
+        }
+        TreeMap<Long, V> merged = new TreeMap<>();
+        for (NavigableMap<Long, V> rows : rowMaps) {
+            merged.putAll(rows);
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    /**
+     * Hash index which maps field values to rows. Field values which are equal as per `==` are mapped to the same
+     * key.
+     *
+     * @param <V> the type of the rows
+     */
+    static final class HashIndex<V> extends TableIndex<V> {
+
+        private static final Object STRUCTURED = new Object();
+
+        private final Map<Object, NavigableMap<Long, V>> rowsByValue = new HashMap<>();
+
+        HashIndex(BString fieldName) {
+            super(fieldName);
+        }
+
+        private HashIndex(HashIndex<V> index) {
+            super(index);
+            index.rowsByValue.forEach((value, rows) -> rowsByValue.put(value, new TreeMap<>(rows)));
+        }
+
+        /**
+         * Returns a copy of the index, which is not affected by later updates of the table.
+         */
+        HashIndex<V> copy() {
+            return new HashIndex<>(this);
+        }
+
+        @Override
+        boolean isSorted() {
+            return false;
+        }
+
+        /**
+         * Returns the rows which may have a field value equal to the given value, ordered by position. Rows with
+         * structured field values are candidates for every value.
+         */
+        Collection<V> getCandidates(Object value) {
+            NavigableMap<Long, V> rows = rowsByValue.get(toIndexedValue(value));
+            NavigableMap<Long, V> structuredRows = rowsByValue.get(STRUCTURED);
+            if (structuredRows == null || rows == structuredRows) {
+                return rows == null ? List.of() : rows.values();
+            }
+            return rows == null ? structuredRows.values() : merge(List.of(rows, structuredRows));
+        }
+
+        @Override
+        Object toIndexedValue(Object fieldValue) {
+            if (fieldValue == null) {
+                return NIL;
+            }
+            if (fieldValue instanceof Integer intValue) {
+                // int and byte values are equal if their numeric values are equal.
+                return intValue.longValue();
+            }
+            if (fieldValue instanceof Double doubleValue) {
+                // -0.0 == 0.0
+                return doubleValue == 0 ? 0.0 : doubleValue;
+            }
+            if (fieldValue instanceof BDecimal decimalValue) {
+                // Decimals with different scales are equal if their numeric values are equal.
+                BigDecimal bigDecimal = decimalValue.decimalValue();
+                return bigDecimal.signum() == 0 ? BigDecimal.ZERO : bigDecimal.stripTrailingZeros();
+            }
+            if (fieldValue instanceof BString stringValue) {
+                return stringValue.getValue();
+            }
+            if (fieldValue instanceof Long || fieldValue instanceof Boolean) {
+                return fieldValue;
+            }
+            // Structured values are rarely used in equality predicates and are not hashed.
+            return STRUCTURED;
+        }
+
+        @Override
+        NavigableMap<Long, V> getRows(Object indexedValue, boolean create) {
+            return create ? rowsByValue.computeIfAbsent(indexedValue, k -> new TreeMap<>()) :
+                    rowsByValue.get(indexedValue);
+        }
+
+        @Override
+        void removeRows(Object indexedValue) {
+            rowsByValue.remove(indexedValue);
+        }
+
+        @Override
+        void clearRows() {
+            rowsByValue.clear();
+        }
+    }
+
+    /**
+     * Sorted index which orders the rows by field value. Only the values of the ordered basic type of the first
+     * indexed value are ordered, other values are kept separately and are candidates for every range.
+     *
+     * @param <V> the type of the rows
+     */
+    static final class SortedIndex<V> extends TableIndex<V> {
+
+        private static final Object UNORDERED = new Object();
+
+        private final TreeMap<Object, NavigableMap<Long, V>> rowsByValue =
+                new TreeMap<>((v1, v2) -> ValueComparisonUtils.compareValues(v1, v2, "ascending"));
+        private final NavigableMap<Long, V> unorderedRows = new TreeMap<>();
+        private Class<?> orderedType;
+
+        SortedIndex(BString fieldName) {
+            super(fieldName);
+        }
+
+        @Override
+        boolean isSorted() {
+            return true;
+        }
+
+        /**
+         * Returns the rows which may have a field value within the given range, ordered by position. A `null` bound
+         * means that the range is not bounded in that direction.
+         */
+        Collection<V> getCandidates(Object lowerBound, boolean lowerInclusive, Object upperBound,
+                                    boolean upperInclusive) {
+            Object from = lowerBound == null ? null : toOrderedValue(lowerBound);
+            Object to = upperBound == null ? null : toOrderedValue(upperBound);
+            if (from == UNORDERED || to == UNORDERED) {
+                List<NavigableMap<Long, V>> rowMaps = new ArrayList<>(rowsByValue.values());
+                rowMaps.add(unorderedRows);
+                return merge(rowMaps);
+            }
+
+            NavigableMap<Object, NavigableMap<Long, V>> range = rowsByValue;
+            if (from != null && to != null) {
+                if (ValueComparisonUtils.compareValues(from, to, "ascending") > 0) {
+                    range = new TreeMap<>();
+                } else {
+                    range = rowsByValue.subMap(from, lowerInclusive, to, upperInclusive);
+                }
+            } else if (from != null) {
+                range = rowsByValue.tailMap(from, lowerInclusive);
+            } else if (to != null) {
+                range = rowsByValue.headMap(to, upperInclusive);
+            }
+            List<NavigableMap<Long, V>> rowMaps = new ArrayList<>(range.values());
+            if (!unorderedRows.isEmpty() || rowMaps.isEmpty()) {
+                rowMaps.add(unorderedRows);
+            }
+            return merge(rowMaps);
+        }
+
+        @Override
+        Object toIndexedValue(Object fieldValue) {
+            if (orderedType == null && rowsByValue.isEmpty()) {
+                orderedType = getOrderedType(normalize(fieldValue));
+            }
+            return toOrderedValue(fieldValue);
+        }
+
+        private Object toOrderedValue(Object fieldValue) {
+            Object value = normalize(fieldValue);
+            return value != UNORDERED && orderedType != null && getOrderedType(value) == orderedType ? value :
+                    UNORDERED;
+        }
+
+        private static Object normalize(Object value) {
+            if (value instanceof Integer intValue) {
+                return intValue.longValue();
+            }
+            if (value instanceof Double doubleValue) {
+                if (doubleValue.isNaN()) {
+                    return UNORDERED;
+                }
+                return doubleValue == 0 ? 0.0 : doubleValue;
+            }
+            return value;
+        }
+
+        private static Class<?> getOrderedType(Object value) {
+            if (value instanceof Long) {
+                return Long.class;
+            }
+            if (value instanceof Double) {
+                return Double.class;
+            }
+            if (value instanceof BDecimal) {
+                return BDecimal.class;
+            }
+            if (value instanceof BString) {
+                return BString.class;
+            }
+            return null;
+        }
+
+        @Override
+        NavigableMap<Long, V> getRows(Object indexedValue, boolean create) {
+            if (indexedValue == UNORDERED) {
+                return unorderedRows;
+            }
+            return create ? rowsByValue.computeIfAbsent(indexedValue, k -> new TreeMap<>()) :
+                    rowsByValue.get(indexedValue);
+        }
+
+        @Override
+        void removeRows(Object indexedValue) {
+            if (indexedValue != UNORDERED) {
+                rowsByValue.remove(indexedValue);
+            }
+        }
+
+        @Override
+        void clearRows() {
+            rowsByValue.clear();
+            unorderedRows.clear();
+            orderedType = null;
+        }
+    }
+}
@@ -18,6 +18,7 @@
 package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.Field;
@@ -58,11 +59,13 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -86,6 +89,13 @@ import static io.ballerina.runtime.internal.util.StringUtils.getStringVal;
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    /**
+     * Keyed tables use columnar storage by default if the BALLERINA_TABLE_STORAGE system variable is set to
+     * `columnar`.
+     */
+    private static final boolean COLUMNAR_STORAGE = RuntimeConstants.TABLE_STORAGE_COLUMNAR.equals(
+            System.getenv(RuntimeConstants.BALLERINA_TABLE_STORAGE_ENV_VAR));
+
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
@@ -103,10 +113,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private boolean nextKeySupported;
 
+    // Non-null while the rows are stored in columns, in which case the above maps are not used.
+    private ColumnarTableStore columnarStore;
+
+    // Indexes on non-key fields, which are only maintained for the row storage. The list is replaced when an index is
+    // added, so that it can be read without locking the table.
+    private volatile List<TableIndex<V>> secondaryIndexes = List.of();
+
     private final Map<String, Object> nativeData = new HashMap<>();
     private BTypedesc typedesc;
 
     public TableValueImpl(TableType tableType) {
+        this(tableType, COLUMNAR_STORAGE);
+    }
+
+    /**
+     * Creates an empty table.
+     *
+     * @param tableType       type of the table
+     * @param columnarStorage whether to store the rows in columns if the table is keyed and the rows are immutable
+     *                        closed records with only `int`, `float`, `boolean` and `string` fields
+     */
+    public TableValueImpl(TableType tableType, boolean columnarStorage) {
         this.type = this.tableType = tableType;
 
         this.entries = new ConcurrentHashMap<>();
@@ -117,6 +145,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         this.keyValues = new LinkedHashMap<>();
         if (tableType.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
+            if (columnarStorage) {
+                this.columnarStore = new ColumnarTableStore(this.fieldNames);
+            }
         } else {
             this.valueHolder = new ValueHolder();
         }
@@ -143,16 +174,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         if (this.fieldNames.length > 0) {
             this.valueHolder = new KeyHashValueHolder();
+            if (this.columnarStore != null) {
+                this.columnarStore = new ColumnarTableStore(this.fieldNames);
+            }
         } else {
             this.valueHolder = new ValueHolder();
+            this.columnarStore = null;
         }
     }
 
     private void addData(ArrayValue data) {
         BIterator itr = data.getIterator();
         while (itr.hasNext()) {
-            Object next = itr.next();
-            valueHolder.addData((V) next);
+            V next = (V) itr.next();
+            if (columnarStore != null) {
+                addColumnarData(next);
+            } else {
+                valueHolder.addData(next);
+            }
         }
     }
 
@@ -171,7 +210,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return refs.get(this);
         }
 
-        TableValueImpl<K, V> clone = new TableValueImpl<>(tableType);
+        TableValueImpl<K, V> clone = new TableValueImpl<>(tableType, columnarStore != null);
         clone.type = type;
 
         if (fieldNames != null) {
@@ -216,40 +255,69 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public V get(Object key) {
+        if (columnarStore != null) {
+            int row = columnarStore.find(key);
+            return row < 0 ? null : getColumnarRow(columnarStore, row);
+        }
         return valueHolder.getData((K) key);
     }
 
     //Generates the key from the given data
     public V put(V value) {
         handleFrozenTableValue();
+        if (columnarStore != null) {
+            return putColumnarData(value);
+        }
         return valueHolder.putData(value);
     }
 
     @Override
     public V put(K key, V value) {
         handleFrozenTableValue();
+        if (columnarStore != null) {
+            return putColumnarData(key, value);
+        }
         return valueHolder.putData(key, value);
     }
 
     @Override
     public void add(V data) {
         handleFrozenTableValue();
+        if (columnarStore != null) {
+            addColumnarData(data);
+            return;
+        }
         valueHolder.addData(data);
     }
 
     @Override
     public V remove(Object key) {
         handleFrozenTableValue();
+        if (columnarStore != null) {
+            int row = columnarStore.find(key);
+            if (row < 0) {
+                return null;
+            }
+            V value = getColumnarRow(columnarStore, row);
+            columnarStore.remove(row);
+            return value;
+        }
         return valueHolder.remove((K) key);
     }
 
     @Override
     public boolean containsKey(Object key) {
+        if (columnarStore != null) {
+            return columnarStore.find(key) >= 0;
+        }
         return valueHolder.containsKey((K) key);
     }
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
+        if (columnarStore != null) {
+            migrateToRowStorage();
+        }
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
         for (List<Map.Entry<K, V>> entry: entries.values()) {
             entrySet.addAll(entry);
@@ -260,6 +328,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Collection<V> values() {
         ArrayList<V> newValues = new ArrayList<>();
+        if (columnarStore != null) {
+            for (int row = columnarStore.nextRow(0); row >= 0; row = columnarStore.nextRow(row + 1)) {
+                newValues.add(getColumnarRow(columnarStore, row));
+            }
+            return newValues;
+        }
         Set<Long> keys = values.keySet();
         for (long key: keys) {
             newValues.addAll(values.get(key));
@@ -270,11 +344,123 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
+        if (columnarStore != null) {
+            columnarStore.clear();
+        }
         entries.clear();
         values.clear();
         keyToIndexMap.clear();
         indexToKeyMap.clear();
         noOfAddedEntries = 0;
+        for (TableIndex<V> index : secondaryIndexes) {
+            index.clear();
+        }
+    }
+
+    /**
+     * Adds a secondary index on a field of the rows, which is kept up to date as rows are added, updated and
+     * removed. A hash index is used to find the rows with a given field value. A sorted index is used to find the rows
+     * with a field value within a range. Adding an index which already exists has no effect.
+     * <p>
+     * The index is not updated when a field of a row is changed, so an index is added only if the row type of the
+     * table is a subtype of `readonly`. Queries only use the indexes added using this method, and never add one
+     * themselves. Like the other updates of a table, this must not be called while the table is being updated.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether the index is a sorted index
+     * @return true if the table has the index, false if the rows of the table are mutable
+     */
+    public synchronized boolean addIndex(BString fieldName, boolean sorted) {
+        if (getIndex(fieldName, sorted) != null) {
+            return true;
+        }
+        if (!getImpliedType(tableType.getConstrainedType()).isReadOnly()) {
+            return false;
+        }
+        if (columnarStore != null) {
+            migrateToRowStorage();
+        }
+        TableIndex<V> index = TableIndex.createIndex(fieldName, sorted);
+        for (Map.Entry<Long, K> entry : indexToKeyMap.entrySet()) {
+            index.put(entry.getKey(), keyValues.get(entry.getValue()));
+        }
+        List<TableIndex<V>> indexes = new ArrayList<>(secondaryIndexes);
+        indexes.add(index);
+        secondaryIndexes = indexes;
+        return true;
+    }
+
+    /**
+     * Checks whether the table has a secondary index on the given field.
+     *
+     * @param fieldName name of the field
+     * @param sorted    whether the index is a sorted index
+     * @return true if there is such an index
+     */
+    public boolean hasIndex(BString fieldName, boolean sorted) {
+        return getIndex(fieldName, sorted) != null;
+    }
+
+    /**
+     * Returns the rows which have a field value equal to the given value as per `==`, in the iteration order of the
+     * table, using the hash index on the field.
+     *
+     * @param fieldName name of the field, which must have a hash index
+     * @param value     field value to look up
+     * @return the matching rows
+     */
+    public List<V> getIndexedValues(BString fieldName, Object value) {
+        return getEqualValues((TableIndex.HashIndex<V>) getIndex(fieldName, false), fieldName, value);
+    }
+
+    /**
+     * Returns a lookup of the rows which have a field value equal to a given value as per `==`, which uses a snapshot
+     * of the hash index on the field. Rows which are added to or removed from the table later are not seen by the
+     * lookup.
+     *
+     * @param fieldName name of the field, which must have a hash index
+     * @return a function which returns the matching rows for a field value, in the iteration order of the table
+     */
+    public synchronized Function<Object, List<V>> getIndexSnapshot(BString fieldName) {
+        TableIndex.HashIndex<V> index = ((TableIndex.HashIndex<V>) getIndex(fieldName, false)).copy();
+        return value -> getEqualValues(index, fieldName, value);
+    }
+
+    private List<V> getEqualValues(TableIndex.HashIndex<V> index, BString fieldName, Object value) {
+        List<V> rows = new ArrayList<>();
+        for (V row : index.getCandidates(value)) {
+            if (isEqual(((MapValue<?, ?>) row).get(fieldName), value)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the candidate rows for a range of field values, in the iteration order of the table, using the sorted
+     * index on the field. The candidates include all the rows with a field value within the range, as well as rows
+     * with field values that are not ordered with respect to the bounds, such as `()` and `NaN`.
+     *
+     * @param fieldName      name of the field, which must have a sorted index
+     * @param lowerBound     lower bound of the range, or null if there is no lower bound
+     * @param lowerInclusive whether the lower bound is included in the range
+     * @param upperBound     upper bound of the range, or null if there is no upper bound
+     * @param upperInclusive whether the upper bound is included in the range
+     * @return the candidate rows
+     */
+    public List<V> getIndexedValues(BString fieldName, Object lowerBound, boolean lowerInclusive, Object upperBound,
+                                    boolean upperInclusive) {
+        TableIndex.SortedIndex<V> index = (TableIndex.SortedIndex<V>) getIndex(fieldName, true);
+        return new ArrayList<>(index.getCandidates(lowerBound, lowerInclusive, upperBound, upperInclusive));
+    }
+
+    private TableIndex<V> getIndex(BString fieldName, boolean sorted) {
+        for (TableIndex<V> index : secondaryIndexes) {
+            if (index.isSorted() == sorted && index.fieldName.equals(fieldName)) {
+                return index;
+            }
+        }
+        return null;
     }
 
     @Override
@@ -303,7 +489,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return indexToKeyMap.size() == 0 ? 0 : (this.maxIntKey + 1);
+        int size = columnarStore != null ? columnarStore.size() : indexToKeyMap.size();
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -331,16 +518,33 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        Object[] keys;
+        if (columnarStore != null) {
+            Type keyType = valueHolder.getKeyType();
+            keys = new Object[columnarStore.size()];
+            int i = 0;
+            for (int row = columnarStore.nextRow(0); row >= 0; row = columnarStore.nextRow(row + 1)) {
+                keys[i++] = columnarStore.getKey(row, keyType);
+            }
+        } else {
+            keys = indexToKeyMap.values().toArray();
+        }
+        return (K[]) keys;
     }
 
     @Override
     public int size() {
+        if (columnarStore != null) {
+            return columnarStore.size();
+        }
         return values().size();
     }
 
     @Override
     public boolean isEmpty() {
+        if (columnarStore != null) {
+            return columnarStore.size() == 0;
+        }
         return entries.isEmpty();
     }
 
@@ -363,12 +567,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         this.tableType = (BTableType) ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.tableType);
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
 
+        // Rows stored in columns are immutable.
+        if (columnarStore != null) {
+            this.typedesc = null;
+            return;
+        }
+
         //we know that values are always BRefValues
         this.values().forEach(val -> ((BRefValue) val).freezeDirect());
         this.typedesc = null;
     }
 
     public String stringValue(BLink parent) {
+        if (columnarStore != null) {
+            return createStringValueDataEntry(values(), parent);
+        }
         Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
         return createStringValueDataEntry(itr, parent);
     }
@@ -380,10 +593,33 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
+        if (columnarStore != null) {
+            return createExpressionStringValueDataEntry(values(), parent);
+        }
         Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
+    private String createStringValueDataEntry(Collection<V> rows, BLink parent) {
+        StringJoiner sj = new StringJoiner(",");
+        for (V data : rows) {
+            sj.add(getStringVal(data, new CycleUtils.Node(this, parent)));
+        }
+        return "[" + sj + "]";
+    }
+
+    private String createExpressionStringValueDataEntry(Collection<V> rows, BLink parent) {
+        StringJoiner sj = new StringJoiner(",");
+        StringJoiner keyJoiner = new StringJoiner(",");
+        for (String keyName : tableType.getFieldNames()) {
+            keyJoiner.add(keyName);
+        }
+        for (V data : rows) {
+            sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
+        }
+        return "table key(" + keyJoiner + ") [" + sj + "]";
+    }
+
     private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
@@ -506,13 +742,33 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private class TableIterator implements IteratorValue {
         private long cursor;
+        // Position in the columnar storage, which follows the rows when they are moved
+        private ColumnarTableStore.Cursor columnarCursor;
 
         TableIterator() {
             this.cursor = 0;
+            if (columnarStore != null) {
+                this.columnarCursor = columnarStore.createCursor();
+            }
         }
 
         @Override
         public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (columnarStore != null) {
+                int row = columnarStore.nextRow(columnarCursor.get());
+                Object key = columnarStore.getKey(row, valueHolder.getKeyType());
+                Object value = columnarStore.getRow(row);
+                BTupleType tupleType = new BTupleType(List.of(TypeChecker.getType(key), TypeChecker.getType(value)));
+                TupleValueImpl tuple = new TupleValueImpl(tupleType);
+                tuple.add(0, key);
+                tuple.add(1, value);
+                columnarCursor.set(row + 1);
+                return tuple;
+            }
+            leaveColumnarStorage();
             if (indexToKeyMap.containsKey(cursor)) {
                 K key = indexToKeyMap.get(cursor);
                 V value = keyValues.get(key);
@@ -535,8 +791,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public boolean hasNext() {
+           if (columnarStore != null) {
+               return columnarStore.nextRow(columnarCursor.get()) >= 0;
+           }
+           leaveColumnarStorage();
            return cursor < noOfAddedEntries && values.size() != 0;
         }
+
+        // Continues from the same row once the rows are moved from the columnar storage to the row storage.
+        private void leaveColumnarStorage() {
+            if (columnarCursor != null) {
+                cursor = columnarCursor.get();
+                columnarCursor = null;
+            }
+        }
     }
 
     private class ValueHolder {
@@ -712,6 +980,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         entryList.remove(entry);
                         Long index = keyToIndexMap.remove(key);
                         indexToKeyMap.remove(index);
+                        removeFromSecondaryIndexes(index);
                         if (index != null && index == noOfAddedEntries - 1) {
                             noOfAddedEntries--;
                         }
@@ -722,6 +991,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             if (entryList != null) {
                 Long index = keyToIndexMap.remove(entryList.get(0).getKey());
                 indexToKeyMap.remove(index);
+                removeFromSecondaryIndexes(index);
                 if (index != null && index == noOfAddedEntries - 1) {
                     noOfAddedEntries--;
                 }
@@ -794,6 +1064,82 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
+    private void addColumnarData(V data) {
+        MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
+        checkInherentTypeViolation(dataMap, tableType);
+        if (!columnarStore.accepts(dataMap)) {
+            migrateToRowStorage();
+            valueHolder.addData(data);
+            return;
+        }
+
+        K key = getColumnarKey(dataMap);
+        if (columnarStore.find(key) >= 0) {
+            throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
+                    ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
+        }
+        if (nextKeySupported && (columnarStore.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
+        }
+        columnarStore.add(dataMap);
+    }
+
+    private V putColumnarData(V data) {
+        MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
+        checkInherentTypeViolation(dataMap, tableType);
+        if (!columnarStore.accepts(dataMap)) {
+            migrateToRowStorage();
+            return valueHolder.putData(data);
+        }
+        return putColumnarRow(getColumnarKey(dataMap), dataMap, data);
+    }
+
+    private V putColumnarData(K key, V data) {
+        MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
+        if (!columnarStore.accepts(dataMap)) {
+            migrateToRowStorage();
+            return valueHolder.putData(key, data);
+        }
+
+        K actualKey = getColumnarKey(dataMap);
+        if (!TableUtils.hash(key, null).equals(TableUtils.hash(actualKey, null))) {
+            throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
+                    ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_IN_VALUE, key, data));
+        }
+        return putColumnarRow(actualKey, dataMap, data);
+    }
+
+    private V putColumnarRow(K key, MapValue<?, ?> dataMap, V data) {
+        int row = columnarStore.find(key);
+        if (row < 0) {
+            columnarStore.add(dataMap);
+        } else {
+            columnarStore.replace(row, dataMap);
+        }
+        return data;
+    }
+
+    private K getColumnarKey(MapValue<?, ?> dataMap) {
+        return ((KeyHashValueHolder) valueHolder).keyWrapper.wrapKey(dataMap);
+    }
+
+    // Moves the rows stored in columns to the row storage, which supports any row.
+    private void migrateToRowStorage() {
+        ColumnarTableStore store = columnarStore;
+        columnarStore = null;
+        long maxKey = maxIntKey;
+        for (int row = store.nextRow(0); row >= 0; row = store.nextRow(row + 1)) {
+            valueHolder.addData(getColumnarRow(store, row));
+        }
+        maxIntKey = maxKey;
+        store.detach();
+    }
+
+    @SuppressWarnings("unchecked")
+    private V getColumnarRow(ColumnarTableStore store, int row) {
+        return (V) store.getRow(row);
+    }
+
     // This method updates the indexes and the order required by the iterators
     private void updateIndexKeyMappings(Long hash, K key, V value) {
         if (entries.containsKey(hash)) {
@@ -805,6 +1151,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                     indexToKeyMap.put(index, key);
                     keyValues.remove(entry.getKey());
                     keyValues.put(key, value);
+                    addToSecondaryIndexes(index, value);
                     return;
                 }
             }
@@ -812,9 +1159,25 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         keyToIndexMap.put(key, noOfAddedEntries);
         indexToKeyMap.put(noOfAddedEntries, key);
         keyValues.put(key, value);
+        addToSecondaryIndexes(noOfAddedEntries, value);
         noOfAddedEntries++;
     }
 
+    private void addToSecondaryIndexes(long position, V value) {
+        for (TableIndex<V> index : secondaryIndexes) {
+            index.put(position, value);
+        }
+    }
+
+    private void removeFromSecondaryIndexes(Long position) {
+        if (position == null) {
+            return;
+        }
+        for (TableIndex<V> index : secondaryIndexes) {
+            index.remove(position);
+        }
+    }
+
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -17,6 +17,7 @@
  */
 package io.ballerina.runtime.observability.metrics;
 
+import io.ballerina.runtime.internal.scheduling.BlockingTaskExecutor;
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 
 import java.util.Objects;
@@ -47,6 +48,7 @@ public class DefaultMetricRegistry {
             throw new IllegalStateException("Default Metric Registry has already been set");
         }
         DefaultMetricRegistry.instance = Objects.requireNonNull(instance);
+        BlockingTaskExecutor.getInstance().registerMetrics();
     }
 
 }
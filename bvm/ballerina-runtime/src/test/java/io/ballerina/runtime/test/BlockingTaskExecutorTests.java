@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BalEnvironment;
+import io.ballerina.runtime.internal.scheduling.BlockingTaskExecutor;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Test cases for running blocking tasks of external functions using {@link BlockingTaskExecutor}.
+ */
+public class BlockingTaskExecutorTests {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    @Test
+    void testRunBlocking() {
+        Scheduler scheduler = new Scheduler(2, false);
+        FutureValue future = schedule(scheduler, () -> 42L);
+        scheduler.start();
+        Assert.assertNull(future.panic);
+        Assert.assertEquals(future.result, 42L);
+    }
+
+    @Test
+    void testRunBlockingWithPanic() {
+        Scheduler scheduler = new Scheduler(2, false);
+        FutureValue future = schedule(scheduler, () -> {
+            throw new IllegalStateException("task failed");
+        });
+        scheduler.start();
+        Assert.assertTrue(future.panic instanceof BError, String.valueOf(future.panic));
+    }
+
+    @Test
+    void testPinnedCarrierCount() throws InterruptedException {
+        BlockingTaskExecutor executor = BlockingTaskExecutor.getInstance();
+        Scheduler scheduler = new Scheduler(2, false);
+        CountDownLatch release = new CountDownLatch(1);
+        // A strand which waits on a lock pins its carrier
+        scheduler.schedule(new Object[1], params -> {
+            awaitUninterruptibly(release);
+            return null;
+        }, null, null, "waiting", null);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        try {
+            awaitPinnedCarrierCount(executor, 1);
+        } finally {
+            release.countDown();
+        }
+        schedulerThread.join(TIMEOUT_MILLIS);
+        Assert.assertFalse(schedulerThread.isAlive());
+        Assert.assertEquals(executor.getPinnedCarrierCount(), 0);
+    }
+
+    @Test
+    void testPinnedCarrierCountWithBlockingTask() throws InterruptedException {
+        BlockingTaskExecutor executor = BlockingTaskExecutor.getInstance();
+        Scheduler scheduler = new Scheduler(2, false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // A blocking task which keeps running, as on a socket read, pins its carrier as well
+        FutureValue future = schedule(scheduler, () -> {
+            started.countDown();
+            while (release.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            return "done";
+        });
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        try {
+            Assert.assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            // The task runs on the carrier in the default blocking extern mode
+            awaitPinnedCarrierCount(executor, 1);
+        } finally {
+            release.countDown();
+        }
+        schedulerThread.join(TIMEOUT_MILLIS);
+        Assert.assertFalse(schedulerThread.isAlive());
+        Assert.assertEquals(future.result, "done");
+        Assert.assertEquals(executor.getPinnedCarrierCount(), 0);
+    }
+
+    /**
+     * Schedules a strand which calls an external function that runs the given task using
+     * {@link BalEnvironment#runBlocking}, in the same way as the generated code of the function does.
+     */
+    private static FutureValue schedule(Scheduler scheduler, Supplier<Object> task) {
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            if (!strand.isBlockedOnExtern()) {
+                new BalEnvironment(strand).runBlocking(task);
+                return null;
+            }
+            // The strand is resumed once the task completes
+            strand.blockedOnExtern = false;
+            if (strand.panic != null) {
+                BError panic = strand.panic;
+                strand.panic = null;
+                throw panic;
+            }
+            return strand.returnValue;
+        };
+        return scheduler.schedule(new Object[1], function, null, null, "blocking", null);
+    }
+
+    private static void awaitPinnedCarrierCount(BlockingTaskExecutor executor, int count)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (executor.getPinnedCarrierCount() != count) {
+            if (System.currentTimeMillis() > deadline) {
+                Assert.fail("pinned carrier count is " + executor.getPinnedCarrierCount() + ", expected " + count);
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // wait until the latch is released
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.util.BoundedLruCache;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link BoundedLruCache}.
+ */
+public class BoundedLruCacheTests {
+
+    @Test
+    void testSizeIsBounded() {
+        BoundedLruCache<Integer, String> cache = new BoundedLruCache<>("test_bounded_cache", 64);
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        Assert.assertTrue(cache.size() <= 64);
+        Assert.assertEquals(cache.get(9999), "9999");
+        Assert.assertNull(cache.get(0));
+    }
+
+    @Test
+    void testReusedEntriesSurviveOneOffEntries() {
+        BoundedLruCache<Integer, String> cache = new BoundedLruCache<>("test_bounded_cache", 64);
+        for (int i = 0; i < 16; i++) {
+            cache.put(i, String.valueOf(i));
+            cache.get(i);
+        }
+        for (int i = 1000; i < 20000; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        for (int i = 0; i < 16; i++) {
+            Assert.assertEquals(cache.get(i), String.valueOf(i));
+        }
+    }
+
+    @Test
+    void testHitAndMissCounts() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>("test_bounded_cache", 16);
+        Assert.assertNull(cache.get("a"));
+        cache.put("a", "b");
+        Assert.assertEquals(cache.get("a"), "b");
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    void testRemove() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>("test_bounded_cache", 16);
+        cache.put("a", "b");
+        cache.put("c", "d");
+        // Looking up an entry moves it to the protected part of its segment
+        Assert.assertEquals(cache.get("a"), "b");
+        cache.remove("a");
+        cache.remove("c");
+        cache.remove("e");
+        Assert.assertNull(cache.get("a"));
+        Assert.assertNull(cache.get("c"));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    void testClear() {
+        BoundedLruCache<String, String> cache = new BoundedLruCache<>("test_bounded_cache", 16);
+        cache.put("a", "b");
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNull(cache.get("a"));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.DecimalValueKind;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+/**
+ * Test cases for the arithmetic of {@link DecimalValue}, which is done on longs for values with a small precision.
+ */
+public class DecimalValueTests {
+
+    @Test
+    void testArithmeticMatchesDecimal128() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100000; i++) {
+            BigDecimal lhs = BigDecimal.valueOf(randomUnscaledValue(random), random.nextInt(12));
+            BigDecimal rhs = BigDecimal.valueOf(randomUnscaledValue(random), random.nextInt(12));
+            DecimalValue lhsValue = new DecimalValue(lhs.toString());
+            DecimalValue rhsValue = new DecimalValue(rhs.toString());
+            if (lhsValue.valueKind == DecimalValueKind.ZERO || rhsValue.valueKind == DecimalValueKind.ZERO) {
+                continue;
+            }
+            Assert.assertEquals(lhsValue.add(rhsValue).value(), lhs.add(rhs, MathContext.DECIMAL128));
+            Assert.assertEquals(lhsValue.subtract(rhsValue).value(), lhs.subtract(rhs, MathContext.DECIMAL128));
+            Assert.assertEquals(lhsValue.multiply(rhsValue).value(), lhs.multiply(rhs, MathContext.DECIMAL128));
+            Assert.assertEquals(lhsValue.compareTo(rhsValue), lhs.compareTo(rhs));
+        }
+    }
+
+    @Test
+    void testSumOfAmounts() {
+        DecimalValue sum = new DecimalValue("0");
+        DecimalValue amount = new DecimalValue("0.01");
+        for (int i = 0; i < 1000; i++) {
+            sum = sum.add(amount);
+        }
+        Assert.assertEquals(sum.toString(), "10.00");
+        Assert.assertEquals(sum.subtract(new DecimalValue("10")).toString(), "0");
+        Assert.assertEquals(sum.subtract(new DecimalValue("10")).valueKind, DecimalValueKind.ZERO);
+        Assert.assertEquals(sum.negate().toString(), "-10.00");
+        Assert.assertEquals(sum, new DecimalValue("10"));
+        Assert.assertEquals(DecimalValue.valueOf(10L).toString(), "10.0");
+    }
+
+    @Test
+    void testOverflowToBigDecimal() {
+        DecimalValue large = new DecimalValue("999999999999999999.99");
+        Assert.assertEquals(large.add(large).toString(), "1999999999999999999.98");
+        Assert.assertEquals(large.multiply(large).toString(), "9.999999999999999999800000000000000E+35");
+        DecimalValue small = new DecimalValue("0.000000000000000000000000000001");
+        Assert.assertEquals(small.multiply(small).value(), new BigDecimal("1E-60"));
+        Assert.assertEquals(large.add(small).toString(), "999999999999999999.9900000000000000");
+    }
+
+    private static long randomUnscaledValue(Random random) {
+        switch (random.nextInt(3)) {
+            case 0:
+                return random.nextInt(200000) - 100000;
+            case 1:
+                return random.nextLong() % 1000000000000L;
+            default:
+                return random.nextLong() % 1000000000000000000L;
+        }
+    }
+}
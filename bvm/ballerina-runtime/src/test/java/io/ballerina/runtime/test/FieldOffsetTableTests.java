@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.internal.values.FieldOffsetTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the {@link FieldOffsetTable} which maps the declared fields of a record type to their offsets.
+ */
+public class FieldOffsetTableTests {
+
+    @Test
+    void testDeclaredFields() {
+        FieldOffsetTable table = new FieldOffsetTable(new String[]{"name", "age", "address"});
+        Assert.assertEquals(table.size(), 3);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("name")), 0);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("age")), 1);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("address")), 2);
+        Assert.assertEquals(table.getKey(1).getValue(), "age");
+    }
+
+    @Test
+    void testUndeclaredFields() {
+        FieldOffsetTable table = new FieldOffsetTable(new String[]{"name"});
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("age")), -1);
+        Assert.assertEquals(table.getOffset("name"), -1);
+        Assert.assertEquals(table.getOffset(null), -1);
+        Assert.assertEquals(new FieldOffsetTable(new String[0]).getOffset(StringUtils.fromString("name")), -1);
+    }
+
+    @Test
+    void testCollidingNames() {
+        // "Aa" and "BB" have the same hash code, so the second name is found by probing
+        FieldOffsetTable table = new FieldOffsetTable(new String[]{"Aa", "BB", "AaAa", "BBBB", "AaBB"});
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("Aa")), 0);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("BB")), 1);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("AaAa")), 2);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("BBBB")), 3);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("AaBB")), 4);
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("BBAa")), -1);
+    }
+
+    @Test
+    void testManyFields() {
+        int count = 1500;
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = "field" + i;
+        }
+        FieldOffsetTable table = new FieldOffsetTable(names);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(table.getOffset(StringUtils.fromString(names[i])), i);
+            Assert.assertEquals(table.getKey(i).getValue(), names[i]);
+        }
+        Assert.assertEquals(table.getOffset(StringUtils.fromString("field" + count)), -1);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonSerializer;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for serializing values to JSON using {@link JsonSerializer}.
+ */
+public class JsonSerializerTests {
+
+    @Test
+    void testSerializeIntAndFloatArrays() {
+        BArray ints = ValueCreator.createArrayValue(new long[]{0, -7, 1234567890123L, Long.MIN_VALUE, Long.MAX_VALUE});
+        Assert.assertEquals(JsonSerializer.toJsonString(ints),
+                "[0, -7, 1234567890123, -9223372036854775808, 9223372036854775807]");
+        BArray floats = ValueCreator.createArrayValue(new double[]{1.5, -0.0, 1e21, Double.NaN});
+        Assert.assertEquals(JsonSerializer.toJsonString(floats), "[1.5, -0.0, 1.0E21, NaN]");
+        Assert.assertEquals(JsonSerializer.toJsonString(ValueCreator.createArrayValue(new long[0])), "[]");
+    }
+
+    @Test
+    void testSerializeMap() {
+        BMap<BString, Object> map = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANY));
+        map.put(StringUtils.fromString("s"), StringUtils.fromString("caf\u00E9 \uD83D\uDE00"));
+        map.put(StringUtils.fromString("d"), new DecimalValue("12.50"));
+        map.put(StringUtils.fromString("b"), true);
+        map.put(StringUtils.fromString("n"), null);
+        map.put(StringUtils.fromString("y"), 200);
+        BMap<BString, Object> empty = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        map.put(StringUtils.fromString("m"), empty);
+        map.put(StringUtils.fromString("l"), ValueCreator.createArrayValue(
+                new BString[]{StringUtils.fromString("x"), StringUtils.fromString("y")}));
+        String expected = "{\"s\":\"caf\u00E9 \uD83D\uDE00\", \"d\":12.50, \"b\":true, \"n\":null, \"y\":200, " +
+                "\"m\":{}, \"l\":[\"x\", \"y\"]}";
+        Assert.assertEquals(JsonSerializer.toJsonString(map), expected);
+        Assert.assertEquals(JsonSerializer.toJsonString(map),
+                ((MapValueImpl<?, ?>) JsonUtils.convertToJson(map)).getJSONString());
+        Assert.assertEquals(JsonSerializer.toJsonBytes(map), expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSerializeEscapedStrings() {
+        BArray strings = ValueCreator.createArrayValue(new BString[]{
+                StringUtils.fromString("a/b"), StringUtils.fromString("a\"/\\\b\f\n\r\t"),
+                StringUtils.fromString("\f\u0001"), StringUtils.fromString("\uD83D")});
+        // Same as JsonGenerator, strings without any of the characters it checks for are written without escaping
+        Assert.assertEquals(JsonSerializer.toJsonString(strings),
+                "[\"a/b\", \"a\\\"\\/\\\\\\b\\f\\n\\r\\t\", \"\f\u0001\", \"?\"]");
+    }
+
+    @Test
+    void testSerializeToOutputStream() throws IOException {
+        BMap<BString, Object> map = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_FLOAT));
+        map.put(StringUtils.fromString("na\"me"), 2.0);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonSerializer.serialize(map, outputStream);
+        Assert.assertEquals(outputStream.toString(StandardCharsets.UTF_8), "{\"na\\\"me\":2.0}");
+        Assert.assertEquals(new String(JsonSerializer.encodeFieldName("a\tb"), StandardCharsets.UTF_8),
+                "\"a\\tb\":");
+    }
+
+    @Test
+    void testSerializeCyclicValue() {
+        BArray array = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        BMap<BString, Object> map =
+                ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA));
+        map.put(StringUtils.fromString("a"), array);
+        array.append(StringUtils.fromString("x"));
+        // The same value can be reached through more than one path, as long as it does not contain itself
+        BArray list = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        list.append(array);
+        list.append(array);
+        Assert.assertEquals(JsonSerializer.toJsonString(list), "[[\"x\"], [\"x\"]]");
+
+        array.append(map);
+        BError error = Assert.expectThrows(BError.class, () -> JsonSerializer.toJsonString(map));
+        Assert.assertEquals(error.getErrorMessage().getValue(), "{ballerina/lang.value}CyclicValueReferenceError");
+    }
+}
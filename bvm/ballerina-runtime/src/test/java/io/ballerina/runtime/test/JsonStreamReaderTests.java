@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.JsonStreamReader;
+import io.ballerina.runtime.api.JsonStreamReader.Event;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * Test cases for reading JSON content incrementally using {@link JsonStreamReader}.
+ */
+public class JsonStreamReaderTests {
+
+    @Test
+    void testReadArrayElements() {
+        JsonStreamReader reader = JsonUtils.createStreamReader(
+                new StringReader(" [1, {\"a\": [true, null]} ,\"x\", 2.5 ] "));
+        Assert.assertTrue(reader.hasNext());
+        Assert.assertEquals(reader.next(), 1L);
+        BMap<BString, Object> map = (BMap<BString, Object>) reader.next();
+        Assert.assertEquals(((BArray) map.get(StringUtils.fromString("a"))).size(), 2);
+        Assert.assertEquals(reader.next().toString(), "x");
+        Assert.assertEquals(reader.next(), new DecimalValue("2.5"));
+        Assert.assertFalse(reader.hasNext());
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test
+    void testReadEvents() {
+        JsonStreamReader reader = JsonUtils.createStreamReader(
+                new StringReader("{\"a\": [1, \"s\\u0041\"], \"b\": null, \"c\": {}}"));
+        Assert.assertEquals(reader.nextEvent(), Event.START_OBJECT);
+        Assert.assertEquals(reader.nextEvent(), Event.FIELD_NAME);
+        Assert.assertEquals(reader.getText(), "a");
+        Assert.assertEquals(reader.nextEvent(), Event.START_ARRAY);
+        Assert.assertEquals(reader.nextEvent(), Event.NUMBER);
+        Assert.assertEquals(reader.getText(), "1");
+        Assert.assertEquals(reader.nextEvent(), Event.STRING);
+        Assert.assertEquals(reader.getText(), "sA");
+        Assert.assertEquals(reader.nextEvent(), Event.END_ARRAY);
+        Assert.assertEquals(reader.nextEvent(), Event.FIELD_NAME);
+        Assert.assertEquals(reader.nextEvent(), Event.NULL);
+        Assert.assertEquals(reader.nextEvent(), Event.FIELD_NAME);
+        Assert.assertEquals(reader.getText(), "c");
+        Assert.assertEquals(reader.nextEvent(), Event.START_OBJECT);
+        Assert.assertEquals(reader.nextEvent(), Event.END_OBJECT);
+        Assert.assertEquals(reader.nextEvent(), Event.END_OBJECT);
+        Assert.assertEquals(reader.nextEvent(), Event.END_DOCUMENT);
+    }
+
+    @Test
+    void testReadValueOfField() {
+        JsonStreamReader reader = JsonUtils.createStreamReader(new StringReader("{\"id\": 7, \"items\": [[1, 2], [3]]}"));
+        Assert.assertEquals(reader.nextEvent(), Event.START_OBJECT);
+        Assert.assertEquals(reader.nextEvent(), Event.FIELD_NAME);
+        Assert.assertEquals(reader.readValue(PredefinedTypes.TYPE_INT), 7L);
+        Assert.assertEquals(reader.nextEvent(), Event.FIELD_NAME);
+        Assert.assertEquals(reader.nextEvent(), Event.START_ARRAY);
+        Assert.assertTrue(reader.hasNextElement());
+        Assert.assertEquals(((BArray) reader.readValue(PredefinedTypes.TYPE_JSON)).size(), 2);
+        Assert.assertTrue(reader.hasNextElement());
+        Assert.assertEquals(((BArray) reader.readValue(PredefinedTypes.TYPE_JSON)).size(), 1);
+        Assert.assertFalse(reader.hasNextElement());
+        Assert.assertEquals(reader.nextEvent(), Event.END_OBJECT);
+        Assert.assertEquals(reader.nextEvent(), Event.END_DOCUMENT);
+    }
+
+    @Test
+    void testReadUnboundedArray() {
+        // The content never ends, so the elements can only be read if the whole content is not read up front.
+        JsonStreamReader reader = JsonUtils.createStreamReader(new UnboundedArrayReader(),
+                PredefinedTypes.TYPE_INT);
+        for (long i = 0; i < 100000; i++) {
+            Assert.assertTrue(reader.hasNext());
+            Assert.assertEquals(reader.next(), i);
+        }
+    }
+
+    @Test
+    void testReadInvalidContent() {
+        JsonStreamReader reader = JsonUtils.createStreamReader(new StringReader("[1, 2] 3"));
+        Assert.assertEquals(reader.next(), 1L);
+        Assert.assertEquals(reader.next(), 2L);
+        BError error = Assert.expectThrows(BError.class, reader::hasNext);
+        Assert.assertEquals(error.getMessage(), "input stream has already ended at line: 1 column: 8");
+
+        BError objectError = Assert.expectThrows(BError.class,
+                () -> JsonUtils.createStreamReader(new StringReader("{\"a\": 1}")).hasNext());
+        Assert.assertEquals(objectError.getMessage(), "expected '[' at line: 1 column: 1");
+    }
+
+    @Test
+    void testReadNumbers() {
+        JsonStreamReader reader = JsonUtils.createStreamReader(new StringReader("[0, -1, 2.50, 1e3, -0.5E-2, 7e+1]"));
+        Assert.assertEquals(reader.nextEvent(), Event.START_ARRAY);
+        for (String number : new String[]{"0", "-1", "2.50", "1e3", "-0.5E-2", "7e+1"}) {
+            Assert.assertEquals(reader.nextEvent(), Event.NUMBER);
+            Assert.assertEquals(reader.getText(), number);
+        }
+        Assert.assertEquals(reader.nextEvent(), Event.END_ARRAY);
+        Assert.assertEquals(reader.nextEvent(), Event.END_DOCUMENT);
+    }
+
+    @Test
+    void testReadInvalidNumbers() {
+        // Accepted by Double.parseDouble, but not numbers of the JSON grammar
+        for (String token : new String[]{"NaN", "Infinity", "-Infinity", "1f", "1d", "0x10", "01", "1.", ".5", "+1",
+                "1e", "1e+", "-"}) {
+            JsonStreamReader reader = JsonUtils.createStreamReader(new StringReader("[" + token + "]"));
+            Assert.assertEquals(reader.nextEvent(), Event.START_ARRAY);
+            BError error = Assert.expectThrows(BError.class, reader::nextEvent);
+            Assert.assertTrue(error.getMessage().startsWith("unrecognized token '" + token + "'"), token);
+        }
+    }
+
+    @Test
+    void testReadMaxCharacter() {
+        // U+FFFF has the same value as (char) -1, so it must not be taken as the end of the content
+        JsonStreamReader reader = JsonUtils.createStreamReader(new StringReader("[\"a\uffffb\", \"\uffff\"]"));
+        Assert.assertEquals(reader.nextEvent(), Event.START_ARRAY);
+        Assert.assertEquals(reader.nextEvent(), Event.STRING);
+        Assert.assertEquals(reader.getText(), "a\uffffb");
+        Assert.assertEquals(reader.nextEvent(), Event.STRING);
+        Assert.assertEquals(reader.getText(), "\uffff");
+        Assert.assertEquals(reader.nextEvent(), Event.END_ARRAY);
+        Assert.assertEquals(reader.nextEvent(), Event.END_DOCUMENT);
+    }
+
+    /**
+     * A reader of a JSON array of consecutive integers, which never ends.
+     */
+    private static class UnboundedArrayReader extends Reader {
+
+        private long next = 0;
+        private String pending = "[";
+        private int pendingIndex = 0;
+
+        @Override
+        public int read(char[] cbuf, int off, int len) {
+            for (int i = 0; i < len; i++) {
+                if (pendingIndex == pending.length()) {
+                    pending = next == 0 ? "0" : ", " + next;
+                    pendingIndex = 0;
+                    next++;
+                }
+                cbuf[off + i] = pending.charAt(pendingIndex++);
+            }
+            return len;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
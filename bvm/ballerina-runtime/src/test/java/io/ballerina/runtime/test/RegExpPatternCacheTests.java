@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for {@link RegExpPatternCache}.
+ */
+public class RegExpPatternCacheTests {
+
+    @Test
+    void testPatternReusedForSameValue() {
+        RegExpValue regExp = RegExpFactory.parse("[a-z]+[0-9]*");
+        Pattern pattern = RegExpPatternCache.getPattern(regExp);
+        long hits = RegExpPatternCache.getHitCount();
+        long misses = RegExpPatternCache.getMissCount();
+        // The pattern kept in the value is used without a cache lookup
+        Assert.assertSame(RegExpPatternCache.getPattern(regExp), pattern);
+        Assert.assertEquals(RegExpPatternCache.getHitCount(), hits);
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), misses);
+    }
+
+    @Test
+    void testPatternReusedForEqualLiteral() {
+        Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("x.y"));
+        long misses = RegExpPatternCache.getMissCount();
+        Assert.assertSame(RegExpPatternCache.getPattern(RegExpFactory.parse("x.y")), pattern);
+        Assert.assertEquals(RegExpPatternCache.getMissCount(), misses);
+    }
+
+    @Test
+    void testTranslatedPattern() {
+        Pattern pattern = RegExpPatternCache.getPattern(RegExpFactory.parse("a.b"));
+        Assert.assertTrue(pattern.matcher("a-b").matches());
+        Assert.assertFalse(pattern.matcher("a\nb").matches());
+    }
+}
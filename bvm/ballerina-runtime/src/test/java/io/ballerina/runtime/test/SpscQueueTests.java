@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.SpscQueue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for the {@link SpscQueue} which holds the messages of a worker data channel.
+ */
+public class SpscQueueTests {
+
+    private static final long TIMEOUT_MILLIS = 30000;
+
+    @Test
+    void testEmptyQueue() {
+        SpscQueue<Integer> queue = new SpscQueue<>();
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.peek());
+        Assert.assertNull(queue.poll());
+
+        queue.offer(1);
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertEquals(queue.peek(), Integer.valueOf(1));
+        Assert.assertEquals(queue.poll(), Integer.valueOf(1));
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    void testOrderAcrossChunks() {
+        SpscQueue<Integer> queue = new SpscQueue<>();
+        int count = 1000;
+        for (int i = 0; i < count; i++) {
+            queue.offer(i);
+        }
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(queue.peek(), Integer.valueOf(i));
+            Assert.assertEquals(queue.poll(), Integer.valueOf(i));
+        }
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testWrapAround() {
+        // Batches of sizes which are not multiples of the chunk size move the indexes across chunk boundaries at
+        // every offset, while drained chunks are handed back to the producer and reused
+        SpscQueue<Integer> queue = new SpscQueue<>();
+        int next = 0;
+        int expected = 0;
+        for (int batch = 1; batch <= 200; batch++) {
+            for (int i = 0; i < batch; i++) {
+                queue.offer(next++);
+            }
+            // Leave one element behind, so that the consumer lags behind the producer by a chunk at times
+            for (int i = 0; i < batch - 1; i++) {
+                Assert.assertEquals(queue.poll(), Integer.valueOf(expected++));
+            }
+            Assert.assertFalse(queue.isEmpty());
+        }
+        while (!queue.isEmpty()) {
+            Assert.assertEquals(queue.poll(), Integer.valueOf(expected++));
+        }
+        Assert.assertEquals(expected, next);
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    void testConcurrentProducerAndConsumer() throws InterruptedException {
+        SpscQueue<Integer> queue = new SpscQueue<>();
+        int count = 1_000_000;
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            int expected = 0;
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (expected < count) {
+                Integer element = queue.poll();
+                if (element == null) {
+                    if (System.currentTimeMillis() > deadline) {
+                        failure.set("timed out after " + expected + " elements");
+                        return;
+                    }
+                    Thread.onSpinWait();
+                } else if (element != expected) {
+                    failure.set("expected " + expected + ", found " + element);
+                    return;
+                } else {
+                    expected++;
+                }
+            }
+        });
+        consumer.setDaemon(true);
+        consumer.start();
+        for (int i = 0; i < count; i++) {
+            queue.offer(i);
+            if (i % 1000 == 0) {
+                // Let the consumer catch up now and then, so that chunks are drained and reused
+                Thread.yield();
+            }
+        }
+        consumer.join(TIMEOUT_MILLIS);
+        Assert.assertFalse(consumer.isAlive());
+        Assert.assertNull(failure.get());
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
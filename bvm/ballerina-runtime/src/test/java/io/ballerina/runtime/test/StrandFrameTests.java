@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.FunctionFrame;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for reusing the frames of yielding functions released by a {@link Strand}.
+ */
+public class StrandFrameTests {
+
+    @Test
+    void testReuseReleasedFrame() {
+        Strand strand = new Strand();
+        Assert.assertNull(strand.getFreeFrame(FooFrame.class));
+
+        FooFrame frame = new FooFrame();
+        strand.releaseFrame(frame);
+        Assert.assertNull(strand.getFreeFrame(BarFrame.class));
+        Assert.assertSame(strand.getFreeFrame(FooFrame.class), frame);
+        // A frame is only reused once until it is released again
+        Assert.assertNull(strand.getFreeFrame(FooFrame.class));
+    }
+
+    @Test
+    void testReuseReleasedFramesOfSameClass() {
+        Strand strand = new Strand();
+        FooFrame firstFrame = new FooFrame();
+        FooFrame secondFrame = new FooFrame();
+        BarFrame barFrame = new BarFrame();
+        strand.releaseFrame(firstFrame);
+        strand.releaseFrame(barFrame);
+        strand.releaseFrame(secondFrame);
+
+        Assert.assertSame(strand.getFreeFrame(FooFrame.class), secondFrame);
+        Assert.assertSame(strand.getFreeFrame(FooFrame.class), firstFrame);
+        Assert.assertNull(strand.getFreeFrame(FooFrame.class));
+        Assert.assertSame(strand.getFreeFrame(BarFrame.class), barFrame);
+    }
+
+    @Test
+    void testKeepFewFramesOfSameClass() {
+        Strand strand = new Strand();
+        FooFrame firstFrame = new FooFrame();
+        FooFrame secondFrame = new FooFrame();
+        strand.releaseFrame(firstFrame);
+        strand.releaseFrame(secondFrame);
+        strand.releaseFrame(new FooFrame());
+
+        Assert.assertSame(strand.getFreeFrame(FooFrame.class), secondFrame);
+        Assert.assertSame(strand.getFreeFrame(FooFrame.class), firstFrame);
+        Assert.assertNull(strand.getFreeFrame(FooFrame.class));
+    }
+
+    @Test
+    void testClearReleasedFrame() {
+        Strand strand = new Strand();
+        FooFrame frame = new FooFrame();
+        frame.value = new Object();
+        frame.yieldLocation = "foo";
+        frame.yieldStatus = "BLOCKED";
+        strand.releaseFrame(frame);
+
+        Assert.assertNull(frame.value);
+        Assert.assertNull(frame.yieldLocation);
+        Assert.assertNull(frame.yieldStatus);
+    }
+
+    @Test
+    void testDropReleasedFramesWhenDone() {
+        Strand strand = new Strand("test", null, null, null, null);
+        strand.releaseFrame(new FooFrame());
+        strand.setState(State.DONE);
+        Assert.assertNull(strand.getFreeFrame(FooFrame.class));
+    }
+
+    private static class FooFrame extends FunctionFrame {
+
+        Object value;
+
+        @Override
+        protected void clearReferences() {
+            super.clearReferences();
+            value = null;
+        }
+    }
+
+    private static class BarFrame extends FunctionFrame {
+    }
+}
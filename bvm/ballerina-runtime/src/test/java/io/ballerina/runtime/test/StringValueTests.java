@@ -1,5 +1,8 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BufferedStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +43,56 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testUnicodeIndexOf() {
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("m"), 0), Long.valueOf(2));
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("r"), 3), Long.valueOf(8));
+        Assert.assertEquals(SUBJECT.lastIndexOf(StringUtils.fromString("r"), 16), Long.valueOf(15));
+        Assert.assertEquals(SUBJECT.indexOf(StringUtils.fromString("\uD83D\uDC7D"), 0), Long.valueOf(14));
+        Assert.assertNull(SUBJECT.indexOf(StringUtils.fromString("x"), 0));
+    }
+
+    @Test
+    void testUnicodeSubstring() {
+        Assert.assertEquals(SUBJECT.substring(1, 5).getValue(), "\uD83D\uDEF8mma");
+        Assert.assertEquals(SUBJECT.substring(14, 16).getValue(), "\uD83D\uDC7Dr");
+        Assert.assertEquals(SUBJECT.substring(2, 14).length(), 12);
+    }
+
+    @Test
+    void testBufferedStringAppend() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            str = BufferedStringValue.append(str, StringUtils.fromString("item" + i));
+            expected.append("item").append(i);
+        }
+        Assert.assertTrue(str instanceof BufferedStringValue);
+        Assert.assertEquals(str.length(), expected.length());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.hashCode(), StringUtils.fromString(expected.toString()).hashCode());
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.getCodePoint(4), '0');
+    }
+
+    @Test
+    void testBufferedStringAppendToPrefix() {
+        BString prefix = BufferedStringValue.append(StringUtils.fromString("a".repeat(64)), StringUtils.fromString("b"));
+        BString first = prefix.concat(StringUtils.fromString("c"));
+        BString second = prefix.concat(StringUtils.fromString("d"));
+        Assert.assertEquals(prefix.getValue(), "a".repeat(64) + "b");
+        Assert.assertEquals(first.getValue(), "a".repeat(64) + "bc");
+        Assert.assertEquals(second.getValue(), "a".repeat(64) + "bd");
+        Assert.assertEquals(second.concat(StringUtils.fromString("e")).getValue(), "a".repeat(64) + "bde");
+    }
+
+    @Test
+    void testBufferedStringAppendNonBmp() {
+        BString str = BufferedStringValue.append(StringUtils.fromString("a".repeat(64)), StringUtils.fromString("b"));
+        BString result = BufferedStringValue.append(str, StringUtils.fromString(UNICODE_STR));
+        Assert.assertTrue(result instanceof NonBmpStringValue);
+        Assert.assertEquals(result.length(), 65 + SUBJECT.length());
+        Assert.assertEquals(result.getCodePoint(66), 0x1F6F8);
+    }
+
 }
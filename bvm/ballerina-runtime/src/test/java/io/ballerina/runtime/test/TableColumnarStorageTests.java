@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for tables which store their rows in columns.
+ */
+public class TableColumnarStorageTests {
+
+    private static final Module module = new Module("myOrg", "test_module", "1.0.0");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString SCORE = StringUtils.fromString("score");
+    private static final BString ACTIVE = StringUtils.fromString("active");
+
+    private static final RecordType ROW_TYPE = createRowType();
+
+    @Test
+    void testAddGetAndRemove() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        for (long i = 0; i < 100; i++) {
+            table.add(createRow(i, "name" + i, i * 0.5, i % 2 == 0));
+        }
+        Assert.assertEquals(table.size(), 100);
+
+        BMap<BString, Object> row = table.get(42L);
+        Assert.assertTrue(TypeChecker.isEqual(row, createRow(42, "name42", 21.0, true)));
+        Assert.assertTrue(row.isFrozen());
+        Assert.assertSame(row.getType(), ROW_TYPE);
+        Assert.assertNull(table.get(100L));
+
+        for (long i = 0; i < 100; i += 3) {
+            Assert.assertNotNull(table.remove(i));
+        }
+        Assert.assertNull(table.remove(0L));
+        Assert.assertEquals(table.size(), 66);
+        Assert.assertFalse(table.containsKey(3L));
+        Assert.assertTrue(table.containsKey(4L));
+        Assert.assertEquals(table.getNextKey(), 100L);
+
+        List<BMap<BString, Object>> values = List.copyOf(table.values());
+        Assert.assertEquals(values.get(0).get(ID), 1L);
+        Assert.assertEquals(values.get(1).get(ID), 2L);
+        Assert.assertEquals(values.get(2).get(ID), 4L);
+        Assert.assertEquals(table.getKeys()[2], 4L);
+    }
+
+    @Test
+    void testRowIdentity() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        BMap<BString, Object> row = createRow(1, "a", 1.0, true);
+        table.add(row);
+        Assert.assertSame(table.get(1L), row);
+        BArray entry = (BArray) table.getIterator().next();
+        Assert.assertSame(entry.get(1), row);
+    }
+
+    @Test
+    void testAddDuringIteration() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        for (long i = 0; i < 16; i++) {
+            table.add(createRow(i, "name" + i, i, true));
+        }
+        for (long i = 0; i < 10; i++) {
+            table.remove(i);
+        }
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 10L);
+        Assert.assertEquals(nextId(iterator), 11L);
+
+        // Reuses the space of the removed rows, moving the remaining rows.
+        for (long i = 16; i < 20; i++) {
+            table.add(createRow(i, "name" + i, i, true));
+        }
+        for (long i = 12; i < 20; i++) {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(nextId(iterator), i);
+        }
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testFallbackToRowStorageDuringIteration() {
+        RecordType mutableType = TypeCreator.createRecordType("MutableRow", module, 0, createFields(0), null, true,
+                0);
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable(mutableType, "id");
+        for (long i = 0; i < 5; i++) {
+            table.add(createRow(i, "name" + i, i, true));
+        }
+        table.remove(1L);
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 0L);
+        Assert.assertEquals(nextId(iterator), 2L);
+
+        table.add((BMap<BString, Object>) ValueCreator.createMapValue(mutableType,
+                createInitialValues(5, "e", 5.0, false)));
+        for (long i = 3; i < 6; i++) {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(nextId(iterator), i);
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Assert.expectThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testNextAfterLastRow() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        table.add(createRow(1, "a", 1.0, true));
+        table.add(createRow(2, "b", 2.0, false));
+        table.remove(2L);
+        BIterator<?> iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 1L);
+        Assert.assertFalse(iterator.hasNext());
+        Assert.expectThrows(NoSuchElementException.class, iterator::next);
+        Assert.expectThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void testDuplicateKey() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        table.add(createRow(1, "a", 1.0, true));
+        BError error = Assert.expectThrows(BError.class, () -> table.add(createRow(1, "b", 2.0, false)));
+        Assert.assertEquals(error.getMessage(), "{ballerina/lang.table}KeyConstraintViolation");
+        Assert.assertEquals(table.size(), 1);
+    }
+
+    @Test
+    void testPutReplacesRowInPlace() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        table.add(createRow(1, "a", 1.0, true));
+        table.add(createRow(2, "b", 2.0, true));
+        table.put(createRow(1, "c", 3.0, false));
+        table.put(3L, createRow(3, "d", 4.0, false));
+
+        Assert.assertEquals(table.size(), 3);
+        List<BMap<BString, Object>> values = List.copyOf(table.values());
+        Assert.assertEquals(values.get(0).get(NAME).toString(), "c");
+        Assert.assertEquals(values.get(0).get(ACTIVE), false);
+        Assert.assertEquals(values.get(2).get(SCORE), 4.0);
+        Assert.expectThrows(BError.class, () -> table.put(4L, createRow(5, "e", 5.0, true)));
+    }
+
+    @Test
+    void testMultipleFieldKey() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id", "name");
+        table.add(createRow(1, "a", 1.0, true));
+        table.add(createRow(1, "b", 2.0, true));
+        table.add(createRow(2, "a", -0.0, false));
+
+        Type keyType = table.getKeyType();
+        Assert.assertEquals(table.get(createKey(keyType, 1, "b")).get(SCORE), 2.0);
+        Assert.assertTrue(TypeChecker.isEqual(table.getKeys()[2], createKey(keyType, 2, "a")));
+
+        BArray entry = (BArray) table.getIterator().next();
+        Assert.assertTrue(TypeChecker.isEqual(entry.get(0), createKey(keyType, 1, "a")));
+    }
+
+    @Test
+    void testFallbackToRowStorage() {
+        RecordType mutableType = TypeCreator.createRecordType("MutableRow", module, 0, createFields(0), null, true,
+                0);
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable(mutableType, "id");
+        table.add(createRow(1, "a", 1.0, true));
+        table.add(createRow(2, "b", 2.0, true));
+        table.remove(1L);
+
+        // A mutable row cannot be stored in columns.
+        table.add((BMap<BString, Object>) ValueCreator.createMapValue(mutableType,
+                createInitialValues(3, "c", 3.0, false)));
+
+        Assert.assertEquals(table.size(), 2);
+        Assert.assertEquals(table.get(2L).get(NAME).toString(), "b");
+        Assert.assertEquals(table.get(3L).get(NAME).toString(), "c");
+        Assert.assertEquals(table.getNextKey(), 4L);
+        Assert.assertEquals(table.getKeys()[0], 2L);
+    }
+
+    @Test
+    void testStringValue() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable("id");
+        table.add(createRow(1, "a", 1.5, true));
+        table.add(createRow(2, "b", 2.5, false));
+        Assert.assertEquals(table.stringValue(null),
+                "[{\"id\":1,\"name\":\"a\",\"score\":1.5,\"active\":true}," +
+                        "{\"id\":2,\"name\":\"b\",\"score\":2.5,\"active\":false}]");
+    }
+
+    private static Object nextId(BIterator<?> iterator) {
+        BArray entry = (BArray) iterator.next();
+        return ((BMap<?, ?>) entry.get(1)).get(ID);
+    }
+
+    private static TableValueImpl<Object, BMap<BString, Object>> createTable(String... keyFieldNames) {
+        return createTable(ROW_TYPE, keyFieldNames);
+    }
+
+    private static TableValueImpl<Object, BMap<BString, Object>> createTable(Type rowType, String... keyFieldNames) {
+        TableType tableType = TypeCreator.createTableType(rowType, keyFieldNames, false);
+        return new TableValueImpl<>(tableType, true);
+    }
+
+    private static RecordType createRowType() {
+        return TypeCreator.createRecordType("Row", module, SymbolFlags.READONLY, createFields(SymbolFlags.READONLY),
+                null, true, 0);
+    }
+
+    private static Map<String, Field> createFields(long flags) {
+        long fieldFlags = flags | SymbolFlags.REQUIRED;
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", fieldFlags));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", fieldFlags));
+        fields.put("score", TypeCreator.createField(PredefinedTypes.TYPE_FLOAT, "score", fieldFlags));
+        fields.put("active", TypeCreator.createField(PredefinedTypes.TYPE_BOOLEAN, "active", fieldFlags));
+        return fields;
+    }
+
+    private static BMap<BString, Object> createRow(long id, String name, double score, boolean active) {
+        return ValueCreator.createMapValue(ROW_TYPE, createInitialValues(id, name, score, active));
+    }
+
+    private static BMapInitialValueEntry[] createInitialValues(long id, String name, double score, boolean active) {
+        return new BMapInitialValueEntry[]{
+                ValueCreator.createKeyFieldEntry(ID, id),
+                ValueCreator.createKeyFieldEntry(NAME, StringUtils.fromString(name)),
+                ValueCreator.createKeyFieldEntry(SCORE, score),
+                ValueCreator.createKeyFieldEntry(ACTIVE, active)
+        };
+    }
+
+    private static BArray createKey(Type keyType, long id, String name) {
+        BArray key = ValueCreator.createTupleValue((TupleType) keyType);
+        key.add(0, id);
+        key.add(1, StringUtils.fromString(name));
+        return key;
+    }
+}
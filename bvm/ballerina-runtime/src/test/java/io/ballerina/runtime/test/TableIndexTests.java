@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Test cases for the secondary indexes of tables.
+ */
+public class TableIndexTests {
+
+    private static final Module module = new Module("myOrg", "test_module", "1.0.0");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString SCORE = StringUtils.fromString("score");
+
+    private static final RecordType ROW_TYPE = createRowType();
+
+    @Test
+    void testHashIndex() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable();
+        for (long i = 0; i < 20; i++) {
+            table.add(createRow(i, "name" + (i % 3), (double) i));
+        }
+        Assert.assertTrue(table.addIndex(NAME, false));
+        Assert.assertTrue(table.hasIndex(NAME, false));
+        Assert.assertFalse(table.hasIndex(NAME, true));
+        Assert.assertEquals(getIds(table.getIndexedValues(NAME, StringUtils.fromString("name1"))),
+                List.of(1L, 4L, 7L, 10L, 13L, 16L, 19L));
+
+        // The index is kept up to date when the table is modified.
+        table.remove(4L);
+        table.put(createRow(7L, "other", 7.0));
+        table.add(createRow(20L, "name1", 20.0));
+        Assert.assertEquals(getIds(table.getIndexedValues(NAME, StringUtils.fromString("name1"))),
+                List.of(1L, 10L, 13L, 16L, 19L, 20L));
+        Assert.assertEquals(getIds(table.getIndexedValues(NAME, StringUtils.fromString("other"))), List.of(7L));
+        Assert.assertTrue(table.getIndexedValues(NAME, StringUtils.fromString("none")).isEmpty());
+
+        table.clear();
+        Assert.assertTrue(table.getIndexedValues(NAME, StringUtils.fromString("name1")).isEmpty());
+    }
+
+    @Test
+    void testIndexSnapshot() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable();
+        for (long i = 0; i < 6; i++) {
+            table.add(createRow(i, "name" + (i % 2), (double) i));
+        }
+        Assert.assertTrue(table.addIndex(NAME, false));
+        Function<Object, List<BMap<BString, Object>>> snapshot = table.getIndexSnapshot(NAME);
+
+        // The snapshot is not affected by later updates of the table.
+        table.remove(2L);
+        table.add(createRow(6L, "name0", 6.0));
+        Assert.assertEquals(getIds(snapshot.apply(StringUtils.fromString("name0"))), List.of(0L, 2L, 4L));
+        Assert.assertEquals(getIds(table.getIndexedValues(NAME, StringUtils.fromString("name0"))),
+                List.of(0L, 4L, 6L));
+        Assert.assertTrue(snapshot.apply(StringUtils.fromString("name2")).isEmpty());
+    }
+
+    @Test
+    void testHashIndexOnFloatField() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable();
+        table.add(createRow(1L, "a", 0.0));
+        table.add(createRow(2L, "b", -0.0));
+        table.add(createRow(3L, "c", Double.NaN));
+        table.addIndex(SCORE, false);
+        Assert.assertEquals(getIds(table.getIndexedValues(SCORE, 0.0)), List.of(1L, 2L));
+        Assert.assertEquals(getIds(table.getIndexedValues(SCORE, Double.NaN)), List.of(3L));
+    }
+
+    @Test
+    void testSortedIndex() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable();
+        for (long i = 0; i < 20; i++) {
+            table.add(createRow(i, "name" + i, (double) (i % 5)));
+        }
+        table.addIndex(SCORE, true);
+        Assert.assertEquals(getIds(table.getIndexedValues(SCORE, 3.0, true, null, false)),
+                List.of(3L, 4L, 8L, 9L, 13L, 14L, 18L, 19L));
+        Assert.assertEquals(getIds(table.getIndexedValues(SCORE, null, false, 1.0, false)),
+                List.of(0L, 5L, 10L, 15L));
+        Assert.assertEquals(getIds(table.getIndexedValues(SCORE, 1.0, false, 3.0, false)),
+                List.of(2L, 7L, 12L, 17L));
+        Assert.assertTrue(table.getIndexedValues(SCORE, 3.0, false, 1.0, false).isEmpty());
+
+        // NaN is not ordered, hence it is a candidate for every range.
+        table.add(createRow(20L, "name20", Double.NaN));
+        table.remove(0L);
+        Assert.assertEquals(getIds(table.getIndexedValues(SCORE, null, false, 0.0, true)),
+                List.of(5L, 10L, 15L, 20L));
+    }
+
+    @Test
+    void testIndexOnColumnarTable() {
+        TableType tableType = TypeCreator.createTableType(ROW_TYPE, new String[]{"id"}, false);
+        TableValueImpl<Object, BMap<BString, Object>> table = new TableValueImpl<>(tableType, true);
+        for (long i = 0; i < 10; i++) {
+            table.add(createRow(i, "name" + (i % 2), (double) i));
+        }
+        table.addIndex(NAME, false);
+        table.add(createRow(10L, "name0", 10.0));
+        Assert.assertEquals(getIds(table.getIndexedValues(NAME, StringUtils.fromString("name0"))),
+                List.of(0L, 2L, 4L, 6L, 8L, 10L));
+    }
+
+    @Test
+    void testNoIndexOnMutableRows() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id",
+                SymbolFlags.READONLY | SymbolFlags.REQUIRED));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        RecordType rowType = TypeCreator.createRecordType("MutableRow", module, 0, fields, null, true, 0);
+        TableType tableType = TypeCreator.createTableType(rowType, new String[]{"id"}, false);
+        TableValueImpl<Object, BMap<BString, Object>> table = new TableValueImpl<>(tableType);
+        // A field of a row could be changed without the index being updated.
+        Assert.assertFalse(table.addIndex(NAME, false));
+        Assert.assertFalse(table.hasIndex(NAME, false));
+    }
+
+    private static List<Object> getIds(List<BMap<BString, Object>> rows) {
+        return rows.stream().map(row -> row.get(ID)).toList();
+    }
+
+    private static TableValueImpl<Object, BMap<BString, Object>> createTable() {
+        TableType tableType = TypeCreator.createTableType(ROW_TYPE, new String[]{"id"}, false);
+        return new TableValueImpl<>(tableType);
+    }
+
+    private static RecordType createRowType() {
+        long fieldFlags = SymbolFlags.READONLY | SymbolFlags.REQUIRED;
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", fieldFlags));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", fieldFlags));
+        fields.put("score", TypeCreator.createField(PredefinedTypes.TYPE_FLOAT, "score", fieldFlags));
+        return TypeCreator.createRecordType("Row", module, SymbolFlags.READONLY, fields, null, true, 0);
+    }
+
+    private static BMap<BString, Object> createRow(long id, String name, double score) {
+        return ValueCreator.createMapValue(ROW_TYPE, new BMapInitialValueEntry[]{
+                ValueCreator.createKeyFieldEntry(ID, id),
+                ValueCreator.createKeyFieldEntry(NAME, StringUtils.fromString(name)),
+                ValueCreator.createKeyFieldEntry(SCORE, score)
+        });
+    }
+}
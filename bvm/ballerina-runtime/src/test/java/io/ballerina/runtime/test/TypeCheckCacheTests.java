@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BErrorType;
+import io.ballerina.runtime.internal.types.BTypeIdSet;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test cases for caching the results of subtype checks using {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTests {
+
+    private static final Module MODULE = new Module("testorg", "test", "1");
+
+    @Test
+    void testUnionTypeCheck() {
+        Type intOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        Type intOrStringOrBoolean = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_BOOLEAN);
+        assertCachedResult(intOrString, intOrStringOrBoolean, true);
+        assertCachedResult(intOrStringOrBoolean, intOrString, false);
+        assertCachedResult(PredefinedTypes.TYPE_BOOLEAN, intOrStringOrBoolean, true);
+        assertCachedResult(PredefinedTypes.TYPE_DECIMAL, intOrStringOrBoolean, false);
+    }
+
+    @Test
+    void testRecordTypeCheck() {
+        Type intOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        RecordType intRecord = TypeCreator.createRecordType("IntRecord", MODULE, 0,
+                Map.of("a", TypeCreator.createField(PredefinedTypes.TYPE_INT, "a", 0)), null, true, 0);
+        RecordType intOrStringRecord = TypeCreator.createRecordType("IntOrStringRecord", MODULE, 0,
+                Map.of("a", TypeCreator.createField(intOrString, "a", 0)), null, true, 0);
+        assertCachedResult(intRecord, intOrStringRecord, true);
+        assertCachedResult(intOrStringRecord, intRecord, false);
+        Type records = TypeCreator.createArrayType(intRecord);
+        assertCachedResult(records, TypeCreator.createArrayType(intOrStringRecord), true);
+        assertCachedResult(records, TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA), false);
+    }
+
+    @Test
+    void testResultsDroppedWhenTypeChanges() {
+        BUnionType intOrString = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING);
+        Type intOrStringOrBoolean = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_BOOLEAN);
+        assertCachedResult(intOrString, intOrStringOrBoolean, true);
+        intOrString.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                PredefinedTypes.TYPE_DECIMAL});
+        Assert.assertFalse(TypeChecker.checkIsType(intOrString, intOrStringOrBoolean));
+    }
+
+    @Test
+    void testErrorTypeIds() {
+        Type detailType = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+        BErrorType sourceType = (BErrorType) TypeCreator.createErrorType("SourceError", MODULE, detailType);
+        BErrorType targetType = (BErrorType) TypeCreator.createErrorType("TargetError", MODULE, detailType);
+        targetType.setTypeIdSet(createTypeIdSet("TargetError"));
+        sourceType.setTypeIdSet(createTypeIdSet("OtherError"));
+        Type intOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        Type intOrStringOrBoolean = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_BOOLEAN);
+        assertCachedResult(intOrString, intOrStringOrBoolean, true);
+
+        // Changing the type ids of an error type which already has type ids neither invalidates the cache nor leaves
+        // a stale result behind.
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        sourceType.setTypeIdSet(createTypeIdSet("TargetError"));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        sourceType.setTypeIdSet(createTypeIdSet("OtherError"));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        long hitCount = TypeCheckCache.getHitCount();
+        Assert.assertTrue(TypeChecker.checkIsType(intOrString, intOrStringOrBoolean));
+        Assert.assertTrue(TypeCheckCache.getHitCount() > hitCount);
+    }
+
+    @Test
+    void testResultsDroppedWhenErrorTypeBecomesDistinct() {
+        Type detailType = TypeCreator.createMapType(PredefinedTypes.TYPE_ANYDATA);
+        BErrorType sourceType = (BErrorType) TypeCreator.createErrorType("SourceError", MODULE, detailType);
+        BErrorType targetType = (BErrorType) TypeCreator.createErrorType("TargetError", MODULE, detailType);
+        Type sourceUnion = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, sourceType);
+        Type targetUnion = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, targetType);
+        assertCachedResult(sourceUnion, targetUnion, true);
+        targetType.setTypeIdSet(createTypeIdSet("TargetError"));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceUnion, targetUnion));
+    }
+
+    private static BTypeIdSet createTypeIdSet(String name) {
+        BTypeIdSet typeIdSet = new BTypeIdSet();
+        typeIdSet.add(MODULE, name, true);
+        return typeIdSet;
+    }
+
+    private static void assertCachedResult(Type sourceType, Type targetType, boolean expected) {
+        long missCount = TypeCheckCache.getMissCount();
+        Assert.assertEquals(TypeChecker.checkIsType(sourceType, targetType), expected);
+        Assert.assertTrue(TypeCheckCache.getMissCount() > missCount);
+        long hitCount = TypeCheckCache.getHitCount();
+        Assert.assertEquals(TypeChecker.checkIsType(sourceType, targetType), expected);
+        Assert.assertTrue(TypeCheckCache.getHitCount() > hitCount);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.TypeTestCallSite;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Test cases for the type tests and type casts done through the call sites created by {@link TypeTestCallSite}.
+ */
+public class TypeTestCallSiteTests {
+
+    @Test
+    void testTypeTest() throws Throwable {
+        MethodHandle typeTest = TypeTestCallSite.bootstrapTypeTest(MethodHandles.lookup(), "checkIsType",
+                MethodType.methodType(boolean.class, Object.class, Type.class)).dynamicInvoker();
+        Type intOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue((boolean) typeTest.invokeExact((Object) 1L, intOrString));
+            Assert.assertTrue((boolean) typeTest.invokeExact((Object) StringUtils.fromString("a"), intOrString));
+            Assert.assertFalse((boolean) typeTest.invokeExact((Object) 1.5, intOrString));
+        }
+
+        // A mutable list does not belong to the type even if its members do, while an immutable one does
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        BArray mutableArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+        mutableArray.append(1L);
+        BArray immutableArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+        immutableArray.append(1L);
+        immutableArray.freezeDirect();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertFalse((boolean) typeTest.invokeExact((Object) mutableArray, intArray));
+            Assert.assertTrue((boolean) typeTest.invokeExact((Object) immutableArray, intArray));
+        }
+    }
+
+    @Test
+    void testMegamorphicTypeTest() throws Throwable {
+        MethodHandle typeTest = TypeTestCallSite.bootstrapTypeTest(MethodHandles.lookup(), "checkIsType",
+                MethodType.methodType(boolean.class, Object.class, Type.class)).dynamicInvoker();
+        Type intOrDecimal = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_DECIMAL);
+        Object[] values = {1L, 1.5, true, StringUtils.fromString("a"), new DecimalValue("1.5"), null, (int) 1};
+        boolean[] expected = {true, false, false, false, true, false, true};
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < values.length; j++) {
+                Assert.assertEquals((boolean) typeTest.invokeExact(values[j], intOrDecimal), expected[j]);
+            }
+        }
+    }
+
+    @Test
+    void testCast() throws Throwable {
+        MethodHandle cast = TypeTestCallSite.bootstrapCast(MethodHandles.lookup(), "checkCast",
+                MethodType.methodType(Object.class, Object.class, Type.class)).dynamicInvoker();
+        Type intOrString = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals((Object) cast.invokeExact((Object) 1L, intOrString), 1L);
+        }
+        Assert.expectThrows(BError.class, () -> cast.invoke((Object) true, intOrString));
+    }
+}
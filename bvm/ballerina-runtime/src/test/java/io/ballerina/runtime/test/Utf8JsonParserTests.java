@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON content into values of a target type.
+ */
+public class Utf8JsonParserTests {
+
+    @Test
+    void testParseIntArray() {
+        StringBuilder content = new StringBuilder("[");
+        for (int i = 0; i < 40; i++) {
+            content.append(i == 0 ? "" : ", ").append(i * 1000L - 20000);
+        }
+        content.append(", 9223372036854775807]");
+        BArray array = (BArray) parse(content.toString(), TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(array.size(), 41);
+        Assert.assertEquals(array.getInt(0), -20000L);
+        Assert.assertEquals(array.getInt(39), 19000L);
+        Assert.assertEquals(array.getInt(40), Long.MAX_VALUE);
+    }
+
+    @Test
+    void testParseFloatArray() {
+        BArray array = (BArray) parse(" [1, -0, 2.5, 1e3 ] ",
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_FLOAT));
+        Assert.assertEquals(array.size(), 4);
+        Assert.assertEquals(array.getFloat(0), 1.0);
+        Assert.assertEquals(Double.doubleToLongBits(array.getFloat(1)), Double.doubleToLongBits(-0.0));
+        Assert.assertEquals(array.getFloat(2), 2.5);
+        Assert.assertEquals(array.getFloat(3), 1000.0);
+    }
+
+    @Test
+    void testParseMapOfStrings() {
+        BMap<BString, Object> map = (BMap<BString, Object>) parse(
+                "{\"a\": \"x\\ty\", \"b\\u0041\": \"caf\u00E9 \uD83D\uDE00\"}",
+                TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        Assert.assertEquals(map.size(), 2);
+        Assert.assertEquals(map.get(StringUtils.fromString("a")).toString(), "x\ty");
+        Assert.assertEquals(map.get(StringUtils.fromString("bA")).toString(), "caf\u00E9 \uD83D\uDE00");
+    }
+
+    @Test
+    void testParseJson() {
+        BMap<BString, Object> map = (BMap<BString, Object>) parse(
+                "{\"i\": 12, \"d\": 1.5, \"b\": true, \"n\": null, \"l\": [1, \"s\", {}]}", PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(map.get(StringUtils.fromString("i")), 12L);
+        Assert.assertEquals(map.get(StringUtils.fromString("d")), new DecimalValue("1.5"));
+        Assert.assertEquals(map.get(StringUtils.fromString("b")), Boolean.TRUE);
+        Assert.assertNull(map.get(StringUtils.fromString("n")));
+        BArray list = (BArray) map.get(StringUtils.fromString("l"));
+        Assert.assertEquals(list.size(), 3);
+        Assert.assertEquals(list.getRefValue(1).toString(), "s");
+    }
+
+    @Test
+    void testParseByteBuffer() {
+        byte[] content = "xx[1, 2, 3]xx".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(content, 2, 9).slice();
+        BArray array = (BArray) ValueUtils.parse(buffer, TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(array.size(), 3);
+        Assert.assertEquals(array.getInt(2), 3L);
+        Assert.assertEquals(buffer.position(), 0);
+    }
+
+    @Test
+    void testParseIntOutOfRange() {
+        BError error = Assert.expectThrows(BError.class, () -> parse("[1,\n 200]",
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_INT_SIGNED_8)));
+        Assert.assertTrue(error.getMessage().startsWith("value '200' cannot be converted to "));
+        Assert.assertTrue(error.getMessage().endsWith(" at line: 2 column: 4"));
+    }
+
+    @Test
+    void testParseInvalidDocument() {
+        BError error = Assert.expectThrows(BError.class, () -> parse("[1, 2] 3",
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_INT)));
+        Assert.assertEquals(error.getMessage(), "input stream has already ended at line: 1 column: 8");
+
+        error = Assert.expectThrows(BError.class, () -> parse("{\"a\": 1", PredefinedTypes.TYPE_JSON));
+        Assert.assertEquals(error.getMessage(), "unexpected end of the input stream at line: 1 column: 8");
+    }
+
+    private static Object parse(String content, Type targetType) {
+        return ValueUtils.parse(content.getBytes(StandardCharsets.UTF_8), targetType);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.ItemGroup;
+import io.ballerina.runtime.internal.scheduling.WorkStealingRunQueue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Test cases for taking groups from a {@link WorkStealingRunQueue} on several executor threads.
+ */
+public class WorkStealingRunQueueTests {
+
+    private static final int WORKERS = 4;
+    private static final long TIMEOUT_MILLIS = 30000;
+
+    @Test
+    void testConcurrentProducersAndConsumers() throws InterruptedException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(WORKERS);
+        Set<ItemGroup> spawning = ConcurrentHashMap.newKeySet();
+        Consumers consumers = new Consumers(queue, WORKERS, group -> {
+            if (!spawning.contains(group)) {
+                return;
+            }
+            // Work scheduled from an executor thread goes to its own deque or next slot, where it can be stolen
+            if (group.getId() % 2 == 0) {
+                queue.add(new ItemGroup());
+            } else {
+                queue.addNext(new ItemGroup());
+            }
+        });
+
+        int producerCount = 3;
+        int groupsPerProducer = 20000;
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < producerCount; i++) {
+            producers.add(startThread(() -> {
+                for (int j = 0; j < groupsPerProducer; j++) {
+                    ItemGroup group = new ItemGroup();
+                    if (j % 4 == 0) {
+                        spawning.add(group);
+                    }
+                    queue.add(group);
+                }
+            }));
+        }
+        joinAll(producers);
+
+        int expected = producerCount * groupsPerProducer + spawning.size();
+        consumers.awaitConsumed(expected);
+        consumers.shutdown();
+        Assert.assertEquals(consumers.duplicates.get(), 0);
+        Assert.assertEquals(consumers.consumed.size(), expected);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testIdleWorkersStealLocalWork() throws InterruptedException {
+        assertLocalWorkStolen(new WorkStealingRunQueue(WORKERS));
+    }
+
+    @Test
+    void testStealFromWorkersBeyondExpectedCount() throws InterruptedException {
+        // Threads which register after the expected number of workers must be steal targets as well
+        assertLocalWorkStolen(new WorkStealingRunQueue(1));
+    }
+
+    private static void assertLocalWorkStolen(WorkStealingRunQueue queue) throws InterruptedException {
+        int localGroups = 10000;
+        ItemGroup seed = new ItemGroup();
+        Set<ItemGroup> localWork = ConcurrentHashMap.newKeySet();
+        AtomicInteger stolen = new AtomicInteger();
+        CountDownLatch allStolen = new CountDownLatch(1);
+        Consumers consumers = new Consumers(queue, WORKERS, group -> {
+            if (group == seed) {
+                // Fill the deque of this worker and keep it busy, so that only the other workers can run the groups
+                for (int i = 0; i < localGroups; i++) {
+                    ItemGroup local = new ItemGroup();
+                    localWork.add(local);
+                    if (i % 100 == 0) {
+                        queue.addNext(local);
+                    } else {
+                        queue.add(local);
+                    }
+                }
+                awaitUninterruptibly(allStolen);
+            } else if (localWork.contains(group) && stolen.incrementAndGet() == localGroups) {
+                allStolen.countDown();
+            }
+        });
+
+        queue.add(seed);
+        Assert.assertTrue(allStolen.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), "stolen: " + stolen.get());
+        consumers.awaitConsumed(localGroups + 1);
+        consumers.shutdown();
+        Assert.assertEquals(consumers.duplicates.get(), 0);
+        Assert.assertEquals(stolen.get(), localGroups);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testShutdownWithPoisonPills() throws InterruptedException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(WORKERS);
+        Consumers consumers = new Consumers(queue, WORKERS, group -> { });
+        // Wait until all the workers are idle in take()
+        Thread.sleep(100);
+        int groups = 1000;
+        for (int i = 0; i < groups; i++) {
+            queue.add(new ItemGroup());
+        }
+        // Each pill stops exactly one worker, after the groups queued before it
+        consumers.shutdown();
+        Assert.assertEquals(consumers.consumed.size(), groups);
+        Assert.assertEquals(consumers.stoppedWorkers.get(), WORKERS);
+        Assert.assertEquals(consumers.duplicates.get(), 0);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testPoisonPillStopsOneWorker() throws InterruptedException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(WORKERS);
+        Consumers consumers = new Consumers(queue, WORKERS, group -> { });
+        queue.addPoisonPill();
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (consumers.stoppedWorkers.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        Assert.assertEquals(consumers.stoppedWorkers.get(), 1);
+
+        // The remaining workers still take groups
+        queue.add(new ItemGroup());
+        consumers.awaitConsumed(1);
+        for (int i = 1; i < WORKERS; i++) {
+            queue.addPoisonPill();
+        }
+        joinAll(consumers.threads);
+        Assert.assertEquals(consumers.stoppedWorkers.get(), WORKERS);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Executor threads which take groups from the queue until they take a poison pill, recording every group taken.
+     */
+    private static class Consumers {
+
+        private final WorkStealingRunQueue queue;
+        private final List<Thread> threads = new ArrayList<>();
+        private final Set<ItemGroup> consumed = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger duplicates = new AtomicInteger();
+        private final AtomicInteger stoppedWorkers = new AtomicInteger();
+
+        Consumers(WorkStealingRunQueue queue, int count, Consumer<ItemGroup> onTake) {
+            this.queue = queue;
+            for (int i = 0; i < count; i++) {
+                threads.add(startThread(() -> {
+                    while (true) {
+                        ItemGroup group;
+                        try {
+                            group = queue.take();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        if (group == ItemGroup.POISON_PILL) {
+                            stoppedWorkers.incrementAndGet();
+                            return;
+                        }
+                        onTake.accept(group);
+                        if (!consumed.add(group)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+        }
+
+        void awaitConsumed(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+            while (consumed.size() < count) {
+                if (System.currentTimeMillis() > deadline) {
+                    Assert.fail("consumed " + consumed.size() + " groups, expected " + count);
+                }
+                Thread.sleep(10);
+            }
+        }
+
+        void shutdown() throws InterruptedException {
+            for (int i = 0; i < threads.size(); i++) {
+                queue.addPoisonPill();
+            }
+            joinAll(threads);
+            Assert.assertEquals(stoppedWorkers.get(), threads.size());
+        }
+    }
+
+    private static Thread startThread(Runnable runnable) {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(TIMEOUT_MILLIS);
+            Assert.assertFalse(thread.isAlive(), thread.getName() + " did not stop");
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // wait until the latch is released
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.XmlElementReader;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for reading the elements of an XML document incrementally using {@link XmlElementReader}.
+ */
+public class XmlElementReaderTests {
+
+    @Test
+    void testReadElementsAtDepth() throws IOException {
+        String content = "<?xml version=\"1.0\"?><!-- feed --><feed><title>t</title>" +
+                "<item id=\"1\"><name>a</name><tags><tag>x</tag></tags></item>text" +
+                "<item id=\"2\"><name>b</name></item></feed>";
+        try (XmlElementReader reader = XmlUtils.createElementReader(new StringReader(content), 2)) {
+            Assert.assertTrue(reader.hasNext());
+            Assert.assertEquals(reader.next().toString(), "<title>t</title>");
+            Assert.assertTrue(reader.hasNext());
+            BXml item = reader.next();
+            Assert.assertEquals(item.getElementName(), "item");
+            Assert.assertEquals(item.toString(), "<item id=\"1\"><name>a</name><tags><tag>x</tag></tags></item>");
+            Assert.assertEquals(reader.next().toString(), "<item id=\"2\"><name>b</name></item>");
+            Assert.assertFalse(reader.hasNext());
+            Assert.assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void testReadNestedElements() throws IOException {
+        String content = "<a><b><c>1</c></b><c>2</c><b><c>3</c><c>4</c></b></a>";
+        try (XmlElementReader reader = XmlUtils.createElementReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), 3)) {
+            for (int i = 1; i <= 4; i++) {
+                if (i == 2) {
+                    // The second c element is at a depth of 2, so it is skipped
+                    continue;
+                }
+                Assert.assertTrue(reader.hasNext());
+                Assert.assertEquals(reader.next().toString(), "<c>" + i + "</c>");
+            }
+            Assert.assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void testReadElementsWithNamespaces() throws IOException {
+        String content = "<root xmlns=\"urn:a\" xmlns:p=\"urn:p\"><item>1</item><p:item>2</p:item></root>";
+        try (XmlElementReader reader = XmlUtils.createElementReader(new StringReader(content), 2)) {
+            String first = reader.next().toString();
+            Assert.assertTrue(first.contains("xmlns=\"urn:a\""), first);
+            String second = reader.next().toString();
+            Assert.assertTrue(second.contains("xmlns:p=\"urn:p\""), second);
+            Assert.assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void testReadMalformedDocument() {
+        XmlElementReader reader = XmlUtils.createElementReader(new StringReader("<a><b>1</b><b>2</a>"), 2);
+        Assert.assertEquals(reader.next().toString(), "<b>1</b>");
+        BError error = Assert.expectThrows(BError.class, reader::next);
+        Assert.assertTrue(error.getMessage().startsWith("failed to parse xml: "), error.getMessage());
+    }
+
+    @Test
+    void testReadEncodedDocument() throws IOException {
+        // The encoding is taken from the declaration, not from the default charset of the platform
+        String content = "<?xml version=\"1.0\" encoding=\"UTF-16\"?><a><b>\u00e9\u4e2d</b><b>\u00fc</b></a>";
+        try (XmlElementReader reader = XmlUtils.createElementReader(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_16)), 2)) {
+            Assert.assertEquals(reader.next().getTextValue(), "\u00e9\u4e2d");
+            Assert.assertEquals(reader.next().getTextValue(), "\u00fc");
+            Assert.assertFalse(reader.hasNext());
+        }
+
+        String utf8Content = "<a><b>\u00e9\u4e2d</b></a>";
+        try (XmlElementReader reader = XmlUtils.createElementReader(
+                new ByteArrayInputStream(utf8Content.getBytes(StandardCharsets.UTF_8)), 2)) {
+            Assert.assertEquals(reader.next().getTextValue(), "\u00e9\u4e2d");
+        }
+
+        String latinContent = "<a><b>\u00e9\u00fc</b></a>";
+        try (XmlElementReader reader = XmlUtils.createElementReader(
+                new ByteArrayInputStream(latinContent.getBytes(StandardCharsets.ISO_8859_1)), "ISO-8859-1", 2)) {
+            Assert.assertEquals(reader.next().getTextValue(), "\u00e9\u00fc");
+        }
+    }
+}
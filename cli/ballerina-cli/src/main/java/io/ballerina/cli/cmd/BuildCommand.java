@@ -163,6 +163,10 @@ public class BuildCommand implements BLauncherCmd {
             "the executable JAR file(s).")
     private Boolean remoteManagement;
 
+    @CommandLine.Option(names = "--parallel-query", description = "execute query expressions with isolated " +
+            "clauses over lists and tables in parallel.")
+    private Boolean parallelQuery;
+
     @CommandLine.Option(names = "--list-conflicted-classes",
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
@@ -311,6 +315,7 @@ public class BuildCommand implements BLauncherCmd {
                 .setObservabilityIncluded(observabilityIncluded)
                 .setCloud(cloud)
                 .setRemoteManagement(remoteManagement)
+                .setParallelQuery(parallelQuery)
                 .setDumpBir(dumpBIR)
                 .setDumpBirFile(dumpBIRFile)
                 .setDumpGraph(dumpGraph)
@@ -90,6 +90,10 @@ public class RunCommand implements BLauncherCmd {
             "executable when run is used with a source file or a module.")
     private Boolean remoteManagement;
 
+    @CommandLine.Option(names = "--parallel-query", description = "execute query expressions with isolated " +
+            "clauses over lists and tables in parallel.")
+    private Boolean parallelQuery;
+
     @CommandLine.Option(names = "--sticky", description = "stick to exact versions locked (if exists)")
     private Boolean sticky;
 
@@ -291,6 +295,7 @@ public class RunCommand implements BLauncherCmd {
                 .setTestReport(false)
                 .setObservabilityIncluded(observabilityIncluded)
                 .setRemoteManagement(remoteManagement)
+                .setParallelQuery(parallelQuery)
                 .setSticky(sticky)
                 .setDumpGraph(dumpGraph)
                 .setDumpRawGraphs(dumpRawGraphs)
@@ -109,6 +109,10 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    public boolean parallelQuery() {
+        return this.compilationOptions.parallelQuery();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -211,6 +215,7 @@ public class BuildOptions {
         buildOptionsBuilder.setExportComponentModel(compilationOptions.exportComponentModel);
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
+        buildOptionsBuilder.setParallelQuery(compilationOptions.parallelQuery);
 
         return buildOptionsBuilder.build();
     }
@@ -410,6 +415,11 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setParallelQuery(Boolean value) {
+            compilationOptionsBuilder.setParallelQuery(value);
+            return this;
+        }
+
         public BuildOptionsBuilder setShowDependencyDiagnostics(Boolean value) {
             showDependencyDiagnostics = value;
             return this;
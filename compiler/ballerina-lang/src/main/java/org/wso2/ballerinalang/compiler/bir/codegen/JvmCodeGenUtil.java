@@ -587,7 +587,8 @@ public class JvmCodeGenUtil {
     public static BirScope getLastScopeFromBBInsGen(MethodVisitor mv, LabelGenerator labelGen,
                                                     JvmInstructionGen instGen, int localVarOffset,
                                                     String funcName, BIRNode.BIRBasicBlock bb,
-                                                    Set<BirScope> visitedScopesSet, BirScope lastScope) {
+                                                    Set<BirScope> visitedScopesSet, BirScope lastScope,
+                                                    boolean skipLastIns) {
 
         int insCount = bb.instructions.size();
         for (int i = 0; i < insCount; i++) {
@@ -596,7 +597,9 @@ public class JvmCodeGenUtil {
             BIRAbstractInstruction inst = bb.instructions.get(i);
             if (inst != null) {
                 generateDiagnosticPos(inst.pos, mv);
-                instGen.generateInstructions(localVarOffset, inst);
+                if (!skipLastIns || i < insCount - 1) {
+                    instGen.generateInstructions(localVarOffset, inst);
+                }
                 lastScope = getLastScope(inst, funcName, labelGen, visitedScopesSet, lastScope, mv);
             }
         }
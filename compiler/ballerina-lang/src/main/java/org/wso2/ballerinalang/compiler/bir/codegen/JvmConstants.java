@@ -41,6 +41,7 @@ public class JvmConstants {
     // jvm runtime values related classes
     public static final String MAP_VALUE = "io/ballerina/runtime/internal/values/MapValue";
     public static final String MAP_VALUE_IMPL = "io/ballerina/runtime/internal/values/MapValueImpl";
+    public static final String FIELD_OFFSET_TABLE = "io/ballerina/runtime/internal/values/FieldOffsetTable";
     public static final String STREAM_VALUE = "io/ballerina/runtime/internal/values/StreamValue";
     public static final String TABLE_VALUE = "io/ballerina/runtime/internal/values/TableValue";
     public static final String ARRAY_VALUE = "io/ballerina/runtime/internal/values/ArrayValue";
@@ -55,6 +56,7 @@ public class JvmConstants {
     public static final String B_STRING_VALUE = "io/ballerina/runtime/api/values/BString";
     public static final String NON_BMP_STRING_VALUE = "io/ballerina/runtime/internal/values/NonBmpStringValue";
     public static final String BMP_STRING_VALUE = "io/ballerina/runtime/internal/values/BmpStringValue";
+    public static final String BUFFERED_STRING_VALUE = "io/ballerina/runtime/internal/values/BufferedStringValue";
     public static final String LONG_VALUE = "java/lang/Long";
     public static final String BYTE_VALUE = "java/lang/Byte";
     public static final String SHORT_VALUE = "java/lang/Short";
@@ -170,6 +172,7 @@ public class JvmConstants {
     public static final String TYPE_IMPL = "io/ballerina/runtime/internal/types/BType";
     public static final String MODULE = "io/ballerina/runtime/api/Module";
     public static final String CURRENT_MODULE_VAR_NAME = "$moduleName";
+    public static final String FIELD_OFFSETS_VAR_NAME = "$fieldOffsets";
     public static final String B_STRING_VAR_PREFIX = "$bString";
     public static final String LARGE_STRING_VAR_PREFIX = "$stringChunk";
     public static final String GET_SURROGATE_ARRAY_METHOD_PREFIX = "getSurrogateArray";
@@ -190,6 +193,7 @@ public class JvmConstants {
 
     // other jvm-specific classes
     public static final String TYPE_CHECKER = "io/ballerina/runtime/internal/TypeChecker";
+    public static final String TYPE_TEST_CALL_SITE = "io/ballerina/runtime/internal/TypeTestCallSite";
     public static final String SCHEDULER = "io/ballerina/runtime/internal/scheduling/Scheduler";
     public static final String JSON_UTILS = "io/ballerina/runtime/internal/JsonInternalUtils";
     public static final String STRAND_CLASS = "io/ballerina/runtime/internal/scheduling/Strand";
@@ -383,6 +387,8 @@ public class JvmConstants {
     public static final String POPULATE_CONFIG_DATA_METHOD = "$initAndPopulateConfigData";
     public static final String HANDLE_ANYDATA_VALUES = "handleAnydataValues";
     public static final String MAKE_CONCAT_WITH_CONSTANTS = "makeConcatWithConstants";
+    public static final String BOOTSTRAP_TYPE_TEST = "bootstrapTypeTest";
+    public static final String BOOTSTRAP_CAST = "bootstrapCast";
     public static final String START_OF_HEADING_WITH_SEMICOLON = ":\u0001";
     public static final String CREATE_INTEROP_ERROR_METHOD = "createInteropError";
     public static final String LAMBDA_PREFIX = "$lambda$";
@@ -27,6 +27,7 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.LabelGenerator;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JCast;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInstruction;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JLargeArrayInstruction;
@@ -132,6 +133,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIO
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BAL_ENV_CLASS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BUFFERED_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_LIST_INITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_MAPPING_INITIAL_VALUE_ENTRY;
@@ -198,6 +200,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ARRAY_AD
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ARRAY_ADD_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.BAL_ENV_PARAM;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.BOBJECT_GET;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.BSTRING_APPEND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.BSTRING_CONCAT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CHECK_IS_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.COMPARE_DECIMALS;
@@ -297,6 +300,8 @@ public class JvmInstructionGen {
     private final JvmTypeTestGen typeTestGen;
     private final Map<String, String> functions;
     private final String moduleInitClass;
+    // Temporary string variables which hold the value of a local variable, mapped to the local variable.
+    private final Map<BIRNode.BIRVariableDcl, BIRNode.BIRVariableDcl> loadedStringVars = new HashMap<>();
 
     public JvmInstructionGen(MethodVisitor mv, BIRVarToJVMIndexMap indexMap, PackageID currentPackage,
                              JvmPackageGen jvmPackageGen, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen,
@@ -699,6 +704,11 @@ public class JvmInstructionGen {
     }
 
     void generateMoveIns(BIRNonTerminator.Move moveIns) {
+        BIRNode.BIRVariableDcl rhsVarDcl = moveIns.rhsOp.variableDcl;
+        if (moveIns.lhsOp.variableDcl.kind == VarKind.TEMP && rhsVarDcl.kind != VarKind.TEMP &&
+                TypeTags.isStringTypeTag(JvmCodeGenUtil.getImpliedType(rhsVarDcl.type).tag)) {
+            loadedStringVars.put(moveIns.lhsOp.variableDcl, rhsVarDcl);
+        }
         this.loadVar(moveIns.rhsOp.variableDcl);
         this.storeToVar(moveIns.lhsOp.variableDcl);
     }
@@ -1126,8 +1136,12 @@ public class JvmInstructionGen {
         } else if (bType.tag == TypeTags.BYTE) {
             this.mv.visitInsn(IADD);
         } else if (TypeTags.isStringTypeTag(bType.tag)) {
+            if (isStringAppend(binaryIns)) {
+                this.mv.visitMethodInsn(INVOKESTATIC, BUFFERED_STRING_VALUE, "append", BSTRING_APPEND, false);
+            } else {
                 this.mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, "concat",
                                         BSTRING_CONCAT, true);
+            }
         } else if (bType.tag == TypeTags.DECIMAL) {
             this.mv.visitMethodInsn(INVOKEVIRTUAL, DECIMAL_VALUE, ADD_METHOD,
                     SET_DECIMAL_RETURN_DECIMAL, false);
@@ -1144,6 +1158,17 @@ public class JvmInstructionGen {
         this.storeToVar(binaryIns.lhsOp.variableDcl);
     }
 
+    // Checks whether the result of a string concatenation is assigned to the variable it appends to, as in `s += x`,
+    // in which case the result is likely to be appended to again.
+    private boolean isStringAppend(BIRNonTerminator.BinaryOp binaryIns) {
+        BIRNode.BIRVariableDcl lhsVarDcl = binaryIns.lhsOp.variableDcl;
+        if (lhsVarDcl.kind == VarKind.TEMP) {
+            return false;
+        }
+        BIRNode.BIRVariableDcl rhsVarDcl = binaryIns.rhsOp1.variableDcl;
+        return lhsVarDcl.equals(rhsVarDcl) || lhsVarDcl.equals(loadedStringVars.get(rhsVarDcl));
+    }
+
     private void generateSubIns(BIRNonTerminator.BinaryOp binaryIns) {
 
         BType bType = JvmCodeGenUtil.getImpliedType(binaryIns.lhsOp.variableDcl.type);
@@ -2319,6 +2344,11 @@ public class JvmInstructionGen {
                 false);
     }
 
+    public void generateTypeSwitch(List<BIRNode.BIRBasicBlock> typeTestChain, LabelGenerator labelGen,
+                                   String funcName) {
+        typeTestGen.generateTypeSwitch(typeTestChain, labelGen, funcName);
+    }
+
     void generateInstructions(int localVarOffset, BIRInstruction inst) {
         if (inst instanceof BIRNonTerminator.BinaryOp) {
             generateBinaryOpIns((BIRNonTerminator.BinaryOp) inst);
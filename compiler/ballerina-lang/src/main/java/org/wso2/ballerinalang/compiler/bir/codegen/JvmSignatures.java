@@ -47,8 +47,10 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_COD
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELD_OFFSET_TABLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FLOAT_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_PARAMETER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_TYPE_IMPL;
@@ -168,6 +170,8 @@ public class JvmSignatures {
     public static final String BOOLEAN_TO_STRING = "(Z)L" + STRING_VALUE + ";";
     public static final String BOOLEAN_VALUE_OF_METHOD = "(Z)L" + BOOLEAN_VALUE + ";";
     public static final String BSTRING_CONCAT = "(L" + B_STRING_VALUE + ";)L" + B_STRING_VALUE + ";";
+    public static final String BSTRING_APPEND = "(L" + B_STRING_VALUE + ";L" + B_STRING_VALUE + ";)L" +
+            B_STRING_VALUE + ";";
     public static final String CAST_B_MAPPING_INITIAL_VALUE_ENTRY = "[L" + B_MAPPING_INITIAL_VALUE_ENTRY + ";";
     public static final String CHECK_CAST = "(L" + OBJECT + ";L" + TYPE + ";)L" + OBJECT + ";";
     public static final String CHECK_FIELD_UPDATE = "(L" + STRING_VALUE + ";L" + OBJECT + ";)V";
@@ -177,7 +181,7 @@ public class JvmSignatures {
     public static final String COLLECTION_OP = "(L" + COLLECTION + ";)V";
     public static final String COMPARE_DECIMALS = "(L" + DECIMAL_VALUE + ";L" + DECIMAL_VALUE + ";)Z";
     public static final String COMPARE_OBJECTS = "(L" + OBJECT + ";L" + OBJECT + ";)Z";
-    public static final String CONTAINS_KEY = "(L" + STRING_VALUE + ";L" + OBJECT + ";)Z";
+    public static final String CONTAINS_KEY = "(IL" + OBJECT + ";)Z";
     public static final String CREATE_CANCELLED_FUTURE_ERROR = "()L" + ERROR_VALUE + ";";
     public static final String CREATE_ERROR =
             "(L" + STRING_VALUE + ";L" + B_STRING_VALUE + ";L" + BERROR + ";L" + OBJECT + ";)L" + BERROR + ";";
@@ -226,6 +230,9 @@ public class JvmSignatures {
     public static final String GET_BSTRING_FOR_ARRAY_INDEX = "(J)L" + JvmConstants.B_STRING_VALUE + ";";
     public static final String GET_ERROR_TYPE = "L" + ERROR_TYPE + ";";
     public static final String GET_ERROR_VALUE = "L" + ERROR_VALUE + ";";
+    public static final String GET_FIELD_KEY = "(I)L" + B_STRING_VALUE + ";";
+    public static final String GET_FIELD_OFFSET = "(L" + OBJECT + ";)I";
+    public static final String GET_FIELD_OFFSET_TABLE = "L" + FIELD_OFFSET_TABLE + ";";
     public static final String GET_FUNCTION = "()L" + FUNCTION + ";";
     public static final String GET_FUNCTION_POINTER = "L" + FUNCTION_POINTER + ";";
     public static final String GET_FUTURE_VALUE = "L" + FUTURE_VALUE + ";";
@@ -259,6 +266,7 @@ public class JvmSignatures {
     public static final String GET_TYPE = "L" + TYPE + ";";
     public static final String GET_TYPEDESC = "L" + TYPEDESC_VALUE + ";";
     public static final String GET_TYPEDESC_OF_OBJECT = "(L" + OBJECT + ";)L" + TYPEDESC_VALUE + ";";
+    public static final String GET_TYPE_TAG = "(L" + OBJECT + ";)I";
     public static final String GET_UNION_TYPE_IMPL = "L" + UNION_TYPE_IMPL + ";";
     public static final String GET_ERROR_TYPE_IMPL = "L" + ERROR_TYPE_IMPL + ";";
     public static final String GET_TYPE_REF_TYPE_IMPL = "L" + TYPE_REF_TYPE_IMPL + ";";
@@ -289,6 +297,7 @@ public class JvmSignatures {
     public static final String INIT_RECEIVE_FIELD = "(L" + STRING_VALUE + ";L" + STRING_VALUE + ";)V";
     public static final String INIT_CLI_SPEC = "(L" + OPTION + ";[L" + OPERAND + ";[L" + STRING_VALUE + ";)V";
     public static final String INIT_CONFIG = "([L" + STRING_VALUE + ";[L" + PATH + ";L" + STRING_VALUE + ";)V";
+    public static final String INIT_FIELD_OFFSET_TABLE = "([L" + STRING_VALUE + ";)V";
     public static final String INIT_CONFIGURABLES = "(L" + MODULE + ";L" + MAP + ";[L" + STRING_VALUE + ";[L"
                                                     + PATH + ";L" + STRING_VALUE + ";)V";
     public static final String INIT_TEST_ARGS = "([L" + STRING_VALUE + ";)V";
@@ -403,11 +412,13 @@ public class JvmSignatures {
     public static final String PROCESS_OBJ_CTR_ANNOTATIONS =
             "(L" + OBJECT_TYPE_IMPL + ";L" + MAP_VALUE + ";L" + STRAND_CLASS + ";)V";
     public static final String STACK_FRAMES = "L" + STACK + ";";
-    public static final String RECORD_GET = "(L" + STRING_VALUE + ";L" + OBJECT + ";)L" + OBJECT + ";";
+    public static final String GET_FREE_FRAME = "(Ljava/lang/Class;)L" + FUNCTION_FRAME + ";";
+    public static final String RELEASE_FRAME = "(L" + FUNCTION_FRAME + ";)V";
+    public static final String RECORD_GET = "(IL" + OBJECT + ";)L" + OBJECT + ";";
     public static final String RECORD_GET_KEYS = "()[L" + OBJECT + ";";
     public static final String RECORD_INIT_WRAPPER = "(L" + STRAND_CLASS + ";L" + MAP_VALUE + ";)V";
-    public static final String RECORD_PUT = "(L" + STRING_VALUE + ";L" + OBJECT + ";L" + OBJECT + ";)L" + OBJECT + ";";
-    public static final String RECORD_REMOVE = "(L" + STRING_VALUE + ";L" + OBJECT + ";)L" + OBJECT + ";";
+    public static final String RECORD_PUT = "(IL" + OBJECT + ";L" + OBJECT + ";)L" + OBJECT + ";";
+    public static final String RECORD_REMOVE = "(IL" + OBJECT + ";)L" + OBJECT + ";";
     public static final String RECORD_SET = "()L" + SET + ";";
     public static final String RECORD_SET_MAP_ENTRY = "()L" + SET + "<L" + MAP_ENTRY + "<TK;TV;>;>;";
     public static final String RECORD_TYPE_IMPL_INIT =
@@ -488,6 +499,8 @@ public class JvmSignatures {
     public static final String HANDLE_DESCRIPTOR_FOR_STRING_CONCAT = "(Ljava/lang/invoke/MethodHandles$Lookup;" +
             GET_STRING + "Ljava/lang/invoke/MethodType;" + GET_STRING + "[" + GET_OBJECT + ")" +
             "Ljava/lang/invoke/CallSite;";
+    public static final String HANDLE_DESCRIPTOR_FOR_TYPE_TEST = "(Ljava/lang/invoke/MethodHandles$Lookup;" +
+            GET_STRING + "Ljava/lang/invoke/MethodType;)Ljava/lang/invoke/CallSite;";
     public static final String CREATE_REGEXP = "(L" + REG_EXP_DISJUNCTION + ";)L" + REG_EXP_VALUE + ";";
     public static final String CREATE_RE_DISJUNCTION = "(L" + ARRAY_VALUE + ";)L" + REG_EXP_DISJUNCTION + ";";
     public static final String CREATE_RE_SEQUENCE = "(L" + ARRAY_VALUE + ";)L" + REG_EXP_SEQUENCE + ";";
@@ -18,26 +18,70 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen;
 
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.internal.LabelGenerator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRTypeTestOptimizer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static io.ballerina.runtime.api.TypeTags.BOOLEAN_TAG;
+import static io.ballerina.runtime.api.TypeTags.BYTE_TAG;
+import static io.ballerina.runtime.api.TypeTags.DECIMAL_TAG;
+import static io.ballerina.runtime.api.TypeTags.FLOAT_TAG;
+import static io.ballerina.runtime.api.TypeTags.INT_TAG;
+import static io.ballerina.runtime.api.TypeTags.NULL_TAG;
+import static io.ballerina.runtime.api.TypeTags.STRING_TAG;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP2;
+import static org.objectweb.asm.Opcodes.DUP_X2;
 import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.I2L;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
 import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.L2I;
+import static org.objectweb.asm.Opcodes.LCMP;
+import static org.objectweb.asm.Opcodes.POP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BERROR;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BOOTSTRAP_TYPE_TEST;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.EQUALS_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_VALUE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAIN_ARG_VAR_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NUMBER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_CHECKER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_TEST_CALL_SITE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_JBOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CHECK_IS_TYPE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_JSTRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPE_TAG;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.HANDLE_DESCRIPTOR_FOR_TYPE_TEST;
 
 /**
  * BIR Type checking instructions to JVM byte code generation class.
@@ -80,11 +124,209 @@ public class JvmTypeTestGen {
         jvmInstructionGen.loadVar(sourceValue);
         jvmTypeGen.loadType(this.mv, targetType);
 
-        this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "checkIsType",
-                                CHECK_IS_TYPE, false);
+        // Each type test has its own call site, which caches the results for the types of the values seen at it
+        this.mv.visitInvokeDynamicInsn("checkIsType", CHECK_IS_TYPE,
+                new Handle(H_INVOKESTATIC, TYPE_TEST_CALL_SITE, BOOTSTRAP_TYPE_TEST, HANDLE_DESCRIPTOR_FOR_TYPE_TEST,
+                        false));
         jvmInstructionGen.storeToVar(typeTestIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Generates a chain of tests on the same variable as a single switch on the type tag of the value, which jumps to
+     * the target basic block of the first test the value passes, or to the basic block after the chain. The int and
+     * string constants the value is compared with are looked up by a second switch on the value, or on the hash code
+     * of the value in the case of strings, for the type tags of those basic types.
+     *
+     * @param typeTestChain basic blocks of the chain of tests
+     * @param labelGen      label generator of the basic blocks
+     * @param funcName      name of the function
+     */
+    void generateTypeSwitch(List<BIRNode.BIRBasicBlock> typeTestChain, LabelGenerator labelGen, String funcName) {
+        BIRTerminator.Branch lastBranch = (BIRTerminator.Branch) typeTestChain.get(typeTestChain.size() - 1).terminator;
+        Label defaultLabel = labelGen.getLabel(funcName + lastBranch.falseBB.id.value);
+        Label[] labels = new Label[NULL_TAG - INT_TAG + 1];
+        Arrays.fill(labels, defaultLabel);
+        // Constants which are compared before a type test of their basic type, in the order of the chain
+        Map<Long, Label> intConstants = new LinkedHashMap<>();
+        Map<String, Label> stringConstants = new LinkedHashMap<>();
+        for (BIRNode.BIRBasicBlock bb : typeTestChain) {
+            Label trueLabel = labelGen.getLabel(funcName + ((BIRTerminator.Branch) bb.terminator).trueBB.id.value);
+            Object constant = BIRTypeTestOptimizer.getTestedConstant(bb);
+            if (constant instanceof Long intConstant) {
+                if (labels[INT_TAG - INT_TAG] == defaultLabel) {
+                    intConstants.putIfAbsent(intConstant, trueLabel);
+                }
+                continue;
+            }
+            if (constant instanceof String stringConstant) {
+                if (labels[STRING_TAG - INT_TAG] == defaultLabel) {
+                    stringConstants.putIfAbsent(stringConstant, trueLabel);
+                }
+                continue;
+            }
+            Set<Integer> typeTags = new HashSet<>();
+            addRuntimeTypeTags(((BIRNonTerminator.TypeTest) getLastInstruction(bb)).type, typeTags);
+            for (int typeTag : typeTags) {
+                // If a value belongs to more than one of the types, the first type test is the one that matches
+                if (labels[typeTag - INT_TAG] == defaultLabel) {
+                    labels[typeTag - INT_TAG] = trueLabel;
+                }
+            }
+        }
+
+        BIRNode.BIRVariableDcl valueVar = getTestedVariable(typeTestChain.get(0));
+        jvmInstructionGen.loadVar(valueVar);
+        jvmCastGen.addBoxInsn(this.mv, valueVar.type);
+        this.mv.visitMethodInsn(INVOKESTATIC, TYPE_CHECKER, "getTypeTag", GET_TYPE_TAG, false);
+        Label[] switchLabels = labels.clone();
+        Label intLabel = new Label();
+        Label stringLabel = new Label();
+        if (!intConstants.isEmpty()) {
+            // int and byte values are equal if their numeric values are equal
+            switchLabels[INT_TAG - INT_TAG] = intLabel;
+            switchLabels[BYTE_TAG - INT_TAG] = intLabel;
+        }
+        if (!stringConstants.isEmpty()) {
+            switchLabels[STRING_TAG - INT_TAG] = stringLabel;
+        }
+        this.mv.visitTableSwitchInsn(INT_TAG, NULL_TAG, defaultLabel, switchLabels);
+
+        if (!intConstants.isEmpty()) {
+            this.mv.visitLabel(intLabel);
+            generateIntConstantSwitch(valueVar, intConstants, labels[INT_TAG - INT_TAG]);
+        }
+        if (!stringConstants.isEmpty()) {
+            this.mv.visitLabel(stringLabel);
+            generateStringConstantSwitch(valueVar, stringConstants, labels[STRING_TAG - INT_TAG]);
+        }
+    }
+
+    // Switches on the value of an int, which is checked to be within the int range of the JVM first. The constants
+    // which are outside that range are compared one by one.
+    private void generateIntConstantSwitch(BIRNode.BIRVariableDcl valueVar, Map<Long, Label> constants,
+                                           Label defaultLabel) {
+        TreeMap<Integer, Label> switchCases = new TreeMap<>();
+        Map<Long, Label> otherConstants = new LinkedHashMap<>();
+        constants.forEach((constant, label) -> {
+            if (constant == constant.intValue()) {
+                switchCases.put(constant.intValue(), label);
+            } else {
+                otherConstants.put(constant, label);
+            }
+        });
+        Label outOfRangeLabel = new Label();
+        loadIntValue(valueVar);
+        this.mv.visitInsn(DUP2);
+        this.mv.visitInsn(L2I);
+        this.mv.visitInsn(DUP_X2);
+        this.mv.visitInsn(I2L);
+        this.mv.visitInsn(LCMP);
+        this.mv.visitJumpInsn(IFNE, outOfRangeLabel);
+        this.mv.visitLookupSwitchInsn(defaultLabel, switchCases.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                switchCases.values().toArray(new Label[0]));
+
+        this.mv.visitLabel(outOfRangeLabel);
+        this.mv.visitInsn(POP);
+        for (Map.Entry<Long, Label> entry : otherConstants.entrySet()) {
+            loadIntValue(valueVar);
+            this.mv.visitLdcInsn(entry.getKey());
+            this.mv.visitInsn(LCMP);
+            this.mv.visitJumpInsn(IFEQ, entry.getValue());
+        }
+        this.mv.visitJumpInsn(GOTO, defaultLabel);
+    }
+
+    // Switches on the hash code of a string, and compares the string with the constants which have the same hash code,
+    // in the order of the chain.
+    private void generateStringConstantSwitch(BIRNode.BIRVariableDcl valueVar, Map<String, Label> constants,
+                                              Label defaultLabel) {
+        TreeMap<Integer, List<String>> constantsByHash = new TreeMap<>();
+        for (String constant : constants.keySet()) {
+            constantsByHash.computeIfAbsent(constant.hashCode(), hash -> new ArrayList<>()).add(constant);
+        }
+        Label[] hashLabels = new Label[constantsByHash.size()];
+        for (int i = 0; i < hashLabels.length; i++) {
+            hashLabels[i] = new Label();
+        }
+        loadStringValue(valueVar);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "hashCode", "()I", false);
+        this.mv.visitLookupSwitchInsn(defaultLabel, constantsByHash.keySet().stream().mapToInt(Integer::intValue)
+                .toArray(), hashLabels);
+
+        int i = 0;
+        for (List<String> sameHashConstants : constantsByHash.values()) {
+            this.mv.visitLabel(hashLabels[i++]);
+            for (String constant : sameHashConstants) {
+                loadStringValue(valueVar);
+                this.mv.visitLdcInsn(constant);
+                this.mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, EQUALS_METHOD, ANY_TO_JBOOLEAN, false);
+                this.mv.visitJumpInsn(IFNE, constants.get(constant));
+            }
+            this.mv.visitJumpInsn(GOTO, defaultLabel);
+        }
+    }
+
+    private void loadIntValue(BIRNode.BIRVariableDcl valueVar) {
+        jvmInstructionGen.loadVar(valueVar);
+        jvmCastGen.addBoxInsn(this.mv, valueVar.type);
+        this.mv.visitTypeInsn(CHECKCAST, NUMBER);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, NUMBER, "longValue", "()J", false);
+    }
+
+    private void loadStringValue(BIRNode.BIRVariableDcl valueVar) {
+        jvmInstructionGen.loadVar(valueVar);
+        jvmCastGen.addBoxInsn(this.mv, valueVar.type);
+        this.mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+        this.mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, GET_VALUE_METHOD, GET_JSTRING, true);
+    }
+
+    private static BIRNonTerminator getLastInstruction(BIRNode.BIRBasicBlock bb) {
+        return bb.instructions.get(bb.instructions.size() - 1);
+    }
+
+    private static BIRNode.BIRVariableDcl getTestedVariable(BIRNode.BIRBasicBlock bb) {
+        BIRNonTerminator lastInstruction = getLastInstruction(bb);
+        if (lastInstruction instanceof BIRNonTerminator.TypeTest typeTest) {
+            return typeTest.rhsOp.variableDcl;
+        }
+        BIRNonTerminator.BinaryOp comparison = (BIRNonTerminator.BinaryOp) lastInstruction;
+        BIRNode.BIRVariableDcl constantVar = bb.instructions.get(bb.instructions.size() - 2).lhsOp.variableDcl;
+        return comparison.rhsOp1.variableDcl == constantVar ? comparison.rhsOp2.variableDcl :
+                comparison.rhsOp1.variableDcl;
+    }
+
+    private static void addRuntimeTypeTags(BType type, Set<Integer> typeTags) {
+        type = JvmCodeGenUtil.getImpliedType(type);
+        switch (type.tag) {
+            case TypeTags.INT:
+                typeTags.add(INT_TAG);
+                typeTags.add(BYTE_TAG);
+                break;
+            case TypeTags.FLOAT:
+                typeTags.add(FLOAT_TAG);
+                break;
+            case TypeTags.DECIMAL:
+                typeTags.add(DECIMAL_TAG);
+                break;
+            case TypeTags.STRING:
+                typeTags.add(STRING_TAG);
+                break;
+            case TypeTags.BOOLEAN:
+                typeTags.add(BOOLEAN_TAG);
+                break;
+            case TypeTags.NIL:
+                typeTags.add(NULL_TAG);
+                break;
+            case TypeTags.UNION:
+                for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                    addRuntimeTypeTags(memberType, typeTags);
+                }
+                break;
+            default:
+                throw new BLangCompilerException("type cannot be tested with a type switch: " + type);
+        }
+    }
+
     /**
      * Checks if the type tested for is nil. That is the target type is nil. Example instructions include 'a is ()'
      * where 'a' is a variable of type say any or a union with nil.
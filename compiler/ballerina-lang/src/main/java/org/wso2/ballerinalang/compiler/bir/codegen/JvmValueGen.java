@@ -338,7 +338,7 @@ public class JvmValueGen {
         this.createRecordConstructor(cw, TYPE_PARAMETER, className, typeDef, recordType);
         this.createLambdas(cw, asyncDataCollector, lambdaGen, className);
         JvmCodeGenUtil.visitStrandMetadataFields(cw, asyncDataCollector.getStrandMetadata());
-        this.generateStaticInitializer(cw, className, module.packageID, asyncDataCollector);
+        this.generateRecordStaticInitializer(cw, className, fields, asyncDataCollector);
         cw.visitEnd();
 
         return jvmPackageGen.getBytes(cw, typeDef);
@@ -627,6 +627,19 @@ public class JvmValueGen {
         mv.visitEnd();
     }
 
+    private void generateRecordStaticInitializer(ClassWriter cw, String className, Map<String, BField> fields,
+                                                 AsyncDataCollector asyncDataCollector) {
+        if (fields.isEmpty() && asyncDataCollector.getStrandMetadata().isEmpty()) {
+            return;
+        }
+        MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
+        jvmRecordGen.createFieldOffsetTable(cw, mv, fields, className);
+        JvmCodeGenUtil.generateStrandMetadata(mv, className, module.packageID, asyncDataCollector);
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, JVM_STATIC_INIT_METHOD, className);
+        mv.visitEnd();
+    }
+
     private void createRecordClearMethod(ClassWriter cw, String className) {
         // throw an UnsupportedOperationException, since clear is not supported by for records.
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "clear", VOID_METHOD_DESC, null, null);
@@ -21,6 +21,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
@@ -28,14 +29,22 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V17;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_FRAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.FUNCTION_INVOCATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.STATE;
 
@@ -72,6 +81,10 @@ public class FrameClassGen {
     private void generateFrameClassForFunction(PackageID packageID, BIRNode.BIRFunction func,
                                                Map<String, byte[]> pkgEntries,
                                                BType attachedType) {
+        // A function which can never yield is never resumed, so its state is never saved in a frame
+        if (func.nonYielding) {
+            return;
+        }
         String frameClassName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(packageID),
                                                                  func.name.value, attachedType);
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
@@ -81,6 +94,7 @@ public class FrameClassGen {
         cw.visit(V17, Opcodes.ACC_PUBLIC + ACC_SUPER, frameClassName, null, FUNCTION_FRAME, null);
         JvmCodeGenUtil.generateDefaultConstructor(cw, FUNCTION_FRAME);
 
+        List<BIRNode.BIRVariableDcl> referenceVars = new ArrayList<>();
         int k = 0;
         List<BIRNode.BIRVariableDcl> localVars = func.localVars;
         while (k < localVars.size()) {
@@ -93,6 +107,9 @@ public class FrameClassGen {
             String fieldName = localVar.jvmVarName;
             String typeSig = JvmCodeGenUtil.getFieldTypeSignature(bType);
             cw.visitField(Opcodes.ACC_PUBLIC, fieldName, typeSig, null, null).visitEnd();
+            if (typeSig.charAt(0) == 'L' || typeSig.charAt(0) == '[') {
+                referenceVars.add(localVar);
+            }
             k = k + 1;
         }
 
@@ -100,6 +117,7 @@ public class FrameClassGen {
         fv.visitEnd();
         fv = cw.visitField(Opcodes.ACC_PUBLIC, FUNCTION_INVOCATION, "I", null, null);
         fv.visitEnd();
+        generateClearReferencesMethod(cw, frameClassName, referenceVars);
 
         cw.visitEnd();
 
@@ -108,4 +126,22 @@ public class FrameClassGen {
         pkgEntries.put(frameClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
     }
 
+    private void generateClearReferencesMethod(ClassWriter cw, String frameClassName,
+                                               List<BIRNode.BIRVariableDcl> referenceVars) {
+        // the strand clears a frame it keeps for reuse, so that the frame does not keep the values of the function
+        MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "clearReferences", VOID_METHOD_DESC, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, FUNCTION_FRAME, "clearReferences", VOID_METHOD_DESC, false);
+        for (BIRNode.BIRVariableDcl localVar : referenceVars) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitFieldInsn(PUTFIELD, frameClassName, localVar.jvmVarName,
+                    JvmCodeGenUtil.getFieldTypeSignature(localVar.type));
+        }
+        mv.visitInsn(RETURN);
+        JvmCodeGenUtil.visitMaxStackForMethod(mv, "clearReferences", frameClassName);
+        mv.visitEnd();
+    }
+
 }
@@ -25,6 +25,7 @@ import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants;
@@ -52,6 +53,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Return;
 import org.wso2.ballerinalang.compiler.bir.model.BirScope;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRTypeTestOptimizer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
@@ -89,6 +91,7 @@ import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFGT;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -105,6 +108,7 @@ import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.SWAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.SCOPE_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.generateReturnType;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
@@ -130,6 +134,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BDEC
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BOBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BSTRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_ERROR_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FREE_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FUTURE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_HANDLE_VALUE;
@@ -144,6 +149,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPE
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_XML;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INITIAL_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RELEASE_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STACK_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.UPDATE_CHANNEL_DETAILS;
@@ -294,12 +300,14 @@ public class MethodGen {
         int yieldStatusVarIndex = getFrameStringVarIndex(indexMap, mv, YIELD_STATUS);
         int invocationVarIndex = getIntVarIndex(FUNCTION_INVOCATION, indexMap, mv, ICONST_0);
 
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
-
         LabelGenerator labelGen = new LabelGenerator();
         Label resumeLabel = labelGen.getLabel(funcName + "resume");
-        mv.visitJumpInsn(IFGT, resumeLabel);
+        // a function which can never yield is never resumed
+        if (!func.nonYielding) {
+            mv.visitVarInsn(ALOAD, localVarOffset);
+            mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
+            mv.visitJumpInsn(IFGT, resumeLabel);
+        }
 
         // set function invocation variable
         setFunctionInvocationVar(localVarOffset, mv, invocationVarIndex, invocationCountArgVarIndex);
@@ -341,36 +349,41 @@ public class MethodGen {
         generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, stateVarIndex,
                 yieldLocationVarIndex, yieldStatusVarIndex, loopVarIndex, invocationVarIndex, localVarOffset, module,
                 attachedType, moduleClassName, loopLabel);
-        mv.visitLabel(resumeLabel);
-        String frameName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(module.packageID), funcName,
-                attachedType);
-        genGetFrameOnResumeIndex(localVarOffset, mv, frameName);
+        if (func.nonYielding) {
+            // there is no frame to restore or save, since the function is never resumed and never yields
+            mv.visitLabel(yieldLabel);
+        } else {
+            mv.visitLabel(resumeLabel);
+            String frameName = MethodGenUtils.getFrameClassName(JvmCodeGenUtil.getPackageName(module.packageID),
+                    funcName, attachedType);
+            genGetFrameOnResumeIndex(localVarOffset, mv, frameName);
 
-        generateFrameClassFieldLoad(func.localVars, mv, indexMap, frameName);
-        mv.visitInsn(DUP);
-        mv.visitFieldInsn(GETFIELD, frameName, STATE, "I");
-        mv.visitVarInsn(ISTORE, stateVarIndex);
-        mv.visitFieldInsn(GETFIELD, frameName, FUNCTION_INVOCATION, "I");
-        mv.visitVarInsn(ISTORE, invocationVarIndex);
-        mv.visitJumpInsn(GOTO, varInitLabel);
+            generateFrameClassFieldLoad(func.localVars, mv, indexMap, frameName);
+            mv.visitInsn(DUP);
+            mv.visitFieldInsn(GETFIELD, frameName, STATE, "I");
+            mv.visitVarInsn(ISTORE, stateVarIndex);
+            mv.visitInsn(DUP);
+            mv.visitFieldInsn(GETFIELD, frameName, FUNCTION_INVOCATION, "I");
+            mv.visitVarInsn(ISTORE, invocationVarIndex);
+            genReleaseFrame(localVarOffset, mv);
+            mv.visitJumpInsn(GOTO, varInitLabel);
 
-        mv.visitLabel(yieldLabel);
-        mv.visitTypeInsn(NEW, frameName);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+            mv.visitLabel(yieldLabel);
+            genGetFreeFrame(localVarOffset, mv, frameName);
 
-        generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
+            generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
 
-        mv.visitInsn(DUP);
-        mv.visitVarInsn(ILOAD, stateVarIndex);
-        mv.visitFieldInsn(PUTFIELD, frameName, STATE, "I");
-        mv.visitInsn(DUP);
-        mv.visitVarInsn(ILOAD, invocationVarIndex);
-        mv.visitFieldInsn(PUTFIELD, frameName, FUNCTION_INVOCATION, "I");
-        generateFrameStringFieldSet(mv, frameName, yieldLocationVarIndex, YIELD_LOCATION);
-        generateFrameStringFieldSet(mv, frameName, yieldStatusVarIndex, YIELD_STATUS);
+            mv.visitInsn(DUP);
+            mv.visitVarInsn(ILOAD, stateVarIndex);
+            mv.visitFieldInsn(PUTFIELD, frameName, STATE, "I");
+            mv.visitInsn(DUP);
+            mv.visitVarInsn(ILOAD, invocationVarIndex);
+            mv.visitFieldInsn(PUTFIELD, frameName, FUNCTION_INVOCATION, "I");
+            generateFrameStringFieldSet(mv, frameName, yieldLocationVarIndex, YIELD_LOCATION);
+            generateFrameStringFieldSet(mv, frameName, yieldStatusVarIndex, YIELD_STATUS);
 
-        generateGetFrame(indexMap, localVarOffset, mv);
+            generateGetFrame(indexMap, localVarOffset, mv);
+        }
         mv.visitJumpInsn(GOTO, loopLabel);
         mv.visitLabel(loopConditionLabel);
 
@@ -618,10 +631,11 @@ public class MethodGen {
                 caseIndex += 1;
             }
 
-            // generate instructions
+            // generate instructions, except the type test of a chain of type tests, which is done with a switch
+            List<BIRBasicBlock> typeTestChain = getTypeTestChain(func, bb);
             lastScope = JvmCodeGenUtil
                     .getLastScopeFromBBInsGen(mv, labelGen, instGen, localVarOffset, funcName, bb,
-                            visitedScopesSet, lastScope);
+                            visitedScopesSet, lastScope, typeTestChain != null);
 
             Label bbEndLabel = labelGen.getLabel(funcName + bb.id.value + "beforeTerm");
             mv.visitLabel(bbEndLabel);
@@ -631,10 +645,14 @@ public class MethodGen {
             pushShort(mv, stateVarIndex, caseIndex);
             caseIndex += 1;
 
-            processTerminator(mv, func, module, funcName, terminator);
-            termGen.genTerminator(terminator, moduleClassName, func, funcName, localVarOffset, stateVarIndex,
-                    returnVarRefIndex, attachedType, yieldLocationVarIndex, yieldStatusVarIndex, invocationVarIndex,
-                    loopVarIndex, fullyQualifiedFuncName, bb, loopLabel);
+            if (typeTestChain != null) {
+                instGen.generateTypeSwitch(typeTestChain, labelGen, funcName);
+            } else {
+                processTerminator(mv, func, module, funcName, terminator);
+                termGen.genTerminator(terminator, moduleClassName, func, funcName, localVarOffset, stateVarIndex,
+                        returnVarRefIndex, attachedType, yieldLocationVarIndex, yieldStatusVarIndex,
+                        invocationVarIndex, loopVarIndex, fullyQualifiedFuncName, bb, loopLabel);
+            }
 
             lastScope = JvmCodeGenUtil
                     .getLastScopeFromTerminator(mv, bb, funcName, labelGen, lastScope, visitedScopesSet);
@@ -644,7 +662,10 @@ public class MethodGen {
             String yieldStatus = getYieldStatusByTerminator(terminator);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB != null && func.nonYielding) {
+                // the callee can never yield either, so the strand is not checked for yielding
+                mv.visitJumpInsn(GOTO, termGen.getLabelGenerator().getLabel(funcName + thenBB.id.value));
+            } else if (thenBB != null) {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset,
                         yieldLocationVarIndex, terminator.pos, fullyQualifiedFuncName, yieldStatus,
                         yieldStatusVarIndex);
@@ -652,6 +673,16 @@ public class MethodGen {
         }
     }
 
+    private List<BIRBasicBlock> getTypeTestChain(BIRFunction func, BIRBasicBlock bb) {
+        List<BIRBasicBlock> typeTestChain = bb.typeTestChain;
+        // The basic blocks may have been changed after the chain was found, by the code generation phases
+        if (typeTestChain == null || !func.basicBlocks.containsAll(typeTestChain) ||
+                !BIRTypeTestOptimizer.isTypeTestChain(typeTestChain)) {
+            return null;
+        }
+        return typeTestChain;
+    }
+
     private String getFullyQualifiedFuncName(BTypeSymbol funcTypeSymbol, String funcName) {
         if (funcTypeSymbol != null) {
             PackageID funcTSymbolPkgID = funcTypeSymbol.pkgID;
@@ -737,6 +768,29 @@ public class MethodGen {
         mv.visitTypeInsn(CHECKCAST, frameName);
     }
 
+    private void genReleaseFrame(int localVarOffset, MethodVisitor mv) {
+        // the state is restored from the frame, so the strand can reuse it when a function yields again
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitInsn(SWAP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "releaseFrame", RELEASE_FRAME, false);
+    }
+
+    private void genGetFreeFrame(int localVarOffset, MethodVisitor mv, String frameName) {
+        // reuse a frame released by the strand, and create a new frame only if there is none
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitLdcInsn(Type.getObjectType(frameName));
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getFreeFrame", GET_FREE_FRAME, false);
+        mv.visitInsn(DUP);
+        Label frameLabel = new Label();
+        mv.visitJumpInsn(IFNONNULL, frameLabel);
+        mv.visitInsn(POP);
+        mv.visitTypeInsn(NEW, frameName);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitLabel(frameLabel);
+        mv.visitTypeInsn(CHECKCAST, frameName);
+    }
+
     private void generateFrameClassFieldLoad(List<BIRVariableDcl> localVars, MethodVisitor mv,
                                              BIRVarToJVMIndexMap indexMap, String frameName) {
         for (BIRVariableDcl localVar : localVars) {
@@ -20,12 +20,12 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split.values;
 
 import org.ballerinalang.model.types.TypeKind;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
-import org.wso2.ballerinalang.compiler.bir.codegen.internal.FieldNameHashComparator;
-import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmCreateTypeGen;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -34,11 +34,16 @@ import org.wso2.ballerinalang.compiler.semantics.model.types.BTypeReferenceType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import static io.ballerina.identifier.Utils.decodeIdentifier;
+import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ANEWARRAY;
@@ -49,29 +54,31 @@ import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
-import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.LRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.castToJavaString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ADD_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BOOLEAN_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DOUBLE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELD_OFFSETS_VAR_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELD_OFFSET_TABLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_BOXED_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LINKED_HASH_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
@@ -79,14 +86,16 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_SIMPL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_FIELDS_PER_SPLIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNSUPPORTED_OPERATION_EXCEPTION;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VISIT_MAX_SAFE_MARGIN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ADD_COLLECTION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_JBOOLEAN;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.COLLECTION_OP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.CONTAINS_KEY;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.FROM_STRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FIELD_KEY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FIELD_OFFSET;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FIELD_OFFSET_TABLE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_FIELD_OFFSET_TABLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.LINKED_HASH_SET_OP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MAP_PUT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.MAP_VALUES;
@@ -115,12 +124,19 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptional
 
 /**
  * Class for generate {@link io.ballerina.runtime.api.values.BMap} related methods.
+ * <p>
+ * The declared fields of a record are kept in JVM fields. Map-style access to them goes through a per-type
+ * {@code FieldOffsetTable}, which maps a field name to the declaration order offset of the field, and a switch on that
+ * offset. Rest fields are kept in the super map.
  *
  * @since 2.0.0
  */
 public class JvmRecordGen {
 
-    static final FieldNameHashComparator FIELD_NAME_HASH_COMPARATOR = new FieldNameHashComparator();
+    // Registers of the methods which switch on the field offset
+    private static final int FIELD_OFFSET_REG_INDEX = 1;
+    private static final int FIELD_NAME_REG_INDEX = 2;
+    private static final int VALUE_REG_INDEX = 3;
 
     private final BType booleanType;
     private final BType intType;
@@ -134,6 +150,30 @@ public class JvmRecordGen {
         this.stringType = symbolTable.stringType;
     }
 
+    public void createFieldOffsetTable(ClassWriter cw, MethodVisitor mv, Map<String, BField> fields,
+                                       String className) {
+        if (fields.isEmpty()) {
+            return;
+        }
+        FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_FINAL, FIELD_OFFSETS_VAR_NAME,
+                GET_FIELD_OFFSET_TABLE, null, null);
+        fv.visitEnd();
+
+        mv.visitTypeInsn(NEW, FIELD_OFFSET_TABLE);
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn(fields.size());
+        mv.visitTypeInsn(ANEWARRAY, STRING_VALUE);
+        int offset = 0;
+        for (BField field : fields.values()) {
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(offset++);
+            mv.visitLdcInsn(decodeIdentifier(field.name.value));
+            mv.visitInsn(AASTORE);
+        }
+        mv.visitMethodInsn(INVOKESPECIAL, FIELD_OFFSET_TABLE, JVM_INIT_METHOD, INIT_FIELD_OFFSET_TABLE, false);
+        mv.visitFieldInsn(PUTSTATIC, className, FIELD_OFFSETS_VAR_NAME, GET_FIELD_OFFSET_TABLE);
+    }
+
     public void createAndSplitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                         JvmCastGen jvmCastGen) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", PASS_OBJECT_RETURN_OBJECT,
@@ -141,19 +181,15 @@ public class JvmRecordGen {
         mv.visitCode();
         int selfIndex = 0;
         int fieldNameRegIndex = 1;
-        int strKeyVarIndex = 2;
 
-        // cast key to java.lang.String
-        castToJavaString(mv, fieldNameRegIndex, strKeyVarIndex);
         if (fields.isEmpty()) {
-            Label defaultCaseLabel = new Label();
-            this.createGetDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
+            this.createGetDefaultCase(mv, fieldNameRegIndex);
             JvmCodeGenUtil.visitMaxStackForMethod(mv, "get", className);
             mv.visitEnd();
             return;
         }
         mv.visitVarInsn(ALOAD, selfIndex);
-        mv.visitVarInsn(ALOAD, strKeyVarIndex);
+        loadFieldOffset(mv, className, fieldNameRegIndex);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
         mv.visitMethodInsn(INVOKEVIRTUAL, className, "get", RECORD_GET, false);
         mv.visitInsn(ARETURN);
@@ -180,85 +216,33 @@ public class JvmRecordGen {
 
     private void splitGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                 JvmCastGen jvmCastGen) {
-        int bTypesCount = 0;
-        int methodCount = 0;
-        MethodVisitor mv = null;
-        int selfRegIndex = 0;
-        int strKeyVarIndex = 1;
-        int fieldNameRegIndex = 2;
-        Label defaultCaseLabel = new Label();
-
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
-        List<Label> targetLabels = new ArrayList<>();
-
-        int i = 0;
-        String getMethod = "get";
-        for (BField optionalField : sortedFields) {
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                mv = cw.visitMethod(ACC_PUBLIC, getMethod, RECORD_GET, null, null);
-                mv.visitCode();
-                defaultCaseLabel = new Label();
-                int remainingCases = sortedFields.size() - bTypesCount;
-                if (remainingCases > MAX_FIELDS_PER_SPLIT_METHOD) {
-                    remainingCases = MAX_FIELDS_PER_SPLIT_METHOD;
-                }
-                List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, defaultCaseLabel);
-                targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, labels, defaultCaseLabel);
-                i = 0;
-                getMethod = "get" + ++methodCount;
-            }
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
-
-            // if the field is an optional-field, first check the 'isPresent' flag of that field.
-            Label ifPresentLabel = new Label();
-            String fieldName = optionalField.name.value;
-            if (isOptionalRecordField(optionalField)) {
-                mv.visitVarInsn(ALOAD, selfRegIndex);
-                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
-                        getTypeDesc(booleanType));
-                mv.visitJumpInsn(IFNE, ifPresentLabel);
-                mv.visitInsn(ACONST_NULL);
-                mv.visitInsn(ARETURN);
-            }
+        splitFieldOffsetSwitch(cw, fields, className, ACC_PUBLIC, "get", RECORD_GET, ARETURN,
+                (mv, field) -> createGetFieldCase(mv, field, className, jvmCastGen),
+                mv -> this.createGetDefaultCase(mv, FIELD_NAME_REG_INDEX));
+    }
 
-            mv.visitLabel(ifPresentLabel);
-            // return the value of the field
-            mv.visitVarInsn(ALOAD, selfRegIndex);
-            mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(optionalField.type));
-            jvmCastGen.addBoxInsn(mv, optionalField.type);
+    private void createGetFieldCase(MethodVisitor mv, BField field, String className, JvmCastGen jvmCastGen) {
+        // if the field is an optional-field, first check the 'isPresent' flag of that field.
+        Label ifPresentLabel = new Label();
+        String fieldName = field.name.value;
+        if (isOptionalRecordField(field)) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
+                    getTypeDesc(booleanType));
+            mv.visitJumpInsn(IFNE, ifPresentLabel);
+            mv.visitInsn(ACONST_NULL);
             mv.visitInsn(ARETURN);
-            i += 1;
-            bTypesCount++;
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                if (bTypesCount == sortedFields.size()) {
-                    this.createGetDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-                } else {
-                    mv.visitLabel(defaultCaseLabel);
-                    mv.visitVarInsn(ALOAD, selfRegIndex);
-                    mv.visitVarInsn(ALOAD, strKeyVarIndex);
-                    mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-                    mv.visitMethodInsn(INVOKEVIRTUAL, className, getMethod, RECORD_GET, false);
-                    mv.visitInsn(ARETURN);
-                }
-                mv.visitMaxs(i + VISIT_MAX_SAFE_MARGIN, i + VISIT_MAX_SAFE_MARGIN);
-                mv.visitEnd();
-            }
-        }
-        if (methodCount != 0 && bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD != 0) {
-            this.createGetDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-            mv.visitMaxs(i + VISIT_MAX_SAFE_MARGIN, i + VISIT_MAX_SAFE_MARGIN);
-            mv.visitEnd();
         }
+
+        mv.visitLabel(ifPresentLabel);
+        // return the value of the field
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(field.type));
+        jvmCastGen.addBoxInsn(mv, field.type);
+        mv.visitInsn(ARETURN);
     }
 
-    private void createGetDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex) {
-        mv.visitLabel(defaultCaseLabel);
+    private void createGetDefaultCase(MethodVisitor mv, int nameRegIndex) {
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, nameRegIndex);
         mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "get", PASS_OBJECT_RETURN_OBJECT,
@@ -273,19 +257,15 @@ public class JvmRecordGen {
         int selfIndex = 0;
         int fieldNameRegIndex = 1;
         int valueRegIndex = 2;
-        int strKeyVarIndex = 3;
 
-        // cast key to java.lang.String
-        castToJavaString(mv, fieldNameRegIndex, strKeyVarIndex);
         if (fields.isEmpty()) {
-            Label defaultCaseLabel = new Label();
-            this.createPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
+            this.createPutDefaultCase(mv, fieldNameRegIndex, valueRegIndex);
             JvmCodeGenUtil.visitMaxStackForMethod(mv, "putValue", className);
             mv.visitEnd();
             return;
         }
         mv.visitVarInsn(ALOAD, selfIndex);
-        mv.visitVarInsn(ALOAD, strKeyVarIndex);
+        loadFieldOffset(mv, className, fieldNameRegIndex);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
         mv.visitVarInsn(ALOAD, valueRegIndex);
         mv.visitMethodInsn(INVOKEVIRTUAL, className, "putValue", RECORD_PUT, false);
@@ -297,90 +277,35 @@ public class JvmRecordGen {
 
     private void splitSetMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                 JvmCastGen jvmCastGen) {
-        int bTypesCount = 0;
-        int methodCount = 0;
-        MethodVisitor mv = null;
-        int selfRegIndex = 0;
-        int strKeyVarIndex = 1;
-        int fieldNameRegIndex = 2;
-        int valueRegIndex = 3;
-        Label defaultCaseLabel = new Label();
-
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
-        List<Label> targetLabels = new ArrayList<>();
-
-        int i = 0;
-        String setMethod = "putValue";
-        for (BField optionalField : sortedFields) {
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                mv = cw.visitMethod(ACC_PROTECTED, setMethod, RECORD_PUT, null, null);
-                mv.visitCode();
-                defaultCaseLabel = new Label();
-                int remainingCases = sortedFields.size() - bTypesCount;
-                if (remainingCases > MAX_FIELDS_PER_SPLIT_METHOD) {
-                    remainingCases = MAX_FIELDS_PER_SPLIT_METHOD;
-                }
-                List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, defaultCaseLabel);
-                targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, labels, defaultCaseLabel);
-                i = 0;
-                setMethod = "putValue" + ++methodCount;
-            }
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
-
-            // load the existing value to return
-            String fieldName = optionalField.name.value;
-            mv.visitVarInsn(ALOAD, selfRegIndex);
-            mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(optionalField.type));
-            jvmCastGen.addBoxInsn(mv, optionalField.type);
+        splitFieldOffsetSwitch(cw, fields, className, ACC_PROTECTED, "putValue", RECORD_PUT, ARETURN,
+                (mv, field) -> createPutFieldCase(mv, field, className, jvmCastGen),
+                mv -> this.createPutDefaultCase(mv, FIELD_NAME_REG_INDEX, VALUE_REG_INDEX));
+    }
 
-            mv.visitVarInsn(ALOAD, selfRegIndex);
-            mv.visitVarInsn(ALOAD, valueRegIndex);
-            jvmCastGen.addUnboxInsn(mv, optionalField.type);
-            mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(optionalField.type));
+    private void createPutFieldCase(MethodVisitor mv, BField field, String className, JvmCastGen jvmCastGen) {
+        // load the existing value to return
+        String fieldName = field.name.value;
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(field.type));
+        jvmCastGen.addBoxInsn(mv, field.type);
 
-            // if the field is an optional-field, then also set the isPresent flag of that field to true.
-            if (isOptionalRecordField(optionalField)) {
-                mv.visitVarInsn(ALOAD, selfRegIndex);
-                mv.visitInsn(ICONST_1);
-                mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
-                        getTypeDesc(booleanType));
-            }
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, VALUE_REG_INDEX);
+        jvmCastGen.addUnboxInsn(mv, field.type);
+        mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(field.type));
 
-            mv.visitInsn(ARETURN);
-            i += 1;
-            bTypesCount++;
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                if (bTypesCount == sortedFields.size()) {
-                    this.createPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
-                } else {
-                    mv.visitLabel(defaultCaseLabel);
-                    mv.visitVarInsn(ALOAD, selfRegIndex);
-                    mv.visitVarInsn(ALOAD, strKeyVarIndex);
-                    mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-                    mv.visitVarInsn(ALOAD, valueRegIndex);
-                    mv.visitMethodInsn(INVOKEVIRTUAL, className, setMethod, RECORD_PUT, false);
-                    mv.visitInsn(ARETURN);
-                }
-                JvmCodeGenUtil.visitMaxStackForMethod(mv, setMethod, className);
-                mv.visitEnd();
-            }
-        }
-        if (methodCount != 0 && bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD != 0) {
-            this.createPutDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex, valueRegIndex);
-            JvmCodeGenUtil.visitMaxStackForMethod(mv, setMethod, className);
-            mv.visitEnd();
+        // if the field is an optional-field, then also set the isPresent flag of that field to true.
+        if (isOptionalRecordField(field)) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ICONST_1);
+            mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
+                    getTypeDesc(booleanType));
         }
+
+        mv.visitInsn(ARETURN);
     }
 
-    private void createPutDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int nameRegIndex,
-                                      int valueRegIndex) {
-        mv.visitLabel(defaultCaseLabel);
+    private void createPutDefaultCase(MethodVisitor mv, int nameRegIndex, int valueRegIndex) {
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, nameRegIndex);
         mv.visitVarInsn(ALOAD, valueRegIndex);
@@ -407,11 +332,7 @@ public class JvmRecordGen {
             splitEntrySetMethod(cw, fields, className, jvmCastGen);
         }
         // Add all from super.entrySet() to the current entry set.
-        mv.visitVarInsn(ALOAD, entrySetVarIndex);
-        mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "entrySet", RECORD_SET, false);
-        mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", ADD_COLLECTION, true);
-        mv.visitInsn(POP);
+        addRestFieldCollection(mv, entrySetVarIndex, "entrySet", RECORD_SET, SET);
 
         mv.visitVarInsn(ALOAD, entrySetVarIndex);
         mv.visitInsn(ARETURN);
@@ -419,6 +340,15 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
+    private void addRestFieldCollection(MethodVisitor mv, int collectionVarIndex, String methodName,
+                                        String methodDesc, String collectionClass) {
+        mv.visitVarInsn(ALOAD, collectionVarIndex);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, methodName, methodDesc, false);
+        mv.visitMethodInsn(INVOKEINTERFACE, collectionClass, "addAll", ADD_COLLECTION, true);
+        mv.visitInsn(POP);
+    }
+
     private void splitEntrySetMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                      JvmCastGen jvmCastGen) {
 
@@ -451,9 +381,7 @@ public class JvmRecordGen {
             mv.visitInsn(DUP);
 
             // field name as key
-            mv.visitLdcInsn(decodeIdentifier(fieldName));
-            mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString",
-                    FROM_STRING, false);
+            loadFieldKey(mv, className, bTypesCount);
 
             // field value as the map-entry value
             mv.visitVarInsn(ALOAD, 0);
@@ -489,19 +417,15 @@ public class JvmRecordGen {
         mv.visitCode();
         int selfIndex = 0;
         int fieldNameRegIndex = 1;
-        int strKeyVarIndex = 2;
 
-        // cast key to java.lang.String
-        castToJavaString(mv, fieldNameRegIndex, strKeyVarIndex);
         if (fields.isEmpty()) {
-            Label defaultCaseLabel = new Label();
-            this.createContainsDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
+            this.createContainsDefaultCase(mv, fieldNameRegIndex);
             JvmCodeGenUtil.visitMaxStackForMethod(mv, "containsKey", className);
             mv.visitEnd();
             return;
         }
         mv.visitVarInsn(ALOAD, selfIndex);
-        mv.visitVarInsn(ALOAD, strKeyVarIndex);
+        loadFieldOffset(mv, className, fieldNameRegIndex);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
         mv.visitMethodInsn(INVOKEVIRTUAL, className, "containsKey", CONTAINS_KEY, false);
         mv.visitInsn(IRETURN);
@@ -511,80 +435,25 @@ public class JvmRecordGen {
     }
 
     private void splitContainsKeyMethod(ClassWriter cw, Map<String, BField> fields, String className) {
+        splitFieldOffsetSwitch(cw, fields, className, ACC_PUBLIC, "containsKey", CONTAINS_KEY, IRETURN,
+                (mv, field) -> createContainsFieldCase(mv, field, className),
+                mv -> this.createContainsDefaultCase(mv, FIELD_NAME_REG_INDEX));
+    }
 
-        int bTypesCount = 0;
-        int methodCount = 0;
-        MethodVisitor mv = null;
-        int selfRegIndex = 0;
-        int strKeyVarIndex = 1;
-        int fieldNameRegIndex = 2;
-        Label defaultCaseLabel = new Label();
-
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
-        List<Label> targetLabels = new ArrayList<>();
-
-        int i = 0;
-        String containsMethod = "containsKey";
-        for (BField optionalField : sortedFields) {
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                mv = cw.visitMethod(ACC_PUBLIC, containsMethod, CONTAINS_KEY, null, null);
-                mv.visitCode();
-                defaultCaseLabel = new Label();
-                int remainingCases = sortedFields.size() - bTypesCount;
-                if (remainingCases > MAX_FIELDS_PER_SPLIT_METHOD) {
-                    remainingCases = MAX_FIELDS_PER_SPLIT_METHOD;
-                }
-                List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, defaultCaseLabel);
-                targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, labels, defaultCaseLabel);
-                i = 0;
-                containsMethod = "containsKey" + ++methodCount;
-            }
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
-
-            String fieldName = optionalField.name.value;
-            if (isOptionalRecordField(optionalField)) {
-                // if the field is optional, then return the value is the 'isPresent' flag.
-                mv.visitVarInsn(ALOAD, selfRegIndex);
-                mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(fieldName),
-                        getTypeDesc(booleanType));
-            } else {
-                // else always return true.
-                mv.visitLdcInsn(true);
-            }
-
-            mv.visitInsn(IRETURN);
-            i += 1;
-            bTypesCount++;
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                if (bTypesCount == sortedFields.size()) {
-                    this.createContainsDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-                } else {
-                    mv.visitLabel(defaultCaseLabel);
-                    mv.visitVarInsn(ALOAD, selfRegIndex);
-                    mv.visitVarInsn(ALOAD, strKeyVarIndex);
-                    mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-                    mv.visitMethodInsn(INVOKEVIRTUAL, className, containsMethod, CONTAINS_KEY, false);
-                    mv.visitInsn(IRETURN);
-                }
-                mv.visitMaxs(i + VISIT_MAX_SAFE_MARGIN, i + VISIT_MAX_SAFE_MARGIN);
-                mv.visitEnd();
-            }
-        }
-        if (methodCount != 0 && bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD != 0) {
-            this.createContainsDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-            mv.visitMaxs(i + VISIT_MAX_SAFE_MARGIN, i + VISIT_MAX_SAFE_MARGIN);
-            mv.visitEnd();
+    private void createContainsFieldCase(MethodVisitor mv, BField field, String className) {
+        if (isOptionalRecordField(field)) {
+            // if the field is optional, then return the value is the 'isPresent' flag.
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, className, getFieldIsPresentFlagName(field.name.value),
+                    getTypeDesc(booleanType));
+        } else {
+            // else always return true.
+            mv.visitLdcInsn(true);
         }
+        mv.visitInsn(IRETURN);
     }
 
-    private void createContainsDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int fieldNameRegIndex) {
-        mv.visitLabel(defaultCaseLabel);
+    private void createContainsDefaultCase(MethodVisitor mv, int fieldNameRegIndex) {
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
         mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "containsKey", ANY_TO_JBOOLEAN, false);
@@ -609,18 +478,13 @@ public class JvmRecordGen {
                     false);
             splitGetValuesMethod(cw, fields, className, jvmCastGen);
         }
-        mv.visitVarInsn(ALOAD, valuesVarIndex);
-        mv.visitVarInsn(ALOAD, 0); // this
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "values", MAP_VALUES, false);
-        mv.visitMethodInsn(INVOKEINTERFACE, LIST, "addAll", ADD_COLLECTION, true);
-        mv.visitInsn(POP);
+        addRestFieldCollection(mv, valuesVarIndex, "values", MAP_VALUES, LIST);
 
         mv.visitVarInsn(ALOAD, 1);
         mv.visitInsn(ARETURN);
         JvmCodeGenUtil.visitMaxStackForMethod(mv, "values", className);
         mv.visitEnd();
     }
-
     private void splitGetValuesMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                       JvmCastGen jvmCastGen) {
         int selfRegIndex = 0;
@@ -682,21 +546,17 @@ public class JvmRecordGen {
         mv.visitCode();
         int selfRegIndex = 0;
         int fieldNameRegIndex = 1;
-        int strKeyVarIndex = 2;
 
-        // cast key to java.lang.String
-        castToJavaString(mv, fieldNameRegIndex, strKeyVarIndex);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "validateFreezeStatus", VOID_METHOD_DESC, false);
         if (fields.isEmpty()) {
-            Label defaultCaseLabel = new Label();
-            this.createRemoveDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
+            this.createRemoveDefaultCase(mv, fieldNameRegIndex);
             JvmCodeGenUtil.visitMaxStackForMethod(mv, "remove", className);
             mv.visitEnd();
             return;
         }
         mv.visitVarInsn(ALOAD, selfRegIndex);
-        mv.visitVarInsn(ALOAD, strKeyVarIndex);
+        loadFieldOffset(mv, className, fieldNameRegIndex);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
         mv.visitMethodInsn(INVOKEVIRTUAL, className, "remove", RECORD_REMOVE, false);
         mv.visitInsn(ARETURN);
@@ -707,95 +567,44 @@ public class JvmRecordGen {
 
     private void splitRemoveMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                    JvmCastGen jvmCastGen) {
-        int bTypesCount = 0;
-        int methodCount = 0;
-        MethodVisitor mv = null;
-        int selfRegIndex = 0;
-        int strKeyVarIndex = 1;
-        int fieldNameRegIndex = 2;
-        Label defaultCaseLabel = new Label();
-
-        // sort the fields before generating switch case
-        List<BField> sortedFields = new ArrayList<>(fields.values());
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-
-        List<Label> targetLabels = new ArrayList<>();
+        splitFieldOffsetSwitch(cw, fields, className, ACC_PROTECTED, "remove", RECORD_REMOVE, ARETURN,
+                (mv, field) -> createRemoveFieldCase(mv, field, className, jvmCastGen),
+                mv -> this.createRemoveDefaultCase(mv, FIELD_NAME_REG_INDEX));
+    }
 
-        int i = 0;
-        String removeMethod = "remove";
-        for (BField optionalField : sortedFields) {
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                mv = cw.visitMethod(ACC_PROTECTED, removeMethod, RECORD_REMOVE, null, null);
-                mv.visitCode();
-                defaultCaseLabel = new Label();
-                int remainingCases = sortedFields.size() - bTypesCount;
-                if (remainingCases > MAX_FIELDS_PER_SPLIT_METHOD) {
-                    remainingCases = MAX_FIELDS_PER_SPLIT_METHOD;
-                }
-                List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, defaultCaseLabel);
-                targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, strKeyVarIndex, sortedFields,
-                        bTypesCount, remainingCases, labels, defaultCaseLabel);
-                i = 0;
-                removeMethod = "remove" + ++methodCount;
-            }
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
+    private void createRemoveFieldCase(MethodVisitor mv, BField field, String className, JvmCastGen jvmCastGen) {
+        if (!isOptionalRecordField(field)) {
+            mv.visitTypeInsn(NEW, UNSUPPORTED_OPERATION_EXCEPTION);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, UNSUPPORTED_OPERATION_EXCEPTION, JVM_INIT_METHOD, VOID_METHOD_DESC,
+                    false);
+            mv.visitInsn(ATHROW);
+            return;
+        }
 
-            //Setting isPresent as zero
-            if (isOptionalRecordField(optionalField)) {
-                String fieldName = optionalField.name.value;
-                mv.visitVarInsn(ALOAD, 0);
-                mv.visitInsn(ICONST_0);
-                mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
-                        getTypeDesc(booleanType));
+        //Setting isPresent as zero
+        String fieldName = field.name.value;
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitInsn(ICONST_0);
+        mv.visitFieldInsn(PUTFIELD, className, getFieldIsPresentFlagName(fieldName),
+                getTypeDesc(booleanType));
 
-                // load the existing value to return
-                mv.visitVarInsn(ALOAD, 0);
-                mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(optionalField.type));
-                jvmCastGen.addBoxInsn(mv, optionalField.type);
-
-                // Set default value for reference types
-                if (checkIfValueIsJReferenceType(optionalField.type)) {
-                    mv.visitVarInsn(ALOAD, 0);
-                    mv.visitInsn(ACONST_NULL);
-                    mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(optionalField.type));
-                }
+        // load the existing value to return
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, className, fieldName, getTypeDesc(field.type));
+        jvmCastGen.addBoxInsn(mv, field.type);
 
-                mv.visitInsn(ARETURN);
-            } else {
-                mv.visitTypeInsn(NEW, UNSUPPORTED_OPERATION_EXCEPTION);
-                mv.visitInsn(DUP);
-                mv.visitMethodInsn(INVOKESPECIAL, UNSUPPORTED_OPERATION_EXCEPTION, JVM_INIT_METHOD, VOID_METHOD_DESC,
-                        false);
-                mv.visitInsn(ATHROW);
-            }
-            i += 1;
-            bTypesCount++;
-            if (bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD == 0) {
-                if (bTypesCount == sortedFields.size()) {
-                    this.createRemoveDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-                } else {
-                    mv.visitLabel(defaultCaseLabel);
-                    mv.visitVarInsn(ALOAD, selfRegIndex);
-                    mv.visitVarInsn(ALOAD, strKeyVarIndex);
-                    mv.visitVarInsn(ALOAD, fieldNameRegIndex);
-                    mv.visitMethodInsn(INVOKEVIRTUAL, className, removeMethod, RECORD_REMOVE, false);
-                    mv.visitInsn(ARETURN);
-                }
-                JvmCodeGenUtil.visitMaxStackForMethod(mv, removeMethod, className);
-                mv.visitEnd();
-            }
-        }
-        if (methodCount != 0 && bTypesCount % MAX_FIELDS_PER_SPLIT_METHOD != 0) {
-            this.createRemoveDefaultCase(mv, defaultCaseLabel, fieldNameRegIndex);
-            JvmCodeGenUtil.visitMaxStackForMethod(mv, removeMethod, className);
-            mv.visitEnd();
+        // Set default value for reference types
+        if (checkIfValueIsJReferenceType(field.type)) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitFieldInsn(PUTFIELD, className, fieldName, getTypeDesc(field.type));
         }
+
+        mv.visitInsn(ARETURN);
     }
 
-    private void createRemoveDefaultCase(MethodVisitor mv, Label defaultCaseLabel, int fieldNameRegIndex) {
-        mv.visitLabel(defaultCaseLabel);
+    private void createRemoveDefaultCase(MethodVisitor mv, int fieldNameRegIndex) {
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, fieldNameRegIndex);
         mv.visitMethodInsn(INVOKESPECIAL, MAP_VALUE_IMPL, "remove",
@@ -820,11 +629,7 @@ public class JvmRecordGen {
                     false);
             splitGetKeysMethod(cw, fields, className);
         }
-        mv.visitVarInsn(ALOAD, keysVarIndex);
-        mv.visitVarInsn(ALOAD, selfIndex); // this
-        mv.visitMethodInsn(INVOKESPECIAL, LINKED_HASH_MAP, "keySet", RECORD_SET, false);
-        mv.visitMethodInsn(INVOKEINTERFACE, SET, "addAll", ADD_COLLECTION, true);
-        mv.visitInsn(POP);
+        addRestFieldCollection(mv, keysVarIndex, "keySet", RECORD_SET, SET);
 
         mv.visitVarInsn(ALOAD, keysVarIndex);
         mv.visitInsn(DUP);
@@ -864,9 +669,7 @@ public class JvmRecordGen {
             }
 
             mv.visitVarInsn(ALOAD, keysVarIndex);
-            mv.visitLdcInsn(decodeIdentifier(fieldName));
-            mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString",
-                    FROM_STRING, false);
+            loadFieldKey(mv, className, bTypesCount);
             mv.visitMethodInsn(INVOKEINTERFACE, SET, ADD_METHOD, ANY_TO_JBOOLEAN, true);
             mv.visitInsn(POP);
             mv.visitLabel(ifNotPresent);
@@ -907,8 +710,9 @@ public class JvmRecordGen {
     private void createBasicTypeGetMethod(ClassWriter cw, Map<String, BField> fields, String className,
                                           JvmCastGen jvmCastGen, TypeKind basicType, String methodName,
                                           String methodDesc, boolean boxed, String boxedTypeDesc) {
-        List<BField> sortedFields = getSortedFields(fields, basicType);
-        if (sortedFields.isEmpty()) {
+        List<BField> fieldList = new ArrayList<>(fields.values());
+        List<Integer> fieldOffsets = getFieldOffsets(fieldList, basicType);
+        if (fieldOffsets.isEmpty()) {
             return;
         }
 
@@ -917,14 +721,16 @@ public class JvmRecordGen {
 
         final int selfRegister = 0;
         final int fieldNameBStringReg = 1;
-        final int fieldNameStringReg = 2;
 
-        castToJavaString(mv, fieldNameBStringReg, fieldNameStringReg);
         Label defaultCaseLabel = new Label();
-        List<Label> labels = JvmCreateTypeGen.createLabelsForSwitch(mv, fieldNameStringReg, sortedFields,
-                0, sortedFields.size(), defaultCaseLabel);
-        List<Label> targetLabels = JvmCreateTypeGen.createLabelsForEqualCheck(mv, fieldNameStringReg, sortedFields,
-                0, sortedFields.size(), labels, defaultCaseLabel);
+        int[] keys = new int[fieldOffsets.size()];
+        Label[] labels = new Label[fieldOffsets.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = fieldOffsets.get(i);
+            labels[i] = new Label();
+        }
+        loadFieldOffset(mv, className, fieldNameBStringReg);
+        mv.visitLookupSwitchInsn(defaultCaseLabel, keys, labels);
         final int returnIns = boxed ? ARETURN :
                 switch (basicType) {
                     case INT -> LRETURN;
@@ -932,10 +738,9 @@ public class JvmRecordGen {
                     case BOOLEAN -> IRETURN;
                     default -> throw new IllegalArgumentException("Unexpected unboxed type: " + basicType);
                 };
-        for (int i = 0; i < sortedFields.size(); i++) {
-            BField field = sortedFields.get(i);
-            Label targetLabel = targetLabels.get(i);
-            mv.visitLabel(targetLabel);
+        for (int i = 0; i < keys.length; i++) {
+            BField field = fieldList.get(keys[i]);
+            mv.visitLabel(labels[i]);
             String fieldName = field.name.value;
 
             mv.visitVarInsn(ALOAD, selfRegister);
@@ -972,19 +777,79 @@ public class JvmRecordGen {
         mv.visitEnd();
     }
 
-    private List<BField> getSortedFields(Map<String, BField> fields, TypeKind basicType) {
-        List<BField> sortedFields = new ArrayList<>();
-        for (BField field: fields.values()) {
-            if (sortedFields.size() >= MAX_FIELDS_PER_SPLIT_METHOD) {
+    private List<Integer> getFieldOffsets(List<BField> fields, TypeKind basicType) {
+        List<Integer> fieldOffsets = new ArrayList<>();
+        for (int offset = 0; offset < fields.size(); offset++) {
+            if (fieldOffsets.size() >= MAX_FIELDS_PER_SPLIT_METHOD) {
                 // Rest will fall through the default case
                 break;
             }
+            BField field = fields.get(offset);
             if (field.type.getKind() != basicType || isOptionalRecordField(field)) {
                 continue;
             }
-            sortedFields.add(field);
+            fieldOffsets.add(offset);
         }
-        sortedFields.sort(FIELD_NAME_HASH_COMPARATOR);
-        return sortedFields;
+        return fieldOffsets;
+    }
+
+    /**
+     * Generates methods which switch on the offset of a declared field, for the offsets in the first register and the
+     * field name in the second register. Each method covers the offsets of up to
+     * {@link org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants#MAX_FIELDS_PER_SPLIT_METHOD} fields and passes
+     * the other offsets on to the next method. The default case of the last method handles the rest fields.
+     */
+    private void splitFieldOffsetSwitch(ClassWriter cw, Map<String, BField> fields, String className, int access,
+                                        String methodName, String methodDesc, int returnInsn,
+                                        BiConsumer<MethodVisitor, BField> fieldCaseGen,
+                                        Consumer<MethodVisitor> defaultCaseGen) {
+        List<BField> fieldList = new ArrayList<>(fields.values());
+        int argCount = Type.getArgumentTypes(methodDesc).length;
+        String splitMethodName = methodName;
+        int methodCount = 0;
+        for (int start = 0; start < fieldList.size(); start += MAX_FIELDS_PER_SPLIT_METHOD) {
+            int end = Math.min(start + MAX_FIELDS_PER_SPLIT_METHOD, fieldList.size());
+            MethodVisitor mv = cw.visitMethod(access, splitMethodName, methodDesc, null, null);
+            mv.visitCode();
+            Label defaultCaseLabel = new Label();
+            Label[] labels = new Label[end - start];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = new Label();
+            }
+            mv.visitVarInsn(ILOAD, FIELD_OFFSET_REG_INDEX);
+            mv.visitTableSwitchInsn(start, end - 1, defaultCaseLabel, labels);
+            for (int offset = start; offset < end; offset++) {
+                mv.visitLabel(labels[offset - start]);
+                fieldCaseGen.accept(mv, fieldList.get(offset));
+            }
+            mv.visitLabel(defaultCaseLabel);
+            String currentMethodName = splitMethodName;
+            if (end < fieldList.size()) {
+                splitMethodName = methodName + ++methodCount;
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ILOAD, FIELD_OFFSET_REG_INDEX);
+                for (int argIndex = FIELD_NAME_REG_INDEX; argIndex <= argCount; argIndex++) {
+                    mv.visitVarInsn(ALOAD, argIndex);
+                }
+                mv.visitMethodInsn(INVOKEVIRTUAL, className, splitMethodName, methodDesc, false);
+                mv.visitInsn(returnInsn);
+            } else {
+                defaultCaseGen.accept(mv);
+            }
+            JvmCodeGenUtil.visitMaxStackForMethod(mv, currentMethodName, className);
+            mv.visitEnd();
+        }
+    }
+
+    private void loadFieldOffset(MethodVisitor mv, String className, int fieldNameRegIndex) {
+        mv.visitFieldInsn(GETSTATIC, className, FIELD_OFFSETS_VAR_NAME, GET_FIELD_OFFSET_TABLE);
+        mv.visitVarInsn(ALOAD, fieldNameRegIndex);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FIELD_OFFSET_TABLE, "getOffset", GET_FIELD_OFFSET, false);
+    }
+
+    private void loadFieldKey(MethodVisitor mv, String className, int fieldOffset) {
+        mv.visitFieldInsn(GETSTATIC, className, FIELD_OFFSETS_VAR_NAME, GET_FIELD_OFFSET_TABLE);
+        mv.visitLdcInsn(fieldOffset);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FIELD_OFFSET_TABLE, "getKey", GET_FIELD_KEY, false);
     }
 }
@@ -24,6 +24,7 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.wso2.ballerinalang.compiler.bir.emit.EmitterUtils.emitBasicBlockRef;
@@ -73,7 +74,73 @@ public class BIREmitter {
     public void emit(BIRNode.BIRPackage birPackage) {
         if (dumpBIR) {
             console.println(emitModule(birPackage));
+            String typeSwitches = emitTypeSwitches(birPackage);
+            if (!typeSwitches.isEmpty()) {
+                console.println(typeSwitches);
+            }
+            console.println(emitNonYieldingFunctions(birPackage));
+        }
+    }
+
+    /**
+     * Emits the number of type tests saved in each function by doing chains of type tests with a single switch.
+     *
+     * @param mod module
+     * @return the number of type tests saved in each function that has a chain of type tests
+     */
+    public static String emitTypeSwitches(BIRNode.BIRPackage mod) {
+        StringBuilder str = new StringBuilder();
+        for (BIRNode.BIRFunction func : mod.functions) {
+            emitTypeSwitches(func, str);
+        }
+        for (BIRNode.BIRTypeDefinition typeDef : mod.typeDefs) {
+            for (BIRNode.BIRFunction func : typeDef.attachedFuncs) {
+                emitTypeSwitches(func, str);
+            }
+        }
+        if (str.length() == 0) {
+            return "";
+        }
+        return "================ Type Switches ================" + emitLBreaks(1) + str;
+    }
+
+    private static void emitTypeSwitches(BIRNode.BIRFunction func, StringBuilder str) {
+        int switchCount = 0;
+        int savedTypeTestCount = 0;
+        for (BIRNode.BIRBasicBlock bb : func.basicBlocks) {
+            if (bb.typeTestChain != null) {
+                switchCount++;
+                // All the type tests of the chain are replaced with a single lookup of the type tag of the value
+                savedTypeTestCount += bb.typeTestChain.size() - 1;
+            }
+        }
+        if (switchCount > 0) {
+            str.append(emitName(func.name)).append(": ").append(savedTypeTestCount).append(" type test(s) saved by ")
+                    .append(switchCount).append(" type switch(es)").append(emitLBreaks(1));
+        }
+    }
+
+    /**
+     * Emits the functions which can never yield, which are generated without the frames to resume them.
+     *
+     * @param mod module
+     * @return the number of functions which can never yield, followed by their names
+     */
+    public static String emitNonYieldingFunctions(BIRNode.BIRPackage mod) {
+        List<BIRNode.BIRFunction> functions = new ArrayList<>(mod.functions);
+        for (BIRNode.BIRTypeDefinition typeDef : mod.typeDefs) {
+            functions.addAll(typeDef.attachedFuncs);
+        }
+        StringBuilder str = new StringBuilder();
+        int nonYieldingCount = 0;
+        for (BIRNode.BIRFunction func : functions) {
+            if (func.nonYielding) {
+                nonYieldingCount++;
+                str.append(emitName(func.name)).append(emitLBreaks(1));
+            }
         }
+        return "================ Non-Yielding Functions ================" + emitLBreaks(1) + nonYieldingCount +
+                " of " + functions.size() + " function(s) can never yield" + emitLBreaks(1) + str;
     }
 
     public static String emitModule(BIRNode.BIRPackage mod) {
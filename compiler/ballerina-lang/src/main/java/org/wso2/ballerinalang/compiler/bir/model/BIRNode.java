@@ -358,6 +358,11 @@ public abstract class BIRNode {
 
         public Set<BIRGlobalVariableDcl> dependentGlobalVars = new TreeSet<>();
 
+        /**
+         * Whether this function can never yield, which is found by the {@code BIRYieldAnalyzer}.
+         */
+        public boolean nonYielding;
+
         // Below fields will only be available on resource functions
         // TODO: consider creating a sub class for resource functions issue: #36964
         public List<BIRVariableDcl> pathParams;
@@ -462,6 +467,8 @@ public abstract class BIRNode {
         public Name id;
         public List<BIRNonTerminator> instructions;
         public BIRTerminator terminator;
+        // Basic blocks of the chain of type tests starting at this basic block, which is done with a single switch
+        public List<BIRBasicBlock> typeTestChain;
         public static final String BIR_BASIC_BLOCK_PREFIX = "bb";
 
         public BIRBasicBlock(int number) {
@@ -65,6 +65,8 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
     private final LargeMethodOptimizer largeMethodOptimizer;
+    private final BIRTypeTestOptimizer typeTestOptimizer;
+    private final BIRYieldAnalyzer yieldAnalyzer;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -82,6 +84,8 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
         this.largeMethodOptimizer = new LargeMethodOptimizer(SymbolTable.getInstance(context));
+        this.typeTestOptimizer = new BIRTypeTestOptimizer();
+        this.yieldAnalyzer = new BIRYieldAnalyzer();
     }
 
     public void optimizePackage(BIRPackage pkg) {
@@ -101,6 +105,12 @@ public class BIROptimizer {
         // Optimize record value creation for default values - remove unnecessary method call
         BIRRecordValueOptimizer recordValueOptimizer = new BIRRecordValueOptimizer();
         recordValueOptimizer.optimizeNode(pkg);
+
+        // Find chains of type tests on the same variable, which can be done with a single switch
+        this.typeTestOptimizer.optimizeNode(pkg);
+
+        // Find functions which can never yield, which can be done without the frames to resume them
+        this.yieldAnalyzer.analyze(pkg);
     }
 
     /**
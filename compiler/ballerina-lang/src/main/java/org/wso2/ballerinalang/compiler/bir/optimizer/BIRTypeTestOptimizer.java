@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Find chains of type tests on the same variable, such as the ones created for `match` statements and
+ * `if x is A {} else if x is B {}` statements, which can be done with a single switch on the type of the value.
+ * <p>
+ * A type test can be part of a chain if the target type is a simple basic type, or a union of them, since whether a
+ * value belongs to such a type only depends on the basic type of the value. A comparison of the variable with an int
+ * or string constant using `==`, such as the ones created for constant match patterns, can be part of a chain as
+ * well, since only values of that basic type can be equal to the constant. A chain is a sequence of basic blocks,
+ * each of which branches on the result of a test of the variable to the next basic block of the chain, if the test
+ * fails. The first basic block of the chain is marked with the chain, so that the code generator can jump to the
+ * target basic block of the first matching test directly, looking up the constants of the basic type of the value
+ * by hash.
+ *
+ * @since 2201.9.0
+ */
+public class BIRTypeTestOptimizer extends BIRVisitor {
+
+    private final Map<BIRVariableDcl, Integer> readCounts = new HashMap<>();
+
+    public void optimizeNode(BIRNode node) {
+        node.accept(this);
+    }
+
+    @Override
+    public void visit(BIRNode.BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRFunction birFunction) {
+        for (BIRBasicBlock bb : birFunction.basicBlocks) {
+            for (BIRNonTerminator instruction : bb.instructions) {
+                countReads(instruction);
+            }
+            countReads(bb.terminator);
+        }
+
+        Set<BIRBasicBlock> chainedBBs = new HashSet<>();
+        for (BIRBasicBlock bb : birFunction.basicBlocks) {
+            bb.typeTestChain = null;
+            if (chainedBBs.contains(bb)) {
+                continue;
+            }
+            List<BIRBasicBlock> chain = findTypeTestChain(bb);
+            if (chain.size() > 1) {
+                bb.typeTestChain = chain;
+                chainedBBs.addAll(chain);
+            }
+        }
+        readCounts.clear();
+    }
+
+    /**
+     * Checks whether the given basic blocks still form a chain of tests on the same variable. The code generator uses
+     * this to check that the chain was not changed after it was found.
+     *
+     * @param chain basic blocks of the chain
+     * @return true if the basic blocks form a chain of tests
+     */
+    public static boolean isTypeTestChain(List<BIRBasicBlock> chain) {
+        BIRVariableDcl valueVar = getTestedVariable(chain.get(0));
+        if (valueVar == null) {
+            return false;
+        }
+        for (int i = 0; i < chain.size(); i++) {
+            BIRBasicBlock bb = chain.get(i);
+            if (getTestedVariable(bb) != valueVar || (i > 0 && bb.instructions.size() != getTestSize(bb)) ||
+                    !isBranchOn(bb.terminator, getLastInstruction(bb).lhsOp.variableDcl)) {
+                return false;
+            }
+            if (i + 1 < chain.size() && ((BIRTerminator.Branch) bb.terminator).falseBB != chain.get(i + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the constant the variable is compared with in a basic block of a chain.
+     *
+     * @param bb basic block of a chain
+     * @return the constant as a {@link Long} or a {@link String}, or null if the basic block does a type test
+     */
+    public static Object getTestedConstant(BIRBasicBlock bb) {
+        BIRNonTerminator.ConstantLoad constantLoad = getConstantLoad(bb);
+        if (constantLoad == null) {
+            return null;
+        }
+        Object value = constantLoad.value;
+        if (TypeTags.isStringTypeTag(Types.getImpliedType(constantLoad.type).tag)) {
+            return String.valueOf(value);
+        }
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * Checks whether the type can be tested by switching on the basic type of the value.
+     *
+     * @param type type to check
+     * @return true if the type is a simple basic type or a union of them
+     */
+    public static boolean isSwitchableType(BType type) {
+        type = Types.getImpliedType(type);
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+            case TypeTags.NIL:
+                return true;
+            case TypeTags.UNION:
+                for (BType memberType : ((BUnionType) type).getMemberTypes()) {
+                    if (!isSwitchableType(memberType)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private List<BIRBasicBlock> findTypeTestChain(BIRBasicBlock headBB) {
+        List<BIRBasicBlock> chain = new ArrayList<>();
+        BIRVariableDcl valueVar = getTestedVariable(headBB);
+        if (valueVar == null || !isChainable(headBB)) {
+            return chain;
+        }
+        chain.add(headBB);
+        BIRBasicBlock bb = ((BIRTerminator.Branch) headBB.terminator).falseBB;
+        while (!chain.contains(bb) && getTestedVariable(bb) == valueVar && bb.instructions.size() == getTestSize(bb) &&
+                isChainable(bb)) {
+            chain.add(bb);
+            bb = ((BIRTerminator.Branch) bb.terminator).falseBB;
+        }
+        return chain;
+    }
+
+    private boolean isChainable(BIRBasicBlock bb) {
+        // The result of the test is not stored when the chain is used, so it should only be used by the branch
+        BIRVariableDcl resultVar = getLastInstruction(bb).lhsOp.variableDcl;
+        if (!isBranchOn(bb.terminator, resultVar) || readCounts.getOrDefault(resultVar, 0) != 1) {
+            return false;
+        }
+        BIRNonTerminator.ConstantLoad constantLoad = getConstantLoad(bb);
+        if (constantLoad != null) {
+            // Neither is the constant loaded for the comparison
+            return readCounts.getOrDefault(constantLoad.lhsOp.variableDcl, 0) == 1;
+        }
+        return isSwitchableType(((BIRNonTerminator.TypeTest) getLastInstruction(bb)).type);
+    }
+
+    // Returns the variable tested by a basic block which ends with a type test of the variable, or with a comparison
+    // of the variable with a constant loaded right before the comparison.
+    private static BIRVariableDcl getTestedVariable(BIRBasicBlock bb) {
+        BIRNonTerminator lastInstruction = getLastInstruction(bb);
+        if (lastInstruction == null) {
+            return null;
+        }
+        if (lastInstruction.kind == InstructionKind.TYPE_TEST) {
+            return ((BIRNonTerminator.TypeTest) lastInstruction).rhsOp.variableDcl;
+        }
+        BIRNonTerminator.ConstantLoad constantLoad = getConstantLoad(bb);
+        if (constantLoad == null) {
+            return null;
+        }
+        BIRNonTerminator.BinaryOp comparison = (BIRNonTerminator.BinaryOp) lastInstruction;
+        BIRVariableDcl constantVar = constantLoad.lhsOp.variableDcl;
+        if (comparison.rhsOp2.variableDcl == constantVar && comparison.rhsOp1.variableDcl != constantVar) {
+            return comparison.rhsOp1.variableDcl;
+        }
+        if (comparison.rhsOp1.variableDcl == constantVar && comparison.rhsOp2.variableDcl != constantVar) {
+            return comparison.rhsOp2.variableDcl;
+        }
+        return null;
+    }
+
+    private static int getTestSize(BIRBasicBlock bb) {
+        return getConstantLoad(bb) != null ? 2 : 1;
+    }
+
+    private static BIRNonTerminator.ConstantLoad getConstantLoad(BIRBasicBlock bb) {
+        int size = bb.instructions.size();
+        if (size < 2 || bb.instructions.get(size - 1).kind != InstructionKind.EQUAL ||
+                bb.instructions.get(size - 2).kind != InstructionKind.CONST_LOAD) {
+            return null;
+        }
+        BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) bb.instructions.get(size - 2);
+        int typeTag = Types.getImpliedType(constantLoad.type).tag;
+        if (constantLoad.value == null ||
+                !(TypeTags.isIntegerTypeTag(typeTag) || typeTag == TypeTags.BYTE || TypeTags.isStringTypeTag(typeTag))) {
+            return null;
+        }
+        return constantLoad;
+    }
+
+    private static BIRNonTerminator getLastInstruction(BIRBasicBlock bb) {
+        return bb.instructions.isEmpty() ? null : bb.instructions.get(bb.instructions.size() - 1);
+    }
+
+    private static boolean isBranchOn(BIRTerminator terminator, BIRVariableDcl conditionVar) {
+        return terminator != null && terminator.kind == InstructionKind.BRANCH &&
+                ((BIRTerminator.Branch) terminator).op.variableDcl == conditionVar;
+    }
+
+    private void countReads(BIRAbstractInstruction instruction) {
+        if (instruction == null) {
+            return;
+        }
+        for (BIROperand operand : instruction.getRhsOperands()) {
+            if (operand != null) {
+                readCounts.merge(operand.variableDcl, 1, Integer::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Find the functions of a module which can never yield, so that the code generator can leave out the frames used to
+ * save and restore the state of a function when the strand yields, and the yield checks after the calls.
+ * <p>
+ * A function can yield only at its terminators. Jumps, branches, returns and panics never yield, and a call never
+ * yields if it is a direct call of a function of the same module that never yields. Any other terminator, such as
+ * a worker interaction, a wait, a lock, an asynchronous call, a function pointer call, a method call or a call of
+ * an external function or a function of another module, may yield. Starting from all the functions of the module,
+ * the functions which may yield are removed until nothing changes, so that recursive functions can also qualify.
+ *
+ * @since 2201.9.0
+ */
+public class BIRYieldAnalyzer {
+
+    public void analyze(BIRPackage pkg) {
+        Map<String, BIRFunction> moduleFunctions = new HashMap<>();
+        List<BIRFunction> functions = new ArrayList<>();
+        for (BIRFunction func : pkg.functions) {
+            moduleFunctions.put(func.name.value, func);
+            functions.add(func);
+        }
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            if (typeDef.attachedFuncs != null) {
+                functions.addAll(typeDef.attachedFuncs);
+            }
+        }
+
+        for (BIRFunction func : functions) {
+            func.nonYielding = !Symbols.isFlagOn(func.flags, Flags.NATIVE) && !func.basicBlocks.isEmpty();
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (BIRFunction func : functions) {
+                if (func.nonYielding && mayYield(func, pkg, moduleFunctions)) {
+                    func.nonYielding = false;
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private boolean mayYield(BIRFunction func, BIRPackage pkg, Map<String, BIRFunction> moduleFunctions) {
+        for (BIRBasicBlock bb : func.basicBlocks) {
+            BIRTerminator terminator = bb.terminator;
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case RETURN:
+                case PANIC:
+                    break;
+                case CALL:
+                    if (mayYield((BIRTerminator.Call) terminator, pkg, moduleFunctions)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean mayYield(BIRTerminator.Call call, BIRPackage pkg, Map<String, BIRFunction> moduleFunctions) {
+        if (call.isVirtual || !pkg.packageID.equals(call.calleePkg)) {
+            return true;
+        }
+        BIRFunction callee = moduleFunctions.get(call.name.value);
+        return callee == null || !callee.nonYielding;
+    }
+}
@@ -1565,6 +1565,10 @@ public class Desugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangSimpleVariableDef varDefNode) {
+        BLangSimpleVariable variable = varDefNode.var;
+        if (variable.expr != null && variable.expr.getKind() == NodeKind.TABLE_CONSTRUCTOR_EXPR) {
+            variable.expr = queryDesugar.addInferredTableIndexes(variable.symbol, variable.expr, env);
+        }
         varDefNode.var = rewrite(varDefNode.var, env);
         result = varDefNode;
     }
@@ -3656,6 +3660,15 @@ public class Desugar extends BLangNodeVisitor {
 
     private BLangExpression createConditionFromMatchPatterns(BLangMatchClause matchClause,
                                                              BLangSimpleVariable matchExprVar, Location pos) {
+        List<BLangMatchPattern> matchPatterns = matchClause.matchPatterns;
+        if (matchPatterns.size() == 1 && matchPatterns.get(0).getKind() == NodeKind.CONST_MATCH_PATTERN) {
+            // A constant pattern binds no variables, so the comparison is the condition itself. This keeps the
+            // comparisons of consecutive clauses in a chain, which is done with a single switch.
+            BLangSimpleVarRef matchExprVarRef = ASTBuilderUtil.createVariableRef(matchExprVar.pos,
+                    matchExprVar.symbol);
+            return createConditionForConstMatchPattern((BLangConstPattern) matchPatterns.get(0), matchExprVarRef);
+        }
+
         BLangSimpleVariableDef resultVarDef = createVarDef("$result$", symTable.booleanType, null, pos);
         BLangSimpleVarRef resultVarRef = ASTBuilderUtil.createVariableRef(pos, resultVarDef.var.symbol);
         BLangBlockStmt mainBlock = ASTBuilderUtil.createBlockStmt(pos);
@@ -3664,7 +3677,6 @@ public class Desugar extends BLangNodeVisitor {
         // $result$ = true
         BLangBlockStmt successBody = createSuccessOrFailureBody(true, resultVarRef, pos);
 
-        List<BLangMatchPattern> matchPatterns = matchClause.matchPatterns;
         BLangIf parentIfElse = createIfElseStmtFromMatchPattern(matchPatterns.get(0), matchExprVar, successBody, pos);
         BLangIf currentIfElse = parentIfElse;
 
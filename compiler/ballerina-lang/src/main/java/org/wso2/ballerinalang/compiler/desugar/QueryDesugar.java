@@ -17,9 +17,11 @@
 package org.wso2.ballerinalang.compiler.desugar;
 
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
@@ -33,18 +35,22 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSequenceSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BFiniteType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BSequenceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleMember;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -59,12 +65,14 @@ import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangRecordVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -111,6 +119,7 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangMatchGuard;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangMultipleWorkerReceive;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangNamedArgsExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangNumericLiteral;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangObjectConstructorExpression;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangQueryAction;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangQueryExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangRawTemplateLiteral;
@@ -186,7 +195,10 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.CompilerUtils;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -197,8 +209,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -215,10 +229,15 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_LET_FUNCTION = new Name("createLetFunction");
     private static final Name QUERY_CREATE_INNER_JOIN_FUNCTION = new Name("createInnerJoinFunction");
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION = new Name("createIndexedInnerJoinFunction");
+    private static final Name QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION = new Name("createIndexedOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_ORDER_BY_LIMIT_FUNCTION = new Name("createOrderByLimitFunction");
     private static final Name QUERY_CREATE_GROUP_BY_FUNCTION = new Name("createGroupByFunction");
     private static final Name QUERY_CREATE_COLLECT_FUNCTION = new Name("createCollectFunction");
+    private static final Name QUERY_CREATE_AGGREGATE_GROUP_BY_FUNCTION = new Name("createAggregateGroupByFunction");
+    private static final Name QUERY_CREATE_AGGREGATE_COLLECT_FUNCTION = new Name("createAggregateCollectFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_ON_CONFLICT_FUNCTION = new Name("createOnConflictFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -226,6 +245,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
+    private static final Name QUERY_TO_ARRAY_IN_PARALLEL_FUNCTION = new Name("toArrayInParallel");
     private static final Name COLLECT_QUERY_FUNCTION = new Name("collectQuery");
     private static final Name QUERY_TO_STRING_FUNCTION = new Name("toString");
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
@@ -237,7 +257,13 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_GET_STREAM_FOR_ON_CONFLICT_FROM_PIPELINE_FUNCTION = 
             new Name("getStreamForOnConflictFromPipeline");
     private static final Name QUERY_GET_QUERY_ERROR_ROOT_CAUSE_FUNCTION = new Name("getQueryErrorRootCause");
+    private static final Name QUERY_GET_INDEXED_ROWS_FUNCTION = new Name("getIndexedRows");
+    private static final Name QUERY_ADD_TABLE_INDEX_FUNCTION = new Name("addTableIndex");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
+    // Langlib modules whose isolated functions only use their arguments.
+    private static final Set<String> STATELESS_LANG_LIBS = Set.of("lang.array", "lang.boolean", "lang.decimal",
+            "lang.error", "lang.float", "lang.int", "lang.map", "lang.regexp", "lang.string", "lang.table",
+            "lang.value", "lang.xml");
     private static final Name QUERY_BODY_DISTINCT_ERROR_NAME = new Name("Error");
     private static final Name QUERY_PIPELINE_DISTINCT_ERROR_NAME = new Name("CompleteEarlyError");
     private static final Name QUERY_DISTINCT_UNION_ERROR_NAME = new Name("QueryErrorTypes");
@@ -247,16 +273,19 @@ public class QueryDesugar extends BLangNodeVisitor {
     private BLangBlockFunctionBody currentQueryLambdaBody;
     private Map<String, BSymbol> identifiers;
     private int streamElementCount = 0;
+    private int aggregateCount = 0;
     private final Desugar desugar;
     private final SymbolTable symTable;
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final CompilerOptions compilerOptions;
     private SymbolEnv env;
     private SymbolEnv queryEnv;
     private boolean containsCheckExpr;
     private boolean withinQuery = false;
     private boolean withinLambdaOrArrowFunc = false;
+    private boolean isolatedLambdas = false;
     private HashSet<BType> checkedErrorList;
     private BLangNode result;
 
@@ -267,6 +296,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -287,6 +317,14 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangStatementExpression desugar(BLangQueryExpr queryExpr, SymbolEnv env,
                                      List<BLangStatement> stmtsToBePropagated) {
+        this.env = env;
+        boolean parallelQuery = isParallelQueryEnabled();
+        if (parallelQuery && isParallelizableQuery(queryExpr)) {
+            return desugarToParallelQuery(queryExpr, env, stmtsToBePropagated);
+        }
+        if (CompilerUtils.isQueryFusionEnabled() && isFusibleQuery(queryExpr)) {
+            return desugarToFusedLoop(queryExpr);
+        }
         containsCheckExpr = false;
         HashSet<BType> prevCheckedErrorList = this.checkedErrorList;
         this.checkedErrorList = new HashSet<>();
@@ -294,8 +332,11 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        // The clauses before the grouping clause are isolated, which is turned off once the grouping clause is added.
+        isolatedLambdas = parallelQuery && isParallelizableAggregation(queryExpr);
         BLangVariableReference streamRef = buildStream(clauses, queryExpr.getBType(), env,
                 queryBlock, stmtsToBePropagated);
+        isolatedLambdas = false;
         BLangExpression result = streamRef;
         BLangLiteral isReadonly = ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
                 Symbols.isFlagOn(queryExpr.getBType().flags, Flags.READONLY));
@@ -354,6 +395,297 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Checks whether the query expression can be desugared to a single loop. This is possible when the query only has
+     * a from clause over a list followed by let and where clauses and a select clause which produces a list. Queries
+     * with clauses which need to materialise frames (join, order by, group by, etc.), check expressions or closures
+     * which may capture query variables use the stream pipeline.
+     *
+     * @param queryExpr query expression to be checked.
+     * @return true if the query expression can be fused into a single loop.
+     */
+    private boolean isFusibleQuery(BLangQueryExpr queryExpr) {
+        if (!isListSelectQuery(queryExpr)) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        int collectionTag = Types.getImpliedType(((BLangFromClause) clauses.get(0)).collection.getBType()).tag;
+        if (collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.TUPLE) {
+            return false;
+        }
+        FusibleQueryAnalyzer analyzer = new FusibleQueryAnalyzer();
+        analyzer.visitNode(clauses, null);
+        return analyzer.supported;
+    }
+
+    /**
+     * Checks whether query expressions with isolated clauses over lists and tables should be executed in parallel,
+     * which is enabled by the `parallelQuery` build option of the package.
+     *
+     * @return true if parallel query execution is enabled
+     */
+    private boolean isParallelQueryEnabled() {
+        return Boolean.parseBoolean(compilerOptions.get(CompilerOptionName.PARALLEL_QUERY));
+    }
+
+    /**
+     * Checks whether the query expression can be executed in parallel. In addition to the shape required for fusing,
+     * the input has to be an array or a table and the clauses have to be processable in parallel as per
+     * {@link #isParallelizableInput(List, int, List)}.
+     *
+     * @param queryExpr query expression to be checked.
+     * @return true if the query expression can be executed in parallel.
+     */
+    private boolean isParallelizableQuery(BLangQueryExpr queryExpr) {
+        if (!isListSelectQuery(queryExpr)) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        return isParallelizableInput(clauses, clauses.size(), new ArrayList<>());
+    }
+
+    /**
+     * Checks whether the clauses before the grouping clause of the query expression can be executed in parallel. This
+     * is the case for a from clause over an array or a table followed by let and where clauses and a group by or
+     * collect clause, when these clauses can be processed in parallel as per
+     * {@link #isParallelizableInput(List, int, List)}. The frames of each chunk are aggregated separately and merged
+     * in input order, which the runtime only does when the aggregate functions can be combined exactly. The clauses
+     * after the grouping clause are executed sequentially.
+     *
+     * @param queryExpr query expression to be checked.
+     * @return true if the clauses before the grouping clause can be executed in parallel.
+     */
+    private boolean isParallelizableAggregation(BLangQueryExpr queryExpr) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        if (clauses.get(0).getKind() != NodeKind.FROM) {
+            return false;
+        }
+        int groupingIndex = 1;
+        while (groupingIndex < clauses.size() && (clauses.get(groupingIndex).getKind() == NodeKind.LET_CLAUSE ||
+                clauses.get(groupingIndex).getKind() == NodeKind.WHERE)) {
+            groupingIndex++;
+        }
+        if (groupingIndex == clauses.size()) {
+            return false;
+        }
+        BLangNode groupingClause = clauses.get(groupingIndex);
+        List<BLangSimpleVariableDef> groupingKeyDefs = new ArrayList<>();
+        if (groupingClause.getKind() == NodeKind.GROUP_BY) {
+            // Grouping keys which declare a variable are computed by let functions before the group by clause.
+            for (BLangGroupingKey key : ((BLangGroupByClause) groupingClause).groupingKeyList) {
+                if (key.variableDef != null) {
+                    groupingKeyDefs.add(key.variableDef);
+                }
+            }
+        } else if (groupingClause.getKind() != NodeKind.COLLECT) {
+            return false;
+        }
+        return isParallelizableInput(clauses, groupingIndex, groupingKeyDefs);
+    }
+
+    /**
+     * Checks whether the clauses before the given index, which are a from clause followed by let and where clauses,
+     * can be applied to the members of the input on separate strands without a visible change in behaviour. The input
+     * has to be an array or a table, the query variables have to be readonly and the clauses must not use mutable or
+     * module level state. Variables other than the query variables must be constants, final readonly module variables
+     * or readonly local variables. Only isolated functions which do not use isolated module variables or isolated
+     * objects may be called: the isolated langlib functions on values and the isolated functions of the current module
+     * which use neither lock statements nor calls of other functions. Since an isolated function may update isolated
+     * module variables within a lock statement, such calls would otherwise run out of order.
+     *
+     * @param clauses         clauses of the query expression.
+     * @param endIndex        index of the first clause which is not applied in parallel.
+     * @param groupingKeyDefs variables declared by the grouping keys, which are also computed in parallel.
+     * @return true if the clauses can be applied in parallel.
+     */
+    private boolean isParallelizableInput(List<BLangNode> clauses, int endIndex,
+                                          List<BLangSimpleVariableDef> groupingKeyDefs) {
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        int collectionTag = Types.getImpliedType(fromClause.collection.getBType()).tag;
+        if (collectionTag != TypeTags.ARRAY && collectionTag != TypeTags.TABLE) {
+            return false;
+        }
+        Set<BSymbol> querySymbols = new HashSet<>(getIntroducedSymbols(
+                (BLangVariable) fromClause.variableDefinitionNode.getVariable()));
+        for (BLangNode clause : clauses.subList(1, endIndex)) {
+            if (clause.getKind() == NodeKind.LET_CLAUSE) {
+                querySymbols.addAll(getIntroducedSymbols((BLangLetClause) clause));
+            }
+        }
+        for (BLangSimpleVariableDef groupingKeyDef : groupingKeyDefs) {
+            if (groupingKeyDef.var.symbol != null) {
+                querySymbols.add(groupingKeyDef.var.symbol);
+            }
+        }
+        for (BSymbol symbol : querySymbols) {
+            if (!types.isSubTypeOfReadOnly(symbol.type, env)) {
+                return false;
+            }
+        }
+        ParallelQueryAnalyzer analyzer = new ParallelQueryAnalyzer(querySymbols);
+        analyzer.visitNode(clauses.subList(1, endIndex), null);
+        analyzer.visitNode(groupingKeyDefs, null);
+        return analyzer.supported;
+    }
+
+    private boolean isListSelectQuery(BLangQueryExpr queryExpr) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.isMap) {
+            return false;
+        }
+        BType resultType = Types.getImpliedType(queryExpr.getBType());
+        if (resultType.tag != TypeTags.ARRAY || ((BArrayType) resultType).state != BArrayState.OPEN ||
+                Symbols.isFlagOn(queryExpr.getBType().flags, Flags.READONLY) ||
+                Symbols.isFlagOn(resultType.flags, Flags.READONLY)) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        if (clauses.get(0).getKind() != NodeKind.FROM) {
+            return false;
+        }
+        int lastIndex = clauses.size() - 1;
+        if (clauses.get(lastIndex).getKind() != NodeKind.SELECT) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, lastIndex)) {
+            NodeKind kind = clause.getKind();
+            if (kind != NodeKind.LET_CLAUSE && kind != NodeKind.WHERE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Desugar a parallelizable query expression to a stream pipeline which is executed by splitting the input. The
+     * clause functions are isolated, so that they can be called from the strands processing the chunks.
+     * _StreamPipeline pipeline = createPipeline(collection);
+     * ... add input, let, where and select functions ...
+     * T[]|error result = toArrayInParallel(pipeline, []);
+     *
+     * @param queryExpr           query expression to be desugared.
+     * @param env                 symbol env.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToParallelQuery(BLangQueryExpr queryExpr, SymbolEnv env,
+                                                            List<BLangStatement> stmtsToBePropagated) {
+        containsCheckExpr = false;
+        HashSet<BType> prevCheckedErrorList = this.checkedErrorList;
+        this.checkedErrorList = new HashSet<>();
+
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        Location pos = clauses.get(0).pos;
+        BType resultType = queryExpr.getBType();
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+        isolatedLambdas = true;
+        BLangVariableReference pipelineRef = buildPipeline(clauses, resultType, env, queryBlock,
+                stmtsToBePropagated);
+        isolatedLambdas = false;
+        BLangArrayLiteral arr = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arr.exprs = new ArrayList<>();
+        arr.setBType(Types.getImpliedType(resultType));
+        BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
+                QUERY_TO_ARRAY_IN_PARALLEL_FUNCTION, Lists.of(pipelineRef, arr), pos);
+        handleErrorReturnsFromQuery(pos, result, queryBlock, false, resultType);
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                addTypeConversionExpr(result, resultType));
+        stmtExpr.setBType(resultType);
+        this.checkedErrorList = prevCheckedErrorList;
+        return stmtExpr;
+    }
+
+    /**
+     * Desugar a fusible query expression to a single loop, where the query variables become locals of the loop and no
+     * frames are created.
+     * T[] $streamElement$_0 = [];
+     * int $streamElement$_1 = 0;
+     * foreach var x in collection {
+     *     int y = ...;                 // let clause
+     *     if !(x > y) {                // where clause
+     *         continue;
+     *     }
+     *     $streamElement$_0[$streamElement$_1] = selectExpr;
+     *     $streamElement$_1 = $streamElement$_1 + 1;
+     * }
+     *
+     * @param queryExpr query expression to be desugared.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToFusedLoop(BLangQueryExpr queryExpr) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BType resultType = queryExpr.getBType();
+        BType elementType = ((BArrayType) Types.getImpliedType(resultType)).eType;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BLangArrayLiteral resultLiteral = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        resultLiteral.exprs = new ArrayList<>();
+        resultLiteral.setBType(resultType);
+        BVarSymbol resultSymbol = addQueryVariable(queryBlock, pos, resultType, resultLiteral);
+        BVarSymbol indexSymbol = addQueryVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = fromClause.collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.body = ASTBuilderUtil.createBlockStmt(pos);
+        queryBlock.addStatement(foreach);
+
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        foreach.body.addStatement((BLangStatement) letVariable.definitionNode);
+                    }
+                    break;
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangIf ifNode = ASTBuilderUtil.createIfStmt(whereClause.pos, foreach.body);
+                    ifNode.expr = desugar.createNotBinaryExpression(whereClause.pos, whereClause.expression);
+                    ifNode.body = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    ASTBuilderUtil.createContinueStmt(whereClause.pos, ifNode.body);
+                    break;
+                case SELECT:
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    Location selectPos = selectClause.pos;
+                    BLangIndexBasedAccess resultAccess = ASTBuilderUtil.createIndexBasesAccessExpr(selectPos,
+                            elementType, resultSymbol, ASTBuilderUtil.createVariableRef(selectPos, indexSymbol));
+                    resultAccess.isLValue = true;
+                    foreach.body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectPos, resultAccess,
+                            types.addConversionExprIfRequired(selectClause.expression, elementType)));
+                    BLangSimpleVarRef indexRef = ASTBuilderUtil.createVariableRef(selectPos, indexSymbol);
+                    foreach.body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectPos, indexRef,
+                            ASTBuilderUtil.createBinaryExpr(selectPos, indexRef,
+                                    ASTBuilderUtil.createLiteral(selectPos, symTable.intType, 1L),
+                                    symTable.intType, OperatorKind.ADD,
+                                    (BOperatorSymbol) symResolver.resolveBinaryOperator(OperatorKind.ADD,
+                                            symTable.intType, symTable.intType))));
+                    break;
+            }
+        }
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                ASTBuilderUtil.createVariableRef(pos, resultSymbol));
+        stmtExpr.setBType(resultType);
+        return stmtExpr;
+    }
+
+    private BVarSymbol addQueryVariable(BLangBlockStmt blockStmt, Location pos, BType type,
+                                           BLangExpression initExpr) {
+        String name = getNewVarName();
+        BVarSymbol symbol = new BVarSymbol(0, Names.fromString(name), env.scope.owner.pkgID, type,
+                env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, initExpr, symbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return symbol;
+    }
+
     private BMapType getMapType(BType type) {
         BMapType resultantType = (BMapType) Types.getImpliedType(types.getSafeType(type, false, true));
         return resultantType;
@@ -498,13 +830,29 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env,
                                        BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
+        return addGetStreamFromPipeline(block, buildPipeline(clauses, resultType, env, block, stmtsToBePropagated));
+    }
+
+    /**
+     * Write the pipeline to the given `block` and return the reference to the pipeline.
+     *
+     * @param clauses list of query clauses.
+     * @param resultType result type of the query output.
+     * @param env symbol env.
+     * @param block parent block to write to.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return variableReference to created _StreamPipeline.
+     */
+    private BLangVariableReference buildPipeline(List<BLangNode> clauses, BType resultType, SymbolEnv env,
+                                                 BLangBlockStmt block, List<BLangStatement> stmtsToBePropagated) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                getIndexedCollection(initFromClause, clauses, resultType), resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -516,12 +864,23 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case JOIN:
                     BLangJoinClause joinClause = (BLangJoinClause) clause;
+                    String joinFieldName = getIndexedJoinField(joinClause);
+                    BLangExpression joinCollection = joinClause.collection;
+                    BVarSymbol joinTableSymbol = null;
+                    if (joinFieldName != null) {
+                        // The table is used both to create the pipeline and to look up the rows by the index.
+                        joinTableSymbol = addQueryVariable(block, joinClause.pos, joinCollection.getBType(),
+                                joinCollection);
+                        joinCollection = ASTBuilderUtil.createVariableRef(joinClause.pos, joinTableSymbol);
+                    }
                     BLangVariableReference joinPipeline = addPipeline(block, joinClause.pos,
-                            joinClause.collection, resultType);
+                            joinCollection, resultType);
                     BLangVariableReference joinInputFunc = addInputFunction(block, joinClause, stmtsToBePropagated);
                     addStreamFunction(block, joinPipeline, joinInputFunc);
-                    BLangVariableReference joinFunc = addJoinFunction(block, joinClause, joinPipeline,
-                            stmtsToBePropagated);
+                    BLangVariableReference joinFunc = joinFieldName == null ?
+                            addJoinFunction(block, joinClause, joinPipeline, stmtsToBePropagated) :
+                            addIndexedJoinFunction(block, joinClause, joinPipeline, stmtsToBePropagated,
+                                    joinTableSymbol, joinFieldName, joinInputFunc);
                     addStreamFunction(block, initPipeline, joinFunc);
                     break;
                 case LET_CLAUSE:
@@ -535,14 +894,32 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
+                    BLangOrderByClause orderByClause = (BLangOrderByClause) clause;
+                    BLangNode nextClause = i + 1 < clauses.size() ? clauses.get(i + 1) : null;
+                    if (nextClause != null && nextClause.getKind() == NodeKind.LIMIT &&
+                            isFrameIndependentLimit((BLangLimitClause) nextClause, orderByClause)) {
+                        BLangVariableReference orderByLimitFunc = addOrderByLimitFunction(block, orderByClause,
+                                (BLangLimitClause) nextClause, stmtsToBePropagated);
+                        addStreamFunction(block, initPipeline, orderByLimitFunc);
+                        i++;
+                        break;
+                    }
+                    BLangVariableReference orderFunc = addOrderByFunction(block, orderByClause,
                             stmtsToBePropagated);
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case GROUP_BY:
-                    BLangVariableReference groupByFunc = addGroupByFunction(block, (BLangGroupByClause) clause,
-                            stmtsToBePropagated, initPipeline);
+                    BLangGroupByClause groupByClause = (BLangGroupByClause) clause;
+                    List<BLangNode> groupedClauses = clauses.subList(i + 1, clauses.size());
+                    AggregateAnalyzer groupByAggregates = hasGroupingClause(groupedClauses) ? null :
+                            analyzeAggregates(groupByClause.nonGroupingKeys, groupByClause.env, groupedClauses);
+                    BLangVariableReference groupByFunc = groupByAggregates == null ?
+                            addGroupByFunction(block, groupByClause, stmtsToBePropagated, initPipeline) :
+                            addAggregateGroupByFunction(block, groupByClause, groupByAggregates,
+                                    stmtsToBePropagated, initPipeline);
                     addStreamFunction(block, initPipeline, groupByFunc);
+                    // The clauses after the grouping clause are executed on the strand of the query.
+                    isolatedLambdas = false;
                     break;
                 case SELECT:
                     BLangVariableReference selectFunc = addSelectFunction(block, (BLangSelectClause) clause,
@@ -550,8 +927,16 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, selectFunc);
                     break;
                 case COLLECT:
-                    BLangVariableReference collectFunc = addCollectFunction(block, (BLangCollectClause) clause,
-                            stmtsToBePropagated);
+                    BLangCollectClause collectClause = (BLangCollectClause) clause;
+                    AggregateAnalyzer collectAggregates = hasGroupingClause(clauses.subList(0, i)) ? null :
+                            analyzeAggregates(collectClause.nonGroupingKeys, collectClause.env,
+                                    Lists.of(collectClause.expression));
+                    boolean parallelCollect = isolatedLambdas;
+                    isolatedLambdas = false;
+                    BLangVariableReference collectFunc = collectAggregates == null ?
+                            addCollectFunction(block, collectClause, stmtsToBePropagated) :
+                            addAggregateCollectFunction(block, collectClause, collectAggregates, parallelCollect,
+                                    stmtsToBePropagated);
                     addStreamFunction(block, initPipeline, collectFunc);
                     break;
                 case DO:
@@ -571,7 +956,233 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
             }
         }
-        return addGetStreamFromPipeline(block, initPipeline);
+        return initPipeline;
+    }
+
+    /**
+     * Returns the collection of the initial from clause. If the collection is a table and the query starts with a
+     * where clause which compares a field of the rows with a query-invariant value, below is returned instead, so that
+     * the rows are looked up using an index of the table if there is one. The where clause is still applied to the
+     * returned rows.
+     * getIndexedRows(collection, "field", "==", value)
+     *
+     * @param fromClause initial from clause.
+     * @param clauses    list of query clauses.
+     * @param resultType result type of the query output.
+     * @return the collection to create the pipeline from.
+     */
+    private BLangExpression getIndexedCollection(BLangFromClause fromClause, List<BLangNode> clauses,
+                                                 BType resultType) {
+        BLangExpression collection = fromClause.collection;
+        // A stream is evaluated lazily, hence the rows are not looked up in advance.
+        if (Types.getImpliedType(resultType).tag == TypeTags.STREAM) {
+            return collection;
+        }
+        TableLookup lookup = getTableLookup(fromClause, clauses);
+        if (lookup == null) {
+            return collection;
+        }
+        Location pos = fromClause.pos;
+        BLangInvocation indexedRows = createQueryLibInvocation(QUERY_GET_INDEXED_ROWS_FUNCTION,
+                Lists.of(collection, createStringLiteral(pos, lookup.fieldName()),
+                        createStringLiteral(pos, lookup.operator().value()),
+                        types.addConversionExprIfRequired(lookup.value(), symTable.anyType)), pos);
+        return indexedRows;
+    }
+
+    /**
+     * Returns the lookup done by a where clause right after a from clause over a table, which compares a field of the
+     * rows with a query-invariant value.
+     *
+     * @param fromClause from clause over the table.
+     * @param clauses    list of query clauses.
+     * @return the field, the operator with the field as the left hand side operand and a copy of the value, or null if
+     * the query does not start with such a where clause.
+     */
+    private TableLookup getTableLookup(BLangFromClause fromClause, List<BLangNode> clauses) {
+        if (clauses.size() < 2 || clauses.get(1).getKind() != NodeKind.WHERE ||
+                Types.getImpliedType(fromClause.collection.getBType()).tag != TypeTags.TABLE) {
+            return null;
+        }
+        BVarSymbol rowSymbol = getSimpleVariableSymbol(fromClause);
+        BLangExpression predicate = unwrapGroupExpr(((BLangWhereClause) clauses.get(1)).expression);
+        if (rowSymbol == null || predicate.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) predicate;
+        OperatorKind operator = binaryExpr.opKind;
+        String fieldName = getRowFieldName(unwrapGroupExpr(binaryExpr.lhsExpr), rowSymbol, false);
+        BLangExpression valueExpr = binaryExpr.rhsExpr;
+        if (fieldName == null) {
+            // value < x.f is the same as x.f > value.
+            fieldName = getRowFieldName(unwrapGroupExpr(binaryExpr.rhsExpr), rowSymbol, false);
+            valueExpr = binaryExpr.lhsExpr;
+            operator = getSwappedOperator(operator);
+        }
+        BLangExpression value = cloneQueryInvariantExpr(unwrapGroupExpr(valueExpr), rowSymbol);
+        if (fieldName == null || operator == null || value == null ||
+                !isIndexableValueType(value.getBType(), operator != OperatorKind.EQUAL)) {
+            return null;
+        }
+        return new TableLookup(fieldName, operator, value);
+    }
+
+    /**
+     * Adds secondary indexes to a table which is constructed to initialize a local variable, on the fields by which
+     * the queries of the enclosing function look up the rows of the table: the fields which are compared with a
+     * query-invariant value in a where clause right after a from clause over the table, and the fields on which the
+     * table is joined. Indexes are only added to tables of immutable rows, since an index is not updated when a field
+     * of a row is changed. No other strand can access the table before it is assigned to the variable, so adding the
+     * indexes does not race with other uses of the table.
+     * table<T> key(k) $table$ = table [...];
+     * addTableIndex($table$, "field", sorted);
+     * ... $table$
+     *
+     * @param tableSymbol      symbol of the local variable.
+     * @param tableConstructor table constructor which initializes the variable.
+     * @param env              symbol env of the variable definition.
+     * @return the table constructor, or a statement expression which adds the indexes to the constructed table.
+     */
+    BLangExpression addInferredTableIndexes(BVarSymbol tableSymbol, BLangExpression tableConstructor,
+                                            SymbolEnv env) {
+        BType tableType = Types.getImpliedType(tableConstructor.getBType());
+        if (tableType.tag != TypeTags.TABLE || env.enclInvokable == null || env.enclInvokable.body == null ||
+                !types.isSubTypeOfReadOnly(((BTableType) tableType).constraint, env)) {
+            return tableConstructor;
+        }
+        TableLookupAnalyzer analyzer = new TableLookupAnalyzer(tableSymbol);
+        analyzer.visitNode(env.enclInvokable.body, null);
+        if (analyzer.hashIndexFields.isEmpty() && analyzer.sortedIndexFields.isEmpty()) {
+            return tableConstructor;
+        }
+
+        SymbolEnv prevEnv = this.env;
+        this.env = env;
+        Location pos = tableConstructor.pos;
+        BLangBlockStmt block = ASTBuilderUtil.createBlockStmt(pos);
+        BVarSymbol tableVarSymbol = addQueryVariable(block, pos, tableConstructor.getBType(), tableConstructor);
+        addTableIndexes(block, tableVarSymbol, analyzer.hashIndexFields, false);
+        addTableIndexes(block, tableVarSymbol, analyzer.sortedIndexFields, true);
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(block,
+                ASTBuilderUtil.createVariableRef(pos, tableVarSymbol));
+        stmtExpr.setBType(tableConstructor.getBType());
+        this.env = prevEnv;
+        return stmtExpr;
+    }
+
+    private void addTableIndexes(BLangBlockStmt block, BVarSymbol tableVarSymbol, Set<String> fieldNames,
+                                 boolean sorted) {
+        Location pos = block.pos;
+        for (String fieldName : fieldNames) {
+            BLangExpressionStmt addIndexStmt = ASTBuilderUtil.createExpressionStmt(pos, block);
+            addIndexStmt.expr = createQueryLibInvocation(QUERY_ADD_TABLE_INDEX_FUNCTION,
+                    Lists.of(ASTBuilderUtil.createVariableRef(pos, tableVarSymbol), createStringLiteral(pos, fieldName),
+                            ASTBuilderUtil.createLiteral(pos, symTable.booleanType, sorted)), pos);
+        }
+    }
+
+    private String getIndexedJoinField(BLangJoinClause joinClause) {
+        if (Types.getImpliedType(joinClause.collection.getBType()).tag != TypeTags.TABLE) {
+            return null;
+        }
+        BVarSymbol rowSymbol = getSimpleVariableSymbol(joinClause);
+        if (rowSymbol == null) {
+            return null;
+        }
+        String fieldName = getRowFieldName(unwrapGroupExpr((BLangExpression) joinClause.onClause.getRightExpression()),
+                rowSymbol, joinClause.isOuterJoin);
+        BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
+        return fieldName != null && isIndexableValueType(lhsExpr.getBType(), false) ? fieldName : null;
+    }
+
+    private BVarSymbol getSimpleVariableSymbol(BLangInputClause inputClause) {
+        BLangVariable variable = (BLangVariable) inputClause.variableDefinitionNode.getVariable();
+        return variable.getKind() == NodeKind.VARIABLE ? ((BLangSimpleVariable) variable).symbol : null;
+    }
+
+    // Returns the name of the field if the expression is of the form `x.f`, where `x` is a row of the table. The
+    // variable of an outer join is nilable, hence the field is accessed as `x?.f` in that case.
+    private String getRowFieldName(BLangExpression expr, BVarSymbol rowSymbol, boolean nilable) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return null;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess != nilable || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF ||
+                ((BLangSimpleVarRef) fieldAccess.expr).symbol != rowSymbol) {
+            return null;
+        }
+        BType rowType = fieldAccess.expr.getBType();
+        if (nilable) {
+            rowType = types.getSafeType(rowType, true, false);
+        }
+        return Types.getImpliedType(rowType).tag == TypeTags.RECORD ? fieldAccess.field.value : null;
+    }
+
+    private OperatorKind getSwappedOperator(OperatorKind operator) {
+        switch (operator) {
+            case EQUAL:
+                return OperatorKind.EQUAL;
+            case LESS_THAN:
+                return OperatorKind.GREATER_THAN;
+            case LESS_EQUAL:
+                return OperatorKind.GREATER_EQUAL;
+            case GREATER_THAN:
+                return OperatorKind.LESS_THAN;
+            case GREATER_EQUAL:
+                return OperatorKind.LESS_EQUAL;
+            default:
+                return null;
+        }
+    }
+
+    // Returns a copy of the expression if it is a literal, a constant or a final variable other than the row.
+    private BLangExpression cloneQueryInvariantExpr(BLangExpression expr, BVarSymbol rowSymbol) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return ASTBuilderUtil.createLiteral(expr.pos, expr.getBType(), ((BLangLiteral) expr).value);
+            case CONSTANT_REF:
+                return ASTBuilderUtil.createLiteral(expr.pos, expr.getBType(), ((BLangConstRef) expr).value);
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null || symbol == rowSymbol) {
+                    return null;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) != SymTag.CONSTANT &&
+                        !Symbols.isFlagOn(symbol.flags, Flags.FINAL) &&
+                        !Symbols.isFlagOn(symbol.flags, Flags.FUNCTION_FINAL)) {
+                    return null;
+                }
+                BLangSimpleVarRef varRef = ASTBuilderUtil.createVariableRef(expr.pos, symbol);
+                varRef.setBType(expr.getBType());
+                return varRef;
+            default:
+                return null;
+        }
+    }
+
+    // Only the basic types which are hashed, or ordered in the case of a range, by table indexes are supported.
+    private boolean isIndexableValueType(BType type, boolean ordered) {
+        BType impliedType = Types.getImpliedType(type);
+        if (impliedType.tag == TypeTags.FINITE) {
+            for (BLangExpression value : ((BFiniteType) impliedType).getValueSpace()) {
+                if (!isIndexableValueType(value.getBType(), ordered)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        int tag = impliedType.tag;
+        return TypeTags.isIntegerTypeTag(tag) || tag == TypeTags.BYTE || tag == TypeTags.FLOAT ||
+                tag == TypeTags.DECIMAL || TypeTags.isStringTypeTag(tag) || (!ordered && tag == TypeTags.BOOLEAN);
+    }
+
+    private BLangExpression unwrapGroupExpr(BLangExpression expr) {
+        while (expr.getKind() == NodeKind.GROUP_EXPR) {
+            expr = ((BLangGroupExpr) expr).expression;
+        }
+        return expr;
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
@@ -727,6 +1338,44 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
     }
 
+    /**
+     * Desugar joinClauses on a field of the rows of a table to below and return a reference to created join
+     * _StreamFunction. The rows of the table are looked up by the join key using an index of the table on the field
+     * if there is one.
+     * _StreamFunction joinFunc = createIndexedJoinFunction(joinPipeline, ..., table, "field", joinInputFunc);
+     *
+     * @param blockStmt      parent block to write to.
+     * @param joinClause     to be desugared.
+     * @param joinPipeline   previously created _StreamPipeline reference to be joined.
+     * @param tableSymbol    symbol of the variable which holds the joined table.
+     * @param fieldName      name of the field used as the join key.
+     * @param joinInputFunc  input _StreamFunction of the join pipeline.
+     * @return variableReference to created join _StreamFunction.
+     */
+    BLangVariableReference addIndexedJoinFunction(BLangBlockStmt blockStmt, BLangJoinClause joinClause,
+                                                  BLangVariableReference joinPipeline,
+                                                  List<BLangStatement> stmtsToBePropagated, BVarSymbol tableSymbol,
+                                                  String fieldName, BLangVariableReference joinInputFunc) {
+        Location pos = joinClause.pos;
+        BLangExpression lhsExpr = (BLangExpression) joinClause.onClause.getLeftExpression();
+        BLangExpression rhsExpr = (BLangExpression) joinClause.onClause.getRightExpression();
+        BLangLambdaFunction lhsKeyFunction = createKeyFunction(lhsExpr, stmtsToBePropagated);
+        BLangLambdaFunction rhsKeyFunction = createKeyFunction(rhsExpr, stmtsToBePropagated);
+        BLangSimpleVarRef tableRef = ASTBuilderUtil.createVariableRef(pos, tableSymbol);
+        BLangLiteral fieldNameLiteral = createStringLiteral(pos, fieldName);
+        if (joinClause.isOuterJoin) {
+            List<BVarSymbol> symbols =
+                    getIntroducedSymbols((BLangVariable) joinClause.variableDefinitionNode.getVariable());
+            final BLangSimpleVarRef nilFrame = defineNilFrameForType(symbols, blockStmt, rhsExpr.pos);
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_OUTER_JOIN_FUNCTION,
+                    Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame, tableRef, fieldNameLiteral,
+                            joinInputFunc), pos);
+        }
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_INDEXED_INNER_JOIN_FUNCTION,
+                Lists.of(joinPipeline, lhsKeyFunction, rhsKeyFunction, tableRef, fieldNameLiteral, joinInputFunc),
+                pos);
+    }
+
     /**
      * Desugar letClause to below and return a reference to created let _StreamFunction.
      * _StreamFunction ysLet = createLetFunction(function(_Frame frame) returns _Frame|error? {
@@ -801,6 +1450,91 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
                                               List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction lambda = createOrderByLambda(orderByClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda),
+                orderByClause.pos);
+    }
+
+    /**
+     * Desugar an orderByClause which is immediately followed by a limitClause to below and return a reference to
+     * created orderBy _StreamFunction. Only the first `limit` frames are retained while ordering.
+     * _StreamFunction orderByLimitFunc = createOrderByLimitFunction(function(_Frame frame) {
+     * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
+     * }, function(_Frame frame) returns int {
+     * return limitExpr;
+     * });
+     *
+     * @param blockStmt           parent block to write to.
+     * @param orderByClause       to be desugared.
+     * @param limitClause         limit clause which follows the order by clause.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return variableReference to created orderBy _StreamFunction.
+     */
+    BLangVariableReference addOrderByLimitFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                                   BLangLimitClause limitClause,
+                                                   List<BLangStatement> stmtsToBePropagated) {
+        BLangLambdaFunction orderByLambda = createOrderByLambda(orderByClause, stmtsToBePropagated);
+        BLangLambdaFunction limitLambda = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_LIMIT_FUNCTION,
+                Lists.of(orderByLambda, limitLambda), orderByClause.pos);
+    }
+
+    /**
+     * Checks whether the limit expression can be evaluated once for the whole query, i.e. it does not refer to any
+     * variable bound by the query clauses.
+     *
+     * @param limitClause   limit clause to be checked.
+     * @param orderByClause order by clause which precedes the limit clause.
+     * @return true if the limit expression does not depend on the frame.
+     */
+    private boolean isFrameIndependentLimit(BLangLimitClause limitClause, BLangOrderByClause orderByClause) {
+        BLangExpression limitExpr = limitClause.expression;
+        switch (limitExpr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) limitExpr).symbol;
+                if (symbol == null) {
+                    return false;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return true;
+                }
+                SymbolEnv clauseEnv = orderByClause.env;
+                while (clauseEnv != null && clauseEnv.node != null && isQueryClause(clauseEnv.node)) {
+                    if (clauseEnv.scope.entries.containsKey(symbol.name)) {
+                        return false;
+                    }
+                    clauseEnv = clauseEnv.enclEnv;
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isQueryClause(BLangNode node) {
+        switch (node.getKind()) {
+            case FROM:
+            case JOIN:
+            case LET_CLAUSE:
+            case WHERE:
+            case ORDER_BY:
+            case GROUP_BY:
+            case LIMIT:
+            case SELECT:
+            case COLLECT:
+            case DO:
+            case ON_CONFLICT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private BLangLambdaFunction createOrderByLambda(BLangOrderByClause orderByClause,
+                                                    List<BLangStatement> stmtsToBePropagated) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -833,13 +1567,56 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
                                               List<BLangStatement> stmtsToBePropagated,
                                               BLangVariableReference initPipeline) {
         Location pos = groupByClause.pos;
+        BLangArrayLiteral keys = addGroupingKeys(blockStmt, groupByClause, stmtsToBePropagated, initPipeline);
+        BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        nonGroupingKeys.exprs = new ArrayList<>();
+        nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
+        for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
+            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+        }
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
+                Lists.of(keys, nonGroupingKeys), pos);
+    }
+
+    /**
+     * Desugar a group by clause whose non-grouping variables are only used as the argument of aggregate langlib
+     * functions to below and return a reference to created aggregate group by _StreamFunction.
+     * _StreamFunction xx = createAggregateGroupByFunction(keys, sequenceKeys, aggregateKeys, aggregateSources,
+     *                                                     aggregateFunctions, parallel);
+     * The clauses before the group by clause may be applied to the input in parallel if their functions, including
+     * the let functions of the grouping keys, are isolated.
+     *
+     * @param blockStmt parent block to write to.
+     * @param groupByClause to be desugared.
+     * @param aggregates aggregates found in the clauses following the group by clause.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @param initPipeline pipeline to which the let functions of the grouping keys are added.
+     * @return variableReference to created aggregate group by _StreamFunction.
+     */
+    BLangVariableReference addAggregateGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
+                                                       AggregateAnalyzer aggregates,
+                                                       List<BLangStatement> stmtsToBePropagated,
+                                                       BLangVariableReference initPipeline) {
+        Location pos = groupByClause.pos;
+        boolean parallel = isolatedLambdas;
+        BLangArrayLiteral keys = addGroupingKeys(blockStmt, groupByClause, stmtsToBePropagated, initPipeline);
+        List<BLangExpression> args = new ArrayList<>();
+        args.add(keys);
+        args.addAll(createAggregateArgs(pos, aggregates));
+        args.add(ASTBuilderUtil.createLiteral(pos, symTable.booleanType, parallel));
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_AGGREGATE_GROUP_BY_FUNCTION, args, pos);
+    }
+
+    private BLangArrayLiteral addGroupingKeys(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
+                                              List<BLangStatement> stmtsToBePropagated,
+                                              BLangVariableReference initPipeline) {
         BLangArrayLiteral keys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         keys.exprs = new ArrayList<>();
         keys.setBType(new BArrayType(symTable.stringType));
@@ -854,15 +1631,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 addStreamFunction(blockStmt, initPipeline, letFunc);
             }
         }
-
-        BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
-        nonGroupingKeys.exprs = new ArrayList<>();
-        nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
-        for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
-            nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
-        }
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
-                Lists.of(keys, nonGroupingKeys), pos);
+        return keys;
     }
 
     BLangVariableReference addCollectFunction(BLangBlockStmt blockStmt, BLangCollectClause collectClause,
@@ -875,6 +1644,39 @@ public class QueryDesugar extends BLangNodeVisitor {
             nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
         }
 
+        BLangLambdaFunction lambda = createCollectLambda(collectClause, stmtsToBePropagated);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_COLLECT_FUNCTION,
+                Lists.of(nonGroupingKeys, lambda), pos);
+    }
+
+    /**
+     * Desugar a collect clause whose non-grouping variables are only used as the argument of aggregate langlib
+     * functions to below and return a reference to created aggregate collect _StreamFunction.
+     * _StreamFunction xx = createAggregateCollectFunction(sequenceKeys, aggregateKeys, aggregateSources,
+     *                                                     aggregateFunctions, parallel,
+     *                                                     function(_Frame frame) { ... });
+     *
+     * @param blockStmt parent block to write to.
+     * @param collectClause to be desugared.
+     * @param aggregates aggregates found in the collect expression.
+     * @param parallel whether the functions of the clauses before the collect clause are isolated, so that they may
+     *                 be applied to the input in parallel.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @return variableReference to created aggregate collect _StreamFunction.
+     */
+    BLangVariableReference addAggregateCollectFunction(BLangBlockStmt blockStmt, BLangCollectClause collectClause,
+                                                       AggregateAnalyzer aggregates, boolean parallel,
+                                                       List<BLangStatement> stmtsToBePropagated) {
+        Location pos = collectClause.pos;
+        List<BLangExpression> args = createAggregateArgs(pos, aggregates);
+        args.add(ASTBuilderUtil.createLiteral(pos, symTable.booleanType, parallel));
+        args.add(createCollectLambda(collectClause, stmtsToBePropagated));
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_AGGREGATE_COLLECT_FUNCTION, args, pos);
+    }
+
+    private BLangLambdaFunction createCollectLambda(BLangCollectClause collectClause,
+                                                    List<BLangStatement> stmtsToBePropagated) {
+        Location pos = collectClause.pos;
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
         body.stmts.addAll(0, stmtsToBePropagated);
@@ -883,8 +1685,107 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement assignment = getAddToFrameStmt(pos, frame, "$value$", collectClause.expression);
         body.stmts.add(body.stmts.size() - 1, assignment);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_COLLECT_FUNCTION,
-                Lists.of(nonGroupingKeys, lambda), pos);
+        return lambda;
+    }
+
+    private List<BLangExpression> createAggregateArgs(Location pos, AggregateAnalyzer aggregates) {
+        List<BLangExpression> args = new ArrayList<>();
+        args.add(createStringArrayLiteral(pos, aggregates.sequenceKeys));
+        args.add(createStringArrayLiteral(pos, aggregates.aggregateKeys));
+        args.add(createStringArrayLiteral(pos, aggregates.aggregateSources));
+        args.add(createStringArrayLiteral(pos, aggregates.aggregateFunctions));
+        return args;
+    }
+
+    private BLangArrayLiteral createStringArrayLiteral(Location pos, List<String> values) {
+        BLangArrayLiteral arrayLiteral = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arrayLiteral.exprs = new ArrayList<>();
+        arrayLiteral.setBType(new BArrayType(symTable.stringType));
+        for (String value : values) {
+            arrayLiteral.exprs.add(createStringLiteral(pos, value));
+        }
+        return arrayLiteral;
+    }
+
+    private boolean hasGroupingClause(List<BLangNode> clauses) {
+        for (BLangNode clause : clauses) {
+            if (clause.getKind() == NodeKind.GROUP_BY || clause.getKind() == NodeKind.COLLECT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the non-grouping variables of a group by or collect clause are used as the argument of
+     * aggregate langlib functions, e.g. `sum(price)`. Such arguments are rewritten to refer to a new sequence
+     * variable which holds the aggregated value, so that only a running accumulator has to be kept per group.
+     * Non-grouping variables which are used in any other way are retained as sequences.
+     *
+     * @param nonGroupingKeys non-grouping variables of the clause.
+     * @param clauseEnv env of the clause in which the sequence variables are defined.
+     * @param nodes nodes in which the sequence variables can be used.
+     * @return the analyzer with the rewritten aggregates, or null if there are no aggregates.
+     */
+    private AggregateAnalyzer analyzeAggregates(Set<String> nonGroupingKeys, SymbolEnv clauseEnv,
+                                                List<? extends BLangNode> nodes) {
+        if (nonGroupingKeys == null || nonGroupingKeys.isEmpty() || clauseEnv == null) {
+            return null;
+        }
+        Map<String, BSymbol> sequenceSymbols = new HashMap<>();
+        for (String nonGroupingKey : nonGroupingKeys) {
+            BSymbol symbol = clauseEnv.scope.lookup(new Name(nonGroupingKey)).symbol;
+            if (symbol != null && (symbol.tag & SymTag.SEQUENCE) == SymTag.SEQUENCE) {
+                sequenceSymbols.put(nonGroupingKey, symbol);
+            }
+        }
+        AggregateAnalyzer analyzer = new AggregateAnalyzer(sequenceSymbols);
+        analyzer.visitNode(nodes, null);
+
+        Map<String, BSequenceSymbol> aggregateSymbols = new HashMap<>();
+        for (int i = 0; i < analyzer.aggregateArgs.size(); i++) {
+            BLangSimpleVarRef aggregateArg = analyzer.aggregateArgs.get(i);
+            String source = aggregateArg.symbol.name.value;
+            if (analyzer.retainedKeys.contains(source)) {
+                continue;
+            }
+            String function = analyzer.aggregateArgFunctions.get(i);
+            BSequenceSymbol aggregateSymbol = aggregateSymbols.get(source + "/" + function);
+            if (aggregateSymbol == null) {
+                BSymbol sourceSymbol = aggregateArg.symbol;
+                String aggregateKey = "$aggregate$" + UNDERSCORE + aggregateCount++;
+                aggregateSymbol = new BSequenceSymbol(sourceSymbol.flags, Names.fromString(aggregateKey),
+                        sourceSymbol.pkgID, new BSequenceType(getAggregateElementType(function)),
+                        sourceSymbol.owner, sourceSymbol.pos);
+                aggregateSymbols.put(source + "/" + function, aggregateSymbol);
+                analyzer.aggregateKeys.add(aggregateKey);
+                analyzer.aggregateSources.add(source);
+                analyzer.aggregateFunctions.add(function);
+            }
+            aggregateArg.symbol = aggregateSymbol;
+            aggregateArg.variableName = ASTBuilderUtil.createIdentifier(aggregateArg.pos,
+                    aggregateSymbol.name.value);
+            aggregateArg.setBType(aggregateSymbol.type);
+        }
+        if (analyzer.aggregateKeys.isEmpty()) {
+            return null;
+        }
+        for (String nonGroupingKey : nonGroupingKeys) {
+            if (analyzer.retainedKeys.contains(nonGroupingKey)) {
+                analyzer.sequenceKeys.add(nonGroupingKey);
+            }
+        }
+        return analyzer;
+    }
+
+    private BType getAggregateElementType(String function) {
+        if (function.startsWith("int:")) {
+            return symTable.intType;
+        }
+        if (function.startsWith("float:")) {
+            return symTable.floatType;
+        }
+        return symTable.decimalType;
     }
 
     BLangLetClause createLetClauseFromVarDef(BLangSimpleVariableDef varDef) {
@@ -988,6 +1889,12 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created do _StreamFunction.
      */
     BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
+        BLangLambdaFunction limitFunction = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction),
+                limitClause.pos);
+    }
+
+    private BLangLambdaFunction createLimitLambda(BLangLimitClause limitClause) {
         Location pos = limitClause.pos;
         BLangUnionTypeNode returnTypeNode = getIntErrorTypeNode();
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
@@ -995,7 +1902,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, returnTypeNode, returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return limitFunction;
     }
 
     /**
@@ -1184,6 +2091,13 @@ public class QueryDesugar extends BLangNodeVisitor {
                 requiredParams, returnType, lambdaBody);
         lambdaFunction.function.addFlag(Flag.QUERY_LAMBDA);
         lambdaFunction.capturedClosureEnv = env;
+        if (isolatedLambdas) {
+            BLangFunction function = lambdaFunction.function;
+            function.addFlag(Flag.ISOLATED);
+            function.symbol.flags |= Flags.ISOLATED;
+            function.symbol.type.flags |= Flags.ISOLATED;
+            lambdaFunction.getBType().flags |= Flags.ISOLATED;
+        }
         return lambdaFunction;
     }
 
@@ -2814,4 +3728,365 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         return nodeList;
     }
+
+    /**
+     * Finds expressions within query clauses which prevent fusing the query into a single loop.
+     */
+    private static class FusibleQueryAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        protected boolean supported = true;
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case CHECK_EXPR:
+                case LAMBDA:
+                case ARROW_EXPR:
+                case OBJECT_CTOR_EXPRESSION:
+                case QUERY_EXPR:
+                case DO_ACTION:
+                    supported = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * A lookup of the rows of a table by a field, which can use an index of the table on the field.
+     *
+     * @param fieldName name of the field
+     * @param operator  comparison with the field as the left hand side operand
+     * @param value     value the field is compared with
+     */
+    private record TableLookup(String fieldName, OperatorKind operator, BLangExpression value) {
+    }
+
+    /**
+     * Finds the fields by which the queries within a function look up the rows of the table held by a variable.
+     */
+    private class TableLookupAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final BVarSymbol tableSymbol;
+        private final Set<String> hashIndexFields = new LinkedHashSet<>();
+        private final Set<String> sortedIndexFields = new LinkedHashSet<>();
+
+        private TableLookupAnalyzer(BVarSymbol tableSymbol) {
+            this.tableSymbol = tableSymbol;
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case QUERY_EXPR:
+                    BLangQueryExpr queryExpr = (BLangQueryExpr) node;
+                    // The rows are not looked up in advance for a stream.
+                    if (Types.getImpliedType(queryExpr.getBType()).tag != TypeTags.STREAM) {
+                        addLookups(queryExpr.getQueryClauses());
+                    }
+                    break;
+                case DO_ACTION:
+                    addLookups(((BLangQueryAction) node).getQueryClauses());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void addLookups(List<BLangNode> clauses) {
+            BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+            if (isTableVariableRef(fromClause.collection)) {
+                TableLookup lookup = getTableLookup(fromClause, clauses);
+                if (lookup != null) {
+                    (lookup.operator() == OperatorKind.EQUAL ? hashIndexFields : sortedIndexFields)
+                            .add(lookup.fieldName());
+                }
+            }
+            for (BLangNode clause : clauses) {
+                if (clause.getKind() != NodeKind.JOIN) {
+                    continue;
+                }
+                BLangJoinClause joinClause = (BLangJoinClause) clause;
+                String fieldName = isTableVariableRef(joinClause.collection) ? getIndexedJoinField(joinClause) : null;
+                if (fieldName != null) {
+                    hashIndexFields.add(fieldName);
+                }
+            }
+        }
+
+        private boolean isTableVariableRef(BLangExpression expr) {
+            return expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF && ((BLangSimpleVarRef) expr).symbol == tableSymbol;
+        }
+    }
+
+    /**
+     * Finds expressions within query clauses which prevent executing the query in parallel.
+     */
+    private class ParallelQueryAnalyzer extends FusibleQueryAnalyzer {
+
+        private final Set<BSymbol> querySymbols;
+        // Functions of the current module which are known to use no module level state.
+        private final Map<BSymbol, Boolean> statelessFunctions = new HashMap<>();
+
+        private ParallelQueryAnalyzer(Set<BSymbol> querySymbols) {
+            this.querySymbols = querySymbols;
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            super.analyzeNode(node, data);
+            switch (node.getKind()) {
+                case INVOCATION:
+                    if (!isStatelessInvocation((BLangInvocation) node)) {
+                        supported = false;
+                    }
+                    break;
+                case SIMPLE_VARIABLE_REF:
+                    if (!isSharedSafely(((BLangSimpleVarRef) node).symbol)) {
+                        supported = false;
+                    }
+                    break;
+                case TYPE_INIT_EXPR:
+                    supported = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void visit(BLangRecordLiteral.BLangRecordKey node, Object data) {
+            // Field names of mapping constructors are not variable references.
+            if (node.computedKey) {
+                super.visit(node, data);
+            }
+        }
+
+        private boolean isStatelessInvocation(BLangInvocation invocation) {
+            // The function called through a function pointer is not known.
+            if (invocation.async || invocation instanceof BLangInvocation.BLangActionInvocation ||
+                    invocation.functionPointerInvocation || invocation.symbol == null) {
+                return false;
+            }
+            return isStatelessFunction(invocation.symbol);
+        }
+
+        private boolean isStatelessFunction(BSymbol symbol) {
+            if (!Symbols.isFlagOn(symbol.flags, Flags.ISOLATED)) {
+                return false;
+            }
+            PackageID pkgID = symbol.pkgID;
+            if (PackageID.isLangLibPackageID(pkgID)) {
+                return STATELESS_LANG_LIBS.contains(pkgID.name.value);
+            }
+            if (!pkgID.equals(env.enclPkg.packageID)) {
+                return false;
+            }
+            Boolean stateless = statelessFunctions.get(symbol);
+            if (stateless != null) {
+                return stateless;
+            }
+            BLangFunction function = findFunction(symbol);
+            if (function == null || function.body == null ||
+                    function.body.getKind() == NodeKind.EXTERN_FUNCTION_BODY) {
+                statelessFunctions.put(symbol, false);
+                return false;
+            }
+            // Assumed for recursive calls, which are resolved by the analysis of the body.
+            statelessFunctions.put(symbol, true);
+            StatelessFunctionAnalyzer analyzer = new StatelessFunctionAnalyzer();
+            analyzer.visitNode(function.body, null);
+            statelessFunctions.put(symbol, analyzer.stateless);
+            return analyzer.stateless;
+        }
+
+        private BLangFunction findFunction(BSymbol symbol) {
+            for (BLangFunction function : env.enclPkg.functions) {
+                if (function.symbol == symbol) {
+                    return function;
+                }
+            }
+            return null;
+        }
+
+        private boolean isSharedSafely(BSymbol symbol) {
+            if (symbol == null || symbol == symTable.notFoundSymbol) {
+                return true;
+            }
+            if (symbol instanceof BVarSymbol varSymbol && varSymbol.originalSymbol != null) {
+                symbol = varSymbol.originalSymbol;
+            }
+            if (querySymbols.contains(symbol) || (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                return true;
+            }
+            if ((symbol.tag & SymTag.FUNCTION) == SymTag.FUNCTION) {
+                return isStatelessFunction(symbol);
+            }
+            // The enclosing strand waits for the query, so only module level variables can be updated concurrently.
+            if (!types.isSubTypeOfReadOnly(symbol.type, env)) {
+                return false;
+            }
+            return (symbol.owner.tag & SymTag.PACKAGE) != SymTag.PACKAGE || Symbols.isFlagOn(symbol.flags, Flags.FINAL);
+        }
+
+        /**
+         * Finds lock statements and calls of functions which may use module level state in the body of a function.
+         * An isolated function can only use isolated module variables and isolated objects within a lock statement.
+         */
+        private class StatelessFunctionAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+            private boolean stateless = true;
+
+            @Override
+            public void visit(BLangPackage node, Object data) {
+            }
+
+            @Override
+            public void analyzeNode(BLangNode node, Object data) {
+                switch (node.getKind()) {
+                    case LOCK:
+                        stateless = false;
+                        break;
+                    case INVOCATION:
+                        if (!isStatelessInvocation((BLangInvocation) node)) {
+                            stateless = false;
+                        }
+                        break;
+                    case SIMPLE_VARIABLE_REF:
+                        BSymbol symbol = ((BLangSimpleVarRef) node).symbol;
+                        if (symbol != null && (symbol.tag & SymTag.FUNCTION) == SymTag.FUNCTION &&
+                                !isStatelessFunction(symbol)) {
+                            stateless = false;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the invocations of aggregate langlib functions on the sequence variables of a group by or collect clause
+     * and the sequence variables which are used in any other way.
+     */
+    private static class AggregateAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Map<String, BSymbol> sequenceSymbols;
+        private final Set<String> retainedKeys = new HashSet<>();
+        private final List<BLangSimpleVarRef> aggregateArgs = new ArrayList<>();
+        private final List<String> aggregateArgFunctions = new ArrayList<>();
+        private final List<String> sequenceKeys = new ArrayList<>();
+        private final List<String> aggregateKeys = new ArrayList<>();
+        private final List<String> aggregateSources = new ArrayList<>();
+        private final List<String> aggregateFunctions = new ArrayList<>();
+        private int nestingDepth = 0;
+
+        private AggregateAnalyzer(Map<String, BSymbol> sequenceSymbols) {
+            this.sequenceSymbols = sequenceSymbols;
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            if (node instanceof BLangSimpleVarRef varRef) {
+                BSymbol symbol = varRef.symbol;
+                if (symbol != null && (symbol.tag & SymTag.SEQUENCE) == SymTag.SEQUENCE &&
+                        sequenceSymbols.containsKey(symbol.name.value)) {
+                    retainedKeys.add(symbol.name.value);
+                }
+            }
+        }
+
+        @Override
+        public void visit(BLangInvocation node, Object data) {
+            String function = nestingDepth == 0 ? getAggregateFunction(node) : null;
+            if (function == null) {
+                super.visit(node, data);
+                return;
+            }
+            aggregateArgs.add((BLangSimpleVarRef) node.restArgs.get(0));
+            aggregateArgFunctions.add(function);
+        }
+
+        // Sequence variables used within nested queries and functions are read from the enclosing frame, hence only
+        // the invocations in the clauses themselves are rewritten.
+        @Override
+        public void visit(BLangQueryExpr node, Object data) {
+            nestingDepth++;
+            super.visit(node, data);
+            nestingDepth--;
+        }
+
+        @Override
+        public void visit(BLangLambdaFunction node, Object data) {
+            nestingDepth++;
+            super.visit(node, data);
+            nestingDepth--;
+        }
+
+        @Override
+        public void visit(BLangArrowFunction node, Object data) {
+            nestingDepth++;
+            super.visit(node, data);
+            nestingDepth--;
+        }
+
+        @Override
+        public void visit(BLangObjectConstructorExpression node, Object data) {
+            nestingDepth++;
+            super.visit(node, data);
+            nestingDepth--;
+        }
+
+        private String getAggregateFunction(BLangInvocation invocation) {
+            if (invocation.functionPointerInvocation || invocation.langLibInvocation || invocation.expr != null ||
+                    !invocation.requiredArgs.isEmpty() || invocation.restArgs.size() != 1) {
+                return null;
+            }
+            BLangExpression arg = invocation.restArgs.get(0);
+            if (arg.getKind() != NodeKind.SIMPLE_VARIABLE_REF) {
+                return null;
+            }
+            BSymbol argSymbol = ((BLangSimpleVarRef) arg).symbol;
+            BSymbol symbol = invocation.symbol;
+            if (argSymbol == null || argSymbol != sequenceSymbols.get(argSymbol.name.value) || symbol == null) {
+                return null;
+            }
+            String module;
+            if (PackageID.INT.equals(symbol.pkgID)) {
+                module = "int";
+            } else if (PackageID.FLOAT.equals(symbol.pkgID)) {
+                module = "float";
+            } else if (PackageID.DECIMAL.equals(symbol.pkgID)) {
+                module = "decimal";
+            } else {
+                return null;
+            }
+            switch (symbol.name.value) {
+                case "sum":
+                case "max":
+                case "min":
+                    return module + ":" + symbol.name.value;
+                case "avg":
+                    // The average of an int or decimal sequence is computed using decimal division of the sum,
+                    // which cannot be derived from a single running value.
+                    return "float".equals(module) ? "float:avg" : null;
+                default:
+                    return null;
+            }
+        }
+    }
 }
@@ -44,6 +44,7 @@ import static org.wso2.ballerinalang.compiler.util.Constants.MAIN_FUNCTION_NAME;
 public class CompilerUtils {
 
     private static final String DISTRIBUTED_TRANSACTIONS = "distributed.transactions";
+    private static final String QUERY_FUSION = "ballerina.query.fusion";
     
     public static boolean isDistributedTransactionsEnabled() {
         boolean distributedTransactionEnabled = true; //TODO:Default will be true. Read from new VMOptions
@@ -54,6 +55,15 @@ public class CompilerUtils {
         return distributedTransactionEnabled;
     }
 
+    /**
+     * Checks whether simple query expressions should be desugared to a single loop instead of a stream pipeline.
+     *
+     * @return true if the `ballerina.query.fusion` system property is set to true
+     */
+    public static boolean isQueryFusionEnabled() {
+        return Boolean.parseBoolean(System.getProperty(QUERY_FUSION));
+    }
+
     public static boolean isMainFunction(BLangFunction funcNode) {
         return MAIN_FUNCTION_NAME.equals(funcNode.name.value) && Symbols.isPublic(funcNode.symbol);
     }
@@ -0,0 +1,122 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Returns a stream of the elements of the JSON array document read by the
+# `io.ballerina.runtime.api.JsonStreamReader` referred by the `handle`.
+# An element is read only when the next value of the stream is requested, so only one element is held in memory
+# at a time. Reading is done as blocking work of the current strand, and the reader is closed when the stream is closed.
+# ```ballerina
+# stream<Order, error?> orders = java:toJsonStream(reader);
+# ```
+#
+# + reader - The `handle` of the `io.ballerina.runtime.api.JsonStreamReader`, which is created using
+#            `io.ballerina.runtime.api.utils.JsonUtils.createStreamReader`
+# + t - The type of the elements
+# + return - A stream of the elements of the JSON array, which completes with an error if the content is not
+#            a JSON array or an element cannot be converted to the given type
+public isolated function toJsonStream(handle reader, typedesc<anydata> t = <>) returns stream<t, error?> = @Method {
+    'class: "org.ballerinalang.langlib.java.ToJsonStream",
+    name: "toJsonStream"
+} external;
+
+isolated class JsonElementIterator {
+
+    private final handle reader;
+    private final typedesc<anydata> elementType;
+
+    isolated function init(handle reader, typedesc<anydata> elementType) {
+        self.reader = reader;
+        self.elementType = elementType;
+    }
+
+    public isolated function next() returns record {|anydata value;|}|error? {
+        boolean hasNext = check hasNextJsonElement(self.reader);
+        if !hasNext {
+            return ();
+        }
+        return {value: check readJsonElement(self.reader, self.elementType)};
+    }
+
+    public isolated function close() returns error? {
+        return closeJsonReader(self.reader);
+    }
+}
+
+isolated function hasNextJsonElement(handle reader) returns boolean|error = @Method {
+    'class: "org.ballerinalang.langlib.java.ToJsonStream",
+    name: "hasNext"
+} external;
+
+isolated function readJsonElement(handle reader, typedesc<anydata> elementType) returns anydata|error = @Method {
+    'class: "org.ballerinalang.langlib.java.ToJsonStream",
+    name: "next"
+} external;
+
+isolated function closeJsonReader(handle reader) returns error? = @Method {
+    'class: "org.ballerinalang.langlib.java.ToJsonStream",
+    name: "close"
+} external;
+
+# Returns a stream of the XML elements read by the `io.ballerina.runtime.api.XmlElementReader` referred by the
+# `handle`. An element is read only when the next value of the stream is requested, so only one element is held in
+# memory at a time. Reading is done as blocking work of the current strand, and the reader is closed when the stream
+# is closed.
+# ```ballerina
+# stream<xml, error?> books = java:toXmlStream(reader);
+# ```
+#
+# + reader - The `handle` of the `io.ballerina.runtime.api.XmlElementReader`, which is created using
+#            `io.ballerina.runtime.api.utils.XmlUtils.createElementReader`
+# + return - A stream of the XML elements, which completes with an error if the document is not well-formed
+public isolated function toXmlStream(handle reader) returns stream<xml, error?> {
+    return new stream<xml, error?>(new XmlElementIterator(reader));
+}
+
+isolated class XmlElementIterator {
+
+    private final handle reader;
+
+    isolated function init(handle reader) {
+        self.reader = reader;
+    }
+
+    public isolated function next() returns record {|xml value;|}|error? {
+        boolean hasNext = check hasNextXmlElement(self.reader);
+        if !hasNext {
+            return ();
+        }
+        return {value: check readXmlElement(self.reader)};
+    }
+
+    public isolated function close() returns error? {
+        return closeXmlReader(self.reader);
+    }
+}
+
+isolated function hasNextXmlElement(handle reader) returns boolean|error = @Method {
+    'class: "org.ballerinalang.langlib.java.ToXmlStream",
+    name: "hasNext"
+} external;
+
+isolated function readXmlElement(handle reader) returns xml|error = @Method {
+    'class: "org.ballerinalang.langlib.java.ToXmlStream",
+    name: "next"
+} external;
+
+isolated function closeXmlReader(handle reader) returns error? = @Method {
+    'class: "org.ballerinalang.langlib.java.ToXmlStream",
+    name: "close"
+} external;
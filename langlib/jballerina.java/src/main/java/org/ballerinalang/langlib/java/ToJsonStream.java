@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.java;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.JsonStreamReader;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.IOException;
+
+/**
+ * This class contains the implementation of the "toJsonStream" Ballerina function in ballerina/jballerina.java module,
+ * and of the natives of the iterator which backs the stream.
+ * <p>
+ * The elements are read using the {@link JsonStreamReader} referred by the handle. Since reading may block on the
+ * underlying reader, each read is run as blocking work of the strand which requested the next element.
+ *
+ * @since 2201.9.0
+ */
+public class ToJsonStream {
+
+    private static final String ITERATOR_CLASS = "JsonElementIterator";
+    private static final Type COMPLETION_TYPE = TypeCreator.createUnionType(PredefinedTypes.TYPE_ERROR,
+            PredefinedTypes.TYPE_NULL);
+
+    public static BStream toJsonStream(Environment env, BHandle reader, BTypedesc elementType) {
+        BObject iterator = ValueCreator.createObjectValue(env.getCurrentModule(), ITERATOR_CLASS, reader,
+                elementType);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(elementType.getDescribingType(),
+                COMPLETION_TYPE), iterator);
+    }
+
+    /**
+     * Checks whether the JSON array has a next element, reading the content up to the start of it.
+     *
+     * @param env    environment of the current strand
+     * @param reader handle of the reader
+     * @return the return value is given to the strand when the read completes
+     */
+    public static Object hasNext(Environment env, BHandle reader) {
+        JsonStreamReader jsonReader = (JsonStreamReader) reader.getValue();
+        env.runBlocking(() -> {
+            try {
+                return jsonReader.hasNext();
+            } catch (BError e) {
+                return e;
+            }
+        });
+        return null;
+    }
+
+    /**
+     * Reads the next element of the JSON array as a value of the given type.
+     *
+     * @param env         environment of the current strand
+     * @param reader      handle of the reader
+     * @param elementType type of the element
+     * @return the return value is given to the strand when the read completes
+     */
+    public static Object next(Environment env, BHandle reader, BTypedesc elementType) {
+        JsonStreamReader jsonReader = (JsonStreamReader) reader.getValue();
+        Type targetType = TypeUtils.getImpliedType(elementType.getDescribingType());
+        env.runBlocking(() -> {
+            try {
+                return jsonReader.readValue(targetType);
+            } catch (BError e) {
+                return e;
+            }
+        });
+        return null;
+    }
+
+    public static Object close(BHandle reader) {
+        try {
+            ((JsonStreamReader) reader.getValue()).close();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString("Error closing JSON reader: " + e.getMessage()));
+        }
+    }
+
+    private ToJsonStream() {
+    }
+}
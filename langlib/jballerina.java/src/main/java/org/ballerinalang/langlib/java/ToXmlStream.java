@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.java;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.XmlElementReader;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
+
+import java.io.IOException;
+
+/**
+ * This class contains the natives of the iterator which backs the stream returned by the "toXmlStream" Ballerina
+ * function in ballerina/jballerina.java module.
+ * <p>
+ * The elements are read using the {@link XmlElementReader} referred by the handle. Since reading may block on the
+ * underlying stream, each read is run as blocking work of the strand which requested the next element.
+ *
+ * @since 2201.9.0
+ */
+public class ToXmlStream {
+
+    /**
+     * Checks whether there is another element, reading the document up to the start of it.
+     *
+     * @param env    environment of the current strand
+     * @param reader handle of the reader
+     * @return the return value is given to the strand when the read completes
+     */
+    public static Object hasNext(Environment env, BHandle reader) {
+        XmlElementReader xmlReader = (XmlElementReader) reader.getValue();
+        env.runBlocking(() -> {
+            try {
+                return xmlReader.hasNext();
+            } catch (BError e) {
+                return e;
+            }
+        });
+        return null;
+    }
+
+    /**
+     * Reads the next element.
+     *
+     * @param env    environment of the current strand
+     * @param reader handle of the reader
+     * @return the return value is given to the strand when the read completes
+     */
+    public static Object next(Environment env, BHandle reader) {
+        XmlElementReader xmlReader = (XmlElementReader) reader.getValue();
+        env.runBlocking(() -> {
+            try {
+                return xmlReader.next();
+            } catch (BError e) {
+                return e;
+            }
+        });
+        return null;
+    }
+
+    public static Object close(BHandle reader) {
+        try {
+            ((XmlElementReader) reader.getValue()).close();
+            return null;
+        } catch (IOException e) {
+            return ErrorCreator.createError(StringUtils.fromString("Error closing XML reader: " + e.getMessage()));
+        }
+    }
+
+    private ToXmlStream() {
+    }
+}
@@ -54,6 +54,24 @@ function createOuterJoinFunction(
     return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame);
 }
 
+function createIndexedInnerJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction,
+        table<map<Type>> joinedTable, string fieldName, _StreamFunction joinedInputFunction) returns _StreamFunction {
+    return new _InnerJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction,
+            new _TableIndexJoin(joinedTable, fieldName, joinedInputFunction));
+}
+
+function createIndexedOuterJoinFunction(
+        _StreamPipeline joinedPipeline,
+        function (_Frame _frame) returns any lhsKeyFunction,
+        function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame,
+        table<map<Type>> joinedTable, string fieldName, _StreamFunction joinedInputFunction) returns _StreamFunction {
+    return new _OuterJoinFunction(joinedPipeline, lhsKeyFunction, rhsKeyFunction, nilFrame,
+            new _TableIndexJoin(joinedTable, fieldName, joinedInputFunction));
+}
+
 function createFilterFunction(function(_Frame _frame) returns boolean|error filterFunc)
         returns _StreamFunction {
     return new _FilterFunction(filterFunc);
@@ -64,10 +82,21 @@ function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
+function createOrderByLimitFunction(function(_Frame _frame) returns error? orderFunc,
+        function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
+    return new _OrderByLimitFunction(orderFunc, limitFunction);
+}
+
 function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns _StreamFunction {
     return new _GroupByFunction(keys, nonGroupingKeys);
 }
 
+function createAggregateGroupByFunction(string[] keys, string[] sequenceKeys, string[] aggregateKeys,
+        string[] aggregateSources, string[] aggregateFunctions, boolean parallel) returns _StreamFunction {
+    return new _AggregateGroupByFunction(keys, sequenceKeys, aggregateKeys, aggregateSources, aggregateFunctions,
+            parallel);
+}
+
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
         returns _StreamFunction {
     return new _SelectFunction(selectFunc);
@@ -80,6 +109,13 @@ function createCollectFunction(string[] nonGroupingKeys, function(_Frame _frame)
     return new _CollectFunction(nonGroupingKeys, collectFunc);
 }
 
+function createAggregateCollectFunction(string[] sequenceKeys, string[] aggregateKeys, string[] aggregateSources,
+        string[] aggregateFunctions, boolean parallel, function(_Frame _frame) returns _Frame|error? collectFunc)
+        returns _StreamFunction {
+    return new _AggregateCollectFunction(sequenceKeys, aggregateKeys, aggregateSources, aggregateFunctions, parallel,
+            collectFunc);
+}
+
 function createDoFunction(function(_Frame _frame) returns any|error doFunc) returns _StreamFunction {
     return new _DoFunction(doFunc);
 }
@@ -123,6 +159,263 @@ function createArray(stream<Type, CompletionType> strm, Type[] arr) returns Type
     return arr;
 }
 
+# Minimum number of input members processed by a strand when a query is executed in parallel.
+const int MIN_PARALLEL_QUERY_CHUNK_SIZE = 1024;
+
+# A from, let or select clause function of a query which is executed in parallel.
+type _ParallelClauseFunction isolated function (_Frame _frame) returns _Frame|error?;
+
+# A where clause function of a query which is executed in parallel.
+type _ParallelFilterFunction isolated function (_Frame _frame) returns boolean|error;
+
+type _ParallelStageFunction _ParallelClauseFunction|_ParallelFilterFunction;
+
+# Executes the pipeline of a query of the form `from ... in <list or table> (let|where)* select ...` by splitting its
+# input into contiguous chunks which are processed on separate strands. The results of the chunks are appended to
+# `arr` in input order. This is only used when the compiler has verified that the query clauses do not use mutable or
+# module level state, in which case the clause functions are isolated.
+function toArrayInParallel(_StreamPipeline pipeline, Type[] arr) returns Type[]|error {
+    _ParallelStageFunction[] stages = [];
+    Type[]? input = getParallelQueryInput(pipeline.streamFunction, stages);
+    if input is () {
+        return createArray(pipeline.getStream(), arr);
+    }
+    int length = input.length();
+    int chunkCount = getQueryChunkCount(length);
+    if chunkCount < 2 {
+        return createArray(pipeline.getStream(), arr);
+    }
+
+    // The stages were collected from the last one.
+    readonly & _ParallelStageFunction[] chunkStages = stages.reverse().cloneReadOnly();
+    handle status = createQueryChunkStatus();
+    int chunkSize = (length + chunkCount - 1) / chunkCount;
+    future<Type[]|error>[] chunks = [];
+    int startIndex = 0;
+    while startIndex < length {
+        int endIndex = startIndex + chunkSize < length ? startIndex + chunkSize : length;
+        future<Type[]|error> chunk = start processQueryChunk(input, startIndex, endIndex, chunkStages, status,
+                chunks.length());
+        chunks.push(chunk);
+        startIndex = endIndex;
+    }
+    foreach int i in 0 ..< chunks.length() {
+        Type[] values = check wait chunks[i];
+        foreach Type value in values {
+            arr.push(value);
+        }
+        if isQueryChunkStopped(status, i + 1) {
+            // The query ended within this chunk, so the later chunks stopped without contributing to the result.
+            break;
+        }
+    }
+    return arr;
+}
+
+# Returns the input of a pipeline whose functions from `sf` back to the from clause can be applied to the members of
+# its input on separate strands, which is the case for isolated input, let, where and select functions over a list or
+# a table. The functions are added to `stages` starting from `sf`. Returns nil if the pipeline has to be executed
+# sequentially.
+function getParallelQueryInput(_StreamFunction? sf, _ParallelStageFunction[] stages) returns Type[]? {
+    _StreamFunction? current = sf;
+    while current is _StreamFunction && current !is _InitFunction {
+        _ParallelStageFunction? stage = getParallelStageFunction(current);
+        if stage is () {
+            return ();
+        }
+        stages.push(stage);
+        current = current.prevFunc;
+    }
+    if current !is _InitFunction {
+        return ();
+    }
+    var collection = current.collection;
+    if collection is Type[] {
+        return collection;
+    }
+    if collection is table<map<Type>> {
+        return collection.toArray();
+    }
+    return ();
+}
+
+# Returns the number of strands the input of a query of the given length is split into.
+function getQueryChunkCount(int length) returns int {
+    int chunkCount = length / MIN_PARALLEL_QUERY_CHUNK_SIZE;
+    int parallelism = getQueryParallelism();
+    return chunkCount > parallelism ? parallelism : chunkCount;
+}
+
+function getParallelStageFunction(_StreamFunction sf) returns _ParallelStageFunction? {
+    if sf is _InputFunction {
+        return getParallelClauseFunction(sf.inputFunc);
+    }
+    if sf is _LetFunction {
+        return getParallelClauseFunction(sf.letFunc);
+    }
+    if sf is _SelectFunction {
+        return getParallelClauseFunction(sf.selectFunc);
+    }
+    if sf is _FilterFunction {
+        function (_Frame _frame) returns boolean|error filterFunc = sf.filterFunc;
+        return filterFunc is _ParallelFilterFunction ? filterFunc : ();
+    }
+    return ();
+}
+
+function getParallelClauseFunction(function (_Frame _frame) returns _Frame|error? func)
+        returns _ParallelClauseFunction? {
+    return func is _ParallelClauseFunction ? func : ();
+}
+
+# The result of processing a member of the input of a query which is executed in parallel: the frame to be selected,
+# false if a where clause filtered out the member, nil if a clause ended the query or the error returned by a clause.
+type _ParallelQueryMemberResult record {|
+    _Frame|boolean|error? result;
+|};
+
+# Processes the members of `input` in the range [`startIndex`, `endIndex`) with the given clause functions. A chunk
+# stops once an earlier chunk failed or ended the query, since those members would not be processed when the query is
+# executed sequentially.
+isolated function processQueryChunk(Type[] input, int startIndex, int endIndex,
+        readonly & _ParallelStageFunction[] stages, handle status, int chunk) returns Type[]|error {
+    Type[] values = [];
+    foreach int index in startIndex ..< endIndex {
+        if isQueryChunkStopped(status, chunk) {
+            break;
+        }
+        _ParallelQueryMemberResult|error member = trap processQueryMember(input[index], stages);
+        if member is error {
+            // A clause panicked, which stops the later chunks before the panic is propagated.
+            stopQueryAfterChunk(status, chunk);
+            panic member;
+        }
+        _Frame|boolean|error? res = member.result;
+        if res is _Frame {
+            values.push(<Type>res["$value$"]);
+        } else if res is error {
+            stopQueryAfterChunk(status, chunk);
+            return prepareQueryBodyError(res);
+        } else if res is () {
+            stopQueryAfterChunk(status, chunk);
+            break;
+        }
+    }
+    return values;
+}
+
+isolated function processQueryMember(Type member, readonly & _ParallelStageFunction[] stages)
+        returns _ParallelQueryMemberResult {
+    _Frame frame = {value: member};
+    foreach _ParallelStageFunction stage in stages {
+        if stage is _ParallelFilterFunction {
+            boolean|error selected = stage(frame);
+            if selected is error || !selected {
+                return {result: selected};
+            }
+        } else {
+            _Frame|error? next = stage(frame);
+            if next !is _Frame {
+                return {result: next};
+            }
+            frame = next;
+        }
+    }
+    return {result: frame};
+}
+
+# Aggregates the frames produced by `pf` for a `group by` or `collect` clause whose non-grouping variables are only
+# used as the argument of aggregate functions. When the query is executed in parallel and the aggregates can be merged
+# exactly, the clauses before the grouping clause are applied to contiguous chunks of the input on separate strands.
+# Each chunk is aggregated into a table of its own and the tables are merged in input order.
+function aggregateFrames(_StreamFunction pf, string[] keys, string[] sequenceKeys, string[] aggregateSources,
+        string[] aggregateFunctions, boolean parallel) returns handle|error {
+    if parallel && isMergeableAggregation(aggregateFunctions) {
+        _ParallelStageFunction[] stages = [];
+        Type[]? input = getParallelQueryInput(pf, stages);
+        if input is Type[] {
+            int chunkCount = getQueryChunkCount(input.length());
+            if chunkCount > 1 {
+                // The stages were collected from the last one.
+                return aggregateInParallel(input, stages.reverse().cloneReadOnly(), chunkCount, keys, sequenceKeys,
+                        aggregateSources, aggregateFunctions);
+            }
+        }
+    }
+    handle aggregationTable = createAggregationTable(keys, sequenceKeys, aggregateSources, aggregateFunctions);
+    _Frame? f = check pf.process();
+    while f is _Frame {
+        check addToAggregationTable(aggregationTable, f);
+        f = check pf.process();
+    }
+    return aggregationTable;
+}
+
+function aggregateInParallel(Type[] input, readonly & _ParallelStageFunction[] stages, int chunkCount,
+        string[] keys, string[] sequenceKeys, string[] aggregateSources, string[] aggregateFunctions)
+        returns handle|error {
+    handle status = createQueryChunkStatus();
+    int length = input.length();
+    int chunkSize = (length + chunkCount - 1) / chunkCount;
+    handle[] tables = [];
+    future<error?>[] chunks = [];
+    int startIndex = 0;
+    while startIndex < length {
+        int endIndex = startIndex + chunkSize < length ? startIndex + chunkSize : length;
+        handle chunkTable = createAggregationTable(keys, sequenceKeys, aggregateSources, aggregateFunctions);
+        future<error?> chunk = start aggregateQueryChunk(input, startIndex, endIndex, stages, chunkTable, status,
+                chunks.length());
+        tables.push(chunkTable);
+        chunks.push(chunk);
+        startIndex = endIndex;
+    }
+    handle aggregationTable = tables[0];
+    foreach int i in 0 ..< chunks.length() {
+        error? chunkError = wait chunks[i];
+        if chunkError is error {
+            return chunkError;
+        }
+        if i > 0 {
+            mergeAggregationTables(aggregationTable, tables[i]);
+        }
+        if isQueryChunkStopped(status, i + 1) {
+            // The query ended within this chunk, so the later chunks stopped without contributing to the result.
+            break;
+        }
+    }
+    return aggregationTable;
+}
+
+# Adds the frames produced for the members of `input` in the range [`startIndex`, `endIndex`) to `aggregationTable`.
+# Like `processQueryChunk`, a chunk stops once an earlier chunk failed or ended the query.
+isolated function aggregateQueryChunk(Type[] input, int startIndex, int endIndex,
+        readonly & _ParallelStageFunction[] stages, handle aggregationTable, handle status, int chunk) returns error? {
+    foreach int index in startIndex ..< endIndex {
+        if isQueryChunkStopped(status, chunk) {
+            break;
+        }
+        _ParallelQueryMemberResult|error member = trap processQueryMember(input[index], stages);
+        if member is error {
+            stopQueryAfterChunk(status, chunk);
+            panic member;
+        }
+        _Frame|boolean|error? res = member.result;
+        if res is _Frame {
+            error? added = addToAggregationTable(aggregationTable, res);
+            if added is error {
+                stopQueryAfterChunk(status, chunk);
+                return added;
+            }
+        } else if res is error {
+            stopQueryAfterChunk(status, chunk);
+            return prepareQueryBodyError(res);
+        } else if res is () {
+            stopQueryAfterChunk(status, chunk);
+            break;
+        }
+    }
+}
+
 function collectQuery(stream<Type, CompletionType> strm) returns Type|error {
     record {| Type value; |}|error? v = strm.next();
     return v is record {| Type value; |} ? v.value : v;
@@ -313,6 +606,24 @@ function consumeStream(stream<Type, CompletionType> strm) returns any|error {
     }
 }
 
+# Creates the grouped frame of an aggregated group, which is laid out as the grouping key values followed by the
+# retained sequences and the aggregated sequences.
+function createAggregatedFrame(any[] group, string[] keys, string[] sequenceKeys, string[] aggregateKeys)
+        returns _Frame {
+    _Frame groupedFrame = {};
+    int index = 0;
+    foreach var key in keys {
+        groupedFrame[key] = group[index];
+        index += 1;
+    }
+    foreach var key in [...sequenceKeys, ...aggregateKeys] {
+        groupedFrame[key] = [];
+        (<(any|error)[]> groupedFrame[key]).push(...<(any|error)[]> group[index]);
+        index += 1;
+    }
+    return groupedFrame;
+}
+
 function createImmutableTable(table<map<Type>> tbl, Type[] arr) returns table<map<Type>> & readonly = @java:Method {
     'class: "org.ballerinalang.langlib.query.CreateImmutableType",
     name: "createImmutableTable"
@@ -328,6 +639,113 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function sortFrames(_Frame[] frames) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderBy",
+    name: "sortFrames"
+} external;
+
+function createTopKFrames(int 'limit) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderBy",
+    name: "createTopKFrames"
+} external;
+
+function addToTopKFrames(handle topKFrames, _Frame frame) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderBy",
+    name: "addToTopKFrames"
+} external;
+
+function getTopKFrames(handle topKFrames, _Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.OrderBy",
+    name: "getTopKFrames"
+} external;
+
+function getQueryParallelism() returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "getParallelism"
+} external;
+
+function createQueryChunkStatus() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "createChunkStatus"
+} external;
+
+isolated function stopQueryAfterChunk(handle status, int chunk) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "stopAfterChunk"
+} external;
+
+isolated function isQueryChunkStopped(handle status, int chunk) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.ParallelQuery",
+    name: "isChunkStopped"
+} external;
+
+function createFrameHashTable() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.HashJoin",
+    name: "createFrameHashTable"
+} external;
+
+function addToFrameHashTable(handle hashTable, any key, _Frame frame) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.HashJoin",
+    name: "addToFrameHashTable"
+} external;
+
+function getFromFrameHashTable(handle hashTable, any key) returns _Frame[]? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.HashJoin",
+    name: "getFromFrameHashTable"
+} external;
+
+function createAggregationTable(string[] keys, string[] sequenceKeys, string[] aggregateSources,
+        string[] aggregateFunctions) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupBy",
+    name: "createAggregationTable"
+} external;
+
+isolated function addToAggregationTable(handle aggregationTable, _Frame frame) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupBy",
+    name: "addToAggregationTable"
+} external;
+
+function isMergeableAggregation(string[] aggregateFunctions) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupBy",
+    name: "isMergeableAggregation"
+} external;
+
+function mergeAggregationTables(handle target, handle source) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupBy",
+    name: "mergeAggregationTables"
+} external;
+
+function getAggregatedGroups(handle aggregationTable) returns any[][] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GroupBy",
+    name: "getAggregatedGroups"
+} external;
+
+function getIndexedRows(table<map<Type>> 'table, string fieldName, string operator, any value)
+        returns table<map<Type>>|map<Type>[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "getIndexedRows"
+} external;
+
+function addTableIndex(table<map<Type>> 'table, string fieldName, boolean sorted) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "addIndex"
+} external;
+
+function hasJoinIndex(table<map<Type>> 'table, string fieldName) returns boolean = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "hasJoinIndex"
+} external;
+
+function createJoinIndex(table<map<Type>> 'table, string fieldName) returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "createJoinIndex"
+} external;
+
+function getJoinedRows(handle joinIndex, any key) returns map<Type>[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.TableIndexLookup",
+    name: "getJoinedRows"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
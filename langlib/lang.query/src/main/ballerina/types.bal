@@ -344,18 +344,24 @@ class _InnerJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
+    handle rhsFramesMap = createFrameHashTable();
+    _TableIndexJoin? tableIndexJoin = ();
     error? failureAtJoin = ();
     stream<_Frame>? joinedFramesStream;
 
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any|error lhsKeyFunction,
-            function (_Frame _frame) returns any|error rhsKeyFunction) {
+            function (_Frame _frame) returns any|error rhsKeyFunction, _TableIndexJoin? tableIndexJoin = ()) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
         self.joinedFramesStream = ();
+        if tableIndexJoin is _TableIndexJoin && tableIndexJoin.isIndexed() {
+            // The rows of the joined table are looked up using its index instead.
+            self.tableIndexJoin = tableIndexJoin;
+            return;
+        }
 
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
@@ -364,7 +370,11 @@ class _InnerJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                error? err = addToFrameHashTable(self.rhsFramesMap, rhsKeyFuncResult, f);
+                if err is error {
+                    self.failureAtJoin = prepareQueryBodyError(err);
+                    return;
+                }
                 f = pipelineToJoin.next();
             }
         }
@@ -380,7 +390,8 @@ class _InnerJoinFunction {
     public function process() returns _Frame|error? {
         if (self.joinedFramesStream is ()) {
             function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+            handle rhsFramesMap = self.rhsFramesMap;
+            _TableIndexJoin? tableIndexJoin = self.tableIndexJoin;
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             _Frame|error? lhsFrame = pf.process();
             _Frame[] joinedFrames = [];
@@ -395,16 +406,18 @@ class _InnerJoinFunction {
                 if (lhsKFRes is error) {
                     return prepareQueryBodyError(lhsKFRes);
                 }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
+                _Frame[]|error? rhsCandidates = getJoinCandidates(rhsFramesMap, tableIndexJoin, lhsKFRes);
+                if rhsCandidates is error {
+                    return rhsCandidates;
+                }
+                if (rhsCandidates is _Frame[]) {
+                    foreach _Frame rhsFrame in rhsCandidates {
+                        _Frame joinedFrame = {...lhsFrame};
+                        foreach var [k, val] in rhsFrame.entries() {
+                            joinedFrame[k] = val;
+                        }
+                        joinedFrames.push(joinedFrame);
                     }
-                    joinedFrames.push(joinedFrame);
                 }
                 lhsFrame = pf.process();
             }
@@ -431,8 +444,10 @@ class _OuterJoinFunction {
     *_StreamFunction;
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
-    _FrameMultiMap rhsFramesMap = new;
+    handle rhsFramesMap = createFrameHashTable();
+    _TableIndexJoin? tableIndexJoin = ();
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -440,13 +455,19 @@ class _OuterJoinFunction {
     function init(
             _StreamPipeline pipelineToJoin,
             function (_Frame _frame) returns any|error lhsKeyFunction,
-            function (_Frame _frame) returns any|error rhsKeyFunction, _Frame nilFrame) {
+            function (_Frame _frame) returns any|error rhsKeyFunction, _Frame nilFrame,
+            _TableIndexJoin? tableIndexJoin = ()) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.rhsCandidates = ();
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
+        if tableIndexJoin is _TableIndexJoin && tableIndexJoin.isIndexed() {
+            // The rows of the joined table are looked up using its index instead.
+            self.tableIndexJoin = tableIndexJoin;
+            return;
+        }
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
             any|error rhsKeyFuncResult = rhsKeyFunction(f);
@@ -454,7 +475,11 @@ class _OuterJoinFunction {
                 self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
                 return;
             } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
+                error? err = addToFrameHashTable(self.rhsFramesMap, rhsKeyFuncResult, f);
+                if err is error {
+                    self.failureAtJoin = prepareQueryBodyError(err);
+                    return;
+                }
                 f = pipelineToJoin.next();
             }
         }
@@ -470,12 +495,11 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
+        handle rhsFramesMap = self.rhsFramesMap;
         _Frame[]? rhsCandidates = self.rhsCandidates;
         _Frame|error? lhsFrame = self.lhsFrame;
         _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
         if(failureAtJoin is error) {
             fail failureAtJoin;
@@ -491,17 +515,20 @@ class _OuterJoinFunction {
             if (lhsKFRes is error) {
                 return prepareQueryBodyError(lhsKFRes);
             }
-            lhsKey = (lhsKFRes).toString();
             if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
+                _Frame[]|error? candidates = getJoinCandidates(rhsFramesMap, self.tableIndexJoin, lhsKFRes);
+                if candidates is error {
+                    return candidates;
+                }
+                rhsCandidates = candidates;
                 self.rhsCandidates = rhsCandidates;
+                self.rhsCandidateIndex = 0;
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
+                _Frame rhsFrame = rhsCandidates[self.rhsCandidateIndex];
+                self.rhsCandidateIndex += 1;
+                if (self.rhsCandidateIndex >= rhsCandidates.length()) {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
                     self.lhsFrame = ();
@@ -528,6 +555,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -535,6 +563,44 @@ class _OuterJoinFunction {
     }
 }
 
+# Looks up the rows of a joined table which match a join key using an index of the table on the field which is used
+# as the join key, instead of building a hash table of all the rows. The index is copied when the join is
+# initialized, so that rows added to the table later are not joined, as with the hash table.
+class _TableIndexJoin {
+    handle? joinIndex;
+    function (_Frame _frame) returns _Frame|error? inputFunc;
+
+    function init(table<map<Type>> joinedTable, string fieldName, _StreamFunction inputFunction) {
+        self.joinIndex = hasJoinIndex(joinedTable, fieldName) ? createJoinIndex(joinedTable, fieldName) : ();
+        self.inputFunc = (<_InputFunction>inputFunction).inputFunc;
+    }
+
+    function isIndexed() returns boolean => self.joinIndex is handle;
+
+    function getFrames(any key) returns _Frame[]|error? {
+        map<Type>[] rows = getJoinedRows(<handle>self.joinIndex, key);
+        function (_Frame _frame) returns _Frame|error? inputFunc = self.inputFunc;
+        _Frame[] frames = [];
+        foreach map<Type> row in rows {
+            _Frame|error? f = inputFunc({value: row});
+            if f is error {
+                return prepareQueryBodyError(f);
+            }
+            if f is _Frame {
+                frames.push(f);
+            }
+        }
+        return frames.length() == 0 ? () : frames;
+    }
+}
+
+function getJoinCandidates(handle rhsFramesMap, _TableIndexJoin? tableIndexJoin, any key) returns _Frame[]|error? {
+    if tableIndexJoin is _TableIndexJoin {
+        return tableIndexJoin.getFrames(key);
+    }
+    return getFromFrameHashTable(rhsFramesMap, key);
+}
+
 class _FilterFunction {
     *_StreamFunction;
 
@@ -594,21 +660,24 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            _Frame[] frames = [];
             // consume all events for ordering.
             while (f is _Frame) {
                 error? res = orderKeyFunc(f);
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                frames.push(f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            error? sortErr = sortFrames(frames);
+            if (sortErr is error) {
+                return prepareQueryBodyError(sortErr);
+            }
+            self.orderedStream = frames.toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -761,6 +830,121 @@ class _CollectFunction {
     }
 }
 
+class _AggregateGroupByFunction {
+    *_StreamFunction;
+
+    string[] keys;
+    string[] sequenceKeys;
+    string[] aggregateKeys;
+    string[] aggregateSources;
+    string[] aggregateFunctions;
+    boolean parallel;
+    stream<_Frame>? groupedStream;
+
+    # Group by function used when the non-grouping variables are only used as the argument of aggregate langlib
+    # functions. Each group only retains a running accumulator per aggregate, which is made available to the
+    # following clauses as a sequence of at most one value under the corresponding aggregate key. If `parallel` is
+    # set, the clauses before the group by clause are isolated and may be applied to the input in parallel.
+    function init(string[] keys, string[] sequenceKeys, string[] aggregateKeys, string[] aggregateSources,
+            string[] aggregateFunctions, boolean parallel) {
+        self.keys = keys;
+        self.sequenceKeys = sequenceKeys;
+        self.aggregateKeys = aggregateKeys;
+        self.aggregateSources = aggregateSources;
+        self.aggregateFunctions = aggregateFunctions;
+        self.parallel = parallel;
+        self.groupedStream = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.groupedStream is ()) {
+            handle aggregationTable = check aggregateFrames(<_StreamFunction>self.prevFunc, self.keys,
+                    self.sequenceKeys, self.aggregateSources, self.aggregateFunctions, self.parallel);
+            _Frame[] groupedFrames = [];
+            foreach any[] group in getAggregatedGroups(aggregationTable) {
+                groupedFrames.push(createAggregatedFrame(group, self.keys, self.sequenceKeys, self.aggregateKeys));
+            }
+            self.groupedStream = groupedFrames.toStream();
+        }
+
+        stream<_Frame> s = <stream<_Frame>>self.groupedStream;
+        record {|_Frame value;|}|error? next = s.next();
+        return next is record {|_Frame value;|} ? next.value : next;
+    }
+
+    public function reset() {
+        self.groupedStream = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
+class _AggregateCollectFunction {
+    *_StreamFunction;
+
+    string[] sequenceKeys;
+    string[] aggregateKeys;
+    string[] aggregateSources;
+    string[] aggregateFunctions;
+    boolean parallel;
+    boolean collected;
+    function (_Frame _frame) returns _Frame|error? collectFunc;
+
+    # Collect function used when the non-grouping variables are only used as the argument of aggregate langlib
+    # functions. Only a running accumulator is retained per aggregate instead of the full sequence. If `parallel` is
+    # set, the clauses before the collect clause are isolated and may be applied to the input in parallel. The input
+    # is aggregated once, after which the function produces no more frames until it is reset.
+    function init(string[] sequenceKeys, string[] aggregateKeys, string[] aggregateSources,
+            string[] aggregateFunctions, boolean parallel, function (_Frame _frame) returns _Frame|error? collectFunc) {
+        self.sequenceKeys = sequenceKeys;
+        self.aggregateKeys = aggregateKeys;
+        self.aggregateSources = aggregateSources;
+        self.aggregateFunctions = aggregateFunctions;
+        self.parallel = parallel;
+        self.collected = false;
+        self.collectFunc = collectFunc;
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if self.collected {
+            return ();
+        }
+        self.collected = true;
+        handle aggregationTable = check aggregateFrames(<_StreamFunction>self.prevFunc, [], self.sequenceKeys,
+                self.aggregateSources, self.aggregateFunctions, self.parallel);
+        any[][] groups = getAggregatedGroups(aggregationTable);
+        _Frame groupedFrame;
+        if groups.length() == 0 {
+            groupedFrame = {};
+            foreach var key in self.sequenceKeys {
+                groupedFrame[key] = [];
+            }
+            foreach var key in self.aggregateKeys {
+                groupedFrame[key] = [];
+            }
+        } else {
+            groupedFrame = createAggregatedFrame(groups[0], [], self.sequenceKeys, self.aggregateKeys);
+        }
+        _Frame|error? cFrame = self.collectFunc(groupedFrame);
+        if (cFrame is error) {
+            return prepareQueryBodyError(cFrame);
+        }
+        return cFrame;
+    }
+
+    public function reset() {
+        self.collected = false;
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
 class _SelectFunction {
     *_StreamFunction;
 
@@ -872,6 +1056,79 @@ class _DoFunction {
     }
 }
 
+class _OrderByLimitFunction {
+    *_StreamFunction;
+
+    # Desugared functions of an order by clause which is immediately followed by a limit clause.
+    # Only the first `limit` frames are retained while consuming the frames.
+    function (_Frame _frame) returns error? orderKeyFunc;
+    function (_Frame _frame) returns int|error limitFunc;
+    stream<_Frame>? orderedStream;
+
+    function init(function (_Frame _frame) returns error? orderKeyFunc,
+            function (_Frame _frame) returns int limitFunc) {
+        self.orderKeyFunc = orderKeyFunc;
+        self.limitFunc = limitFunc;
+        self.orderedStream = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.orderedStream is ()) {
+            _StreamFunction pf = <_StreamFunction>self.prevFunc;
+            function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
+            function (_Frame _frame) returns int|error limitFunc = self.limitFunc;
+            _Frame|error? f = pf.process();
+            handle? topKFrames = ();
+            // consume all events while retaining only the first `limit` frames.
+            while (f is _Frame) {
+                error? res = orderKeyFunc(f);
+                if (res is error) {
+                    return prepareQueryBodyError(res);
+                }
+                if (topKFrames is ()) {
+                    int|error lmt = limitFunc(f);
+                    if (lmt is error) {
+                        return prepareQueryBodyError(lmt);
+                    }
+                    if (lmt < 1) {
+                        panic error("Invalid limit", message = "limit cannot be < 1.");
+                    }
+                    topKFrames = createTopKFrames(lmt);
+                }
+                error? addErr = addToTopKFrames(<handle>topKFrames, f);
+                if (addErr is error) {
+                    return prepareQueryBodyError(addErr);
+                }
+                f = pf.process();
+            }
+            if (f is error) {
+                return f;
+            }
+            _Frame[] frames = [];
+            if (topKFrames is handle) {
+                getTopKFrames(topKFrames, frames);
+            }
+            self.orderedStream = frames.toStream();
+        }
+
+        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
+        record {|_Frame value;|}|error? f = s.next();
+        if (f is record {|_Frame value;|}) {
+            return f.value;
+        }
+        return f;
+    }
+
+    public function reset() {
+        self.orderedStream = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
 class _LimitFunction {
     *_StreamFunction;
 
@@ -917,38 +1174,6 @@ class _LimitFunction {
 
 // ---- helper types ----
 
-class _FrameMultiMap {
-    map<_Frame[]> m;
-
-    function init() {
-        self.m = {};
-    }
-
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
-    }
-
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
-    }
-
-}
-
 class IterHelper {
     public _StreamPipeline pipeline;
     public typedesc<Type> outputType;
@@ -992,110 +1217,6 @@ class OnConflictIterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if (!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return - ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return - ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
-
 //Distinct error to identify errors thrown from query body
 public type Error distinct error;
 
@@ -0,0 +1,632 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Native implementation of the aggregation table used by `group by` and `collect` clauses of query expressions when
+ * the non-grouping variables are only used as the argument of aggregate langlib functions.
+ * <p>
+ * Instead of retaining every frame of a group, only a running accumulator is kept per aggregate. The accumulators
+ * follow the evaluation order of the corresponding `lang.int`, `lang.float` and `lang.decimal` functions, so that
+ * applying the function to the aggregated sequence yields the same result as applying it to the full sequence.
+ * Non-grouping variables which are used in any other way are retained as sequences.
+ * <p>
+ * When a query is executed in parallel, each chunk of the input is aggregated into a separate table and the tables are
+ * merged in input order. This is only done when every aggregate function can be combined exactly, since the result
+ * must not depend on how the input was split.
+ *
+ * @since 2201.9.0
+ */
+public class GroupBy {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ArrayType ANY_ARRAY_TYPE = TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY);
+    private static final ArrayType SEQUENCE_TYPE = TypeCreator.createArrayType(
+            TypeCreator.createUnionType(PredefinedTypes.TYPE_ANY, PredefinedTypes.TYPE_ERROR));
+    private static final ArrayType GROUP_ARRAY_TYPE = TypeCreator.createArrayType(ANY_ARRAY_TYPE);
+
+    private GroupBy() {
+    }
+
+    /**
+     * Creates an empty aggregation table.
+     *
+     * @param keys               names of the grouping keys
+     * @param sequenceKeys       names of the non-grouping variables which are retained as sequences
+     * @param aggregateSources   names of the non-grouping variables which are aggregated
+     * @param aggregateFunctions aggregate function applied to each of the aggregate sources, e.g. `int:sum`
+     * @return the created aggregation table
+     */
+    public static AggregationTable createAggregationTable(BArray keys, BArray sequenceKeys, BArray aggregateSources,
+                                                          BArray aggregateFunctions) {
+        return new AggregationTable(toKeys(keys), toKeys(sequenceKeys), toKeys(aggregateSources),
+                aggregateFunctions.getStringArray());
+    }
+
+    /**
+     * Adds a frame to the group with the grouping key values of the frame.
+     *
+     * @param table aggregation table created using {@link #createAggregationTable(BArray, BArray, BArray, BArray)}
+     * @param frame frame to be added
+     * @return an error if a grouping key value is an error, nil otherwise
+     */
+    public static Object addToAggregationTable(AggregationTable table, BMap<?, ?> frame) {
+        try {
+            table.add(frame);
+        } catch (BError error) {
+            return error;
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether aggregation tables with the given aggregate functions can be merged without changing the result.
+     * The rounding of `float:sum`, `float:avg` and `decimal:sum` depends on the order of the additions, so the values
+     * of such aggregates have to be added one after the other.
+     *
+     * @param aggregateFunctions aggregate functions of the table, e.g. `int:sum`
+     * @return true if the aggregation tables can be merged
+     */
+    public static boolean isMergeableAggregation(BArray aggregateFunctions) {
+        for (String function : aggregateFunctions.getStringArray()) {
+            switch (function) {
+                case "int:sum":
+                case "int:max":
+                case "int:min":
+                case "float:max":
+                case "float:min":
+                case "decimal:max":
+                case "decimal:min":
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Merges the groups of `source` into `target`, as if the frames added to `source` were added to `target` after
+     * the frames already added to it. The tables must have been created with the same keys and aggregate functions,
+     * which must be mergeable as per {@link #isMergeableAggregation(BArray)}.
+     *
+     * @param target aggregation table to which the groups are merged
+     * @param source aggregation table of the frames which follow those of `target`
+     */
+    public static void mergeAggregationTables(AggregationTable target, AggregationTable source) {
+        target.merge(source);
+    }
+
+    /**
+     * Returns the groups of the given aggregation table in the order in which they were first seen. Each group is a
+     * list of the grouping key values followed by the sequences of the sequence keys and the aggregate sources.
+     *
+     * @param table aggregation table created using {@link #createAggregationTable(BArray, BArray, BArray, BArray)}
+     * @return the groups
+     */
+    public static BArray getAggregatedGroups(AggregationTable table) {
+        BArray groups = ValueCreator.createArrayValue(GROUP_ARRAY_TYPE);
+        for (Group group : table.groups) {
+            BArray values = ValueCreator.createArrayValue(ANY_ARRAY_TYPE);
+            for (Object keyValue : group.keyValues) {
+                values.append(keyValue);
+            }
+            for (List<Object> sequence : group.sequences) {
+                BArray sequenceValues = ValueCreator.createArrayValue(SEQUENCE_TYPE);
+                for (Object value : sequence) {
+                    sequenceValues.append(value);
+                }
+                values.append(sequenceValues);
+            }
+            for (Aggregator aggregator : group.aggregators) {
+                BArray sequenceValues = ValueCreator.createArrayValue(SEQUENCE_TYPE);
+                aggregator.addTo(sequenceValues);
+                values.append(sequenceValues);
+            }
+            groups.append(values);
+        }
+        return groups;
+    }
+
+    private static BString[] toKeys(BArray keys) {
+        int size = keys.size();
+        BString[] result = new BString[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = StringUtils.fromString(keys.getString(i));
+        }
+        return result;
+    }
+
+    private static Aggregator createAggregator(String function) {
+        switch (function) {
+            case "int:sum":
+                return new IntSumAggregator();
+            case "int:max":
+                return new IntExtremumAggregator(true);
+            case "int:min":
+                return new IntExtremumAggregator(false);
+            case "float:sum":
+                return new FloatSumAggregator();
+            case "float:avg":
+                return new FloatAvgAggregator();
+            case "float:max":
+                return new FloatExtremumAggregator(true);
+            case "float:min":
+                return new FloatExtremumAggregator(false);
+            case "decimal:sum":
+                return new DecimalSumAggregator();
+            case "decimal:max":
+                return new DecimalExtremumAggregator(true);
+            case "decimal:min":
+                return new DecimalExtremumAggregator(false);
+            default:
+                throw new IllegalStateException("unsupported aggregate function: " + function);
+        }
+    }
+
+    /**
+     * Hash table which maps grouping key values to the aggregated state of the group.
+     */
+    public static final class AggregationTable {
+
+        private final BString[] keys;
+        private final BString[] sequenceKeys;
+        private final BString[] aggregateSources;
+        private final String[] aggregateFunctions;
+        private final List<Group> groups = new ArrayList<>();
+        private Group[] buckets = new Group[INITIAL_CAPACITY];
+
+        private AggregationTable(BString[] keys, BString[] sequenceKeys, BString[] aggregateSources,
+                                 String[] aggregateFunctions) {
+            this.keys = keys;
+            this.sequenceKeys = sequenceKeys;
+            this.aggregateSources = aggregateSources;
+            this.aggregateFunctions = aggregateFunctions;
+        }
+
+        private void add(BMap<?, ?> frame) {
+            Object[] keyValues = new Object[keys.length];
+            int hash = 1;
+            for (int i = 0; i < keys.length; i++) {
+                Object keyValue = frame.get(keys[i]);
+                if (keyValue instanceof BError error) {
+                    throw error;
+                }
+                keyValues[i] = keyValue;
+                hash = 31 * hash + HashJoin.hash(keyValue);
+            }
+            hash ^= hash >>> 16;
+
+            Group group = find(keyValues, hash);
+            if (group == null) {
+                group = createGroup(keyValues, hash);
+            }
+            for (int i = 0; i < sequenceKeys.length; i++) {
+                Object value = frame.get(sequenceKeys[i]);
+                if (value != null) {
+                    group.sequences.get(i).add(value);
+                }
+            }
+            for (int i = 0; i < aggregateSources.length; i++) {
+                Object value = frame.get(aggregateSources[i]);
+                if (value != null) {
+                    group.aggregators[i].add(value);
+                }
+            }
+        }
+
+        private void merge(AggregationTable source) {
+            for (Group sourceGroup : source.groups) {
+                Group group = find(sourceGroup.matchKeyValues, sourceGroup.hash);
+                if (group == null) {
+                    group = createGroup(sourceGroup.keyValues, sourceGroup.hash);
+                }
+                for (int i = 0; i < sequenceKeys.length; i++) {
+                    group.sequences.get(i).addAll(sourceGroup.sequences.get(i));
+                }
+                for (int i = 0; i < aggregateSources.length; i++) {
+                    group.aggregators[i].merge(sourceGroup.aggregators[i]);
+                }
+            }
+        }
+
+        private Group find(Object[] keyValues, int hash) {
+            Group group = buckets[hash & (buckets.length - 1)];
+            while (group != null) {
+                if (group.hash == hash && isEqual(group.matchKeyValues, keyValues)) {
+                    return group;
+                }
+                group = group.next;
+            }
+            return null;
+        }
+
+        private Group createGroup(Object[] keyValues, int hash) {
+            // Grouping keys are compared against an immutable copy so that later mutations of the first frame of
+            // the group do not change the group a frame belongs to.
+            Object[] matchKeyValues = new Object[keyValues.length];
+            for (int i = 0; i < keyValues.length; i++) {
+                Object keyValue = keyValues[i];
+                matchKeyValues[i] = keyValue instanceof BRefValue refValue && !refValue.isFrozen() ?
+                        refValue.frozenCopy(new HashMap<>()) : keyValue;
+            }
+            List<List<Object>> sequences = createSequences(sequenceKeys.length);
+            Aggregator[] aggregators = new Aggregator[aggregateFunctions.length];
+            for (int i = 0; i < aggregators.length; i++) {
+                aggregators[i] = createAggregator(aggregateFunctions[i]);
+            }
+
+            if (groups.size() >= buckets.length - (buckets.length >>> 2)) {
+                resize();
+            }
+            int index = hash & (buckets.length - 1);
+            Group group = new Group(hash, keyValues, matchKeyValues, sequences, aggregators, buckets[index]);
+            buckets[index] = group;
+            groups.add(group);
+            return group;
+        }
+
+        private void resize() {
+            Group[] newBuckets = new Group[buckets.length << 1];
+            for (Group group : groups) {
+                int index = group.hash & (newBuckets.length - 1);
+                group.next = newBuckets[index];
+                newBuckets[index] = group;
+            }
+            buckets = newBuckets;
+        }
+
+        private static boolean isEqual(Object[] lhs, Object[] rhs) {
+            for (int i = 0; i < lhs.length; i++) {
+                if (!TypeChecker.isEqual(lhs[i], rhs[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static List<List<Object>> createSequences(int count) {
+            List<List<Object>> sequences = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                sequences.add(new ArrayList<>());
+            }
+            return sequences;
+        }
+    }
+
+    private static final class Group {
+
+        private final int hash;
+        private final Object[] keyValues;
+        private final Object[] matchKeyValues;
+        private final List<List<Object>> sequences;
+        private final Aggregator[] aggregators;
+        private Group next;
+
+        private Group(int hash, Object[] keyValues, Object[] matchKeyValues, List<List<Object>> sequences,
+                      Aggregator[] aggregators, Group next) {
+            this.hash = hash;
+            this.keyValues = keyValues;
+            this.matchKeyValues = matchKeyValues;
+            this.sequences = sequences;
+            this.aggregators = aggregators;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Running state of an aggregate function over the non-nil values of a non-grouping variable.
+     */
+    private abstract static class Aggregator {
+
+        protected boolean empty = true;
+
+        abstract void add(Object value);
+
+        /**
+         * Adds the values aggregated by the given aggregator of the same function, which follow the values added to
+         * this aggregator.
+         */
+        void merge(Aggregator other) {
+            throw new IllegalStateException("aggregate cannot be merged: " + getClass().getSimpleName());
+        }
+
+        /**
+         * Adds the aggregated sequence to the given list. The aggregated sequence is empty if no values were added.
+         */
+        abstract void addTo(BArray sequence);
+    }
+
+    private static final class IntSumAggregator extends Aggregator {
+
+        private long sum = 0;
+        // Bounds of the partial sums, which tell whether adding the values after those of another aggregator
+        // overflows at some point.
+        private long minPartialSum = 0;
+        private long maxPartialSum = 0;
+        // Once the sum overflows, the values are retained so that `int:sum` reports the overflow itself.
+        private List<Object> retained;
+
+        @Override
+        void add(Object value) {
+            empty = false;
+            if (retained != null) {
+                retained.add(value);
+                return;
+            }
+            try {
+                sum = Math.addExact(sum, ((Number) value).longValue());
+            } catch (ArithmeticException e) {
+                retained = new ArrayList<>();
+                retained.add(sum);
+                retained.add(value);
+                return;
+            }
+            minPartialSum = Math.min(minPartialSum, sum);
+            maxPartialSum = Math.max(maxPartialSum, sum);
+        }
+
+        @Override
+        void merge(Aggregator other) {
+            IntSumAggregator source = (IntSumAggregator) other;
+            if (source.empty) {
+                return;
+            }
+            empty = false;
+            if (retained != null) {
+                // The overflow of this aggregator is reported regardless of the values which follow.
+                return;
+            }
+            if (sum > 0 && source.maxPartialSum > Long.MAX_VALUE - sum) {
+                retainOverflow(source.maxPartialSum);
+                return;
+            }
+            if (sum < 0 && source.minPartialSum < Long.MIN_VALUE - sum) {
+                retainOverflow(source.minPartialSum);
+                return;
+            }
+            minPartialSum = Math.min(minPartialSum, sum + source.minPartialSum);
+            maxPartialSum = Math.max(maxPartialSum, sum + source.maxPartialSum);
+            if (source.retained == null) {
+                sum += source.sum;
+                return;
+            }
+            // The source overflowed on its own, which may not be the case after the values of this aggregator.
+            // The first retained value is a partial sum within the bounds checked above.
+            sum += (Long) source.retained.get(0);
+            for (int i = 1; i < source.retained.size(); i++) {
+                add(source.retained.get(i));
+            }
+        }
+
+        private void retainOverflow(long partialSum) {
+            // `int:sum` overflows on the same partial sum as the sequential addition of the values.
+            retained = new ArrayList<>();
+            retained.add(sum);
+            retained.add(partialSum);
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (retained != null) {
+                retained.forEach(sequence::append);
+            } else if (!empty) {
+                sequence.append(sum);
+            }
+        }
+    }
+
+    private static final class IntExtremumAggregator extends Aggregator {
+
+        private final boolean max;
+        private Object extremum;
+
+        private IntExtremumAggregator(boolean max) {
+            this.max = max;
+        }
+
+        @Override
+        void add(Object value) {
+            if (empty) {
+                empty = false;
+                extremum = value;
+                return;
+            }
+            long current = ((Number) value).longValue();
+            long previous = ((Number) extremum).longValue();
+            if (max ? current >= previous : current <= previous) {
+                extremum = value;
+            }
+        }
+
+        @Override
+        void merge(Aggregator other) {
+            IntExtremumAggregator source = (IntExtremumAggregator) other;
+            if (!source.empty) {
+                add(source.extremum);
+            }
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (!empty) {
+                sequence.append(extremum);
+            }
+        }
+    }
+
+    private static final class FloatSumAggregator extends Aggregator {
+
+        private double sum = 0;
+
+        @Override
+        void add(Object value) {
+            empty = false;
+            sum += (Double) value;
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (!empty) {
+                sequence.append(sum);
+            }
+        }
+    }
+
+    private static final class FloatAvgAggregator extends Aggregator {
+
+        private double sum = 0;
+        private long count = 0;
+
+        @Override
+        void add(Object value) {
+            empty = false;
+            sum = Double.sum(sum, (Double) value);
+            count++;
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (!empty) {
+                sequence.append(sum / count);
+            }
+        }
+    }
+
+    private static final class FloatExtremumAggregator extends Aggregator {
+
+        private final boolean max;
+        private double extremum;
+
+        private FloatExtremumAggregator(boolean max) {
+            this.max = max;
+            this.extremum = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+
+        @Override
+        void add(Object value) {
+            empty = false;
+            double current = (Double) value;
+            extremum = max ? Math.max(current, extremum) : Math.min(current, extremum);
+        }
+
+        @Override
+        void merge(Aggregator other) {
+            FloatExtremumAggregator source = (FloatExtremumAggregator) other;
+            if (!source.empty) {
+                add(source.extremum);
+            }
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (!empty) {
+                sequence.append(extremum);
+            }
+        }
+    }
+
+    private static final class DecimalSumAggregator extends Aggregator {
+
+        private BDecimal sum = ValueCreator.createDecimalValue(BigDecimal.ZERO);
+        // Once the sum cannot be represented, the values are retained so that `decimal:sum` reports the error itself.
+        private List<Object> retained;
+
+        @Override
+        void add(Object value) {
+            empty = false;
+            if (retained != null) {
+                retained.add(value);
+                return;
+            }
+            try {
+                sum = sum.add((BDecimal) value);
+            } catch (BError e) {
+                retained = new ArrayList<>();
+                retained.add(sum);
+                retained.add(value);
+            }
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (retained != null) {
+                retained.forEach(sequence::append);
+            } else if (!empty) {
+                sequence.append(sum);
+            }
+        }
+    }
+
+    private static final class DecimalExtremumAggregator extends Aggregator {
+
+        private final boolean max;
+        private BDecimal extremum;
+
+        private DecimalExtremumAggregator(boolean max) {
+            this.max = max;
+        }
+
+        @Override
+        void add(Object value) {
+            BDecimal current = (BDecimal) value;
+            if (empty) {
+                empty = false;
+                extremum = current;
+                return;
+            }
+            int result = current.value().compareTo(extremum.value());
+            if (max ? result >= 0 : result <= 0) {
+                extremum = current;
+            }
+        }
+
+        @Override
+        void merge(Aggregator other) {
+            DecimalExtremumAggregator source = (DecimalExtremumAggregator) other;
+            if (!source.empty) {
+                add(source.extremum);
+            }
+        }
+
+        @Override
+        void addTo(BArray sequence) {
+            if (!empty) {
+                sequence.append(extremum);
+            }
+        }
+    }
+}
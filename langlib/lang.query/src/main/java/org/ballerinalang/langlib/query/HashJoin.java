@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Native implementation of the hash table used by the `join` clause of query expressions.
+ * <p>
+ * The frames of the right hand side of the join are grouped by their join key using a hash which is compatible with
+ * {@link TypeChecker#isEqual(Object, Object)}, i.e. values which are equal as per `==` always have the same hash.
+ * Candidates for a left hand side key are compared using `==` semantics and are returned without copying.
+ *
+ * @since 2201.9.0
+ */
+public class HashJoin {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_HASH_DEPTH = 8;
+    private static final int NAN_HASH = 0x7ff80000;
+
+    private HashJoin() {
+    }
+
+    /**
+     * Creates an empty hash table for the right hand side frames of a join.
+     *
+     * @return the created hash table
+     */
+    public static FrameHashTable createFrameHashTable() {
+        return new FrameHashTable();
+    }
+
+    /**
+     * Adds a right hand side frame to the hash table under the given join key.
+     *
+     * @param hashTable hash table created using {@link #createFrameHashTable()}
+     * @param key       join key of the frame
+     * @param frame     right hand side frame
+     * @return an error if the key cannot be hashed, nil otherwise
+     */
+    public static Object addToFrameHashTable(FrameHashTable hashTable, Object key, BMap<?, ?> frame) {
+        try {
+            hashTable.put(key, frame);
+        } catch (BError error) {
+            return error;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the right hand side frames which have a join key equal to the given key. The returned array is owned by
+     * the hash table and must not be modified.
+     *
+     * @param hashTable hash table created using {@link #createFrameHashTable()}
+     * @param key       join key of the left hand side frame
+     * @return matching frames, or nil if there are none
+     */
+    public static Object getFromFrameHashTable(FrameHashTable hashTable, Object key) {
+        return hashTable.get(key);
+    }
+
+    static int hash(Object value) {
+        return hash(value, 0);
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // int and byte values are equal if their numeric values are equal.
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof BString bString) {
+            return bString.getValue().hashCode();
+        }
+        if (value instanceof Double doubleValue) {
+            if (doubleValue.isNaN()) {
+                return NAN_HASH;
+            }
+            // -0.0 == 0.0
+            return doubleValue == 0 ? 0 : doubleValue.hashCode();
+        }
+        if (value instanceof Boolean booleanValue) {
+            return booleanValue.hashCode();
+        }
+        if (value instanceof BDecimal decimalValue) {
+            BigDecimal bigDecimal = decimalValue.decimalValue();
+            // Decimals with different scales are equal if their numeric values are equal.
+            return bigDecimal.signum() == 0 ? 0 : bigDecimal.stripTrailingZeros().hashCode();
+        }
+        if (depth >= MAX_HASH_DEPTH) {
+            // Deeply nested (or cyclic) values are distinguished by `==` alone.
+            return 1;
+        }
+        if (value instanceof BMap<?, ?> mapValue) {
+            // Mappings are equal regardless of the order of their fields.
+            int result = 0;
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                result += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray arrayValue) {
+            int result = 1;
+            int size = arrayValue.size();
+            for (int i = 0; i < size; i++) {
+                result = 31 * result + hash(arrayValue.get(i), depth + 1);
+            }
+            return result;
+        }
+        // Other values are rarely used as join keys and are distinguished by `==` alone.
+        return 1;
+    }
+
+    /**
+     * Hash table which maps join keys to the right hand side frames with that key.
+     */
+    public static final class FrameHashTable {
+
+        private Entry[] buckets = new Entry[INITIAL_CAPACITY];
+        private int size = 0;
+        private ArrayType frameArrayType;
+
+        private FrameHashTable() {
+        }
+
+        private void put(Object key, BMap<?, ?> frame) {
+            int hash = spread(HashJoin.hash(key));
+            Entry entry = find(key, hash);
+            if (entry == null) {
+                if (frameArrayType == null) {
+                    frameArrayType = TypeCreator.createArrayType(frame.getType());
+                }
+                if (size >= buckets.length - (buckets.length >>> 2)) {
+                    resize();
+                }
+                int index = hash & (buckets.length - 1);
+                entry = new Entry(hash, key, ValueCreator.createArrayValue(frameArrayType), buckets[index]);
+                buckets[index] = entry;
+                size++;
+            }
+            entry.frames.append(frame);
+        }
+
+        private BArray get(Object key) {
+            Entry entry = find(key, spread(HashJoin.hash(key)));
+            return entry == null ? null : entry.frames;
+        }
+
+        private Entry find(Object key, int hash) {
+            Entry entry = buckets[hash & (buckets.length - 1)];
+            while (entry != null) {
+                if (entry.hash == hash && TypeChecker.isEqual(entry.key, key)) {
+                    return entry;
+                }
+                entry = entry.next;
+            }
+            return null;
+        }
+
+        private void resize() {
+            Entry[] newBuckets = new Entry[buckets.length << 1];
+            for (Entry entry : buckets) {
+                while (entry != null) {
+                    Entry next = entry.next;
+                    int index = entry.hash & (newBuckets.length - 1);
+                    entry.next = newBuckets[index];
+                    newBuckets[index] = entry;
+                    entry = next;
+                }
+            }
+            buckets = newBuckets;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    private static final class Entry {
+
+        private final int hash;
+        private final Object key;
+        private final BArray frames;
+        private Entry next;
+
+        private Entry(int hash, Object key, BArray frames, Entry next) {
+            this.hash = hash;
+            this.key = key;
+            this.frames = frames;
+            this.next = next;
+        }
+    }
+}
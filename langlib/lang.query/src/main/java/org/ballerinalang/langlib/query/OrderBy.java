@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Native implementation of the sort step used by the `order by` clause of query expressions.
+ * <p>
+ * The order keys and directions computed by the desugared order key function are read once per frame and the frames
+ * are then sorted in place with a stable sort, so frames with equal keys retain their input order. When the order by
+ * clause is immediately followed by a limit clause, only the first `k` frames are retained using a bounded heap.
+ *
+ * @since 2201.9.0
+ */
+public class OrderBy {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private OrderBy() {
+    }
+
+    /**
+     * Sorts the given frames in place using the `$orderKey$` and `$orderDirection$` values of each frame.
+     *
+     * @param frames frames to be sorted
+     * @return an error if the order keys cannot be compared, nil otherwise
+     */
+    public static Object sortFrames(BArray frames) {
+        int size = frames.size();
+        if (size < 2) {
+            return null;
+        }
+
+        OrderedFrame[] orderedFrames = new OrderedFrame[size];
+        for (int i = 0; i < size; i++) {
+            orderedFrames[i] = new OrderedFrame((BMap<?, ?>) frames.get(i), i);
+        }
+
+        BArray directions = (BArray) ((BMap<?, ?>) frames.get(0)).get(ORDER_DIRECTION);
+        try {
+            Arrays.sort(orderedFrames, createComparator(directions));
+        } catch (BError error) {
+            return error;
+        }
+
+        for (int i = 0; i < size; i++) {
+            frames.add(i, orderedFrames[i].frame);
+        }
+        return null;
+    }
+
+    /**
+     * Creates a bounded heap which retains the first `limit` frames in order by clause order.
+     *
+     * @param limit maximum number of frames to retain
+     * @return the created heap
+     */
+    public static TopKFrames createTopKFrames(long limit) {
+        return new TopKFrames((int) Math.min(limit, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Offers a frame to the given bounded heap.
+     *
+     * @param topKFrames bounded heap created using {@link #createTopKFrames(long)}
+     * @param frame      frame with the `$orderKey$` and `$orderDirection$` values populated
+     * @return an error if the order keys cannot be compared, nil otherwise
+     */
+    public static Object addToTopKFrames(TopKFrames topKFrames, BMap<?, ?> frame) {
+        try {
+            topKFrames.add(frame);
+        } catch (BError error) {
+            return error;
+        }
+        return null;
+    }
+
+    /**
+     * Appends the frames retained by the given bounded heap to the given array in order by clause order.
+     *
+     * @param topKFrames bounded heap created using {@link #createTopKFrames(long)}
+     * @param frames     array to which the ordered frames are appended
+     */
+    public static void getTopKFrames(TopKFrames topKFrames, BArray frames) {
+        OrderedFrame[] orderedFrames = topKFrames.toSortedArray();
+        for (OrderedFrame orderedFrame : orderedFrames) {
+            frames.append(orderedFrame.frame);
+        }
+    }
+
+    private static Comparator<OrderedFrame> createComparator(BArray directions) {
+        int keyCount = directions.size();
+        boolean[] ascending = new boolean[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            ascending[i] = directions.getBoolean(i);
+        }
+
+        return (lhs, rhs) -> {
+            for (int i = 0; i < keyCount; i++) {
+                // Nil is ordered last for both directions, hence the direction is passed to the comparison rather
+                // than negating the result.
+                int result = ascending[i] ?
+                        ValueComparisonUtils.compareValues(lhs.keys[i], rhs.keys[i], ASCENDING) :
+                        ValueComparisonUtils.compareValues(rhs.keys[i], lhs.keys[i], DESCENDING);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+    }
+
+    /**
+     * Bounded heap used for an order by clause which is immediately followed by a limit clause. The head of the heap
+     * is the retained frame which comes last in the ordering, so a new frame only has to be compared against it.
+     */
+    public static final class TopKFrames {
+
+        private final int limit;
+        private PriorityQueue<OrderedFrame> heap;
+        private Comparator<OrderedFrame> comparator;
+        private long count = 0;
+
+        private TopKFrames(int limit) {
+            this.limit = limit;
+        }
+
+        private void add(BMap<?, ?> frame) {
+            OrderedFrame orderedFrame = new OrderedFrame(frame, count++);
+            if (heap == null) {
+                // Frames with equal keys are ordered by their arrival to keep the ordering stable.
+                Comparator<OrderedFrame> keyComparator = createComparator((BArray) frame.get(ORDER_DIRECTION));
+                comparator = keyComparator.thenComparingLong(f -> f.index);
+                heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, comparator.reversed());
+            }
+            if (heap.size() < limit) {
+                heap.add(orderedFrame);
+                return;
+            }
+            if (comparator.compare(orderedFrame, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(orderedFrame);
+            }
+        }
+
+        private OrderedFrame[] toSortedArray() {
+            if (heap == null) {
+                return new OrderedFrame[0];
+            }
+            OrderedFrame[] orderedFrames = heap.toArray(new OrderedFrame[0]);
+            Arrays.sort(orderedFrames, comparator);
+            return orderedFrames;
+        }
+    }
+
+    private static final class OrderedFrame {
+
+        private final BMap<?, ?> frame;
+        private final Object[] keys;
+        private final long index;
+
+        private OrderedFrame(BMap<?, ?> frame, long index) {
+            this.frame = frame;
+            this.keys = ((BArray) frame.get(ORDER_KEY)).getValues();
+            this.index = index;
+        }
+    }
+}
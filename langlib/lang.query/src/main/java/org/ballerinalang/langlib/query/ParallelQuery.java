@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Native helpers used when a query expression is executed in parallel.
+ *
+ * @since 2201.9.0
+ */
+public class ParallelQuery {
+
+    private static final String QUERY_PARALLELISM = "ballerina.query.parallelism";
+
+    private ParallelQuery() {
+    }
+
+    /**
+     * Returns the maximum number of strands a query is split into. This is the number of available processors unless
+     * overridden using the `ballerina.query.parallelism` system property.
+     *
+     * @return maximum number of strands used for a query
+     */
+    public static long getParallelism() {
+        Integer parallelism = Integer.getInteger(QUERY_PARALLELISM);
+        if (parallelism != null && parallelism > 0) {
+            return parallelism;
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Creates the status shared by the chunks of a query which is executed in parallel. It holds the first chunk
+     * which failed or ended the query, after which the later chunks stop.
+     *
+     * @return status of the chunks
+     */
+    public static AtomicLong createChunkStatus() {
+        return new AtomicLong(Long.MAX_VALUE);
+    }
+
+    /**
+     * Stops the chunks after the given chunk.
+     *
+     * @param status status of the chunks
+     * @param chunk  chunk which failed or ended the query
+     */
+    public static void stopAfterChunk(AtomicLong status, long chunk) {
+        status.accumulateAndGet(chunk, Math::min);
+    }
+
+    /**
+     * Checks whether an earlier chunk failed or ended the query.
+     *
+     * @param status status of the chunks
+     * @param chunk  chunk to be checked
+     * @return true if the chunk has to stop
+     */
+    public static boolean isChunkStopped(AtomicLong status, long chunk) {
+        return status.get() < chunk;
+    }
+}
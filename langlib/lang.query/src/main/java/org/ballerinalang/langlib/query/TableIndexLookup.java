@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Native implementation of the table lookups used by the `where` and `join` clauses of query expressions.
+ * <p>
+ * A query which filters a table by a field of its rows uses a secondary index of the table on that field, if there is
+ * one. Indexes are only added to tables of immutable rows using {@link TableValueImpl#addIndex}. The compiler adds the
+ * indexes used by the queries of a function to a table constructed for a local variable of that function, before the
+ * table is assigned to the variable, so that a query, which only reads the table, never changes it. Otherwise, the
+ * table is scanned as usual.
+ *
+ * @since 2201.9.0
+ */
+public class TableIndexLookup {
+
+    private static final String EQUAL = "==";
+    private static final String LESS_THAN = "<";
+    private static final String LESS_THAN_OR_EQUAL = "<=";
+    private static final String GREATER_THAN = ">";
+
+    private TableIndexLookup() {
+    }
+
+    /**
+     * Returns the rows of a table which may satisfy a comparison of a field with a value. If the table does not have
+     * a suitable index, the table itself is returned.
+     *
+     * @param table     table to filter
+     * @param fieldName name of the field
+     * @param operator  one of `==`, `<`, `<=`, `>` and `>=`, with the field as the left hand side operand
+     * @param value     right hand side operand
+     * @return the candidate rows in table order, or the table
+     */
+    public static Object getIndexedRows(BTable<?, ?> table, BString fieldName, BString operator, Object value) {
+        String op = operator.getValue();
+        boolean sorted = !EQUAL.equals(op);
+        if (!hasIndex(table, fieldName, sorted)) {
+            return table;
+        }
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        List<?> rows;
+        switch (op) {
+            case EQUAL:
+                rows = tableValue.getIndexedValues(fieldName, value);
+                break;
+            case LESS_THAN:
+                rows = tableValue.getIndexedValues(fieldName, null, false, value, false);
+                break;
+            case LESS_THAN_OR_EQUAL:
+                rows = tableValue.getIndexedValues(fieldName, null, false, value, true);
+                break;
+            case GREATER_THAN:
+                rows = tableValue.getIndexedValues(fieldName, value, false, null, false);
+                break;
+            default:
+                rows = tableValue.getIndexedValues(fieldName, value, true, null, false);
+                break;
+        }
+        return createRowArray(tableValue, rows);
+    }
+
+    /**
+     * Adds a secondary index on a field to a table of immutable rows, which is not yet visible to other strands.
+     *
+     * @param table     table to add the index to
+     * @param fieldName name of the field
+     * @param sorted    whether to add a sorted index instead of a hash index
+     */
+    public static void addIndex(BTable<?, ?> table, BString fieldName, boolean sorted) {
+        if (table instanceof TableValueImpl<?, ?> tableValue) {
+            tableValue.addIndex(fieldName, sorted);
+        }
+    }
+
+    /**
+     * Checks whether the rows of a table which is joined on a field can be found using a hash index on that field.
+     *
+     * @param table     table which is joined
+     * @param fieldName name of the field
+     * @return true if the table has a hash index on the field
+     */
+    public static boolean hasJoinIndex(BTable<?, ?> table, BString fieldName) {
+        return hasIndex(table, fieldName, false);
+    }
+
+    /**
+     * Creates a lookup of the rows of a table which is joined on a field, using a snapshot of the hash index on that
+     * field. Like the hash table built for a table without an index, the lookup only sees the rows of the table at
+     * the time the join is initialized, even if the table is updated while the query is being executed.
+     *
+     * @param table     table which has a hash index on the field
+     * @param fieldName name of the field
+     * @return the join index
+     */
+    public static JoinIndex createJoinIndex(BTable<?, ?> table, BString fieldName) {
+        TableValueImpl<?, ?> tableValue = (TableValueImpl<?, ?>) table;
+        TableType tableType = (TableType) TypeUtils.getImpliedType(tableValue.getType());
+        return new JoinIndex(tableValue.getIndexSnapshot(fieldName),
+                TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+
+    /**
+     * Returns the rows of a joined table which have a field value equal to the given join key.
+     *
+     * @param joinIndex join index created using {@link #createJoinIndex}
+     * @param key       join key
+     * @return the matching rows in table order
+     */
+    public static BArray getJoinedRows(JoinIndex joinIndex, Object key) {
+        return ValueCreator.createArrayValue(joinIndex.lookup().apply(key).toArray(), joinIndex.rowArrayType());
+    }
+
+    private static boolean hasIndex(BTable<?, ?> table, BString fieldName, boolean sorted) {
+        return table instanceof TableValueImpl<?, ?> tableValue && tableValue.hasIndex(fieldName, sorted);
+    }
+
+    private static BArray createRowArray(TableValueImpl<?, ?> table, List<?> rows) {
+        TableType tableType = (TableType) TypeUtils.getImpliedType(table.getType());
+        return ValueCreator.createArrayValue(rows.toArray(),
+                TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+
+    /**
+     * Lookup of the rows of a joined table by join key.
+     *
+     * @param lookup       returns the rows with a field value equal to a join key
+     * @param rowArrayType type of the arrays of rows
+     */
+    public record JoinIndex(Function<Object, ? extends List<?>> lookup, ArrayType rowArrayType) {
+    }
+}
@@ -27,7 +27,7 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.regexp.RegExpPatternCache;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
@@ -67,55 +67,22 @@ public class RegexUtil {
     }
 
     static int getSurrogateAdjustedStartIndex(int startIndex, int[] surrogates) {
-        int newStartIndex = startIndex;
-        for (int surrogate : surrogates) {
-            if (startIndex != 0 && surrogate < startIndex) {
-                newStartIndex++;
-            } else if (surrogate > startIndex) {
-                break;
-            }
-        }
-        return newStartIndex;
+        return NonBmpStringValue.getCharOffset(surrogates, startIndex);
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+        Pattern pattern = RegExpPatternCache.getPattern((RegExpValue) regexpVal);
         return pattern.matcher(inputStr);
     }
 
     static BArray getGroupZeroAsSpan(BString str, Matcher matcher, int[] surrogates) {
         BArray resultTuple = ValueCreator.createTupleValue(SPAN_AS_TUPLE_TYPE);
-        int[] adjustedPositions = getAdjustedPositions(str, matcher, surrogates);
-        resultTuple.add(0, adjustedPositions[0]);
-        resultTuple.add(1, adjustedPositions[1]);
+        resultTuple.add(0, NonBmpStringValue.getCodePointIndex(surrogates, matcher.start()));
+        resultTuple.add(1, NonBmpStringValue.getCodePointIndex(surrogates, matcher.end()));
         resultTuple.add(2, StringUtils.fromString(matcher.group()));
         return resultTuple;
     }
 
-    static int[] getAdjustedPositions(BString str, Matcher matcher, int[] surrogates) {
-        BString subString = StringUtils.fromString(matcher.group());
-        return getAdjustedPositions(str, matcher.start(), subString, surrogates);
-    }
-
-    static int[] getAdjustedPositions(BString str, int startIndex, BString subString, int[] surrogates) {
-        int newStartIndex = startIndex;
-        int prevSurrogate = 0;
-        for (int surrogate : surrogates) {
-            long offset = str.indexOf(subString, prevSurrogate);
-            prevSurrogate = surrogate;
-            if (offset != surrogate && surrogate < startIndex) {
-                newStartIndex--;
-            } else if (surrogate > startIndex) {
-                break;
-            }
-        }
-        int newEndIndex = newStartIndex + subString.length();
-        return new int[]{newStartIndex, newEndIndex};
-    }
-
     static BArray getMatcherGroupsAsSpanArr(BString str, Matcher matcher, int[] surrogates) {
         BArray group = ValueCreator.createArrayValue(GROUPS_AS_SPAN_ARRAY_TYPE);
         BArray span = getGroupZeroAsSpan(str, matcher, surrogates);
@@ -129,11 +96,9 @@ public class RegexUtil {
                 continue;
             }
             BArray resultTuple = ValueCreator.createTupleValue(SPAN_AS_TUPLE_TYPE);
-            BString subString = StringUtils.fromString(matcher.group(i));
-            int[] adjustedPositions = getAdjustedPositions(str, matcherStart, subString, surrogates);
-            resultTuple.add(0, adjustedPositions[0]);
-            resultTuple.add(1, adjustedPositions[1]);
-            resultTuple.add(2, subString);
+            resultTuple.add(0, NonBmpStringValue.getCodePointIndex(surrogates, matcherStart));
+            resultTuple.add(1, NonBmpStringValue.getCodePointIndex(surrogates, matcher.end(i)));
+            resultTuple.add(2, StringUtils.fromString(matcher.group(i)));
             group.append(resultTuple);
         }
         return group;
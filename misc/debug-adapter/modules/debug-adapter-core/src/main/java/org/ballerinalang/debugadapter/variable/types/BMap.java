@@ -42,6 +42,7 @@ public class BMap extends IndexedCompoundVariable {
     private ArrayReference loadedKeys = null;
     private Value[] loadedValues = null;
 
+    private static final String FIELD_ENTRIES = "entries";
     private static final String FIELD_SIZE = "size";
     private static final String METHOD_GET_KEYS = "getKeys";
     private static final String METHOD_GET = "get";
@@ -143,7 +144,13 @@ public class BMap extends IndexedCompoundVariable {
 
     private void populateMapSize() {
         try {
-            Optional<Value> mapSizeValue = VariableUtils.getFieldValue(jvmValue, FIELD_SIZE);
+            // The entries of the map are kept in a hash map, which is created on the first insertion
+            Optional<Value> entries = VariableUtils.getFieldValue(jvmValue, FIELD_ENTRIES);
+            if (entries.isEmpty()) {
+                mapSize = 0;
+                return;
+            }
+            Optional<Value> mapSizeValue = VariableUtils.getFieldValue(entries.get(), FIELD_SIZE);
             if (mapSizeValue.isEmpty() || !(mapSizeValue.get() instanceof IntegerValue)) {
                 mapSize = 0;
                 return;
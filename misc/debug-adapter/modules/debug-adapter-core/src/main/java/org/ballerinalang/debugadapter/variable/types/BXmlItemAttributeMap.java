@@ -20,6 +20,7 @@ import com.sun.jdi.ArrayReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.variable.BVariableType;
+import org.ballerinalang.debugadapter.variable.DebugVariableException;
 import org.ballerinalang.debugadapter.variable.NamedCompoundVariable;
 import org.ballerinalang.debugadapter.variable.VariableUtils;
 
@@ -33,6 +34,7 @@ import java.util.Optional;
  */
 public class BXmlItemAttributeMap extends NamedCompoundVariable {
 
+    private static final String FIELD_MAP_ENTRIES = "entries";
     private static final String FIELD_MAP_DATA = "table";
     private static final String FIELD_MAP_KEY = "key";
     private static final String FIELD_MAP_VALUE = "value";
@@ -50,7 +52,7 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
     public Map<String, Value> computeChildVariables() {
         Map<String, Value> childVarMap = new LinkedHashMap<>();
         try {
-            Optional<Value> mapValues = VariableUtils.getFieldValue(jvmValue, FIELD_MAP_DATA);
+            Optional<Value> mapValues = getMapData();
             if (mapValues.isEmpty()) {
                 return childVarMap;
             }
@@ -72,7 +74,7 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
     @Override
     public int getChildrenCount() {
         try {
-            Optional<Value> mapValues = VariableUtils.getFieldValue(jvmValue, FIELD_MAP_DATA);
+            Optional<Value> mapValues = getMapData();
             if (mapValues.isEmpty()) {
                 return 0;
             }
@@ -82,4 +84,13 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
             return 0;
         }
     }
+
+    private Optional<Value> getMapData() throws DebugVariableException {
+        // The attributes are kept in a hash map, which is created when the first attribute is added
+        Optional<Value> entries = VariableUtils.getFieldValue(jvmValue, FIELD_MAP_ENTRIES);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+        return VariableUtils.getFieldValue(entries.get(), FIELD_MAP_DATA);
+    }
 }
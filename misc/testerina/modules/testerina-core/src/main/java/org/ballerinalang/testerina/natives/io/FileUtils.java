@@ -16,6 +16,8 @@
 
 package org.ballerinalang.testerina.natives.io;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
@@ -39,7 +41,37 @@ import java.util.regex.Pattern;
  */
 public class FileUtils {
 
-    public static void writeContent(BString targetPath, BString content) throws Exception {
+    /**
+     * Writes the content to the file, off the strand executor thread if blocking extern work is offloaded.
+     *
+     * @param env        environment of the current strand
+     * @param targetPath path of the file
+     * @param content    content to be written
+     */
+    public static void writeContent(Environment env, BString targetPath, BString content) {
+        env.runBlocking(() -> {
+            try {
+                writeFile(targetPath, content);
+                return null;
+            } catch (IOException e) {
+                return ErrorCreator.createError(e);
+            }
+        });
+    }
+
+    /**
+     * Reads the content of the file, off the strand executor thread if blocking extern work is offloaded.
+     *
+     * @param env        environment of the current strand
+     * @param targetPath path of the file
+     * @return the return value is given to the strand when the read completes
+     */
+    public static BString readContent(Environment env, BString targetPath) {
+        env.runBlocking(() -> readFile(targetPath));
+        return null;
+    }
+
+    private static void writeFile(BString targetPath, BString content) throws IOException {
 
         // Escape the control characters of the JSON string
         Pattern pattern = Pattern.compile("[\n\t]");
@@ -67,7 +99,7 @@ public class FileUtils {
         }
     }
 
-    public static BString readContent(BString targetPath) {
+    private static BString readFile(BString targetPath) {
         if (fileExists(targetPath)) {
             try {
                 String readString = Files.readString(Paths.get(targetPath.getValue()));
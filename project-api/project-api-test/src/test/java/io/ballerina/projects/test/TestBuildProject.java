@@ -487,6 +487,7 @@ public class TestBuildProject extends BaseTest {
         Assert.assertFalse(project.buildOptions().offlineBuild());
         Assert.assertFalse(project.buildOptions().testReport());
         Assert.assertTrue(project.buildOptions().remoteManagement());
+        Assert.assertTrue(project.buildOptions().parallelQuery());
     }
 
     @Test(description = "tests loading a valid build project with build options from toml")
@@ -18,13 +18,18 @@
 
 package org.ballerinalang.nativeimpl.jvm.runtime.api.tests;
 
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.JsonUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -39,4 +44,13 @@ public class Stream {
         InputStream stream = new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8));
         return ValueUtils.parse(stream, TypeUtils.getImpliedType(t.getDescribingType()));
     }
+
+    public static BHandle createJsonStreamReader(BString s) {
+        return ValueCreator.createHandleValue(JsonUtils.createStreamReader(new StringReader(s.getValue())));
+    }
+
+    public static BHandle createXmlElementReader(BString s, long elementDepth) {
+        InputStream stream = new ByteArrayInputStream(s.getValue().getBytes(StandardCharsets.UTF_8));
+        return ValueCreator.createHandleValue(XmlUtils.createElementReader(stream, (int) elementDepth));
+    }
 }
@@ -59,6 +59,7 @@ import io.ballerina.runtime.internal.values.MapValueImpl;
 import io.ballerina.runtime.internal.values.ObjectValue;
 import io.ballerina.runtime.internal.values.StringValue;
 import io.ballerina.runtime.internal.values.TableValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 import io.ballerina.runtime.internal.values.TypedescValue;
 import org.testng.Assert;
@@ -840,4 +841,12 @@ public class StaticMethods {
     public static Object getResourceMethod(BObject service, BArray path) {
         return 1000;
     }
+
+    public static boolean addTableIndex(TableValue<?, ?> table, BString fieldName, boolean sorted) {
+        return ((TableValueImpl<?, ?>) table).addIndex(fieldName, sorted);
+    }
+
+    public static boolean hasTableIndex(TableValue<?, ?> table, BString fieldName, boolean sorted) {
+        return ((TableValueImpl<?, ?>) table).hasIndex(fieldName, sorted);
+    }
 }
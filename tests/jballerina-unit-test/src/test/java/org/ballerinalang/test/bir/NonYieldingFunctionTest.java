@@ -0,0 +1,75 @@
+/*
+ *   Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class contains unit tests to validate that the functions which can never yield are found.
+ *
+ * @since 2201.9.0
+ */
+public class NonYieldingFunctionTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/non_yielding.bal";
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE);
+        compileResult = BCompileUtil.compile(SOURCE_FILE);
+    }
+
+    @Test(description = "Test the functions found to never yield")
+    public void testNonYieldingFunctionDump() {
+        String dump = BIREmitter.emitNonYieldingFunctions(birResult.getExpectedBIR());
+        List<String> lines = Arrays.asList(dump.split("\n"));
+        Assert.assertTrue(lines.contains("fib"), dump);
+        // Mutually recursive functions can never yield either
+        Assert.assertTrue(lines.contains("isEven"), dump);
+        Assert.assertTrue(lines.contains("isOdd"), dump);
+        Assert.assertTrue(lines.contains("sumOfFib"), dump);
+        // A wait may yield, and so may a function which calls a function which may yield
+        Assert.assertFalse(lines.contains("fibOfWaited"), dump);
+        Assert.assertFalse(lines.contains("fibOfFibOfWaited"), dump);
+        // Calls of functions of other modules may yield
+        Assert.assertFalse(lines.contains("testNonYieldingFunctions"), dump);
+    }
+
+    @Test(description = "Test the results of functions which are generated without frames")
+    public void testNonYieldingFunctions() {
+        BRunUtil.invoke(compileResult, "testNonYieldingFunctions");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        compileResult = null;
+    }
+}
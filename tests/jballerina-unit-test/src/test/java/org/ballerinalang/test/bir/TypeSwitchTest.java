@@ -0,0 +1,69 @@
+/*
+ *   Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org).
+ *
+ *   WSO2 LLC. licenses this file to you under the Apache License,
+ *   Version 2.0 (the "License"); you may not use this file except
+ *   in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing,
+ *   software distributed under the License is distributed on an
+ *   "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *   KIND, either express or implied.  See the License for the
+ *   specific language governing permissions and limitations
+ *   under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
+
+/**
+ * This class contains unit tests to validate that chains of type tests on the same variable are done with a switch.
+ *
+ * @since 2201.9.0
+ */
+public class TypeSwitchTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/type_switch.bal";
+    private BCompileUtil.BIRCompileResult birResult;
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        birResult = BCompileUtil.generateBIR(SOURCE_FILE);
+        compileResult = BCompileUtil.compile(SOURCE_FILE);
+    }
+
+    @Test(description = "Test the type tests saved by type switches")
+    public void testTypeSwitchDump() {
+        String typeSwitches = BIREmitter.emitTypeSwitches(birResult.getExpectedBIR());
+        Assert.assertTrue(typeSwitches.contains("classify: 4 type test(s) saved by 1 type switch(es)"),
+                typeSwitches);
+        // The type test of the record type ends the chain
+        Assert.assertFalse(typeSwitches.contains("classifyWithRecord:"), typeSwitches);
+        // Comparisons with int and string constants are part of the chain
+        Assert.assertTrue(typeSwitches.contains("classifyValue: 3 type test(s) saved by 1 type switch(es)"),
+                typeSwitches);
+        Assert.assertTrue(typeSwitches.contains("describeCode: "), typeSwitches);
+    }
+
+    @Test(description = "Test the results of type tests done with type switches")
+    public void testTypeSwitch() {
+        BRunUtil.invoke(compileResult, "testClassify");
+    }
+
+    @AfterClass
+    public void tearDown() {
+        birResult = null;
+        compileResult = null;
+    }
+}
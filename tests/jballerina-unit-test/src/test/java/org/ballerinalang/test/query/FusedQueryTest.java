@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.util.function.Supplier;
+
+/**
+ * This contains methods to test query expressions which are desugared to a single loop when query fusion is enabled.
+ *
+ * @since 2201.9.0
+ */
+public class FusedQueryTest {
+
+    private static final String QUERY_FUSION = "ballerina.query.fusion";
+    private static final String SOURCE_FILE = "test-src/query/fused-query.bal";
+    private static final String CREATE_PIPELINE_FUNCTION = "createPipeline";
+
+    private CompileResult result;
+    private CompileResult resultWithoutFusion;
+    private BIRNode.BIRPackage fusedBIR;
+    private BIRNode.BIRPackage unfusedBIR;
+
+    @BeforeClass
+    public void setup() {
+        result = withQueryFusion(true, () -> BCompileUtil.compile(SOURCE_FILE));
+        fusedBIR = withQueryFusion(true, () -> BCompileUtil.generateBIR(SOURCE_FILE)).getExpectedBIR();
+        resultWithoutFusion = withQueryFusion(false, () -> BCompileUtil.compile(SOURCE_FILE));
+        unfusedBIR = withQueryFusion(false, () -> BCompileUtil.generateBIR(SOURCE_FILE)).getExpectedBIR();
+    }
+
+    @Test(dataProvider = "dataToTestFusedQuery")
+    public void testFusedQuery(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @Test(dataProvider = "dataToTestFusedQuery")
+    public void testQueryWithoutFusion(String functionName) {
+        BRunUtil.invoke(resultWithoutFusion, functionName);
+    }
+
+    @Test(dataProvider = "dataToTestFusibleQueryDesugaring")
+    public void testFusibleQueryDesugaring(String functionName) {
+        Assert.assertEquals(countPipelines(fusedBIR, functionName), 0,
+                "query in '" + functionName + "' was not fused");
+        Assert.assertTrue(countPipelines(unfusedBIR, functionName) > 0,
+                "query in '" + functionName + "' was fused while query fusion is disabled");
+    }
+
+    @Test
+    public void testNonFusibleQueryDesugaring() {
+        // The ordered, nested and check queries; the query in the let clause is desugared into a separate function
+        String functionName = "testFusedQueryWithNonFusibleQueries";
+        Assert.assertEquals(countPipelines(fusedBIR, functionName), 3);
+        Assert.assertEquals(countPipelines(unfusedBIR, functionName), 3);
+    }
+
+    @DataProvider
+    public Object[] dataToTestFusedQuery() {
+        return new Object[]{
+                "testFusedQueryWithWhereAndSelect",
+                "testFusedQueryWithLetClauses",
+                "testFusedQueryWithMultipleWhereClauses",
+                "testFusedQueryOverTuple",
+                "testFusedQueryWithTypeNarrowing",
+                "testFusedQueryWithNonFusibleQueries"
+        };
+    }
+
+    @DataProvider
+    public Object[] dataToTestFusibleQueryDesugaring() {
+        return new Object[]{
+                "testFusedQueryWithWhereAndSelect",
+                "testFusedQueryWithLetClauses",
+                "testFusedQueryWithMultipleWhereClauses",
+                "testFusedQueryOverTuple",
+                "testFusedQueryWithTypeNarrowing"
+        };
+    }
+
+    private static <T> T withQueryFusion(boolean enabled, Supplier<T> compilation) {
+        System.setProperty(QUERY_FUSION, Boolean.toString(enabled));
+        try {
+            return compilation.get();
+        } finally {
+            System.clearProperty(QUERY_FUSION);
+        }
+    }
+
+    /**
+     * Counts the query pipelines created in the given function, i.e. the queries which were not fused into a loop.
+     */
+    private static long countPipelines(BIRNode.BIRPackage birPackage, String functionName) {
+        BIRNode.BIRFunction function = birPackage.functions.stream()
+                .filter(birFunction -> birFunction.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("function '" + functionName + "' not found in the BIR"));
+        return function.basicBlocks.stream()
+                .map(basicBlock -> basicBlock.terminator)
+                .filter(terminator -> terminator instanceof BIRTerminator.Call call
+                        && call.name.value.equals(CREATE_PIPELINE_FUNCTION))
+                .count();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+        resultWithoutFusion = null;
+        fusedBIR = null;
+        unfusedBIR = null;
+    }
+}
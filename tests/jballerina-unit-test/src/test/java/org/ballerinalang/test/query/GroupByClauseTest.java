@@ -34,6 +34,7 @@ import org.testng.annotations.Test;
 public class GroupByClauseTest {
     private CompileResult resultWithListCtr;
     private CompileResult resultWithInvocation;
+    private CompileResult resultWithAggregation;
     private CompileResult negativeResult;
     private CompileResult negativeSemanticResult;
 
@@ -41,6 +42,7 @@ public class GroupByClauseTest {
     public void setup() {
         resultWithListCtr = BCompileUtil.compile("test-src/query/group_by_clause_with_list_ctr.bal");
         resultWithInvocation = BCompileUtil.compile("test-src/query/group_by_clause_with_invocation.bal");
+        resultWithAggregation = BCompileUtil.compile("test-src/query/group_by_clause_with_aggregation.bal");
         negativeResult = BCompileUtil.compile("test-src/query/group_by_clause_negative.bal");
         negativeSemanticResult = BCompileUtil.compile("test-src/query/group_by_clause_negative_semantic.bal");
     }
@@ -178,6 +180,25 @@ public class GroupByClauseTest {
         };
     }
 
+    @Test(dataProvider = "dataToTestGroupByClauseWithAggregation")
+    public void testGroupByClauseWithAggregation(String functionName) {
+        BRunUtil.invoke(resultWithAggregation, functionName);
+    }
+
+    @DataProvider
+    public Object[] dataToTestGroupByClauseWithAggregation() {
+        return new Object[]{
+                "testGroupByWithAggregates",
+                "testGroupByWithAggregatesInLaterClauses",
+                "testGroupByWithAggregatesAndSequences",
+                "testGroupByWithIntegerOverflow",
+                "testGroupByWithFloatSpecialValues",
+                "testCollectWithAggregates",
+                "testCollectWithAggregatesOverEmptyInput",
+                "testGroupByWithByteAggregates"
+        };
+    }
+
     @Test(dataProvider = "dataToTestGroupByClauseWithInvocation")
     public void testGroupByClauseWithInvocation(String functionName) {
         BRunUtil.invoke(resultWithInvocation, functionName);
@@ -125,6 +125,11 @@ public class JoinClauseTest {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
     
+    @Test(description = "Test join clause keys which are equal but have different string representations")
+    public void testJoinClauseWithEqualityOfKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithEqualityOfKeys");
+    }
+
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 40);
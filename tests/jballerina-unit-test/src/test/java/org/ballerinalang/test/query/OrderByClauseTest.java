@@ -214,6 +214,22 @@ public class OrderByClauseTest {
         Assert.assertTrue((Boolean) returnValues);
     }
 
+    @Test(description = "Test query expr with order by clause having duplicate order keys")
+    public void testQueryExprWithOrderByClauseHavingDuplicateKeys() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseHavingDuplicateKeys");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr with order by clause followed by a limit clause")
+    public void testQueryExprWithOrderByAndLimitClause() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClause");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
     @Test(description = "Test query expr with order by clause return string")
     public void testQueryExprWithOrderByClauseReturnString() {
         Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseReturnString");
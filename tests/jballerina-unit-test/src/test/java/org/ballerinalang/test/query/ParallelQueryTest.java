@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.test.query;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * This contains methods to test query expressions which are executed in parallel when parallel queries are enabled.
+ *
+ * @since 2201.9.0
+ */
+public class ParallelQueryTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setParallelQuery(true).build();
+        result = BCompileUtil.compile("test-src/query/parallel-query.bal", buildOptions);
+    }
+
+    @Test(dataProvider = "dataToTestParallelQuery")
+    public void testParallelQuery(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @DataProvider
+    public Object[] dataToTestParallelQuery() {
+        return new Object[]{
+                "testParallelQueryOverArray",
+                "testParallelQueryOverTable",
+                "testParallelQueryWithIsolatedFunctionCalls",
+                "testParallelQueryPanic",
+                "testNonParallelQueries",
+                "testQueryWithIsolatedModuleState",
+                "testQueryWithMutableQueryVariable",
+                "testParallelGroupByWithAggregates",
+                "testParallelCollectWithAggregates",
+                "testParallelAggregationWithIntegerOverflow"
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+    }
+}
@@ -0,0 +1,66 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.test;
+
+function fib(int n) returns int {
+    if n < 2 {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    if n == 0 {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if n == 0 {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function sumOfFib(int n) returns int {
+    int sum = 0;
+    int i = 0;
+    while i < n {
+        sum += fib(i);
+        i += 1;
+    }
+    return sum;
+}
+
+function fibOfWaited(int n) returns int {
+    future<int> f = start fib(n);
+    int|error result = wait f;
+    return result is int ? result : -1;
+}
+
+function fibOfFibOfWaited(int n) returns int {
+    return fib(fibOfWaited(n));
+}
+
+function testNonYieldingFunctions() {
+    test:assertEquals(fib(20), 6765);
+    test:assertTrue(isEven(10));
+    test:assertFalse(isOdd(10));
+    test:assertEquals(sumOfFib(10), 88);
+    test:assertEquals(fibOfFibOfWaited(6), 21);
+}
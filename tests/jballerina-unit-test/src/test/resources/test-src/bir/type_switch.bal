@@ -0,0 +1,123 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.test;
+
+type Number int|float|decimal;
+
+type Person record {|
+    string name;
+|};
+
+function classify(any x) returns string {
+    if x is int {
+        return "int";
+    } else if x is string {
+        return "string";
+    } else if x is float|decimal {
+        return "fraction";
+    } else if x is () {
+        return "nil";
+    } else if x is boolean {
+        return "boolean";
+    }
+    return "other";
+}
+
+function classifyWithRecord(any x) returns string {
+    if x is string {
+        return "string";
+    } else if x is Person {
+        return "person";
+    } else if x is Number {
+        return "number";
+    }
+    return "other";
+}
+
+function classifyValue(int|string|boolean x) returns string {
+    if x == 0 {
+        return "zero";
+    } else if x == "" {
+        return "empty";
+    } else if x is int {
+        return "int";
+    } else if x is string {
+        return "string";
+    }
+    return "other";
+}
+
+function describeCode(any code) returns string {
+    match code {
+        1 => {
+            return "one";
+        }
+        "Aa" => {
+            return "Aa";
+        }
+        2 => {
+            return "two";
+        }
+        3000000000 => {
+            return "large";
+        }
+        "BB" => {
+            return "BB";
+        }
+    }
+    return "other";
+}
+
+function testClassify() {
+    byte b = 4;
+    test:assertEquals(classify(1), "int");
+    test:assertEquals(classify(b), "int");
+    test:assertEquals(classify("a"), "string");
+    test:assertEquals(classify(1.5), "fraction");
+    test:assertEquals(classify(1.5d), "fraction");
+    test:assertEquals(classify(()), "nil");
+    test:assertEquals(classify(true), "boolean");
+    test:assertEquals(classify([1, 2]), "other");
+    test:assertEquals(classify({name: "Anne"}), "other");
+
+    test:assertEquals(classifyWithRecord("a"), "string");
+    test:assertEquals(classifyWithRecord(<Person>{name: "Anne"}), "person");
+    test:assertEquals(classifyWithRecord(2), "number");
+    test:assertEquals(classifyWithRecord(2.5d), "number");
+    test:assertEquals(classifyWithRecord(true), "other");
+
+    test:assertEquals(classifyValue(0), "zero");
+    test:assertEquals(classifyValue(""), "empty");
+    test:assertEquals(classifyValue(1), "int");
+    test:assertEquals(classifyValue("a"), "string");
+    test:assertEquals(classifyValue(false), "other");
+
+    byte one = 1;
+    test:assertEquals(describeCode(1), "one");
+    test:assertEquals(describeCode(one), "one");
+    test:assertEquals(describeCode(2), "two");
+    test:assertEquals(describeCode(3000000000), "large");
+    test:assertEquals(describeCode(3000000000 - 4294967296), "other");
+    // "Aa" and "BB" have the same hash code
+    test:assertEquals(describeCode("Aa"), "Aa");
+    test:assertEquals(describeCode("BB"), "BB");
+    test:assertEquals(describeCode("C#"), "other");
+    test:assertEquals(describeCode(1.0), "other");
+    test:assertEquals(describeCode(1d), "other");
+    test:assertEquals(describeCode(3), "other");
+    test:assertEquals(describeCode(()), "other");
+}
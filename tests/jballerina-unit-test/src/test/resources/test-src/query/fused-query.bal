@@ -0,0 +1,104 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+type Employee record {|
+    string name;
+    int salary;
+|};
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function testFusedQueryWithWhereAndSelect() {
+    int[] numbers = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+    int[] evenSquares = from int n in numbers
+        where n % 2 == 0
+        select n * n;
+    assertEquality([4, 16, 36, 64, 100], evenSquares);
+
+    int[] empty = from int n in numbers
+        where n > 10
+        select n;
+    assertEquality([], empty);
+}
+
+function testFusedQueryWithLetClauses() {
+    Person[] persons = [{name: "Alex", age: 25}, {name: "Ranjan", age: 40}, {name: "John", age: 33}];
+    int base = 1000;
+    Employee[] employees = from var {name, age} in persons
+        let int years = age - 20
+        where years > 10
+        let int salary = base + years * 100
+        select {name, salary};
+    assertEquality([{name: "Ranjan", salary: 3000}, {name: "John", salary: 2300}], employees);
+}
+
+function testFusedQueryWithMultipleWhereClauses() {
+    string[] names = ["Alex", "Ranjan", "John", "Anne", "Amy"];
+    string[] result = from var name in names
+        where name.startsWith("A")
+        where name.length() > 3
+        select name.toUpperAscii();
+    assertEquality(["ALEX", "ANNE"], result);
+}
+
+function testFusedQueryOverTuple() {
+    [int, string, int, boolean] tuple = [1, "a", 2, true];
+    (int|string|boolean)[] result = from var value in tuple
+        where value !is string
+        select value;
+    assertEquality([1, 2, true], result);
+}
+
+function testFusedQueryWithTypeNarrowing() {
+    (int|string)[] values = [1, "one", 2, "two", 3];
+    int[] ints = from var value in values
+        where value is int
+        select value + 10;
+    assertEquality([11, 12, 13], ints);
+}
+
+function testFusedQueryWithNonFusibleQueries() {
+    int[] numbers = [3, 1, 2];
+    int[] ordered = from int n in numbers
+        order by n descending
+        select n;
+    assertEquality([3, 2, 1], ordered);
+
+    int[] nested = from int n in numbers
+        let int[] doubled = from int m in numbers where m > n select m * 2
+        select doubled.length();
+    assertEquality([0, 2, 1], nested);
+
+    int[]|error withCheck = from int n in numbers
+        select check getValue(n);
+    assertEquality([3, 1, 2], withCheck);
+}
+
+function getValue(int n) returns int|error => n;
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,197 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Sale record {|
+    string region;
+    string product;
+    int quantity;
+    float price;
+    decimal tax;
+|};
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+final Sale[] & readonly sales = [
+    {region: "north", product: "apple", quantity: 3, price: 1.5, tax: 0.15},
+    {region: "south", product: "apple", quantity: 5, price: 1.25, tax: 0.125},
+    {region: "north", product: "pear", quantity: 2, price: 2.0, tax: 0.2},
+    {region: "north", product: "apple", quantity: 7, price: 1.75, tax: 0.175},
+    {region: "south", product: "pear", quantity: 1, price: 2.5, tax: 0.25}
+];
+
+function testGroupByWithAggregates() {
+    var result = from var {region, quantity, price, tax} in sales
+        group by region
+        select {
+            region,
+            totalQuantity: sum(quantity),
+            maxQuantity: int:max(quantity),
+            minQuantity: min(quantity),
+            totalPrice: float:sum(price),
+            avgPrice: avg(price),
+            maxPrice: max(price),
+            minPrice: float:min(price),
+            totalTax: sum(tax),
+            maxTax: decimal:max(tax),
+            minTax: min(tax)
+        };
+    assertEquality([
+        {
+            region: "north",
+            totalQuantity: 12,
+            maxQuantity: 7,
+            minQuantity: 2,
+            totalPrice: 5.25,
+            avgPrice: 1.75,
+            maxPrice: 2.0,
+            minPrice: 1.5,
+            totalTax: 0.525d,
+            maxTax: 0.2d,
+            minTax: 0.15d
+        },
+        {
+            region: "south",
+            totalQuantity: 6,
+            maxQuantity: 5,
+            minQuantity: 1,
+            totalPrice: 3.75,
+            avgPrice: 1.875,
+            maxPrice: 2.5,
+            minPrice: 1.25,
+            totalTax: 0.375d,
+            maxTax: 0.25d,
+            minTax: 0.125d
+        }
+    ], result);
+}
+
+function testGroupByWithAggregatesInLaterClauses() {
+    string[] result = from var {region, product, quantity} in sales
+        group by region, product
+        let int total = sum(quantity)
+        where max(quantity) > 1
+        order by total descending
+        select region + ":" + product + ":" + total.toString();
+    assertEquality(["north:apple:10", "south:apple:5", "north:pear:2"], result);
+
+    // Aggregates of the same variable in different clauses.
+    int[] totals = from var {region, quantity} in sales
+        group by region
+        where sum(quantity) > 10
+        select sum(quantity);
+    assertEquality([12], totals);
+}
+
+function testGroupByWithAggregatesAndSequences() {
+    var result = from var {region, product, quantity} in sales
+        group by region
+        select {region, total: sum(quantity), products: [product], quantities: [quantity]};
+    assertEquality([
+        {region: "north", total: 12, products: ["apple", "pear", "apple"], quantities: [3, 2, 7]},
+        {region: "south", total: 6, products: ["apple", "pear"], quantities: [5, 1]}
+    ], result);
+
+    // Aggregated variable used in a nested query.
+    var nested = from var {region, quantity} in sales
+        group by region
+        select {region, total: sum(quantity), large: from int q in [quantity] where q > 2 select q};
+    assertEquality([{region: "north", total: 12, large: [3, 7]}, {region: "south", total: 6, large: [5]}], nested);
+}
+
+function testGroupByWithIntegerOverflow() {
+    int[] values = [int:MAX_VALUE, 1, -5];
+    int[]|error result = trap from int v in values
+        group by var _ = true
+        select sum(v);
+    assertTrue(result is error);
+    if result is error {
+        assertEquality("{ballerina/lang.int}NumberOverflow", result.message());
+    }
+
+    int[] maxValues = from int v in values
+        group by var _ = true
+        select max(v);
+    assertEquality([int:MAX_VALUE], maxValues);
+}
+
+function testGroupByWithFloatSpecialValues() {
+    float[] values = [1.0, float:NaN, 3.0];
+    float[] result = from float v in values
+        group by var _ = true
+        select max(v);
+    assertTrue(result[0].isNaN());
+
+    float[] sums = from float v in [-0.0, -0.0]
+        group by var _ = true
+        select sum(v);
+    assertEquality([0.0], sums);
+}
+
+function testCollectWithAggregates() {
+    int total = from var {quantity} in sales
+        collect sum(quantity);
+    assertEquality(18, total);
+
+    var result = from var {quantity, price, tax} in sales
+        where quantity > 1
+        collect {total: sum(quantity), avgPrice: avg(price), maxTax: max(tax)};
+    assertEquality({total: 17, avgPrice: 1.625, maxTax: 0.2d}, result);
+
+    var withSequence = from var {product, quantity} in sales
+        collect {total: sum(quantity), products: [product]};
+    assertEquality({total: 18, products: ["apple", "apple", "pear", "apple", "pear"]}, withSequence);
+}
+
+function testCollectWithAggregatesOverEmptyInput() {
+    Sale[] empty = [];
+    int total = from var {quantity} in empty
+        collect sum(quantity);
+    assertEquality(0, total);
+
+    int? maxQuantity = from var {quantity} in empty
+        collect max(quantity);
+    assertEquality((), maxQuantity);
+
+    float avgPrice = from var {price} in empty
+        collect avg(price);
+    assertTrue(avgPrice.isNaN());
+}
+
+function testGroupByWithByteAggregates() {
+    byte[] bytes = [200, 100, 250];
+    int[] result = from byte b in bytes
+        group by var _ = true
+        select sum(b);
+    assertEquality([550], result);
+
+    int[] maxValues = from byte b in bytes
+        group by var _ = true
+        select max(b);
+    assertEquality([250], maxValues);
+}
+
+function assertTrue(boolean actual) {
+    assertEquality(true, actual);
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -527,6 +527,29 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+public function testJoinClauseWithEqualityOfKeys() {
+    decimal[] amounts = [1.0, 2.50, 3];
+    decimal[] otherAmounts = [1.00, 2.5, 4.0, 1];
+    decimal[] joinedAmounts = from decimal a in amounts
+            join decimal b in otherAmounts on a equals b
+            select b;
+    assertEquality(<decimal[]>[1.00, 1, 2.5], joinedAmounts);
+
+    float[] floats = [0.0, float:NaN];
+    float[] otherFloats = [-0.0, float:NaN];
+    int count = (from float a in floats
+            join float b in otherFloats on a equals b
+            select a).length();
+    assertEquality(2, count);
+
+    map<int>[] keys = [{a: 1, b: 2}, {a: 3, b: 4}];
+    map<int>[] otherKeys = [{b: 2, a: 1}, {b: 3, a: 4}];
+    map<int>[] joinedKeys = from map<int> k in keys
+            outer join map<int> o in otherKeys on k equals o
+            select o ?: {};
+    assertEquality(<map<int>[]>[{a: 1, b: 2}, {}], joinedKeys);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
@@ -502,3 +502,58 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+function testQueryExprWithOrderByClauseHavingDuplicateKeys() returns boolean {
+    Person p1 = {firstName: "Alex", lastName: "George", age: 30};
+    Person p2 = {firstName: "Ranjan", lastName: "Fonseka", age: 25};
+    Person p3 = {firstName: "John", lastName: "George", age: 30};
+    Person p4 = {firstName: "Anne", lastName: "Fonseka", age: 25};
+    Person p5 = {firstName: "Mary", lastName: "George", age: 41};
+
+    Person[] personList = [p1, p2, p3, p4, p5];
+
+    // Frames with equal order keys should retain their input order.
+    Person[] outputPersonList = from var person in personList
+        order by person.lastName descending, person.age
+        select person;
+
+    return outputPersonList == [p1, p3, p5, p2, p4];
+}
+
+function testQueryExprWithOrderByAndLimitClause() returns boolean {
+    Person p1 = {firstName: "Alex", lastName: "George", age: 30};
+    Person p2 = {firstName: "Ranjan", lastName: "Fonseka", age: 25};
+    Person p3 = {firstName: "John", lastName: "George", age: 30};
+    Person p4 = {firstName: "Anne", lastName: "Fonseka", age: 25};
+    Person p5 = {firstName: "Mary", lastName: "George", age: 41};
+
+    Person[] personList = [p1, p2, p3, p4, p5];
+
+    Person[] outputPersonList = from var person in personList
+        order by person.age descending
+        limit 3
+        select person;
+    boolean testPassed = outputPersonList == [p5, p1, p3];
+
+    int maxCount = 2;
+    outputPersonList = from var person in personList
+        order by person.age, person.firstName descending
+        limit maxCount
+        select person;
+    testPassed = testPassed && outputPersonList == [p2, p4];
+
+    outputPersonList = from var person in personList
+        order by person.lastName
+        limit 10
+        select person;
+    testPassed = testPassed && outputPersonList == [p2, p4, p1, p3, p5];
+
+    Student[] students = [{id: 1, fname: (), fee: 1.0, impact: 0.1, isUndergrad: true},
+        {id: 2, fname: "Alex", fee: 2.0, impact: 0.2, isUndergrad: true},
+        {id: 3, fname: "Bob", fee: 3.0, impact: 0.3, isUndergrad: false}];
+    int[] ids = from var s in students
+        order by s.fname descending
+        limit 2
+        select s.id;
+    return testPassed && ids == [3, 2];
+}
@@ -0,0 +1,251 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Order record {|
+    readonly int id;
+    string customer;
+    int quantity;
+|};
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+const int SIZE = 10000;
+
+final int & readonly factor = 3;
+int counter = 0;
+isolated int lastId = 0;
+
+function testParallelQueryOverArray() {
+    int[] numbers = [];
+    foreach int i in 0 ..< SIZE {
+        numbers.push(i);
+    }
+    int offset = 7;
+    int[] result = from int n in numbers
+        let int scaled = n * factor
+        where scaled % 2 == 0
+        select scaled + offset;
+
+    int[] expected = [];
+    foreach int n in numbers {
+        int scaled = n * factor;
+        if scaled % 2 == 0 {
+            expected.push(scaled + offset);
+        }
+    }
+    assertEquality(expected, result);
+}
+
+function testParallelQueryOverTable() {
+    table<Order> key(id) orders = table [];
+    foreach int i in 0 ..< SIZE {
+        orders.add({id: i, customer: "customer-" + (i % 10).toString(), quantity: i % 100});
+    }
+    string[] result = from var {id, customer, quantity} in orders
+        where quantity > 90
+        select customer + ":" + id.toString();
+
+    string[] expected = [];
+    foreach Order o in orders {
+        if o.quantity > 90 {
+            expected.push(o.customer + ":" + o.id.toString());
+        }
+    }
+    assertEquality(expected, result);
+}
+
+function testParallelQueryWithIsolatedFunctionCalls() {
+    string[] words = [];
+    foreach int i in 0 ..< SIZE {
+        words.push(i % 3 == 0 ? "Ballerina" : "query");
+    }
+    string[] result = from string word in words
+        where isLong(word)
+        select word.toUpperAscii();
+    assertEquality(SIZE / 3 + 1, result.length());
+    assertEquality("BALLERINA", result[0]);
+}
+
+function testParallelQueryPanic() {
+    int[] numbers = [];
+    foreach int i in 0 ..< SIZE {
+        numbers.push(i);
+    }
+    int[]|error result = trap from int n in numbers
+        select 10 / (n - SIZE + 1);
+    assertEquality(true, result is error);
+    if result is error {
+        assertEquality("{ballerina}DivisionByZero", result.message());
+    }
+}
+
+function testNonParallelQueries() {
+    int[] numbers = [];
+    foreach int i in 0 ..< SIZE {
+        numbers.push(i);
+    }
+    // Calls a function which is not isolated.
+    int[] counted = from int n in numbers
+        where n < 5
+        select count(n);
+    assertEquality([0, 1, 2, 3, 4], counted);
+    assertEquality(5, counter);
+
+    // Captures a mutable list.
+    int[] evens = [];
+    int[] result = from int n in numbers
+        where n < 4
+        select append(evens, n);
+    assertEquality([1, 2, 3, 4], result);
+}
+
+function testQueryWithIsolatedModuleState() {
+    int[] numbers = [];
+    int[] expected = [];
+    foreach int i in 0 ..< SIZE {
+        numbers.push(i);
+        expected.push(i + 1);
+    }
+    // Calls an isolated function which updates an isolated module variable, so the calls must not be reordered.
+    int[] result = from int n in numbers
+        select nextId();
+    assertEquality(expected, result);
+}
+
+function testQueryWithMutableQueryVariable() {
+    int[] list = [];
+    int[][] lists = [];
+    int[] expected = [];
+    foreach int i in 0 ..< SIZE {
+        lists.push(list);
+        expected.push(i + 1);
+    }
+    int[] result = from int[] l in lists
+        select append(l, 0);
+    assertEquality(expected, result);
+}
+
+function testParallelGroupByWithAggregates() {
+    table<Order> key(id) orders = table [];
+    foreach int i in 0 ..< SIZE {
+        orders.add({id: i, customer: "customer-" + (i % 7).toString(), quantity: i % 100 - 20});
+    }
+    var result = from var {id, customer, quantity} in orders
+        where quantity != 0
+        group by customer, var large = quantity > 50
+        select {customer, large, total: sum(quantity), maxId: max(id), minQuantity: min(quantity)};
+
+    map<record {|string customer; boolean large; int total; int maxId; int minQuantity;|}> groups = {};
+    string[] order = [];
+    foreach Order o in orders {
+        if o.quantity == 0 {
+            continue;
+        }
+        boolean large = o.quantity > 50;
+        string groupKey = o.customer + ":" + large.toString();
+        var group = groups[groupKey];
+        if group is () {
+            groups[groupKey] = {customer: o.customer, large, total: o.quantity, maxId: o.id,
+                minQuantity: o.quantity};
+            order.push(groupKey);
+        } else {
+            group.total += o.quantity;
+            group.maxId = int:max(group.maxId, o.id);
+            group.minQuantity = int:min(group.minQuantity, o.quantity);
+        }
+    }
+    assertEquality(from string groupKey in order select groups.get(groupKey), result);
+}
+
+function testParallelCollectWithAggregates() {
+    int[] numbers = [];
+    foreach int i in 0 ..< SIZE {
+        numbers.push(i);
+    }
+    var result = from int n in numbers
+        let int scaled = n * factor
+        where scaled % 2 == 0
+        collect {total: sum(scaled), maxValue: max(scaled), minValue: min(scaled), values: [n].length()};
+
+    int total = 0;
+    int selected = 0;
+    foreach int n in numbers {
+        int scaled = n * factor;
+        if scaled % 2 == 0 {
+            total += scaled;
+            selected += 1;
+        }
+    }
+    assertEquality({total, maxValue: (SIZE - 2) * factor, minValue: 0, values: selected}, result);
+
+    // The rounding of a float sum depends on the order of the additions, so it is not merged.
+    float[] fractions = from int n in numbers select 1.0 / <float>(n + 1);
+    float fractionSum = from float f in fractions
+        collect sum(f);
+    assertEquality(float:sum(...fractions), fractionSum);
+}
+
+function testParallelAggregationWithIntegerOverflow() {
+    int[] numbers = [];
+    foreach int _ in 0 ..< SIZE {
+        numbers.push(0);
+    }
+    // The partial sums of a later chunk overflow on their own, but not after the values of the earlier chunks.
+    numbers[0] = -10;
+    numbers[SIZE - 2] = int:MAX_VALUE;
+    numbers[SIZE - 1] = 5;
+    int total = from int n in numbers
+        collect sum(n);
+    assertEquality(int:MAX_VALUE - 5, total);
+
+    // The sum overflows only after the values of the earlier chunks.
+    numbers[0] = int:MAX_VALUE;
+    numbers[SIZE - 2] = 0;
+    numbers[SIZE - 1] = 1;
+    int|error overflow = trap from int n in numbers
+        collect sum(n);
+    assertEquality(true, overflow is error);
+    if overflow is error {
+        assertEquality("{ballerina/lang.int}NumberOverflow", overflow.message());
+    }
+}
+
+isolated function isLong(string word) returns boolean => word.length() > 5;
+
+isolated function append(int[] list, int n) returns int {
+    list.push(n);
+    return list.length();
+}
+
+isolated function nextId() returns int {
+    lock {
+        lastId += 1;
+        return lastId;
+    }
+}
+
+function count(int n) returns int {
+    counter += 1;
+    return n;
+}
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,272 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+type Employee readonly & record {|
+    readonly int id;
+    string dept;
+    int grade;
+    float salary;
+|};
+
+type Dept record {|
+    readonly string code;
+    string name;
+|};
+
+type MutableEmployee record {|
+    readonly int id;
+    string dept;
+|};
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+const ENGINEERING = "eng";
+
+final string[] & readonly depts = ["eng", "ops", "hr", "sales"];
+
+function createEmployees() returns table<Employee> key(id) {
+    table<Employee> key(id) employees = table [];
+    foreach int i in 0 ..< 100 {
+        employees.add({id: i, dept: depts[i % 4], grade: i % 10, salary: <float>i * 100.0});
+    }
+    return employees;
+}
+
+function testWhereEqualityOnIndexedField() {
+    table<Employee> key(id) employees = createEmployees();
+    assertEquality(true, addIndex(employees, "dept", false));
+    int[] ids = from Employee e in employees
+        where e.dept == ENGINEERING
+        select e.id;
+    assertEquality(25, ids.length());
+    assertEquality([0, 4, 8], ids.slice(0, 3));
+
+    // The index is kept up to date when the table is modified.
+    employees.add({id: 100, dept: "eng", grade: 0, salary: 0.0});
+    _ = employees.remove(4);
+    employees.put({id: 8, dept: "ops", grade: 8, salary: 800.0});
+    final string dept = "eng";
+    ids = from Employee e in employees
+        where dept == e.dept
+        select e.id;
+    assertEquality(24, ids.length());
+    assertEquality([0, 12, 16], ids.slice(0, 3));
+    assertEquality(100, ids[ids.length() - 1]);
+
+    int[] none = from Employee e in employees
+        where e.dept == "finance"
+        select e.id;
+    assertEquality([], none);
+}
+
+function testWhereRangeOnIndexedField() {
+    table<Employee> key(id) employees = createEmployees();
+    assertEquality(true, addIndex(employees, "grade", true));
+    assertEquality(true, addIndex(employees, "salary", true));
+    int[] ids = from Employee e in employees
+        where e.grade >= 8
+        select e.id;
+    assertEquality(20, ids.length());
+    assertEquality([8, 9, 18, 19], ids.slice(0, 4));
+
+    int[] lowGrades = from Employee e in employees
+        where 1 > e.grade
+        select e.id;
+    assertEquality([0, 10, 20, 30, 40, 50, 60, 70, 80, 90], lowGrades);
+
+    float limit = 250.0;
+    ids = from Employee e in employees
+        where (e.salary < 250.0)
+        select e.id;
+    assertEquality([0, 1, 2], ids);
+    ids = from Employee e in employees
+        where e.salary <= limit
+        select e.id;
+    assertEquality([0, 1, 2], ids);
+
+    employees.add({id: 100, dept: "eng", grade: 9, salary: float:NaN});
+    int[] highGrades = from Employee e in employees
+        where e.grade > 8
+        select e.id;
+    assertEquality(11, highGrades.length());
+    assertEquality(100, highGrades[10]);
+}
+
+function testWhereWithFurtherClauses() {
+    table<Employee> key(id) employees = createEmployees();
+    assertEquality(true, addIndex(employees, "dept", false));
+    int[] ids = from Employee e in employees
+        where e.dept == "ops"
+        where e.grade < 5
+        order by e.id descending
+        limit 3
+        select e.id;
+    assertEquality([93, 81, 73], ids);
+}
+
+function testJoinOnIndexedField() {
+    table<Employee> key(id) employees = createEmployees();
+    assertEquality(true, addIndex(employees, "dept", false));
+    table<Dept> key(code) deptTable = table [
+        {code: "eng", name: "Engineering"},
+        {code: "hr", name: "People"},
+        {code: "legal", name: "Legal"}
+    ];
+    string[] result = from Dept d in deptTable
+        join Employee e in employees on d.code equals e.dept
+        where e.grade == 0
+        select d.name + ":" + e.id.toString();
+    assertEquality(["Engineering:0", "Engineering:20", "Engineering:40", "Engineering:60", "Engineering:80",
+        "People:10", "People:30", "People:50", "People:70", "People:90"], result);
+
+    result = from Dept d in deptTable
+        outer join var e in employees on d.code equals e?.dept
+        where e is () || e.grade == 2
+        select d.name + ":" + (e is () ? "-" : e.id.toString());
+    assertEquality(["Engineering:12", "Engineering:32", "Engineering:52", "Engineering:72", "Engineering:92",
+        "People:2", "People:22", "People:42", "People:62", "People:82", "Legal:-"], result);
+}
+
+function createEngOpsEmployees() returns table<Employee> key(id) {
+    table<Employee> key(id) employees = table [
+        {id: 1, dept: "eng", grade: 1, salary: 1.0},
+        {id: 2, dept: "ops", grade: 2, salary: 2.0}
+    ];
+    return employees;
+}
+
+function testQueryWithoutIndex() {
+    table<Employee> key(id) employees = createEngOpsEmployees();
+    assertEquality(false, hasIndex(employees, "dept", false));
+    foreach int i in 0 ..< 3 {
+        int[] ids = from Employee e in employees
+            where e.dept == "ops"
+            select e.id;
+        assertEquality([2], ids);
+    }
+}
+
+function testNoIndexOnMutableRows() {
+    table<MutableEmployee> key(id) employees = table [];
+    foreach int i in 0 ..< 100 {
+        employees.add({id: i, dept: depts[i % 4]});
+    }
+    // The fields of the rows can be changed, so an index could become stale.
+    assertEquality(false, addIndex(employees, "dept", false));
+    int[] ids = from MutableEmployee e in employees
+        where e.dept == "ops"
+        select e.id;
+    assertEquality(25, ids.length());
+
+    employees.get(1).dept = "eng";
+    ids = from MutableEmployee e in employees
+        where e.dept == "ops"
+        select e.id;
+    assertEquality(24, ids.length());
+    assertEquality([5, 9, 13], ids.slice(0, 3));
+}
+
+function testInferredTableIndex() {
+    table<Employee> key(id) employees = table [
+        {id: 1, dept: "eng", grade: 1, salary: 100.0},
+        {id: 2, dept: "ops", grade: 5, salary: 200.0},
+        {id: 3, dept: "eng", grade: 7, salary: 300.0}
+    ];
+    // The indexes used by the queries below are added when the table is constructed.
+    assertEquality(true, hasIndex(employees, "dept", false));
+    assertEquality(true, hasIndex(employees, "grade", true));
+    assertEquality(false, hasIndex(employees, "salary", false));
+    assertEquality(false, hasIndex(employees, "salary", true));
+
+    int[] ids = from Employee e in employees
+        where e.dept == ENGINEERING
+        select e.id;
+    assertEquality([1, 3], ids);
+
+    employees.add({id: 4, dept: "eng", grade: 9, salary: 400.0});
+    ids = from Employee e in employees
+        where e.grade > 4
+        select e.id;
+    assertEquality([2, 3, 4], ids);
+
+    float limit = 250.0;
+    ids = from Employee e in employees
+        where e.salary * 2.0 < limit
+        select e.id;
+    assertEquality([1], ids);
+
+    table<Dept> key(code) deptTable = table [
+        {code: "eng", name: "Engineering"},
+        {code: "ops", name: "Operations"}
+    ];
+    // The rows of the table can be changed, hence it is not indexed.
+    assertEquality(false, hasIndex(deptTable, "name", false));
+    string[] names = from Dept d in deptTable
+        where d.name == "Operations"
+        select d.code;
+    assertEquality(["ops"], names);
+}
+
+function testJoinWithTableUpdatedByQuery() {
+    table<Employee> key(id) employees = table [
+        {id: 1, dept: "eng", grade: 1, salary: 1.0},
+        {id: 2, dept: "ops", grade: 2, salary: 2.0}
+    ];
+    assertEquality(true, hasIndex(employees, "dept", false));
+    table<Employee> key(id) unindexedEmployees = createEngOpsEmployees();
+    assertEquality(false, hasIndex(unindexedEmployees, "dept", false));
+
+    string[] codes = ["eng", "eng"];
+    // Rows added while the query is being executed are not joined, whether or not the table has an index.
+    int[] ids = from string code in codes
+        let int added = addEmployee(employees, code)
+        join Employee e in employees on code equals e.dept
+        select e.id + added * 0;
+    assertEquality([1, 1], ids);
+    ids = from string code in codes
+        let int added = addEmployee(unindexedEmployees, code)
+        join Employee e in unindexedEmployees on code equals e.dept
+        select e.id + added * 0;
+    assertEquality([1, 1], ids);
+    assertEquality(4, employees.length());
+    assertEquality(4, unindexedEmployees.length());
+}
+
+function addEmployee(table<Employee> key(id) employees, string dept) returns int {
+    int id = employees.length() + 1;
+    employees.add({id, dept, grade: 0, salary: 0.0});
+    return id;
+}
+
+function hasIndex(table<map<anydata>> 'table, string fieldName, boolean sorted) returns boolean = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.StaticMethods",
+    name: "hasTableIndex"
+} external;
+
+function addIndex(table<map<anydata>> 'table, string fieldName, boolean sorted) returns boolean = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.StaticMethods",
+    name: "addTableIndex"
+} external;
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -271,6 +271,9 @@ type UnionXmlJson xml|json;
 
 public function main() {
     testParsingCharacterStreamToTypes();
+    testJsonElementStream();
+    testJsonElementStreamErrors();
+    testXmlElementStream();
 }
 
 function testParsingCharacterStreamToTypes() {
@@ -508,3 +511,61 @@ function testParsingCharacterStreamToTypes() {
 public isolated function convertStringToType(string str, typedesc<anydata> t = <>) returns t = @java:Method {
     'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Stream"
 } external;
+
+function testJsonElementStream() {
+    stream<json, error?> values = java:toJsonStream(createJsonStreamReader(string `[1, "a", null, {"b": [true]}]`));
+    json[]|error jsonValues = from json value in values select value;
+    test:assertEquals(jsonValues, [1, "a", null, {"b": [true]}]);
+
+    stream<type7, error?> records =
+        java:toJsonStream(createJsonStreamReader(string `[{"id": 1, "value": 10}, {"id": 2, "value": 20}]`));
+    record {|type7 value;|}|error? next = records.next();
+    test:assertEquals(next, {value: {id: 1, value: 10}});
+    next = records.next();
+    test:assertEquals(next, {value: {id: 2, value: 20}});
+    next = records.next();
+    test:assertEquals(next, ());
+    test:assertEquals(records.close(), ());
+
+    stream<int, error?> empty = java:toJsonStream(createJsonStreamReader("[]"));
+    test:assertEquals(empty.next(), ());
+}
+
+function testJsonElementStreamErrors() {
+    stream<json, error?> notArray = java:toJsonStream(createJsonStreamReader(string `{"a": 1}`));
+    json[]|error values = from json value in notArray select value;
+    test:assertTrue(values is error);
+
+    stream<type7, error?> records =
+        java:toJsonStream(createJsonStreamReader(string `[{"id": 1, "value": 10}, {"id": "2", "value": 20}]`));
+    type7[]|error recordValues = from type7 value in records select value;
+    test:assertTrue(recordValues is error);
+
+    stream<json, error?> invalid = java:toJsonStream(createJsonStreamReader("[1 2]"));
+    test:assertEquals(invalid.next(), {value: 1});
+    test:assertTrue(invalid.next() is error);
+}
+
+function testXmlElementStream() {
+    string content = string `<catalog><book id="1"><title>A</title></book><note/><book id="2"/></catalog>`;
+    stream<xml, error?> books = java:toXmlStream(createXmlElementReader(content, 2));
+    xml[]|error elements = from xml element in books select element;
+    test:assertEquals(elements, [xml `<book id="1"><title>A</title></book>`, xml `<note/>`, xml `<book id="2"/>`]);
+
+    stream<xml, error?> titles = java:toXmlStream(createXmlElementReader(content, 3));
+    test:assertEquals(titles.next(), {value: xml `<title>A</title>`});
+    test:assertEquals(titles.next(), ());
+    test:assertEquals(titles.close(), ());
+
+    stream<xml, error?> invalid = java:toXmlStream(createXmlElementReader("<a><b/><c></a>", 2));
+    test:assertEquals(invalid.next(), {value: xml `<b/>`});
+    test:assertTrue(invalid.next() is error);
+}
+
+function createJsonStreamReader(string content) returns handle = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Stream"
+} external;
+
+function createXmlElementReader(string content, int elementDepth) returns handle = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Stream"
+} external;